@@ -0,0 +1,68 @@
+package com.example.hustled.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write split across the primary (spring.datasource.*) and one or more replicas
+ * (hustled.datasource.replicas[n].*). Enable with hustled.datasource.routing.enabled=true;
+ * without it the single auto-configured pool is used as before.
+ */
+@Configuration
+@ConditionalOnProperty(name = "hustled.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(DataSourceProperties primaryProperties,
+                                                                 ReplicaDataSourceProperties replicaProperties,
+                                                                 ReadYourWritesTracker tracker,
+                                                                 Environment environment) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.getReplicas().size(); i++) {
+            ReplicaDataSourceProperties.Replica r = replicaProperties.getReplicas().get(i);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(r.getUrl());
+            replica.setUsername(r.getUsername() != null ? r.getUsername() : primaryProperties.getUsername());
+            replica.setPassword(r.getPassword() != null ? r.getPassword() : primaryProperties.getPassword());
+            replica.setMaximumPoolSize(r.getMaximumPoolSize());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReadWriteRoutingDataSource(primary, replicas, tracker);
+    }
+
+    /**
+     * The application-wide DataSource; the lazy proxy defers picking a target until the first
+     * statement, when the transaction's read-only flag is known
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReadWriteRoutingDataSource routingDataSource,
+                                               ReplicaDataSourceProperties replicaProperties) {
+        return new ReplicaLagMonitor(routingDataSource, replicaProperties);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.hustled.config;
+
+import com.example.hustled.filter.AuthThrottleFilter;
+import com.example.hustled.filter.LoadSheddingFilter;
+import com.example.hustled.util.AdaptiveConcurrencyLimit;
+import com.example.hustled.util.TokenBucket;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+/**
+ * Servlet filters that must run ahead of the Spring Security filter chain
+ */
+@Configuration
+public class FilterConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "hustled.throttle.enabled", havingValue = "true", matchIfMissing = true)
+    public AuthThrottleFilter authThrottleFilter(ObjectMapper objectMapper,
+                                                 MappingJackson2CborHttpMessageConverter cborConverter,
+                                                 @Value("${hustled.throttle.ip.capacity:20}") int ipCapacity,
+                                                 @Value("${hustled.throttle.ip.per-minute:30}") int ipPerMinute,
+                                                 @Value("${hustled.throttle.username.capacity:5}") int userCapacity,
+                                                 @Value("${hustled.throttle.username.per-minute:10}") int userPerMinute,
+                                                 @Value("${hustled.throttle.max-keys:100000}") int maxKeys) {
+        return new AuthThrottleFilter(objectMapper, cborConverter.getObjectMapper(),
+                new TokenBucket.Limit(ipCapacity, ipPerMinute),
+                new TokenBucket.Limit(userCapacity, userPerMinute),
+                maxKeys);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "hustled.throttle.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<AuthThrottleFilter> authThrottleFilterRegistration(AuthThrottleFilter filter) {
+        FilterRegistrationBean<AuthThrottleFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/auth/login/*", "/api/auth/signup/*", "/process-login", "/register");
+        // Reject before Spring Security (order -100) spends any work on the request
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "hustled.concurrency.enabled", havingValue = "true", matchIfMissing = true)
+    public LoadSheddingFilter loadSheddingFilter(ObjectMapper objectMapper,
+                                                 @Value("${hustled.concurrency.initial-limit:200}") int initialLimit,
+                                                 @Value("${hustled.concurrency.min-limit:20}") int minLimit,
+                                                 @Value("${hustled.concurrency.max-limit:1000}") int maxLimit,
+                                                 @Value("${hustled.concurrency.latency-tolerance:1.5}") double tolerance,
+                                                 @Value("${hustled.concurrency.window-size:100}") int windowSize,
+                                                 @Value("${hustled.concurrency.normal-share:0.9}") double normalShare,
+                                                 @Value("${hustled.concurrency.low-share:0.6}") double lowShare) {
+        return new LoadSheddingFilter(objectMapper,
+                new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, tolerance, windowSize),
+                normalShare, lowShare);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "hustled.concurrency.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilterRegistration(LoadSheddingFilter filter) {
+        FilterRegistrationBean<LoadSheddingFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/*");
+        // Shed ahead of the auth throttle and Spring Security so a rejected request costs nothing
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
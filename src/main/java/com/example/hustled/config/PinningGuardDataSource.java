@@ -0,0 +1,120 @@
+package com.example.hustled.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admits at most a fixed number of threads into the JDBC driver at once.
+ *
+ * With virtual threads, thousands of requests can reach the connection pool together. MySQL
+ * Connector/J before 9.0 holds monitors across socket reads, and on Java 21-23 a virtual thread
+ * blocked inside a synchronized section pins its carrier thread. Making callers wait on a
+ * {@link Semaphore} first (which parks virtual threads without pinning) keeps the number of
+ * threads inside driver code below the carrier count, so carriers stay free for other requests.
+ *
+ * Permits are per thread, not per connection: a thread that already holds one (e.g. Hibernate's
+ * table id generator or a REQUIRES_NEW transaction opening a second connection) goes straight
+ * through, otherwise a cap of one would deadlock on its own first connection.
+ */
+public class PinningGuardDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final ThreadLocal<AtomicInteger> held = ThreadLocal.withInitial(AtomicInteger::new);
+
+    public PinningGuardDataSource(DataSource target, int maxConcurrent, long acquireTimeoutMs) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        AtomicInteger holds = acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection(), holds);
+        } catch (SQLException | RuntimeException e) {
+            release(holds);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        AtomicInteger holds = acquire();
+        try {
+            return guard(obtainTargetDataSource().getConnection(username, password), holds);
+        } catch (SQLException | RuntimeException e) {
+            release(holds);
+            throw e;
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Take a permit unless this thread already holds one; returns the thread's hold count
+     */
+    private AtomicInteger acquire() throws SQLException {
+        AtomicInteger holds = held.get();
+        if (holds.getAndIncrement() > 0) return holds;
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                holds.decrementAndGet();
+                throw new SQLTransientConnectionException("Timed out after " + acquireTimeoutMs + " ms waiting for a database slot");
+            }
+        } catch (InterruptedException e) {
+            holds.decrementAndGet();
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database slot", e);
+        }
+        return holds;
+    }
+
+    /**
+     * Counted against the acquiring thread, so a connection closed elsewhere still frees its permit
+     */
+    private void release(AtomicInteger holds) {
+        if (holds.decrementAndGet() == 0) permits.release();
+    }
+
+    /**
+     * Hand back the permit exactly once, when the caller closes the connection
+     */
+    private Connection guard(Connection target, AtomicInteger holds) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            target.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) release(holds);
+                        }
+                        return null;
+                    }
+                    if ("unwrap".equals(method.getName()) || "isWrapperFor".equals(method.getName())) {
+                        if (((Class<?>) args[0]).isInstance(target)) {
+                            return "unwrap".equals(method.getName()) ? target : Boolean.TRUE;
+                        }
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.hustled.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Sends read-only transactions to replica pools and everything else to the primary.
+ *
+ * A read goes to the primary instead when the caller wrote within the read-your-writes window
+ * or when every replica is currently marked unhealthy (too far behind, or unreachable).
+ * Must be wrapped in a LazyConnectionDataSourceProxy so the connection is chosen after the
+ * transaction's read-only flag has been set. The target pools are not beans of their own, so
+ * they are closed here when the context shuts down.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+    private static final String REPLICA_PREFIX = "replica-";
+
+    private final int replicaCount;
+    private final ReadYourWritesTracker tracker;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final AtomicIntegerArray healthy;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker tracker) {
+        this.replicaCount = replicas.size();
+        this.tracker = tracker;
+        this.healthy = new AtomicIntegerArray(replicaCount);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaCount; i++) {
+            targets.put(REPLICA_PREFIX + i, replicas.get(i));
+            healthy.set(i, 1);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaCount == 0
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || tracker.mustReadPrimary()) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicaCount);
+        for (int i = 0; i < replicaCount; i++) {
+            int candidate = (start + i) % replicaCount;
+            if (healthy.get(candidate) == 1) return REPLICA_PREFIX + candidate;
+        }
+        return PRIMARY;
+    }
+
+    public int getReplicaCount() {
+        return replicaCount;
+    }
+
+    public void setReplicaHealthy(int index, boolean isHealthy) {
+        healthy.set(index, isHealthy ? 1 : 0);
+    }
+
+    public boolean isReplicaHealthy(int index) {
+        return healthy.get(index) == 1;
+    }
+
+    public DataSource getReplica(int index) {
+        return (DataSource) getResolvedDataSources().get(REPLICA_PREFIX + index);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        Exception failure = null;
+        for (DataSource target : getResolvedDataSources().values()) {
+            if (!(target instanceof AutoCloseable)) continue;
+            try {
+                ((AutoCloseable) target).close();
+            } catch (Exception e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.hustled.config;
+
+import com.example.hustled.util.StripedLruMap;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * Remembers who wrote recently so their next reads can skip the (possibly lagging) replicas.
+ *
+ * Callers are identified by username, falling back to HTTP session and then client address
+ * for the localStorage-based API clients. Entries live in a bounded LRU map and expire after
+ * the configured window, which should exceed the typical replication lag.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final StripedLruMap<String, Long> lastWrites = new StripedLruMap<>(32, 50_000);
+    private final long windowNanos;
+
+    public ReadYourWritesTracker(@Value("${hustled.datasource.read-your-writes-window:5s}") Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Record that the current caller has just written to the primary
+     */
+    public void recordWrite() {
+        String key = currentCallerKey();
+        if (key != null) lastWrites.put(key, System.nanoTime());
+    }
+
+    /**
+     * Record a write made for a user who is not signed in yet (a signup), so their first reads
+     * after logging in also go to the primary
+     */
+    public void recordWrite(String username) {
+        if (username != null) lastWrites.put("u:" + username, System.nanoTime());
+    }
+
+    /**
+     * Whether the current caller wrote recently enough that replicas may not have caught up
+     */
+    public boolean mustReadPrimary() {
+        String key = currentCallerKey();
+        if (key == null) return false;
+        Long at = lastWrites.get(key);
+        if (at == null) return false;
+        if (System.nanoTime() - at < windowNanos) return true;
+        lastWrites.remove(key);
+        return false;
+    }
+
+    private static String currentCallerKey() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && auth.getName() != null && !"anonymousUser".equals(auth.getName())) {
+            return "u:" + auth.getName();
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes) {
+            HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+            HttpSession session = request.getSession(false);
+            if (session != null) return "s:" + session.getId();
+            return "a:" + request.getRemoteAddr();
+        }
+        return null;
+    }
+}
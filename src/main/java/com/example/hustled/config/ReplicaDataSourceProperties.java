@@ -0,0 +1,48 @@
+package com.example.hustled.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica settings under hustled.datasource.*
+ */
+@ConfigurationProperties(prefix = "hustled.datasource")
+public class ReplicaDataSourceProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+    /** Query returning the replica's lag in seconds, e.g. SHOW REPLICA STATUS; unset disables probing */
+    private String replicaLagQuery;
+    /** Replicas further behind than this stop receiving reads until they catch up */
+    private Duration maxReplicaLag = Duration.ofSeconds(10);
+
+    public List<Replica> getReplicas() { return replicas; }
+    public void setReplicas(List<Replica> replicas) { this.replicas = replicas; }
+
+    public String getReplicaLagQuery() { return replicaLagQuery; }
+    public void setReplicaLagQuery(String replicaLagQuery) { this.replicaLagQuery = replicaLagQuery; }
+
+    public Duration getMaxReplicaLag() { return maxReplicaLag; }
+    public void setMaxReplicaLag(Duration maxReplicaLag) { this.maxReplicaLag = maxReplicaLag; }
+
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+
+        public String getUsername() { return username; }
+        public void setUsername(String username) { this.username = username; }
+
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+
+        public int getMaximumPoolSize() { return maximumPoolSize; }
+        public void setMaximumPoolSize(int maximumPoolSize) { this.maximumPoolSize = maximumPoolSize; }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.hustled.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Periodically measures each replica's lag and takes lagging or unreachable replicas out of
+ * the read rotation until they catch up.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private static final String[] LAG_COLUMNS = { "Seconds_Behind_Source", "Seconds_Behind_Master" };
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final ReplicaDataSourceProperties properties;
+
+    public ReplicaLagMonitor(ReadWriteRoutingDataSource routingDataSource, ReplicaDataSourceProperties properties) {
+        this.routingDataSource = routingDataSource;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${hustled.datasource.replica-lag-check-ms:5000}")
+    public void check() {
+        String query = properties.getReplicaLagQuery();
+        if (query == null || query.isBlank()) return;
+
+        long maxLagSeconds = properties.getMaxReplicaLag().getSeconds();
+        for (int i = 0; i < routingDataSource.getReplicaCount(); i++) {
+            boolean healthy;
+            try {
+                Long lag = measureLag(i, query);
+                healthy = lag != null && lag <= maxLagSeconds;
+                if (!healthy) log.warn("Replica {} lag is {}s (max {}s); reading from primary", i, lag, maxLagSeconds);
+            } catch (SQLException e) {
+                healthy = false;
+                log.warn("Replica {} lag check failed: {}", i, e.getMessage());
+            }
+            if (healthy && !routingDataSource.isReplicaHealthy(i)) log.info("Replica {} back in rotation", i);
+            routingDataSource.setReplicaHealthy(i, healthy);
+        }
+    }
+
+    /**
+     * @return lag in seconds, or null when replication is not running
+     */
+    private Long measureLag(int index, String query) throws SQLException {
+        try (Connection c = routingDataSource.getReplica(index).getConnection();
+             Statement st = c.createStatement();
+             ResultSet rs = st.executeQuery(query)) {
+            if (!rs.next()) return null;
+            ResultSetMetaData meta = rs.getMetaData();
+            for (int col = 1; col <= meta.getColumnCount(); col++) {
+                for (String name : LAG_COLUMNS) {
+                    if (name.equalsIgnoreCase(meta.getColumnLabel(col))) {
+                        long value = rs.getLong(col);
+                        return rs.wasNull() ? null : value;
+                    }
+                }
+            }
+            long value = rs.getLong(1);
+            return rs.wasNull() ? null : value;
+        }
+    }
+}
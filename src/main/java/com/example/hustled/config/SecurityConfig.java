@@ -2,6 +2,7 @@ package com.example.hustled.config;
 
 import com.example.hustled.service.CustomUserDetailsService;
 import org.springframework.context.annotation.*;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -62,6 +63,12 @@ public class SecurityConfig {
                                         "/modal/register", "/process-register").permitAll()
                         // API endpoints - no authentication required
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers("/api/autocomplete/**").permitAll()
+                        .requestMatchers("/api/geo/resolve", "/api/geo/jobs/**").permitAll()
+                        .requestMatchers("/api/jobs/feed").permitAll()
+                        .requestMatchers("/api/chat", "/api/chat/**").permitAll()
+                        // Thumbnails back the public candidate/employer grids
+                        .requestMatchers(HttpMethod.GET, "/api/files/*/thumb").permitAll()
                         // Static resources
                         .requestMatchers("/css/**", "/js/**", "/images/**", "/fonts/**", "/files/**", "/phpmailer/**", "/webjars/**").permitAll()
                         // All other requests require authentication
@@ -0,0 +1,143 @@
+package com.example.hustled.config;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Per-thread SQL statement counter for request and test scopes.
+ *
+ * {@link StatementTrackingDataSource} reports every statement it prepares; while a scope is open
+ * on the current thread the statement is counted and grouped by shape (literals and IN lists
+ * collapsed), so a loop issuing the same query for each parent row shows up as one shape with a
+ * high count: the N+1 pattern. The stack of the first repeat of each shape is kept to point at
+ * the code responsible. With no open scope recording is a ThreadLocal read and nothing else.
+ */
+public final class SqlStatementTracker {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlStatementTracker() {
+    }
+
+    /**
+     * Start counting on this thread; close the scope to stop. Scopes nest, and statements count
+     * towards the innermost one only.
+     *
+     * @param repeatThreshold executions of one shape at which it is reported as repeated
+     */
+    public static Scope open(String name, int repeatThreshold) {
+        Scope scope = new Scope(name, repeatThreshold, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    static void record(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null && sql != null) scope.record(sql);
+    }
+
+    /**
+     * The statement with parameters, literals and IN-list lengths removed
+     */
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (...)");
+        return WHITESPACE.matcher(shape.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final String name;
+        private final int repeatThreshold;
+        private final Scope parent;
+        private final Map<String, Integer> shapes = new LinkedHashMap<>();
+        private final Map<String, StackTraceElement[]> firstRepeat = new HashMap<>();
+        private int statements;
+        private boolean closed;
+
+        private Scope(String name, int repeatThreshold, Scope parent) {
+            this.name = name;
+            this.repeatThreshold = Math.max(2, repeatThreshold);
+            this.parent = parent;
+        }
+
+        private void record(String sql) {
+            statements++;
+            String shape = shapeOf(sql);
+            int count = shapes.merge(shape, 1, Integer::sum);
+            if (count == 2) firstRepeat.put(shape, Thread.currentThread().getStackTrace());
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public int statements() {
+            return statements;
+        }
+
+        /**
+         * Shapes executed at least repeatThreshold times, most frequent first
+         */
+        public Map<String, Integer> repeated() {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            shapes.entrySet().stream()
+                    .filter(e -> e.getValue() >= repeatThreshold)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(e -> repeated.put(e.getKey(), e.getValue()));
+            return repeated;
+        }
+
+        /**
+         * Application frames (com.example.hustled, this class excluded) where a shape first repeated
+         */
+        public List<String> callSite(String shape) {
+            StackTraceElement[] stack = firstRepeat.get(shape);
+            if (stack == null) return Collections.emptyList();
+            List<String> frames = new ArrayList<>();
+            for (StackTraceElement frame : stack) {
+                String cls = frame.getClassName();
+                if (cls.startsWith("com.example.hustled.") && !cls.startsWith("com.example.hustled.config.")
+                        && !cls.startsWith("com.example.hustled.filter.")) {
+                    frames.add(frame.toString());
+                }
+            }
+            return frames;
+        }
+
+        /**
+         * Multi-line summary for logs and test failure messages
+         */
+        public String report() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(name).append(": ").append(statements).append(" statements");
+            for (Map.Entry<String, Integer> e : repeated().entrySet()) {
+                sb.append("\n  ").append(e.getValue()).append("x ").append(e.getKey());
+                for (String frame : callSite(e.getKey())) sb.append("\n      at ").append(frame);
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent != null) {
+                    CURRENT.set(parent);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        }
+    }
+}
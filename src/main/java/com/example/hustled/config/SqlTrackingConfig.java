@@ -0,0 +1,55 @@
+package com.example.hustled.config;
+
+import com.example.hustled.filter.SqlStatementBudgetFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL statement counting for staging and tests (hustled.sql.tracking.enabled=true).
+ *
+ * Every DataSource is wrapped in a {@link StatementTrackingDataSource}; each HTTP request gets its
+ * own {@link SqlStatementTracker} scope through {@link SqlStatementBudgetFilter}, and tests can
+ * open scopes of their own around the code under test.
+ */
+@Configuration
+@ConditionalOnProperty(name = "hustled.sql.tracking.enabled", havingValue = "true")
+public class SqlTrackingConfig {
+
+    @Bean
+    public static BeanPostProcessor statementTrackingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // The routing DataSource sits behind the primary proxy; wrapping both would count twice
+                if (bean instanceof DataSource && !(bean instanceof StatementTrackingDataSource)
+                        && !(bean instanceof ReadWriteRoutingDataSource)) {
+                    return new StatementTrackingDataSource((DataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlStatementBudgetFilter sqlStatementBudgetFilter(
+            @Value("${hustled.sql.tracking.budget-per-request:20}") int budget,
+            @Value("${hustled.sql.tracking.repeat-threshold:5}") int repeatThreshold) {
+        return new SqlStatementBudgetFilter(budget, repeatThreshold);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementBudgetFilter> sqlStatementBudgetFilterRegistration(SqlStatementBudgetFilter filter) {
+        FilterRegistrationBean<SqlStatementBudgetFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/*");
+        // Outermost, so statements issued by security and other filters count too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
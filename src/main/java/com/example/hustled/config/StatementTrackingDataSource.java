@@ -0,0 +1,71 @@
+package com.example.hustled.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Reports every SQL statement to {@link SqlStatementTracker}: prepared and callable statements
+ * when they are prepared, plain statements when they execute. Covers Hibernate and JdbcTemplate
+ * alike, since both go through the connection.
+ */
+public class StatementTrackingDataSource extends DelegatingDataSource {
+
+    public StatementTrackingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection track(Connection target) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (("prepareStatement".equals(name) || "prepareCall".equals(name)) && args != null) {
+                        SqlStatementTracker.record((String) args[0]);
+                    }
+                    if ("unwrap".equals(name) || "isWrapperFor".equals(name)) {
+                        if (((Class<?>) args[0]).isInstance(target)) {
+                            return "unwrap".equals(name) ? target : Boolean.TRUE;
+                        }
+                    }
+                    Object result = invoke(method, target, args);
+                    return "createStatement".equals(name) ? track((Statement) result) : result;
+                });
+    }
+
+    private static Statement track(Statement target) {
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[] { Statement.class },
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("execute") && args != null && args.length > 0 && args[0] instanceof String) {
+                        SqlStatementTracker.record((String) args[0]);
+                    } else if ("executeBatch".equals(name) || "executeLargeBatch".equals(name)) {
+                        SqlStatementTracker.record("batch");
+                    }
+                    return invoke(method, target, args);
+                });
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
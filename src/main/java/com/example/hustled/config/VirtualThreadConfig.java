@@ -0,0 +1,97 @@
+package com.example.hustled.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.util.Locale;
+
+/**
+ * Opt-in virtual-thread execution mode (activate the "vthreads" profile on Java 21+).
+ *
+ * Spring Boot itself switches Tomcat request handling, @Async and @Scheduled work onto virtual
+ * threads when spring.threads.virtual.enabled=true. This configuration adds the JDBC pinning
+ * guard and logs, at startup, the pool size against the carrier count
+ * (jdk.virtualThreadScheduler.parallelism) together with the driver version, since a pool
+ * larger than the carriers can pin every carrier on a driver that blocks inside monitors.
+ *
+ * hustled.jdbc.pinning-guard.enabled=auto (the default) turns the guard on only where pinning
+ * happens: Connector/J older than 9.0 on Java older than 24 (JEP 491 unpins monitors).
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    public VirtualThreadConfig() {
+        int feature = Runtime.version().feature();
+        if (feature < 21) {
+            log.warn("spring.threads.virtual.enabled=true but running on Java {}; requests stay on platform threads", feature);
+        } else {
+            log.info("Virtual-thread execution mode enabled on Java {}", feature);
+        }
+    }
+
+    @Bean
+    public static BeanPostProcessor pinningGuardDataSourcePostProcessor(
+            @Value("${hustled.jdbc.pinning-guard.enabled:auto}") String enabled,
+            @Value("${hustled.jdbc.pinning-guard.permits:0}") int permits,
+            @Value("${hustled.jdbc.pinning-guard.acquire-timeout-ms:30000}") long acquireTimeoutMs,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        int carriers = carrierCount();
+        int driverMajor = mysqlDriverMajorVersion();
+        boolean pins = driverMajor > 0 && driverMajor < 9 && Runtime.version().feature() < 24;
+        boolean guard = "auto".equalsIgnoreCase(enabled) ? pins : Boolean.parseBoolean(enabled);
+        int cap = permits > 0 ? permits : Math.min(poolSize, carriers);
+
+        if (guard) {
+            log.info("JDBC pinning guard on: at most {} threads in the driver (pool {}, carriers {}, Connector/J {})",
+                    cap, poolSize, carriers, driverMajor > 0 ? driverMajor + ".x" : "not found");
+        } else if (pins && poolSize > carriers) {
+            log.warn("JDBC pinning guard off with Connector/J {}.x on Java {}: up to {} threads can pin all {} carriers; "
+                    + "upgrade to Connector/J 9 or set hustled.jdbc.pinning-guard.enabled=true",
+                    driverMajor, Runtime.version().feature(), poolSize, carriers);
+        } else {
+            log.info("JDBC pinning guard off (pool {}, carriers {}, Connector/J {})",
+                    poolSize, carriers, driverMajor > 0 ? driverMajor + ".x" : "not found");
+        }
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // The routing DataSource sits behind the primary proxy; guarding both would take two permits
+                if (guard && bean instanceof DataSource && !(bean instanceof PinningGuardDataSource)
+                        && !(bean instanceof ReadWriteRoutingDataSource)) {
+                    return new PinningGuardDataSource((DataSource) bean, cap, acquireTimeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Carrier threads of the virtual-thread scheduler: the JDK default unless overridden
+     */
+    static int carrierCount() {
+        return Integer.getInteger("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Major version of the registered MySQL driver, or 0 when there is none
+     */
+    private static int mysqlDriverMajorVersion() {
+        return DriverManager.drivers()
+                .filter(driver -> driver.getClass().getName().toLowerCase(Locale.ROOT).contains("mysql"))
+                .mapToInt(Driver::getMajorVersion)
+                .max()
+                .orElse(0);
+    }
+}
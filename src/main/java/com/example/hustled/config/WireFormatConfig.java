@@ -0,0 +1,25 @@
+package com.example.hustled.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * CBOR as a negotiated alternative to JSON: clients sending Accept: application/cbor get the
+ * same objects in binary, typically a third smaller and cheaper to encode, and may post
+ * Content-Type: application/cbor bodies.
+ */
+@Configuration
+public class WireFormatConfig {
+
+    /**
+     * Built from Boot's mapper builder so spring.jackson.* settings (null omission, date
+     * handling, modules) apply to CBOR exactly as they do to JSON
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
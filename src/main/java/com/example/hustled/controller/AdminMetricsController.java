@@ -0,0 +1,241 @@
+package com.example.hustled.controller;
+
+import com.example.hustled.dto.ApiResponse;
+import com.example.hustled.entity.User;
+import com.example.hustled.event.DomainEventBus;
+import com.example.hustled.filter.AuthThrottleFilter;
+import com.example.hustled.filter.LoadSheddingFilter;
+import com.example.hustled.filter.SqlStatementBudgetFilter;
+import com.example.hustled.repository.UserRepository;
+import com.example.hustled.service.ChatGatewayService;
+import com.example.hustled.service.EntityCacheEvictor;
+import com.example.hustled.service.ImageDerivativeService;
+import com.example.hustled.service.InterviewSchedulingService;
+import com.example.hustled.service.InvalidationBus;
+import com.example.hustled.service.JobDedupService;
+import com.example.hustled.service.JobExpiryService;
+import com.example.hustled.service.JobViewAnalyticsService;
+import com.example.hustled.service.ProfileDocumentService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Operational counters for tuning (admins only)
+ */
+@RestController
+@RequestMapping("/api/admin/metrics")
+public class AdminMetricsController {
+
+    private final ObjectProvider<AuthThrottleFilter> authThrottleFilter;
+    private final EntityCacheEvictor entityCache;
+    private final ChatGatewayService chatGateway;
+    private final ImageDerivativeService images;
+    private final InterviewSchedulingService interviews;
+    private final JobViewAnalyticsService viewAnalytics;
+    private final InvalidationBus invalidationBus;
+    private final JobExpiryService jobExpiry;
+    private final JobDedupService jobDedup;
+    private final ProfileDocumentService profileDocuments;
+    private final ObjectProvider<SqlStatementBudgetFilter> sqlBudgetFilter;
+    private final DomainEventBus domainEvents;
+    private final ObjectProvider<LoadSheddingFilter> loadSheddingFilter;
+    private final UserRepository userRepo;
+
+    public AdminMetricsController(ObjectProvider<AuthThrottleFilter> authThrottleFilter,
+                                  EntityCacheEvictor entityCache,
+                                  ChatGatewayService chatGateway,
+                                  ImageDerivativeService images,
+                                  InterviewSchedulingService interviews,
+                                  JobViewAnalyticsService viewAnalytics,
+                                  InvalidationBus invalidationBus,
+                                  JobExpiryService jobExpiry,
+                                  JobDedupService jobDedup,
+                                  ProfileDocumentService profileDocuments,
+                                  ObjectProvider<SqlStatementBudgetFilter> sqlBudgetFilter,
+                                  DomainEventBus domainEvents,
+                                  ObjectProvider<LoadSheddingFilter> loadSheddingFilter,
+                                  UserRepository userRepo) {
+        this.authThrottleFilter = authThrottleFilter;
+        this.entityCache = entityCache;
+        this.chatGateway = chatGateway;
+        this.images = images;
+        this.interviews = interviews;
+        this.viewAnalytics = viewAnalytics;
+        this.invalidationBus = invalidationBus;
+        this.jobExpiry = jobExpiry;
+        this.jobDedup = jobDedup;
+        this.profileDocuments = profileDocuments;
+        this.sqlBudgetFilter = sqlBudgetFilter;
+        this.domainEvents = domainEvents;
+        this.loadSheddingFilter = loadSheddingFilter;
+        this.userRepo = userRepo;
+    }
+
+    /**
+     * Login/signup throttling counters
+     * GET /api/admin/metrics/throttle
+     */
+    @GetMapping("/throttle")
+    public ResponseEntity<?> throttle(Authentication auth) {
+        ResponseEntity<?> denied = requireAdmin(auth);
+        if (denied != null) return denied;
+        AuthThrottleFilter filter = authThrottleFilter.getIfAvailable();
+        return ResponseEntity.ok(filter != null ? filter.stats() : Collections.singletonMap("enabled", false));
+    }
+
+    /**
+     * Hibernate second-level and query cache statistics per region
+     * GET /api/admin/metrics/cache
+     */
+    @GetMapping("/cache")
+    public ResponseEntity<?> cache(Authentication auth) {
+        ResponseEntity<?> denied = requireAdmin(auth);
+        if (denied != null) return denied;
+        return ResponseEntity.ok(entityCache.regionStats());
+    }
+
+    /**
+     * Chat gateway cache hits, coalesced prompts and upstream calls
+     * GET /api/admin/metrics/chat
+     */
+    @GetMapping("/chat")
+    public ResponseEntity<?> chat(Authentication auth) {
+        ResponseEntity<?> denied = requireAdmin(auth);
+        if (denied != null) return denied;
+        return ResponseEntity.ok(chatGateway.stats());
+    }
+
+    /**
+     * Image variants generated, and background jobs dropped because the queue was full
+     * GET /api/admin/metrics/images
+     */
+    @GetMapping("/images")
+    public ResponseEntity<?> images(Authentication auth) {
+        ResponseEntity<?> denied = requireAdmin(auth);
+        if (denied != null) return denied;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("generated", images.generatedCount());
+        stats.put("droppedFromQueue", images.droppedCount());
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * Interviewer calendars held in memory
+     * GET /api/admin/metrics/interviews
+     */
+    @GetMapping("/interviews")
+    public ResponseEntity<?> interviews(Authentication auth) {
+        ResponseEntity<?> denied = requireAdmin(auth);
+        if (denied != null) return denied;
+        return ResponseEntity.ok(interviews.stats());
+    }
+
+    /**
+     * Job view counters waiting to be flushed to the rollup tables
+     * GET /api/admin/metrics/views
+     */
+    @GetMapping("/views")
+    public ResponseEntity<?> views(Authentication auth) {
+        ResponseEntity<?> denied = requireAdmin(auth);
+        if (denied != null) return denied;
+        return ResponseEntity.ok(viewAnalytics.stats());
+    }
+
+    /**
+     * Cache invalidations published to and received from other nodes
+     * GET /api/admin/metrics/invalidation
+     */
+    @GetMapping("/invalidation")
+    public ResponseEntity<?> invalidation(Authentication auth) {
+        ResponseEntity<?> denied = requireAdmin(auth);
+        if (denied != null) return denied;
+        return ResponseEntity.ok(invalidationBus.stats());
+    }
+
+    /**
+     * Pending application deadlines and postings closed by the expiry wheel
+     * GET /api/admin/metrics/job-expiry
+     */
+    @GetMapping("/job-expiry")
+    public ResponseEntity<?> jobExpiry(Authentication auth) {
+        ResponseEntity<?> denied = requireAdmin(auth);
+        if (denied != null) return denied;
+        return ResponseEntity.ok(jobExpiry.stats());
+    }
+
+    /**
+     * Near-duplicate index size and postings flagged as re-posts
+     * GET /api/admin/metrics/job-dedup
+     */
+    @GetMapping("/job-dedup")
+    public ResponseEntity<?> jobDedup(Authentication auth) {
+        ResponseEntity<?> denied = requireAdmin(auth);
+        if (denied != null) return denied;
+        return ResponseEntity.ok(jobDedup.stats());
+    }
+
+    /**
+     * Candidate profile document cache and rebuild counters
+     * GET /api/admin/metrics/profile-documents
+     */
+    @GetMapping("/profile-documents")
+    public ResponseEntity<?> profileDocuments(Authentication auth) {
+        ResponseEntity<?> denied = requireAdmin(auth);
+        if (denied != null) return denied;
+        return ResponseEntity.ok(profileDocuments.stats());
+    }
+
+    /**
+     * SQL statements per request and endpoints over budget (hustled.sql.tracking.enabled only)
+     * GET /api/admin/metrics/sql
+     */
+    @GetMapping("/sql")
+    public ResponseEntity<?> sql(Authentication auth) {
+        ResponseEntity<?> denied = requireAdmin(auth);
+        if (denied != null) return denied;
+        SqlStatementBudgetFilter filter = sqlBudgetFilter.getIfAvailable();
+        return ResponseEntity.ok(filter != null ? filter.stats() : Collections.singletonMap("enabled", false));
+    }
+
+    /**
+     * Domain events published, dropped, and queued per subscriber
+     * GET /api/admin/metrics/events
+     */
+    @GetMapping("/events")
+    public ResponseEntity<?> events(Authentication auth) {
+        ResponseEntity<?> denied = requireAdmin(auth);
+        if (denied != null) return denied;
+        return ResponseEntity.ok(domainEvents.stats());
+    }
+
+    /**
+     * Adaptive concurrency limit, in-flight requests, and admitted/shed counts per priority class
+     * GET /api/admin/metrics/concurrency
+     */
+    @GetMapping("/concurrency")
+    public ResponseEntity<?> concurrency(Authentication auth) {
+        ResponseEntity<?> denied = requireAdmin(auth);
+        if (denied != null) return denied;
+        LoadSheddingFilter filter = loadSheddingFilter.getIfAvailable();
+        return ResponseEntity.ok(filter != null ? filter.stats() : Collections.singletonMap("enabled", false));
+    }
+
+    private ResponseEntity<?> requireAdmin(Authentication auth) {
+        User user = auth != null ? userRepo.findByUsername(auth.getName()).orElse(null) : null;
+        if (user == null) {
+            return ResponseEntity.status(401).body(new ApiResponse("Please login first", false));
+        }
+        if (!"ADMIN".equals(user.getRole())) {
+            return ResponseEntity.status(403).body(new ApiResponse("Only admins can view metrics", false));
+        }
+        return null;
+    }
+}
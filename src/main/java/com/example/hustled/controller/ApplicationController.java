@@ -0,0 +1,105 @@
+package com.example.hustled.controller;
+
+import com.example.hustled.dto.ApiResponse;
+import com.example.hustled.entity.ApplicationStatus;
+import com.example.hustled.entity.JobApplication;
+import com.example.hustled.entity.User;
+import com.example.hustled.repository.UserRepository;
+import com.example.hustled.service.ApplicationCounterService;
+import com.example.hustled.service.ApplicationService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+@RestController
+@RequestMapping("/api")
+public class ApplicationController {
+
+    private final ApplicationService applicationService;
+    private final ApplicationCounterService counters;
+    private final UserRepository userRepo;
+
+    public ApplicationController(ApplicationService applicationService,
+                                 ApplicationCounterService counters,
+                                 UserRepository userRepo) {
+        this.applicationService = applicationService;
+        this.counters = counters;
+        this.userRepo = userRepo;
+    }
+
+    /**
+     * Apply to a job as the logged-in candidate
+     * POST /api/jobs/{id}/applications {"coverLetter": "...", "resumeUrl": "/api/files/..."}
+     */
+    @PostMapping("/jobs/{id}/applications")
+    public ResponseEntity<?> apply(@PathVariable Long id,
+                                   @RequestBody(required = false) Map<String, String> body,
+                                   Authentication auth) {
+        User user = userRepo.findByUsername(auth.getName()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.status(401).body(new ApiResponse("Please login first", false));
+        }
+        try {
+            JobApplication application = applicationService.apply(id, user,
+                    body != null ? body.get("coverLetter") : null,
+                    body != null ? body.get("resumeUrl") : null);
+            return ResponseEntity.ok(application);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(404).body(new ApiResponse(e.getMessage(), false));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(new ApiResponse(e.getMessage(), false));
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(409).body(new ApiResponse("You already applied to this job", false));
+        }
+    }
+
+    /**
+     * Move an application to another stage
+     * PUT /api/applications/{id}/status {"status": "Interview Scheduled"}
+     */
+    @PutMapping("/applications/{id}/status")
+    public ResponseEntity<?> changeStatus(@PathVariable Long id,
+                                          @RequestBody Map<String, String> body,
+                                          Authentication auth) {
+        User user = userRepo.findByUsername(auth.getName()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.status(401).body(new ApiResponse("Please login first", false));
+        }
+        ApplicationStatus status;
+        try {
+            status = ApplicationStatus.fromLabel(body.get("status"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(e.getMessage(), false));
+        }
+        if (status == null) {
+            return ResponseEntity.badRequest().body(new ApiResponse("status is required", false));
+        }
+        try {
+            return ResponseEntity.ok(applicationService.changeStatus(id, status, user));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(404).body(new ApiResponse(e.getMessage(), false));
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(403).body(new ApiResponse(e.getMessage(), false));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(new ApiResponse(e.getMessage(), false));
+        }
+    }
+
+    /**
+     * Application counts per status for every job the employer posted
+     * GET /api/employer/pipeline
+     */
+    @GetMapping("/employer/pipeline")
+    public ResponseEntity<?> pipeline(Authentication auth) {
+        User user = userRepo.findByUsername(auth.getName()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.status(401).body(new ApiResponse("Please login first", false));
+        }
+        return ResponseEntity.ok(counters.pipeline(user.getId()));
+    }
+}
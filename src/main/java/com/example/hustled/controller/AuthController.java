@@ -2,23 +2,50 @@ package com.example.hustled.controller;
 
 import com.example.hustled.entity.User;
 import com.example.hustled.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
-import java.util.Map;
-
 @Controller
 public class AuthController {
 
     private final UserService userService;
 
-    public AuthController(UserService userService) {
+    // Fixed auth outcomes are encoded once at startup instead of on every call
+    private final CannedResponse usernameRequired;
+    private final CannedResponse passwordRequired;
+    private final CannedResponse emailRequired;
+    private final CannedResponse usernameTaken;
+    private final CannedResponse invalidCredentials;
+    private final CannedResponse candidateRegistered;
+    private final CannedResponse employerRegistered;
+
+    public AuthController(UserService userService,
+                          ObjectMapper objectMapper,
+                          MappingJackson2CborHttpMessageConverter cborConverter) {
         this.userService = userService;
+        ObjectMapper cborMapper = cborConverter.getObjectMapper();
+        this.usernameRequired = CannedResponse.of(HttpStatus.BAD_REQUEST,
+                AuthResponse.failure("Username is required"), objectMapper, cborMapper);
+        this.passwordRequired = CannedResponse.of(HttpStatus.BAD_REQUEST,
+                AuthResponse.failure("Password is required"), objectMapper, cborMapper);
+        this.emailRequired = CannedResponse.of(HttpStatus.BAD_REQUEST,
+                AuthResponse.failure("Email is required"), objectMapper, cborMapper);
+        this.usernameTaken = CannedResponse.of(HttpStatus.BAD_REQUEST,
+                AuthResponse.failure("Username already exists"), objectMapper, cborMapper);
+        this.invalidCredentials = CannedResponse.of(HttpStatus.BAD_REQUEST,
+                AuthResponse.failure("Invalid username or password"), objectMapper, cborMapper);
+        this.candidateRegistered = CannedResponse.of(HttpStatus.OK,
+                AuthResponse.success("Candidate registration successful!"), objectMapper, cborMapper);
+        this.employerRegistered = CannedResponse.of(HttpStatus.OK,
+                AuthResponse.success("Employer registration successful!"), objectMapper, cborMapper);
     }
 
     @GetMapping("/login")
@@ -78,50 +105,9 @@ public class AuthController {
      */
     @PostMapping("/api/auth/signup/candidate")
     @ResponseBody
-    public ResponseEntity<?> signupCandidate(@RequestBody SignupRequest request) {
-        Map<String, Object> response = new HashMap<>();
-        
-        try {
-            // Validate input
-            if (request.getUsername() == null || request.getUsername().trim().isEmpty()) {
-                response.put("success", false);
-                response.put("message", "Username is required");
-                return ResponseEntity.badRequest().body(response);
-            }
-            if (request.getPassword() == null || request.getPassword().trim().isEmpty()) {
-                response.put("success", false);
-                response.put("message", "Password is required");
-                return ResponseEntity.badRequest().body(response);
-            }
-            if (request.getEmail() == null || request.getEmail().trim().isEmpty()) {
-                response.put("success", false);
-                response.put("message", "Email is required");
-                return ResponseEntity.badRequest().body(response);
-            }
-
-            User user = new User();
-            user.setUsername(request.getUsername());
-            user.setPassword(request.getPassword());
-            user.setEmail(request.getEmail());
-            user.setPhone(request.getPhone());
-            user.setRole("CANDIDATE");
-
-            boolean success = userService.register(user);
-            
-            if (success) {
-                response.put("success", true);
-                response.put("message", "Candidate registration successful!");
-                return ResponseEntity.ok(response);
-            } else {
-                response.put("success", false);
-                response.put("message", "Username already exists");
-                return ResponseEntity.badRequest().body(response);
-            }
-        } catch (Exception e) {
-            response.put("success", false);
-            response.put("message", "An error occurred: " + e.getMessage());
-            return ResponseEntity.status(500).body(response);
-        }
+    public ResponseEntity<?> signupCandidate(@RequestBody SignupRequest request,
+                                             @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return signup(request, "CANDIDATE", candidateRegistered, accept);
     }
 
     /**
@@ -130,50 +116,9 @@ public class AuthController {
      */
     @PostMapping("/api/auth/signup/admin")
     @ResponseBody
-    public ResponseEntity<?> signupAdmin(@RequestBody SignupRequest request) {
-        Map<String, Object> response = new HashMap<>();
-        
-        try {
-            // Validate input
-            if (request.getUsername() == null || request.getUsername().trim().isEmpty()) {
-                response.put("success", false);
-                response.put("message", "Username is required");
-                return ResponseEntity.badRequest().body(response);
-            }
-            if (request.getPassword() == null || request.getPassword().trim().isEmpty()) {
-                response.put("success", false);
-                response.put("message", "Password is required");
-                return ResponseEntity.badRequest().body(response);
-            }
-            if (request.getEmail() == null || request.getEmail().trim().isEmpty()) {
-                response.put("success", false);
-                response.put("message", "Email is required");
-                return ResponseEntity.badRequest().body(response);
-            }
-
-            User user = new User();
-            user.setUsername(request.getUsername());
-            user.setPassword(request.getPassword());
-            user.setEmail(request.getEmail());
-            user.setPhone(request.getPhone());
-            user.setRole("ADMIN");
-
-            boolean success = userService.register(user);
-            
-            if (success) {
-                response.put("success", true);
-                response.put("message", "Employer registration successful!");
-                return ResponseEntity.ok(response);
-            } else {
-                response.put("success", false);
-                response.put("message", "Username already exists");
-                return ResponseEntity.badRequest().body(response);
-            }
-        } catch (Exception e) {
-            response.put("success", false);
-            response.put("message", "An error occurred: " + e.getMessage());
-            return ResponseEntity.status(500).body(response);
-        }
+    public ResponseEntity<?> signupAdmin(@RequestBody SignupRequest request,
+                                         @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return signup(request, "ADMIN", employerRegistered, accept);
     }
 
     /**
@@ -182,30 +127,13 @@ public class AuthController {
      */
     @PostMapping("/api/auth/login/candidate")
     @ResponseBody
-    public ResponseEntity<?> loginCandidate(@RequestBody LoginRequest request) {
-        Map<String, Object> response = new HashMap<>();
-        
+    public ResponseEntity<?> loginCandidate(@RequestBody LoginRequest request,
+                                            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         try {
             boolean success = userService.authenticateCandidate(request.getUsername(), request.getPassword());
-            
-            if (success) {
-                User user = userService.findByUsername(request.getUsername());
-                response.put("success", true);
-                response.put("message", "Login successful!");
-                response.put("userId", user.getId());
-                response.put("username", user.getUsername());
-                response.put("email", user.getEmail());
-                response.put("role", user.getRole());
-                return ResponseEntity.ok(response);
-            } else {
-                response.put("success", false);
-                response.put("message", "Invalid username or password");
-                return ResponseEntity.badRequest().body(response);
-            }
+            return loginResult(success, request.getUsername(), accept);
         } catch (Exception e) {
-            response.put("success", false);
-            response.put("message", "An error occurred: " + e.getMessage());
-            return ResponseEntity.status(500).body(response);
+            return ResponseEntity.status(500).body(AuthResponse.failure("An error occurred: " + e.getMessage()));
         }
     }
 
@@ -215,31 +143,55 @@ public class AuthController {
      */
     @PostMapping("/api/auth/login/admin")
     @ResponseBody
-    public ResponseEntity<?> loginAdmin(@RequestBody LoginRequest request) {
-        Map<String, Object> response = new HashMap<>();
-        
+    public ResponseEntity<?> loginAdmin(@RequestBody LoginRequest request,
+                                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         try {
             boolean success = userService.authenticateAdmin(request.getUsername(), request.getPassword());
-            
-            if (success) {
-                User user = userService.findByUsername(request.getUsername());
-                response.put("success", true);
-                response.put("message", "Login successful!");
-                response.put("userId", user.getId());
-                response.put("username", user.getUsername());
-                response.put("email", user.getEmail());
-                response.put("role", user.getRole());
-                return ResponseEntity.ok(response);
-            } else {
-                response.put("success", false);
-                response.put("message", "Invalid username or password");
-                return ResponseEntity.badRequest().body(response);
+            return loginResult(success, request.getUsername(), accept);
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(AuthResponse.failure("An error occurred: " + e.getMessage()));
+        }
+    }
+
+    private ResponseEntity<?> signup(SignupRequest request, String role, CannedResponse registered, String accept) {
+        try {
+            // Validate input
+            if (request.getUsername() == null || request.getUsername().trim().isEmpty()) {
+                return usernameRequired.render(accept);
+            }
+            if (request.getPassword() == null || request.getPassword().trim().isEmpty()) {
+                return passwordRequired.render(accept);
+            }
+            if (request.getEmail() == null || request.getEmail().trim().isEmpty()) {
+                return emailRequired.render(accept);
             }
+
+            User user = new User();
+            user.setUsername(request.getUsername());
+            user.setPassword(request.getPassword());
+            user.setEmail(request.getEmail());
+            user.setPhone(request.getPhone());
+            user.setRole(role);
+
+            return userService.register(user) ? registered.render(accept) : usernameTaken.render(accept);
         } catch (Exception e) {
-            response.put("success", false);
-            response.put("message", "An error occurred: " + e.getMessage());
-            return ResponseEntity.status(500).body(response);
+            return ResponseEntity.status(500).body(AuthResponse.failure("An error occurred: " + e.getMessage()));
+        }
+    }
+
+    private ResponseEntity<?> loginResult(boolean success, String username, String accept) {
+        if (!success) {
+            return invalidCredentials.render(accept);
         }
+        User user = userService.findByUsername(username);
+        AuthResponse response = new AuthResponse();
+        response.setSuccess(true);
+        response.setMessage("Login successful!");
+        response.setUserId(user.getId());
+        response.setUsername(user.getUsername());
+        response.setEmail(user.getEmail());
+        response.setRole(user.getRole());
+        return ResponseEntity.ok(response);
     }
 
     // ==================== REQUEST/RESPONSE CLASSES ====================
@@ -305,4 +257,78 @@ public class AuthController {
             this.password = password;
         }
     }
+
+    /**
+     * Auth outcome; null fields (userId etc. on failures) are left out of the payload
+     */
+    public static class AuthResponse {
+        private boolean success;
+        private String message;
+        private Long userId;
+        private String username;
+        private String email;
+        private String role;
+
+        static AuthResponse success(String message) {
+            AuthResponse response = new AuthResponse();
+            response.setSuccess(true);
+            response.setMessage(message);
+            return response;
+        }
+
+        static AuthResponse failure(String message) {
+            AuthResponse response = new AuthResponse();
+            response.setMessage(message);
+            return response;
+        }
+
+        // Getters and Setters
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public void setSuccess(boolean success) {
+            this.success = success;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public String getRole() {
+            return role;
+        }
+
+        public void setRole(String role) {
+            this.role = role;
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package com.example.hustled.controller;
+
+import com.example.hustled.dto.ApiResponse;
+import com.example.hustled.service.AutocompleteService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/autocomplete")
+public class AutocompleteController {
+
+    private static final int MAX_LIMIT = 20;
+
+    private final AutocompleteService autocompleteService;
+
+    public AutocompleteController(AutocompleteService autocompleteService) {
+        this.autocompleteService = autocompleteService;
+    }
+
+    /**
+     * Typeahead suggestions for the job search boxes
+     * GET /api/autocomplete?q=jav&field=title&limit=8
+     */
+    @GetMapping
+    public ResponseEntity<?> suggest(@RequestParam("q") String query,
+                                     @RequestParam(value = "field", required = false) String field,
+                                     @RequestParam(value = "limit", defaultValue = "8") int limit) {
+        AutocompleteService.Field target = null;
+        if (field != null && !field.isBlank()) {
+            try {
+                target = AutocompleteService.Field.valueOf(field.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse("Unknown field: " + field, false));
+            }
+        }
+
+        int capped = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(60, TimeUnit.SECONDS).cachePublic())
+                .body(autocompleteService.suggest(query, target, capped));
+    }
+}
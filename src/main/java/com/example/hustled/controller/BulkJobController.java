@@ -0,0 +1,80 @@
+package com.example.hustled.controller;
+
+import com.example.hustled.dto.ApiResponse;
+import com.example.hustled.dto.BulkJobResultDTO;
+import com.example.hustled.entity.Job;
+import com.example.hustled.entity.User;
+import com.example.hustled.repository.UserRepository;
+import com.example.hustled.service.BulkJobService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/jobs")
+public class BulkJobController {
+
+    private final BulkJobService bulkJobService;
+    private final UserRepository userRepo;
+
+    public BulkJobController(BulkJobService bulkJobService, UserRepository userRepo) {
+        this.bulkJobService = bulkJobService;
+        this.userRepo = userRepo;
+    }
+
+    /**
+     * Post many jobs at once as a JSON array (employers only)
+     * POST /api/jobs/bulk [{"title": "...", "company": "...", "applicationDeadline": "2026-12-01"}, ...]
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> bulkJson(@RequestBody List<Job> jobs, Authentication auth) {
+        User poster = employer(auth);
+        if (poster == null) {
+            return ResponseEntity.status(403).body(new ApiResponse("Only employers can post jobs", false));
+        }
+        try {
+            return ResponseEntity.ok(summary(bulkJobService.postAll(jobs, poster)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(e.getMessage(), false));
+        }
+    }
+
+    /**
+     * Post many jobs at once as CSV with a header row (employers only)
+     * POST /api/jobs/bulk  Content-Type: text/csv
+     */
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<?> bulkCsv(HttpServletRequest request, Authentication auth) throws IOException {
+        User poster = employer(auth);
+        if (poster == null) {
+            return ResponseEntity.status(403).body(new ApiResponse("Only employers can post jobs", false));
+        }
+        if (request.getCharacterEncoding() == null) request.setCharacterEncoding("UTF-8");
+        try {
+            return ResponseEntity.ok(summary(bulkJobService.postCsv(request.getReader(), poster)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(e.getMessage(), false));
+        }
+    }
+
+    private User employer(Authentication auth) {
+        User user = userRepo.findByUsername(auth.getName()).orElse(null);
+        return user != null && "ADMIN".equals(user.getRole()) ? user : null;
+    }
+
+    private static Map<String, Object> summary(List<BulkJobResultDTO> results) {
+        long created = results.stream().filter(BulkJobResultDTO::isSuccess).count();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("created", created);
+        body.put("failed", results.size() - created);
+        body.put("results", results);
+        return body;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.hustled.controller;
+
+import com.example.hustled.dto.ApiResponse;
+import com.example.hustled.entity.User;
+import com.example.hustled.repository.UserRepository;
+import com.example.hustled.service.ProfileDocumentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Employer-facing candidate profiles, served from the pre-assembled profile documents
+ */
+@RestController
+@RequestMapping("/api/candidates")
+public class CandidateDirectoryController {
+
+    private static final int MAX_PAGE = 100;
+
+    private final ProfileDocumentService profileDocuments;
+    private final UserRepository userRepo;
+    private final ObjectMapper objectMapper;
+
+    public CandidateDirectoryController(ProfileDocumentService profileDocuments,
+                                        UserRepository userRepo,
+                                        ObjectMapper objectMapper) {
+        this.profileDocuments = profileDocuments;
+        this.userRepo = userRepo;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * One candidate's full profile (employers only)
+     * GET /api/candidates/{id}/profile
+     */
+    @GetMapping("/{id}/profile")
+    public ResponseEntity<?> profile(@PathVariable Long id,
+                                     @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                     Authentication auth) throws IOException {
+        ResponseEntity<?> denied = requireEmployer(auth);
+        if (denied != null) return denied;
+
+        byte[] document = profileDocuments.findByCandidateId(id);
+        if (document == null) {
+            return ResponseEntity.status(404).body(new ApiResponse("Candidate not found", false));
+        }
+        if (CannedResponse.prefersCbor(accept)) {
+            return ResponseEntity.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT).body(objectMapper.readTree(document));
+        }
+        return ResponseEntity.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .contentType(MediaType.APPLICATION_JSON).body(document);
+    }
+
+    /**
+     * Full profiles for a grid of candidates in request order; unknown ids are skipped (employers only)
+     * GET /api/candidates/profiles?ids=4,8,15
+     */
+    @GetMapping("/profiles")
+    public ResponseEntity<?> profiles(@RequestParam("ids") List<Long> ids,
+                                      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                      Authentication auth) throws IOException {
+        ResponseEntity<?> denied = requireEmployer(auth);
+        if (denied != null) return denied;
+        if (ids.size() > MAX_PAGE) {
+            return ResponseEntity.badRequest().body(new ApiResponse("At most " + MAX_PAGE + " ids per request", false));
+        }
+
+        Map<Long, byte[]> documents = profileDocuments.findAllByCandidateIds(ids);
+        if (CannedResponse.prefersCbor(accept)) {
+            ArrayNode array = objectMapper.createArrayNode();
+            for (byte[] document : documents.values()) array.add(objectMapper.readTree(document));
+            return ResponseEntity.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT).body(array);
+        }
+        // The stored documents are already JSON, so the array is stitched together without re-encoding
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write('[');
+        boolean first = true;
+        for (byte[] document : documents.values()) {
+            if (!first) out.write(',');
+            out.write(document);
+            first = false;
+        }
+        out.write(']');
+        return ResponseEntity.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .contentType(MediaType.APPLICATION_JSON).body(out.toByteArray());
+    }
+
+    private ResponseEntity<?> requireEmployer(Authentication auth) {
+        User user = userRepo.findByUsername(auth.getName()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.status(401).body(new ApiResponse("Please login first", false));
+        }
+        if (!"ADMIN".equals(user.getRole())) {
+            return ResponseEntity.status(403).body(new ApiResponse("Only employers can view candidate profiles", false));
+        }
+        return null;
+    }
+}
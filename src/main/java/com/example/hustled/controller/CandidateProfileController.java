@@ -1,18 +1,36 @@
 package com.example.hustled.controller;
 
+import com.example.hustled.config.ReadYourWritesTracker;
 import com.example.hustled.dto.CandidateProfileDTO;
 import com.example.hustled.dto.ApiResponse;
 import com.example.hustled.model.CandidateProfile;
 import com.example.hustled.entity.User;
 import com.example.hustled.repository.CandidateProfileRepository;
 import com.example.hustled.repository.UserRepository;
+import com.example.hustled.entity.StoredFile;
+import com.example.hustled.event.DomainEventBus;
+import com.example.hustled.event.ProfileSaved;
+import com.example.hustled.service.FileStorageService;
+import com.example.hustled.service.ImageDerivativeService;
+import com.example.hustled.service.InvalidationBus;
+import com.example.hustled.service.ProfileDocumentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/candidate")
@@ -25,11 +43,38 @@ public class CandidateProfileController {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private DomainEventBus domainEventBus;
+    
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+    
+    @Autowired
+    private FileStorageService fileStorageService;
+    
+    @Autowired
+    private ImageDerivativeService imageDerivativeService;
+    
+    @Autowired
+    private InvalidationBus invalidationBus;
+    
+    @Autowired
+    private ProfileDocumentService profileDocumentService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    private static final Set<String> RESUME_TYPES = Set.of(
+            "application/pdf",
+            "application/msword",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document");
+    
     /**
      * Save or Update Candidate Profile
      * POST /api/candidate/profile/save
      */
     @PostMapping("/profile/save")
+    @Transactional
     public ResponseEntity<?> saveProfile(@RequestBody CandidateProfileDTO dto) {
         try {
             // Extract user ID from authentication context or DTO
@@ -71,7 +116,11 @@ public class CandidateProfileController {
             profile.setIsProfileComplete(true);
             
             // Save to database
-            candidateProfileRepository.save(profile);
+            CandidateProfile saved = candidateProfileRepository.save(profile);
+            readYourWritesTracker.recordWrite();
+            domainEventBus.publish(new ProfileSaved(saved));
+            invalidationBus.publish(InvalidationBus.PROFILE, saved.getId());
+            profileDocumentService.sectionsChanged(saved.getId(), ProfileDocumentService.Section.PROFILE);
             
             return ResponseEntity.ok(
                 new ApiResponse("✅ Profile saved successfully", true)
@@ -85,11 +134,104 @@ public class CandidateProfileController {
     }
     
     /**
-     * Get Candidate Profile
+     * Upload Resume (PDF or Word) and link it to the profile
+     * POST /api/candidate/profile/resume (multipart, field "file")
+     */
+    @PostMapping(value = "/profile/resume", consumes = "multipart/form-data")
+    @Transactional
+    public ResponseEntity<?> uploadResume(@RequestParam("file") MultipartFile file, Authentication authentication) {
+        try {
+            Optional<User> user = userRepository.findByUsername(authentication.getName());
+            if (user.isEmpty()) {
+                return ResponseEntity.status(401)
+                    .body(new ApiResponse("❌ Unauthorized: Please login first", false));
+            }
+            if (file.getContentType() == null || !RESUME_TYPES.contains(file.getContentType())) {
+                return ResponseEntity.badRequest()
+                    .body(new ApiResponse("❌ Resume must be a PDF or Word document", false));
+            }
+            
+            Optional<CandidateProfile> profile = candidateProfileRepository.findByUserId(user.get().getId());
+            if (profile.isEmpty()) {
+                return ResponseEntity.status(404)
+                    .body(new ApiResponse("❌ Save your profile before uploading a resume", false));
+            }
+            
+            StoredFile stored;
+            try (InputStream in = file.getInputStream()) {
+                stored = fileStorageService.store(in, file.getOriginalFilename(), file.getContentType(), user.get().getId());
+            }
+            profile.get().setResumeUrl(FileStorageService.urlFor(stored.getHash()));
+            candidateProfileRepository.save(profile.get());
+            readYourWritesTracker.recordWrite();
+            invalidationBus.publish(InvalidationBus.PROFILE, profile.get().getId());
+            profileDocumentService.sectionsChanged(profile.get().getId(), ProfileDocumentService.Section.PROFILE);
+            
+            return ResponseEntity.ok(new ApiResponse("✅ Resume uploaded: " + profile.get().getResumeUrl(), true));
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse("❌ " + e.getMessage(), false));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(500)
+                .body(new ApiResponse("❌ Error uploading resume: " + e.getMessage(), false));
+        }
+    }
+    
+    /**
+     * Upload Profile Photo (JPEG, PNG or GIF); thumbnails are generated in the background
+     * POST /api/candidate/profile/photo (multipart, field "file")
+     */
+    @PostMapping(value = "/profile/photo", consumes = "multipart/form-data")
+    @Transactional
+    public ResponseEntity<?> uploadPhoto(@RequestParam("file") MultipartFile file, Authentication authentication) {
+        try {
+            Optional<User> user = userRepository.findByUsername(authentication.getName());
+            if (user.isEmpty()) {
+                return ResponseEntity.status(401)
+                    .body(new ApiResponse("❌ Unauthorized: Please login first", false));
+            }
+            if (!ImageDerivativeService.isResizable(file.getContentType())) {
+                return ResponseEntity.badRequest()
+                    .body(new ApiResponse("❌ Photo must be a JPEG, PNG or GIF image", false));
+            }
+            
+            Optional<CandidateProfile> profile = candidateProfileRepository.findByUserId(user.get().getId());
+            if (profile.isEmpty()) {
+                return ResponseEntity.status(404)
+                    .body(new ApiResponse("❌ Save your profile before uploading a photo", false));
+            }
+            
+            StoredFile stored;
+            try (InputStream in = file.getInputStream()) {
+                stored = fileStorageService.store(in, file.getOriginalFilename(), file.getContentType(), user.get().getId());
+            }
+            imageDerivativeService.scheduleDerivatives(stored);
+            profile.get().setPhotoUrl(FileStorageService.urlFor(stored.getHash()));
+            candidateProfileRepository.save(profile.get());
+            readYourWritesTracker.recordWrite();
+            invalidationBus.publish(InvalidationBus.PROFILE, profile.get().getId());
+            profileDocumentService.sectionsChanged(profile.get().getId(), ProfileDocumentService.Section.PROFILE);
+            
+            return ResponseEntity.ok(new ApiResponse("✅ Photo uploaded: " + profile.get().getPhotoUrl(), true));
+            
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse("❌ " + e.getMessage(), false));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(500)
+                .body(new ApiResponse("❌ Error uploading photo: " + e.getMessage(), false));
+        }
+    }
+    
+    /**
+     * Get Candidate Profile with skills, experiences, education and certifications
      * GET /api/candidate/profile
      */
     @GetMapping("/profile")
-    public ResponseEntity<?> getProfile() {
+    public ResponseEntity<?> getProfile(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         try {
             Long userId = getCurrentUserId();
             if (userId == null) {
@@ -97,13 +239,16 @@ public class CandidateProfileController {
                     .body(new ApiResponse("Unauthorized: Please login first", false));
             }
             
-            Optional<CandidateProfile> profile = candidateProfileRepository.findByUserId(userId);
-            
-            if (profile.isPresent()) {
-                return ResponseEntity.ok(profile.get());
-            } else {
+            // One lookup of the pre-assembled document instead of a query per section
+            byte[] document = profileDocumentService.findByUserId(userId);
+            if (document == null) {
                 return ResponseEntity.ok(new CandidateProfile());
             }
+            if (CannedResponse.prefersCbor(accept)) {
+                return ResponseEntity.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT).body(objectMapper.readTree(document));
+            }
+            return ResponseEntity.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .contentType(MediaType.APPLICATION_JSON).body(document);
             
         } catch (Exception e) {
             e.printStackTrace();
@@ -112,6 +257,41 @@ public class CandidateProfileController {
         }
     }
     
+    /**
+     * Replace one profile section with the given list
+     * PUT /api/candidate/profile/{section}  section = skills | experiences | education | certifications
+     * e.g. [{"skillName": "Java", "proficiencyLevel": "Advanced", "yearsOfExperience": 4}]
+     */
+    @PutMapping("/profile/{section}")
+    public ResponseEntity<?> replaceSection(@PathVariable String section,
+                                            @RequestBody List<Map<String, Object>> items,
+                                            Authentication authentication) {
+        Optional<User> user = userRepository.findByUsername(authentication.getName());
+        if (user.isEmpty()) {
+            return ResponseEntity.status(401)
+                .body(new ApiResponse("❌ Unauthorized: Please login first", false));
+        }
+        ProfileDocumentService.Section target = ProfileDocumentService.Section.fromKey(section);
+        if (target == null) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse("❌ Unknown section: " + section, false));
+        }
+        Optional<CandidateProfile> profile = candidateProfileRepository.findByUserId(user.get().getId());
+        if (profile.isEmpty()) {
+            return ResponseEntity.status(404)
+                .body(new ApiResponse("❌ Save your profile before adding " + target.key(), false));
+        }
+        try {
+            profileDocumentService.replaceSection(profile.get().getId(), target, items);
+            readYourWritesTracker.recordWrite();
+            return ResponseEntity.ok(new ApiResponse("✅ " + items.size() + " " + target.key() + " saved", true));
+        } catch (DataAccessException e) {
+            // Missing required fields, bad dates and the like are rejected by the database
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse("❌ Invalid " + target.key() + ": " + e.getMostSpecificCause().getMessage(), false));
+        }
+    }
+    
     /**
      * Get Candidate ID by User ID
      * GET /api/candidate/id
@@ -0,0 +1,82 @@
+package com.example.hustled.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+/**
+ * A fixed response body encoded once, as JSON and as CBOR, so hot endpoints can return
+ * constant messages without building and serializing an object per request. Also holds the
+ * JSON/CBOR negotiation used by the other endpoints that write pre-encoded bodies.
+ */
+public final class CannedResponse {
+
+    private final HttpStatus status;
+    private final byte[] json;
+    private final byte[] cbor;
+
+    private CannedResponse(HttpStatus status, byte[] json, byte[] cbor) {
+        this.status = status;
+        this.json = json;
+        this.cbor = cbor;
+    }
+
+    public static CannedResponse of(HttpStatus status, Object body, ObjectMapper jsonMapper, ObjectMapper cborMapper) {
+        try {
+            return new CannedResponse(status, jsonMapper.writeValueAsBytes(body), cborMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot pre-serialize " + body.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * The body in CBOR when the Accept header prefers it over JSON (q-values and wildcards
+     * included), JSON otherwise
+     */
+    public ResponseEntity<byte[]> render(String accept) {
+        boolean binary = prefersCbor(accept);
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .contentType(binary ? MediaType.APPLICATION_CBOR : MediaType.APPLICATION_JSON)
+                .body(binary ? cbor : json);
+    }
+
+    /**
+     * Whether an Accept header ranks CBOR above JSON. Shared by every endpoint that can answer
+     * in either encoding, so they all negotiate the same way.
+     */
+    public static boolean prefersCbor(String accept) {
+        if (accept == null || accept.isBlank()) return false;
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        // Ties go to JSON, as before negotiation existed
+        return quality(accepted, MediaType.APPLICATION_CBOR) > quality(accepted, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Quality of the most specific range that covers the type; 0 when none does
+     */
+    private static double quality(List<MediaType> accepted, MediaType type) {
+        double quality = 0;
+        int specificity = -1;
+        for (MediaType range : accepted) {
+            if (!range.includes(type)) continue;
+            int s = range.isWildcardType() ? 0 : range.isWildcardSubtype() ? 1 : 2;
+            if (s > specificity) {
+                specificity = s;
+                quality = range.getQualityValue();
+            }
+        }
+        return quality;
+    }
+}
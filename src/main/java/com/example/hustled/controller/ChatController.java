@@ -0,0 +1,122 @@
+package com.example.hustled.controller;
+
+import com.example.hustled.dto.ApiResponse;
+import com.example.hustled.service.ChatGatewayService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Career assistant endpoints used by the Deep Chat widget.
+ * Request and response bodies match the old Flask jobzilla-api: {message} in, {text} out.
+ * Open to anonymous users, so each client (username, else address) is rate limited.
+ */
+@RestController
+@RequestMapping("/api/chat")
+public class ChatController {
+
+    private static final int MAX_MESSAGE_LENGTH = 2000;
+    private static final long ANSWER_TIMEOUT_SECONDS = 90;
+
+    private final ChatGatewayService chatGateway;
+
+    public ChatController(ChatGatewayService chatGateway) {
+        this.chatGateway = chatGateway;
+    }
+
+    /**
+     * Whole answer in one response
+     * POST /api/chat {"message": "What are OJT requirements?"}
+     */
+    @PostMapping
+    public CompletableFuture<ResponseEntity<?>> chat(@RequestBody Map<String, String> body, HttpServletRequest request) {
+        String message = body.get("message");
+        if (!isValid(message)) {
+            return CompletableFuture.completedFuture(invalid());
+        }
+        long wait = chatGateway.tryAcquire(clientKey(request));
+        if (wait > 0) {
+            return CompletableFuture.completedFuture(throttled(wait));
+        }
+        return chatGateway.ask(message)
+                .orTimeout(ANSWER_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .<ResponseEntity<?>>thenApply(text -> ResponseEntity.ok(Collections.singletonMap("text", text)))
+                .exceptionally(e -> ResponseEntity.status(503)
+                        .body(Collections.singletonMap("text", "Sorry, I'm experiencing an API error. Please try again.")));
+    }
+
+    /**
+     * Answer streamed as server-sent events, one {"text": fragment} per event
+     * POST /api/chat/stream {"message": "..."}  or  GET /api/chat/stream?message=...
+     */
+    @PostMapping("/stream")
+    public Object streamPost(@RequestBody Map<String, String> body, HttpServletRequest request) {
+        return stream(body.get("message"), request);
+    }
+
+    @GetMapping("/stream")
+    public Object streamGet(@RequestParam("message") String message, HttpServletRequest request) {
+        return stream(message, request);
+    }
+
+    private Object stream(String message, HttpServletRequest request) {
+        if (!isValid(message)) {
+            return invalid();
+        }
+        long wait = chatGateway.tryAcquire(clientKey(request));
+        if (wait > 0) {
+            return throttled(wait);
+        }
+        SseEmitter emitter = new SseEmitter(TimeUnit.SECONDS.toMillis(ANSWER_TIMEOUT_SECONDS));
+        chatGateway.ask(message, new ChatGatewayService.Listener() {
+            @Override
+            public void onToken(String text) throws IOException {
+                emitter.send(SseEmitter.event().data(Collections.singletonMap("text", text)));
+            }
+
+            @Override
+            public void onComplete(String answer) {
+                emitter.complete();
+            }
+
+            @Override
+            public void onError(Throwable error) throws IOException {
+                emitter.send(SseEmitter.event().name("error")
+                        .data(Collections.singletonMap("error", "Sorry, I'm experiencing an API error. Please try again.")));
+                emitter.complete();
+            }
+        });
+        return emitter;
+    }
+
+    private static boolean isValid(String message) {
+        return message != null && !message.isBlank() && message.length() <= MAX_MESSAGE_LENGTH;
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        return request.getUserPrincipal() != null
+                ? "u:" + request.getUserPrincipal().getName()
+                : "a:" + request.getRemoteAddr();
+    }
+
+    private static ResponseEntity<?> throttled(long waitNanos) {
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                .body(new ApiResponse("Too many questions. Please try again in " + seconds + " seconds.", false));
+    }
+
+    private static ResponseEntity<?> invalid() {
+        return ResponseEntity.badRequest()
+                .body(new ApiResponse("Message must be 1-" + MAX_MESSAGE_LENGTH + " characters", false));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.hustled.controller;
+
+import com.example.hustled.dto.ApiResponse;
+import com.example.hustled.entity.Job;
+import com.example.hustled.entity.User;
+import com.example.hustled.repository.UserRepository;
+import com.example.hustled.service.ExportService;
+import com.example.hustled.service.JobService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Bulk CSV / NDJSON downloads, streamed row by row
+ */
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+    private final ExportService exportService;
+    private final JobService jobService;
+    private final UserRepository userRepo;
+
+    public ExportController(ExportService exportService, JobService jobService, UserRepository userRepo) {
+        this.exportService = exportService;
+        this.jobService = jobService;
+        this.userRepo = userRepo;
+    }
+
+    /**
+     * Every job (admins only)
+     * GET /api/export/jobs?format=csv|ndjson
+     */
+    @GetMapping("/jobs")
+    public ResponseEntity<?> jobs(@RequestParam(value = "format", required = false) String format,
+                                  Authentication auth) {
+        User user = userRepo.findByUsername(auth.getName()).orElse(null);
+        if (user == null || !"ADMIN".equals(user.getRole())) {
+            return ResponseEntity.status(403).body(new ApiResponse("Only admins can export jobs", false));
+        }
+        ExportService.Format target = parse(format);
+        if (target == null) {
+            return ResponseEntity.badRequest().body(new ApiResponse("Unknown format: " + format, false));
+        }
+        StreamingResponseBody body = out -> exportService.exportJobs(target, out);
+        return download("jobs", target, body);
+    }
+
+    /**
+     * Applicants for one job (the employer who posted it only)
+     * GET /api/export/jobs/{id}/applicants?format=csv|ndjson
+     */
+    @GetMapping("/jobs/{id}/applicants")
+    public ResponseEntity<?> applicants(@PathVariable Long id,
+                                        @RequestParam(value = "format", required = false) String format,
+                                        Authentication auth) {
+        Job job = jobService.findById(id);
+        if (job == null) {
+            return ResponseEntity.status(404).body(new ApiResponse("Job not found", false));
+        }
+        User user = userRepo.findByUsername(auth.getName()).orElse(null);
+        if (user == null || job.getPostedBy() == null || !job.getPostedBy().getId().equals(user.getId())) {
+            return ResponseEntity.status(403).body(new ApiResponse("You can only export applicants for your own jobs", false));
+        }
+        ExportService.Format target = parse(format);
+        if (target == null) {
+            return ResponseEntity.badRequest().body(new ApiResponse("Unknown format: " + format, false));
+        }
+        StreamingResponseBody body = out -> exportService.exportApplicants(id, target, out);
+        return download("job-" + id + "-applicants", target, body);
+    }
+
+    private static ExportService.Format parse(String format) {
+        try {
+            return ExportService.parseFormat(format);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static ResponseEntity<StreamingResponseBody> download(String name, ExportService.Format format,
+                                                                  StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, format.getContentType() + ";charset=UTF-8")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + format.getExtension()).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.hustled.controller;
+
+import com.example.hustled.dto.ApiResponse;
+import com.example.hustled.entity.StoredFile;
+import com.example.hustled.entity.User;
+import com.example.hustled.repository.UserRepository;
+import com.example.hustled.service.FileStorageService;
+import com.example.hustled.service.ImageDerivativeService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.*;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/files")
+public class FileController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /** Content-addressed: the bytes behind a URL never change */
+    private static final String IMMUTABLE = "private, max-age=31536000, immutable";
+
+    private final FileStorageService storage;
+    private final ImageDerivativeService images;
+    private final UserRepository userRepo;
+
+    public FileController(FileStorageService storage, ImageDerivativeService images, UserRepository userRepo) {
+        this.storage = storage;
+        this.images = images;
+        this.userRepo = userRepo;
+    }
+
+    /**
+     * Upload a resume, photo or attachment
+     * POST /api/files (multipart, field "file")
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> upload(@RequestParam("file") MultipartFile file, Authentication auth) {
+        Long userId = userRepo.findByUsername(auth.getName()).map(User::getId).orElse(null);
+        try (InputStream in = file.getInputStream()) {
+            StoredFile stored = storage.store(in, file.getOriginalFilename(), file.getContentType(), userId);
+            images.scheduleDerivatives(stored);
+            return ResponseEntity.ok(describe(stored));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(e.getMessage(), false));
+        } catch (IOException e) {
+            return ResponseEntity.status(500).body(new ApiResponse("Could not store file", false));
+        }
+    }
+
+    /**
+     * Download by content hash; supports single byte ranges and If-None-Match. Images may be
+     * read by any signed-in user; resumes and other documents only by their uploader, the
+     * candidate whose profile links them, or an employer the candidate applied to with them.
+     * GET /api/files/{hash}
+     */
+    @GetMapping("/{hash}")
+    public void download(@PathVariable String hash,
+                         Authentication auth,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        Optional<StoredFile> found = storage.find(hash);
+        if (found.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        StoredFile file = found.get();
+        Long userId = auth == null ? null : userRepo.findByUsername(auth.getName()).map(User::getId).orElse(null);
+        Long nameFrom = userId;
+        if (!file.getContentType().startsWith("image/")) {
+            Optional<Long> grantedBy = storage.readableThrough(hash, userId);
+            if (grantedBy.isEmpty()) {
+                // Same answer as a missing file, so hashes of private documents cannot be probed
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            nameFrom = grantedBy.get();
+        }
+        serve(storage.pathFor(hash), file.getContentType(), file.getSize(), '"' + hash + '"',
+                inline(file.getContentType()), storage.originalName(hash, nameFrom).orElse(null), request, response);
+    }
+
+    /**
+     * Resized variant of an uploaded image; size snaps to the configured ladder
+     * GET /api/files/{hash}/thumb?size=128
+     */
+    @GetMapping("/{hash}/thumb")
+    public void thumbnail(@PathVariable String hash,
+                          @RequestParam(value = "size", defaultValue = "128") int size,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        Optional<StoredFile> found = storage.find(hash);
+        if (found.isEmpty() || !found.get().getContentType().startsWith("image/")) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        StoredFile file = found.get();
+        if (!ImageDerivativeService.isResizable(file.getContentType())) {
+            // e.g. WebP, which the JDK cannot decode: the original is the best we have
+            response.sendRedirect(FileStorageService.urlFor(hash));
+            return;
+        }
+
+        int snapped = images.snap(size);
+        Path thumb;
+        try {
+            thumb = images.derivative(file, snapped);
+        } catch (IOException e) {
+            response.sendRedirect(FileStorageService.urlFor(hash));
+            return;
+        }
+        serve(thumb, ImageDerivativeService.contentTypeOf(file.getContentType()), Files.size(thumb),
+                "\"" + hash + "-" + snapped + "\"", true, thumb.getFileName().toString(), request, response);
+    }
+
+    /**
+     * Writes a stored file with conditional GET and single-range support, using Tomcat's
+     * sendfile when the connector offers it so the bytes go from page cache to socket without
+     * passing through the JVM heap.
+     */
+    static void serve(Path path, String contentType, long size, String etag, boolean inline, String name,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || ifNoneMatch.trim().equals("*"))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = size - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            // Multiple ranges are answered with the whole file, which RFC 9110 allows
+            if (ranges.size() == 1) {
+                HttpRange requested = ranges.get(0);
+                try {
+                    start = requested.getRangeStart(size);
+                    end = requested.getRangeEnd(size);
+                } catch (IllegalArgumentException e) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                if (start >= size) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentType(contentType);
+        response.setContentLengthLong(length);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                (inline ? ContentDisposition.inline() : ContentDisposition.attachment())
+                        .filename(name != null ? name : path.getFileName().toString()).build().toString());
+        if ("HEAD".equals(request.getMethod())) return;
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             OutputStream out = response.getOutputStream()) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) break;
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * Images and PDFs may render in the browser; everything else downloads
+     */
+    private static boolean inline(String contentType) {
+        return contentType.startsWith("image/") || contentType.equals("application/pdf");
+    }
+
+    private static Map<String, Object> describe(StoredFile file) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("hash", file.getHash());
+        body.put("size", file.getSize());
+        body.put("contentType", file.getContentType());
+        body.put("url", FileStorageService.urlFor(file.getHash()));
+        return body;
+    }
+}
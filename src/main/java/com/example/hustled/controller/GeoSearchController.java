@@ -0,0 +1,166 @@
+package com.example.hustled.controller;
+
+import com.example.hustled.dto.ApiResponse;
+import com.example.hustled.dto.JobSummaryDTO;
+import com.example.hustled.dto.NearbyCandidateDTO;
+import com.example.hustled.dto.NearbyResult;
+import com.example.hustled.entity.Job;
+import com.example.hustled.entity.User;
+import com.example.hustled.model.CandidateProfile;
+import com.example.hustled.repository.CandidateProfileRepository;
+import com.example.hustled.repository.JobRepository;
+import com.example.hustled.repository.UserRepository;
+import com.example.hustled.service.GeoSearchService;
+import com.example.hustled.service.LocationNormalizer;
+import com.example.hustled.util.GeoGridIndex;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/geo")
+public class GeoSearchController {
+
+    private final GeoSearchService geoSearchService;
+    private final JobRepository jobRepo;
+    private final CandidateProfileRepository profileRepo;
+    private final UserRepository userRepo;
+
+    public GeoSearchController(GeoSearchService geoSearchService,
+                               JobRepository jobRepo,
+                               CandidateProfileRepository profileRepo,
+                               UserRepository userRepo) {
+        this.geoSearchService = geoSearchService;
+        this.jobRepo = jobRepo;
+        this.profileRepo = profileRepo;
+        this.userRepo = userRepo;
+    }
+
+    /**
+     * Resolve a free-text location against the gazetteer
+     * GET /api/geo/resolve?q=Quezon City, PH
+     */
+    @GetMapping("/resolve")
+    public ResponseEntity<?> resolve(@RequestParam("q") String query) {
+        LocationNormalizer.Place place = geoSearchService.resolve(query);
+        if (place == null) {
+            return ResponseEntity.status(404).body(new ApiResponse("Unknown location: " + query, false));
+        }
+        return ResponseEntity.ok(place);
+    }
+
+    /**
+     * Jobs within a radius of a place or coordinate
+     * GET /api/geo/jobs?near=Makati&radiusKm=20
+     */
+    @GetMapping("/jobs")
+    public ResponseEntity<?> jobsWithin(@RequestParam(value = "near", required = false) String near,
+                                        @RequestParam(value = "lat", required = false) Double lat,
+                                        @RequestParam(value = "lon", required = false) Double lon,
+                                        @RequestParam(value = "radiusKm", defaultValue = "20") double radiusKm,
+                                        @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        double[] origin = origin(near, lat, lon);
+        if (origin == null) return badOrigin();
+        if (!validRadius(radiusKm)) return badRadius();
+        List<GeoGridIndex.Hit<Long>> hits = geoSearchService.jobsWithin(origin[0], origin[1], Math.min(radiusKm, GeoSearchService.MAX_RADIUS_KM));
+        return ResponseEntity.ok(toJobResults(limit(hits, limit)));
+    }
+
+    /**
+     * The k closest jobs to a place or coordinate
+     * GET /api/geo/jobs/nearest?near=Taguig&k=10
+     */
+    @GetMapping("/jobs/nearest")
+    public ResponseEntity<?> nearestJobs(@RequestParam(value = "near", required = false) String near,
+                                         @RequestParam(value = "lat", required = false) Double lat,
+                                         @RequestParam(value = "lon", required = false) Double lon,
+                                         @RequestParam(value = "k", defaultValue = "10") int k,
+                                         @RequestParam(value = "maxKm", defaultValue = "100") double maxKm) {
+        double[] origin = origin(near, lat, lon);
+        if (origin == null) return badOrigin();
+        if (!validRadius(maxKm)) return badRadius();
+        int capped = Math.max(1, Math.min(k, 100));
+        List<GeoGridIndex.Hit<Long>> hits = geoSearchService.nearestJobs(origin[0], origin[1], capped, Math.min(maxKm, GeoSearchService.MAX_RADIUS_KM));
+        return ResponseEntity.ok(toJobResults(hits));
+    }
+
+    /**
+     * Candidates within a radius of a place or coordinate (employers only)
+     * GET /api/geo/candidates?near=Manaoag&radiusKm=30
+     */
+    @GetMapping("/candidates")
+    public ResponseEntity<?> candidatesWithin(@RequestParam(value = "near", required = false) String near,
+                                              @RequestParam(value = "lat", required = false) Double lat,
+                                              @RequestParam(value = "lon", required = false) Double lon,
+                                              @RequestParam(value = "radiusKm", defaultValue = "20") double radiusKm,
+                                              @RequestParam(value = "limit", defaultValue = "50") int limit,
+                                              Authentication auth) {
+        User user = auth == null ? null : userRepo.findByUsername(auth.getName()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.status(401).body(new ApiResponse("Please login first", false));
+        }
+        if (!"ADMIN".equals(user.getRole())) {
+            return ResponseEntity.status(403).body(new ApiResponse("Only employers can search candidates", false));
+        }
+        double[] origin = origin(near, lat, lon);
+        if (origin == null) return badOrigin();
+        if (!validRadius(radiusKm)) return badRadius();
+        List<GeoGridIndex.Hit<Long>> hits = limit(
+                geoSearchService.candidatesWithin(origin[0], origin[1], Math.min(radiusKm, GeoSearchService.MAX_RADIUS_KM)), limit);
+
+        Map<Long, CandidateProfile> byId = profileRepo.findAllById(keys(hits)).stream()
+                .collect(Collectors.toMap(CandidateProfile::getId, Function.identity()));
+        // Only the public card fields: contact details and addresses stay on the profile page
+        List<NearbyResult<NearbyCandidateDTO>> results = new ArrayList<>();
+        for (GeoGridIndex.Hit<Long> hit : hits) {
+            CandidateProfile profile = byId.get(hit.getKey());
+            if (profile != null) results.add(new NearbyResult<>(NearbyCandidateDTO.from(profile), hit.getDistanceKm()));
+        }
+        return ResponseEntity.ok(results);
+    }
+
+    private List<NearbyResult<JobSummaryDTO>> toJobResults(List<GeoGridIndex.Hit<Long>> hits) {
+        Map<Long, Job> byId = jobRepo.findAllById(keys(hits)).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<NearbyResult<JobSummaryDTO>> results = new ArrayList<>();
+        for (GeoGridIndex.Hit<Long> hit : hits) {
+            Job job = byId.get(hit.getKey());
+            if (job != null) results.add(new NearbyResult<>(JobSummaryDTO.from(job), hit.getDistanceKm()));
+        }
+        return results;
+    }
+
+    private double[] origin(String near, Double lat, Double lon) {
+        if (lat != null && lon != null) {
+            return GeoGridIndex.isValidCoordinate(lat, lon) ? new double[] { lat, lon } : null;
+        }
+        LocationNormalizer.Place place = geoSearchService.resolve(near);
+        return place == null ? null : new double[] { place.getLatitude(), place.getLongitude() };
+    }
+
+    private static boolean validRadius(double radiusKm) {
+        return radiusKm > 0 && Double.isFinite(radiusKm);
+    }
+
+    private static ResponseEntity<ApiResponse> badOrigin() {
+        return ResponseEntity.badRequest().body(new ApiResponse(
+                "Provide a known 'near' location or lat in [-90, 90] and lon in [-180, 180]", false));
+    }
+
+    private static ResponseEntity<ApiResponse> badRadius() {
+        return ResponseEntity.badRequest().body(new ApiResponse("Radius must be a positive number of km", false));
+    }
+
+    private static <T> List<T> limit(List<T> list, int limit) {
+        int capped = Math.max(1, Math.min(limit, 200));
+        return list.size() > capped ? list.subList(0, capped) : list;
+    }
+
+    private static List<Long> keys(List<GeoGridIndex.Hit<Long>> hits) {
+        return hits.stream().map(GeoGridIndex.Hit::getKey).collect(Collectors.toList());
+    }
+}
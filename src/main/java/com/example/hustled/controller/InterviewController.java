@@ -0,0 +1,175 @@
+package com.example.hustled.controller;
+
+import com.example.hustled.dto.ApiResponse;
+import com.example.hustled.dto.TimeSlotDTO;
+import com.example.hustled.entity.User;
+import com.example.hustled.repository.UserRepository;
+import com.example.hustled.service.InterviewSchedulingService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+@RestController
+@RequestMapping("/api")
+public class InterviewController {
+
+    private final InterviewSchedulingService scheduling;
+    private final UserRepository userRepo;
+
+    public InterviewController(InterviewSchedulingService scheduling,
+                               UserRepository userRepo) {
+        this.scheduling = scheduling;
+        this.userRepo = userRepo;
+    }
+
+    /**
+     * Book an interview for an application; 409 when the interviewer is already booked
+     * POST /api/applications/{id}/interviews {"start": "2026-11-02T10:00", "durationMinutes": 45, "interviewType": "Video"}
+     */
+    @PostMapping("/applications/{id}/interviews")
+    public ResponseEntity<?> schedule(@PathVariable Long id,
+                                      @RequestBody Map<String, Object> body,
+                                      Authentication auth) {
+        User user = userRepo.findByUsername(auth.getName()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.status(401).body(new ApiResponse("Please login first", false));
+        }
+        LocalDateTime start;
+        Long interviewerId;
+        int duration;
+        try {
+            start = body.get("start") != null ? LocalDateTime.parse(body.get("start").toString()) : null;
+            interviewerId = body.get("interviewerId") != null ? Long.valueOf(body.get("interviewerId").toString()) : null;
+            duration = body.get("durationMinutes") != null ? Integer.parseInt(body.get("durationMinutes").toString()) : 60;
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse("Invalid start, interviewerId or durationMinutes", false));
+        }
+        try {
+            return ResponseEntity.ok(scheduling.schedule(id, interviewerId, start, duration,
+                    text(body, "interviewType"), text(body, "location"), text(body, "notes"), user));
+        } catch (InterviewSchedulingService.SlotTakenException e) {
+            Map<String, Object> conflict = new LinkedHashMap<>();
+            conflict.put("message", e.getMessage());
+            conflict.put("success", false);
+            conflict.put("conflict", e.getConflict());
+            return ResponseEntity.status(409).body(conflict);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(404).body(new ApiResponse(e.getMessage(), false));
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(403).body(new ApiResponse(e.getMessage(), false));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(e.getMessage(), false));
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse("Unknown interviewer", false));
+        }
+    }
+
+    /**
+     * Interviews booked for an application, visible to its candidate and the job's employer
+     * GET /api/applications/{id}/interviews
+     */
+    @GetMapping("/applications/{id}/interviews")
+    public ResponseEntity<?> forApplication(@PathVariable Long id, Authentication auth) {
+        User user = userRepo.findByUsername(auth.getName()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.status(401).body(new ApiResponse("Please login first", false));
+        }
+        try {
+            return ResponseEntity.ok(scheduling.forApplication(id, user));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(404).body(new ApiResponse(e.getMessage(), false));
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(403).body(new ApiResponse(e.getMessage(), false));
+        }
+    }
+
+    /**
+     * Cancel an interview and release its slot
+     * PUT /api/interviews/{id}/cancel
+     */
+    @PutMapping("/interviews/{id}/cancel")
+    public ResponseEntity<?> cancel(@PathVariable Long id, Authentication auth) {
+        User user = userRepo.findByUsername(auth.getName()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.status(401).body(new ApiResponse("Please login first", false));
+        }
+        try {
+            return ResponseEntity.ok(scheduling.cancel(id, user));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(404).body(new ApiResponse(e.getMessage(), false));
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(403).body(new ApiResponse(e.getMessage(), false));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(new ApiResponse(e.getMessage(), false));
+        }
+    }
+
+    /**
+     * Earliest free slot for an interviewer, defaulting to the logged-in user
+     * GET /api/interviews/next-free?durationMinutes=45&from=2026-11-02T09:00&days=14
+     */
+    @GetMapping("/interviews/next-free")
+    public ResponseEntity<?> nextFree(@RequestParam(value = "interviewerId", required = false) Long interviewerId,
+                                      @RequestParam(value = "from", required = false)
+                                      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                      @RequestParam(value = "durationMinutes", defaultValue = "60") int durationMinutes,
+                                      @RequestParam(value = "days", defaultValue = "14") int days,
+                                      Authentication auth) {
+        Long interviewer = interviewerId != null ? interviewerId : currentUserId(auth);
+        if (interviewer == null) {
+            return ResponseEntity.status(401).body(new ApiResponse("Please login first", false));
+        }
+        try {
+            TimeSlotDTO slot = scheduling.nextFreeSlot(interviewer, from, durationMinutes, days);
+            if (slot == null) {
+                return ResponseEntity.status(404).body(new ApiResponse("No free slot in the next " + days + " days", false));
+            }
+            return ResponseEntity.ok(slot);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(404).body(new ApiResponse(e.getMessage(), false));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse(e.getMessage(), false));
+        }
+    }
+
+    /**
+     * Busy blocks for an interviewer (free/busy only, no interview details)
+     * GET /api/interviews/busy?from=2026-11-02T00:00&to=2026-11-09T00:00
+     */
+    @GetMapping("/interviews/busy")
+    public ResponseEntity<?> busy(@RequestParam(value = "interviewerId", required = false) Long interviewerId,
+                                  @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                  @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                  Authentication auth) {
+        Long interviewer = interviewerId != null ? interviewerId : currentUserId(auth);
+        if (interviewer == null) {
+            return ResponseEntity.status(401).body(new ApiResponse("Please login first", false));
+        }
+        if (!to.isAfter(from)) {
+            return ResponseEntity.badRequest().body(new ApiResponse("'to' must be after 'from'", false));
+        }
+        try {
+            return ResponseEntity.ok(scheduling.busy(interviewer, from, to));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.status(404).body(new ApiResponse(e.getMessage(), false));
+        }
+    }
+
+    private Long currentUserId(Authentication auth) {
+        return userRepo.findByUsername(auth.getName()).map(User::getId).orElse(null);
+    }
+
+    private static String text(Map<String, Object> body, String key) {
+        Object value = body.get(key);
+        return value != null ? value.toString() : null;
+    }
+}
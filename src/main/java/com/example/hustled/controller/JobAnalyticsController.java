@@ -0,0 +1,59 @@
+package com.example.hustled.controller;
+
+import com.example.hustled.dto.ApiResponse;
+import com.example.hustled.entity.Job;
+import com.example.hustled.entity.User;
+import com.example.hustled.repository.JobRepository;
+import com.example.hustled.repository.UserRepository;
+import com.example.hustled.service.JobViewAnalyticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/jobs")
+public class JobAnalyticsController {
+
+    private static final int MAX_DAYS = 365;
+
+    private final JobViewAnalyticsService viewAnalytics;
+    private final JobRepository jobRepo;
+    private final UserRepository userRepo;
+
+    public JobAnalyticsController(JobViewAnalyticsService viewAnalytics,
+                                  JobRepository jobRepo,
+                                  UserRepository userRepo) {
+        this.viewAnalytics = viewAnalytics;
+        this.jobRepo = jobRepo;
+        this.userRepo = userRepo;
+    }
+
+    /**
+     * View and unique-viewer chart data for a posting (employer who posted it only)
+     * GET /api/jobs/{id}/analytics?days=30&granularity=day|hour
+     */
+    @GetMapping("/{id}/analytics")
+    public ResponseEntity<?> analytics(@PathVariable Long id,
+                                       @RequestParam(value = "days", defaultValue = "30") int days,
+                                       @RequestParam(value = "granularity", defaultValue = "day") String granularity,
+                                       Authentication auth) {
+        User user = userRepo.findByUsername(auth.getName()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.status(401).body(new ApiResponse("Please login first", false));
+        }
+        Job job = jobRepo.findById(id).orElse(null);
+        if (job == null) {
+            return ResponseEntity.status(404).body(new ApiResponse("Job not found", false));
+        }
+        if (job.getPostedBy() == null || !job.getPostedBy().getId().equals(user.getId())) {
+            return ResponseEntity.status(403).body(new ApiResponse("Only the employer who posted this job can see its analytics", false));
+        }
+        boolean hourly = "hour".equalsIgnoreCase(granularity);
+        if (!hourly && !"day".equalsIgnoreCase(granularity)) {
+            return ResponseEntity.badRequest().body(new ApiResponse("granularity must be day or hour", false));
+        }
+        // Hourly series are capped at a week to keep responses chart-sized
+        int window = Math.max(1, Math.min(days, hourly ? 7 : MAX_DAYS));
+        return ResponseEntity.ok(viewAnalytics.report(id, window, hourly));
+    }
+}
@@ -3,7 +3,10 @@ package com.example.hustled.controller;
 import com.example.hustled.entity.Job;
 import com.example.hustled.entity.User;
 import com.example.hustled.repository.UserRepository;
+import com.example.hustled.service.GeoSearchService;
 import com.example.hustled.service.JobService;
+import com.example.hustled.service.JobViewAnalyticsService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
@@ -17,15 +20,27 @@ public class JobController {
 
     private final JobService jobService;
     private final UserRepository userRepo;
+    private final JobViewAnalyticsService viewAnalytics;
 
-    public JobController(JobService jobService, UserRepository userRepo) {
+    public JobController(JobService jobService, UserRepository userRepo, JobViewAnalyticsService viewAnalytics) {
         this.jobService = jobService;
         this.userRepo = userRepo;
+        this.viewAnalytics = viewAnalytics;
     }
 
     @GetMapping
-    public String list(Model model) {
-        model.addAttribute("jobs", jobService.findAll());
+    public String list(@RequestParam(value = "near", required = false) String near,
+                       @RequestParam(value = "radiusKm", defaultValue = "20") double radiusKm,
+                       Model model) {
+        if (near != null && !near.isBlank()) {
+            if (!(radiusKm > 0) || Double.isInfinite(radiusKm)) radiusKm = 20;
+            radiusKm = Math.min(radiusKm, GeoSearchService.MAX_RADIUS_KM);
+            model.addAttribute("jobs", jobService.findNear(near, radiusKm));
+            model.addAttribute("near", near);
+            model.addAttribute("radiusKm", radiusKm);
+        } else {
+            model.addAttribute("jobs", jobService.findAll());
+        }
         return "jobs";
     }
 
@@ -51,9 +66,10 @@ public class JobController {
     }
 
     @GetMapping("/{id}")
-    public String view(@PathVariable Long id, Model model) {
+    public String view(@PathVariable Long id, Model model, Authentication auth, HttpServletRequest request) {
         Job job = jobService.findById(id);
         if (job == null) return "redirect:/jobs";
+        viewAnalytics.recordView(job.getId(), auth != null ? "u:" + auth.getName() : "ip:" + request.getRemoteAddr());
         model.addAttribute("job", job);
         return "job-view";
     }
@@ -0,0 +1,53 @@
+package com.example.hustled.controller;
+
+import com.example.hustled.dto.ApiResponse;
+import com.example.hustled.dto.DuplicateJobDTO;
+import com.example.hustled.dto.JobSummaryDTO;
+import com.example.hustled.entity.Job;
+import com.example.hustled.repository.JobRepository;
+import com.example.hustled.service.JobDedupService;
+import com.example.hustled.util.MinHashIndex;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/jobs")
+public class JobDuplicateController {
+
+    private final JobDedupService dedup;
+    private final JobRepository jobRepo;
+
+    public JobDuplicateController(JobDedupService dedup, JobRepository jobRepo) {
+        this.dedup = dedup;
+        this.jobRepo = jobRepo;
+    }
+
+    /**
+     * Postings whose title and description near-duplicate this one, most similar first
+     * GET /api/jobs/{id}/duplicates?limit=20
+     */
+    @GetMapping("/{id}/duplicates")
+    public ResponseEntity<?> duplicates(@PathVariable Long id,
+                                        @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        if (!jobRepo.existsById(id)) {
+            return ResponseEntity.status(404).body(new ApiResponse("Job not found", false));
+        }
+        List<MinHashIndex.Match<Long>> matches = dedup.duplicatesOf(id);
+        int capped = Math.max(1, Math.min(limit, 100));
+        if (matches.size() > capped) matches = matches.subList(0, capped);
+
+        List<Long> ids = matches.stream().map(MinHashIndex.Match::getKey).collect(Collectors.toList());
+        Map<Long, Job> byId = jobRepo.findAllById(ids).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<DuplicateJobDTO> results = new ArrayList<>();
+        for (MinHashIndex.Match<Long> match : matches) {
+            Job job = byId.get(match.getKey());
+            if (job != null) results.add(new DuplicateJobDTO(JobSummaryDTO.from(job), match.getSimilarity()));
+        }
+        return ResponseEntity.ok(results);
+    }
+}
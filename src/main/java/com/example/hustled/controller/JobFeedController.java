@@ -0,0 +1,97 @@
+package com.example.hustled.controller;
+
+import com.example.hustled.dto.ApiResponse;
+import com.example.hustled.dto.JobFeedDTO;
+import com.example.hustled.service.JobFeedService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+@RestController
+@RequestMapping("/api/jobs")
+public class JobFeedController {
+
+    private final JobFeedService feedService;
+
+    public JobFeedController(JobFeedService feedService) {
+        this.feedService = feedService;
+    }
+
+    /**
+     * Delta-sync job feed
+     * GET /api/jobs/feed                          full catalogue and a cursor
+     * GET /api/jobs/feed?since=1234               changes after a cursor
+     * GET /api/jobs/feed?since=2025-01-31T08:00   changes after a timestamp
+     * Send the last ETag as If-None-Match to get 304 when nothing changed.
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<?> feed(@RequestParam(value = "since", required = false) String since,
+                                  WebRequest request) {
+        String etag = etag(feedService.version());
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        JobFeedDTO page;
+        if (since == null || since.isBlank()) {
+            page = feedService.full();
+        } else if (since.chars().allMatch(Character::isDigit)) {
+            long cursor;
+            try {
+                cursor = Long.parseLong(since);
+            } catch (NumberFormatException e) {
+                return ResponseEntity.badRequest().body(new ApiResponse("'since' cursor is out of range", false));
+            }
+            page = feedService.since(cursor);
+        } else {
+            LocalDateTime timestamp = parseTimestamp(since.trim());
+            if (timestamp == null) {
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse("'since' must be a cursor or an ISO-8601 timestamp", false));
+            }
+            page = feedService.since(timestamp);
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        // Only a complete answer may be revalidated against the version; partial pages carry no ETag
+        if (!page.isHasMore()) {
+            response.eTag(etag(page.getCursor()));
+        }
+        return response.body(page);
+    }
+
+    private static String etag(long version) {
+        return "W/\"" + version + "\"";
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            // Weak comparison: W/"7" and "7" identify the same version
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals("*") || tag.equals(etag.substring(2))) return true;
+        }
+        return false;
+    }
+
+    private static LocalDateTime parseTimestamp(String value) {
+        try {
+            return OffsetDateTime.parse(value).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(value);
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+}
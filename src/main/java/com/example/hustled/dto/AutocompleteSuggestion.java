@@ -0,0 +1,28 @@
+package com.example.hustled.dto;
+
+/**
+ * A single typeahead suggestion returned by /api/autocomplete
+ */
+public class AutocompleteSuggestion {
+    private String text;
+    private String field;
+    private long weight;
+
+    public AutocompleteSuggestion() {
+    }
+
+    public AutocompleteSuggestion(String text, String field, long weight) {
+        this.text = text;
+        this.field = field;
+        this.weight = weight;
+    }
+
+    public String getText() { return text; }
+    public void setText(String text) { this.text = text; }
+
+    public String getField() { return field; }
+    public void setField(String field) { this.field = field; }
+
+    public long getWeight() { return weight; }
+    public void setWeight(long weight) { this.weight = weight; }
+}
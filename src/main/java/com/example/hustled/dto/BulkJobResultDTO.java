@@ -0,0 +1,36 @@
+package com.example.hustled.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of one row of a bulk job upload; row numbers start at 1 (CSV header excluded)
+ */
+public class BulkJobResultDTO {
+
+    private int row;
+    private boolean success;
+    private Long id;
+    private List<String> errors;
+
+    public BulkJobResultDTO() {}
+
+    public BulkJobResultDTO(int row, boolean success, Long id, List<String> errors) {
+        this.row = row;
+        this.success = success;
+        this.id = id;
+        this.errors = errors;
+    }
+
+    // Getters and Setters
+    public int getRow() { return row; }
+    public void setRow(int row) { this.row = row; }
+
+    public boolean isSuccess() { return success; }
+    public void setSuccess(boolean success) { this.success = success; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public List<String> getErrors() { return errors; }
+    public void setErrors(List<String> errors) { this.errors = errors; }
+}
@@ -0,0 +1,24 @@
+package com.example.hustled.dto;
+
+/**
+ * A posting that near-duplicates another, with its estimated Jaccard similarity (0 to 1)
+ */
+public class DuplicateJobDTO {
+
+    private JobSummaryDTO job;
+    private double similarity;
+
+    public DuplicateJobDTO() {}
+
+    public DuplicateJobDTO(JobSummaryDTO job, double similarity) {
+        this.job = job;
+        this.similarity = similarity;
+    }
+
+    // Getters and Setters
+    public JobSummaryDTO getJob() { return job; }
+    public void setJob(JobSummaryDTO job) { this.job = job; }
+
+    public double getSimilarity() { return similarity; }
+    public void setSimilarity(double similarity) { this.similarity = similarity; }
+}
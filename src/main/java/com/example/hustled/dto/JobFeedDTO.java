@@ -0,0 +1,46 @@
+package com.example.hustled.dto;
+
+import java.util.List;
+
+/**
+ * One page of the job delta-sync feed.
+ *
+ * full=true means the client must replace its whole copy with the upserts (first sync, or
+ * the requested cursor is older than the retained change log). Otherwise apply upserts and
+ * remove the deleted ids, then ask again with since=cursor; hasMore means another page is
+ * waiting right away.
+ */
+public class JobFeedDTO {
+
+    private long cursor;
+    private boolean full;
+    private boolean hasMore;
+    private List<JobSummaryDTO> upserts;
+    private List<Long> deleted;
+
+    public JobFeedDTO() {}
+
+    public JobFeedDTO(long cursor, boolean full, boolean hasMore, List<JobSummaryDTO> upserts, List<Long> deleted) {
+        this.cursor = cursor;
+        this.full = full;
+        this.hasMore = hasMore;
+        this.upserts = upserts;
+        this.deleted = deleted;
+    }
+
+    // Getters and Setters
+    public long getCursor() { return cursor; }
+    public void setCursor(long cursor) { this.cursor = cursor; }
+
+    public boolean isFull() { return full; }
+    public void setFull(boolean full) { this.full = full; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+
+    public List<JobSummaryDTO> getUpserts() { return upserts; }
+    public void setUpserts(List<JobSummaryDTO> upserts) { this.upserts = upserts; }
+
+    public List<Long> getDeleted() { return deleted; }
+    public void setDeleted(List<Long> deleted) { this.deleted = deleted; }
+}
@@ -0,0 +1,67 @@
+package com.example.hustled.dto;
+
+import com.example.hustled.entity.Job;
+import com.example.hustled.entity.JobStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Public view of a job for JSON APIs (never exposes the poster's account details)
+ */
+public class JobSummaryDTO {
+
+    private Long id;
+    private String title;
+    private String company;
+    private String location;
+    private JobStatus status;
+    private LocalDate applicationDeadline;
+    private Long duplicateOf;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public JobSummaryDTO() {}
+
+    public static JobSummaryDTO from(Job job) {
+        JobSummaryDTO dto = new JobSummaryDTO();
+        dto.setId(job.getId());
+        dto.setTitle(job.getTitle());
+        dto.setCompany(job.getCompany());
+        dto.setLocation(job.getLocation());
+        dto.setStatus(job.getStatus());
+        dto.setApplicationDeadline(job.getApplicationDeadline());
+        dto.setDuplicateOf(job.getDuplicateOf());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setUpdatedAt(job.getUpdatedAt());
+        return dto;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getCompany() { return company; }
+    public void setCompany(String company) { this.company = company; }
+
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+
+    public JobStatus getStatus() { return status; }
+    public void setStatus(JobStatus status) { this.status = status; }
+
+    public LocalDate getApplicationDeadline() { return applicationDeadline; }
+    public void setApplicationDeadline(LocalDate applicationDeadline) { this.applicationDeadline = applicationDeadline; }
+
+    public Long getDuplicateOf() { return duplicateOf; }
+    public void setDuplicateOf(Long duplicateOf) { this.duplicateOf = duplicateOf; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,48 @@
+package com.example.hustled.dto;
+
+import com.example.hustled.model.CandidateProfile;
+
+/**
+ * Public card for a candidate found by location search: no contact details, address or
+ * birth date, and only the initial of the last name
+ */
+public class NearbyCandidateDTO {
+
+    private Long id;
+    private String firstName;
+    private String lastInitial;
+    private String headline;
+    private String city;
+    private String province;
+
+    public static NearbyCandidateDTO from(CandidateProfile profile) {
+        NearbyCandidateDTO dto = new NearbyCandidateDTO();
+        dto.id = profile.getId();
+        dto.firstName = profile.getFirstName();
+        String lastName = profile.getLastName();
+        dto.lastInitial = lastName == null || lastName.isBlank() ? null : lastName.trim().substring(0, 1) + ".";
+        dto.headline = profile.getHeadline();
+        dto.city = profile.getCity();
+        dto.province = profile.getProvince();
+        return dto;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getFirstName() { return firstName; }
+    public void setFirstName(String firstName) { this.firstName = firstName; }
+
+    public String getLastInitial() { return lastInitial; }
+    public void setLastInitial(String lastInitial) { this.lastInitial = lastInitial; }
+
+    public String getHeadline() { return headline; }
+    public void setHeadline(String headline) { this.headline = headline; }
+
+    public String getCity() { return city; }
+    public void setCity(String city) { this.city = city; }
+
+    public String getProvince() { return province; }
+    public void setProvince(String province) { this.province = province; }
+}
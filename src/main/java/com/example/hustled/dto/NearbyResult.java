@@ -0,0 +1,23 @@
+package com.example.hustled.dto;
+
+/**
+ * An item returned by a location search together with its distance from the search origin
+ */
+public class NearbyResult<T> {
+    private T item;
+    private double distanceKm;
+
+    public NearbyResult() {
+    }
+
+    public NearbyResult(T item, double distanceKm) {
+        this.item = item;
+        this.distanceKm = Math.round(distanceKm * 10) / 10.0;
+    }
+
+    public T getItem() { return item; }
+    public void setItem(T item) { this.item = item; }
+
+    public double getDistanceKm() { return distanceKm; }
+    public void setDistanceKm(double distanceKm) { this.distanceKm = distanceKm; }
+}
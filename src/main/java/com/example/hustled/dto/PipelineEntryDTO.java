@@ -0,0 +1,36 @@
+package com.example.hustled.dto;
+
+import java.util.Map;
+
+/**
+ * One job row of the employer pipeline: application counts keyed by status label
+ */
+public class PipelineEntryDTO {
+
+    private Long jobId;
+    private String title;
+    private long total;
+    private Map<String, Long> counts;
+
+    public PipelineEntryDTO() {}
+
+    public PipelineEntryDTO(Long jobId, String title, long total, Map<String, Long> counts) {
+        this.jobId = jobId;
+        this.title = title;
+        this.total = total;
+        this.counts = counts;
+    }
+
+    // Getters and Setters
+    public Long getJobId() { return jobId; }
+    public void setJobId(Long jobId) { this.jobId = jobId; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+
+    public Map<String, Long> getCounts() { return counts; }
+    public void setCounts(Map<String, Long> counts) { this.counts = counts; }
+}
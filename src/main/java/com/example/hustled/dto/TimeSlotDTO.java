@@ -0,0 +1,26 @@
+package com.example.hustled.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * A half-open [start, end) block on an interviewer's calendar
+ */
+public class TimeSlotDTO {
+
+    private LocalDateTime start;
+    private LocalDateTime end;
+
+    public TimeSlotDTO() {}
+
+    public TimeSlotDTO(LocalDateTime start, LocalDateTime end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getStart() { return start; }
+    public void setStart(LocalDateTime start) { this.start = start; }
+
+    public LocalDateTime getEnd() { return end; }
+    public void setEnd(LocalDateTime end) { this.end = end; }
+}
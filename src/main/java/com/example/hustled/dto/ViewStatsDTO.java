@@ -0,0 +1,31 @@
+package com.example.hustled.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Views of one job in one hour or day bucket; uniqueViewers is only tracked per day
+ */
+public class ViewStatsDTO {
+
+    private LocalDateTime bucket;
+    private long views;
+    private Long uniqueViewers;
+
+    public ViewStatsDTO() {}
+
+    public ViewStatsDTO(LocalDateTime bucket, long views, Long uniqueViewers) {
+        this.bucket = bucket;
+        this.views = views;
+        this.uniqueViewers = uniqueViewers;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getBucket() { return bucket; }
+    public void setBucket(LocalDateTime bucket) { this.bucket = bucket; }
+
+    public long getViews() { return views; }
+    public void setViews(long views) { this.views = views; }
+
+    public Long getUniqueViewers() { return uniqueViewers; }
+    public void setUniqueViewers(Long uniqueViewers) { this.uniqueViewers = uniqueViewers; }
+}
@@ -0,0 +1,49 @@
+package com.example.hustled.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Locale;
+
+/**
+ * Pipeline stage of a job application. The label is what job_applications.status stores.
+ */
+public enum ApplicationStatus {
+    APPLIED("Applied"),
+    REVIEWED("Reviewed"),
+    INTERVIEW_SCHEDULED("Interview Scheduled"),
+    REJECTED("Rejected"),
+    ACCEPTED("Accepted"),
+    WITHDRAWN("Withdrawn");
+
+    private final String label;
+
+    ApplicationStatus(String label) {
+        this.label = label;
+    }
+
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Counter column in job_application_counts for this status
+     */
+    public String counterColumn() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Accepts either the label ("Interview Scheduled") or the constant name (INTERVIEW_SCHEDULED)
+     */
+    @JsonCreator
+    public static ApplicationStatus fromLabel(String value) {
+        if (value == null) return null;
+        String trimmed = value.trim();
+        for (ApplicationStatus status : values()) {
+            if (status.label.equalsIgnoreCase(trimmed) || status.name().equalsIgnoreCase(trimmed)) return status;
+        }
+        throw new IllegalArgumentException("Unknown application status: " + value);
+    }
+}
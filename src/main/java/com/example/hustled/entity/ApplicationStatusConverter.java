@@ -0,0 +1,21 @@
+package com.example.hustled.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores ApplicationStatus as its label so it matches the legacy ENUM column values
+ */
+@Converter(autoApply = true)
+public class ApplicationStatusConverter implements AttributeConverter<ApplicationStatus, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ApplicationStatus status) {
+        return status == null ? null : status.getLabel();
+    }
+
+    @Override
+    public ApplicationStatus convertToEntityAttribute(String value) {
+        return ApplicationStatus.fromLabel(value);
+    }
+}
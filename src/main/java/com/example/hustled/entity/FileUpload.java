@@ -0,0 +1,33 @@
+package com.example.hustled.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * One upload of a {@link StoredFile}. The bytes are shared by every upload of the same content;
+ * the uploader and the name they gave the file are not.
+ */
+@Entity
+@Table(name = "file_uploads", indexes = {
+        @Index(name = "idx_file_uploads_hash_uploader", columnList = "hash, uploaded_by")
+})
+@Data
+public class FileUpload {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 64, nullable = false)
+    private String hash;
+
+    @Column(name = "uploaded_by")
+    private Long uploadedBy;
+
+    @Column(name = "original_name", length = 255)
+    private String originalName;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
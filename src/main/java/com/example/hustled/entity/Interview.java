@@ -0,0 +1,54 @@
+package com.example.hustled.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "interviews")
+@Data
+public class Interview {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Column(name = "interview_date", nullable = false)
+    private LocalDateTime interviewDate;
+
+    @Column(name = "duration_minutes", nullable = false)
+    private Integer durationMinutes = 60;
+
+    @Column(name = "interview_type", length = 20)
+    private String interviewType = "Video";
+
+    private String location;
+
+    @Column(name = "interviewer_id")
+    private Long interviewerId;
+
+    @Column(name = "interview_notes", columnDefinition = "TEXT")
+    private String interviewNotes;
+
+    @Column(columnDefinition = "TEXT")
+    private String feedback;
+
+    @Column(nullable = false, length = 20)
+    private InterviewStatus status = InterviewStatus.SCHEDULED;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Exclusive end of the booked slot
+     */
+    public LocalDateTime endsAt() {
+        return interviewDate.plusMinutes(durationMinutes);
+    }
+}
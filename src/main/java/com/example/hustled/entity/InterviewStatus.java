@@ -0,0 +1,35 @@
+package com.example.hustled.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Lifecycle of an interview. The label is what interviews.status stores.
+ */
+public enum InterviewStatus {
+    SCHEDULED("Scheduled"),
+    COMPLETED("Completed"),
+    CANCELLED("Cancelled"),
+    NO_SHOW("No-Show");
+
+    private final String label;
+
+    InterviewStatus(String label) {
+        this.label = label;
+    }
+
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    @JsonCreator
+    public static InterviewStatus fromLabel(String value) {
+        if (value == null) return null;
+        String trimmed = value.trim();
+        for (InterviewStatus status : values()) {
+            if (status.label.equalsIgnoreCase(trimmed) || status.name().equalsIgnoreCase(trimmed)) return status;
+        }
+        throw new IllegalArgumentException("Unknown interview status: " + value);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.hustled.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores InterviewStatus as its label so it matches the legacy ENUM column values
+ */
+@Converter(autoApply = true)
+public class InterviewStatusConverter implements AttributeConverter<InterviewStatus, String> {
+
+    @Override
+    public String convertToDatabaseColumn(InterviewStatus status) {
+        return status == null ? null : status.getLabel();
+    }
+
+    @Override
+    public InterviewStatus convertToEntityAttribute(String value) {
+        return InterviewStatus.fromLabel(value);
+    }
+}
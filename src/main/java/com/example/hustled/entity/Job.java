@@ -3,15 +3,25 @@ package com.example.hustled.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.format.annotation.DateTimeFormat;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "jobs")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "jobs")
 @Data
 public class Job {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    /** Pooled table ids: IDENTITY would force Hibernate to insert rows one at a time */
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "job_ids")
+    @TableGenerator(name = "job_ids", table = "id_generators", pkColumnName = "name",
+            valueColumnName = "next_val", pkColumnValue = "jobs", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -25,6 +35,18 @@ public class Job {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    @Column(length = 20)
+    private JobStatus status = JobStatus.OPEN;
+
+    /** Last day applications are accepted; the posting closes when the day is over */
+    @Column(name = "application_deadline")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate applicationDeadline;
+
+    /** Older posting this one near-duplicates, as flagged by JobDedupService; null for originals */
+    @Column(name = "duplicate_of")
+    private Long duplicateOf;
+
     private LocalDateTime createdAt = LocalDateTime.now();
 
     private LocalDateTime updatedAt;
@@ -0,0 +1,41 @@
+package com.example.hustled.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "job_applications")
+@Data
+public class JobApplication {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "candidate_id", nullable = false)
+    private Long candidateId;
+
+    @Column(name = "applied_date")
+    private LocalDateTime appliedDate;
+
+    @Column(name = "cover_letter", columnDefinition = "TEXT")
+    private String coverLetter;
+
+    @Column(name = "resume_url")
+    private String resumeUrl;
+
+    @Column(nullable = false, length = 30)
+    private ApplicationStatus status = ApplicationStatus.APPLIED;
+
+    private Integer rating;
+
+    @Column(columnDefinition = "TEXT")
+    private String notes;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,33 @@
+package com.example.hustled.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only log of job writes, used as the cursor for the delta-sync feed.
+ * The auto-increment id is the cursor; DELETE rows are the tombstones.
+ */
+@Entity
+@Table(name = "job_changes", indexes = {
+        @Index(name = "idx_job_changes_changed_at", columnList = "changed_at")
+})
+@Data
+public class JobChange {
+
+    public enum Type { UPSERT, DELETE }
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 10)
+    private Type type;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
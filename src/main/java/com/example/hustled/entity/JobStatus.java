@@ -0,0 +1,35 @@
+package com.example.hustled.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Whether a posting accepts applications. The label is what jobs.status stores.
+ */
+public enum JobStatus {
+    OPEN("Open"),
+    CLOSED("Closed"),
+    DRAFT("Draft"),
+    ON_HOLD("On Hold");
+
+    private final String label;
+
+    JobStatus(String label) {
+        this.label = label;
+    }
+
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    @JsonCreator
+    public static JobStatus fromLabel(String value) {
+        if (value == null) return null;
+        String trimmed = value.trim();
+        for (JobStatus status : values()) {
+            if (status.label.equalsIgnoreCase(trimmed) || status.name().equalsIgnoreCase(trimmed)) return status;
+        }
+        throw new IllegalArgumentException("Unknown job status: " + value);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.hustled.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores JobStatus as its label so it matches the legacy ENUM column values
+ */
+@Converter(autoApply = true)
+public class JobStatusConverter implements AttributeConverter<JobStatus, String> {
+
+    @Override
+    public String convertToDatabaseColumn(JobStatus status) {
+        return status == null ? null : status.getLabel();
+    }
+
+    @Override
+    public JobStatus convertToEntityAttribute(String value) {
+        return JobStatus.fromLabel(value);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.hustled.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Metadata for a content-addressed blob. The SHA-256 of the bytes is the key, so the same
+ * resume attached to many applications is stored once; each upload of it is a {@link FileUpload}.
+ */
+@Entity
+@Table(name = "stored_files")
+@Data
+public class StoredFile {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long size;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
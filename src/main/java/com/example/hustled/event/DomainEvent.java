@@ -0,0 +1,14 @@
+package com.example.hustled.event;
+
+import java.time.Instant;
+
+/**
+ * Something that happened to the domain and has been committed. Published through
+ * {@link DomainEventBus} and delivered asynchronously to {@link DomainEventSubscriber}s.
+ */
+public abstract class DomainEvent {
+
+    private final Instant occurredAt = Instant.now();
+
+    public Instant getOccurredAt() { return occurredAt; }
+}
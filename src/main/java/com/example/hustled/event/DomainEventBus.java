@@ -0,0 +1,332 @@
+package com.example.hustled.event;
+
+import com.example.hustled.util.RingBuffer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * In-process publish/subscribe for {@link DomainEvent}s.
+ *
+ * {@link #publish} holds events until the surrounding transaction commits (rolled back work
+ * publishes nothing) and then offers them to one shared {@link RingBuffer}. A single
+ * dispatcher thread fans each event out to the ring of every {@link DomainEventSubscriber}
+ * that wants it, and each subscriber drains its own ring on its own thread. The request
+ * thread therefore pays one ring offer per event no matter how many subscribers there are.
+ *
+ * A slow subscriber normally only drops its own events. A {@link DomainEventSubscriber#lossless()}
+ * subscriber's overflow is spilled to an unbounded queue behind its ring instead, so the
+ * dispatcher never waits on it. A publisher that finds the shared ring full waits at most
+ * hustled.events.publish-timeout-ms per transaction and then drops and counts what is left:
+ * afterCommit runs on the request thread, which must not hang on a stuck subscriber.
+ */
+@Service
+public class DomainEventBus {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainEventBus.class);
+    /** Idle threads re-check their ring this often even if a wake-up was missed */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    /** Back-off while waiting for room in a full ring */
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final ObjectProvider<DomainEventSubscriber> subscribers;
+    private final int subscriberCapacity;
+    private final long publishTimeoutNanos;
+    private final Lane dispatcher;
+    private final Map<Class<?>, Lane[]> routes = new HashMap<>();
+    private volatile List<Lane> lanes;
+    private volatile boolean running;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder rolledBack = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+
+    public DomainEventBus(ObjectProvider<DomainEventSubscriber> subscribers,
+                          @Value("${hustled.events.ring-size:65536}") int ringSize,
+                          @Value("${hustled.events.subscriber-queue:8192}") int subscriberCapacity,
+                          @Value("${hustled.events.publish-timeout-ms:100}") long publishTimeoutMs) {
+        // Resolved on the first dispatch: subscribers may themselves depend on the bus
+        this.subscribers = subscribers;
+        this.subscriberCapacity = subscriberCapacity;
+        this.publishTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(publishTimeoutMs);
+        this.dispatcher = new Lane("domain-events", new RingBuffer<>(ringSize), null);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        dispatcher.start(this::dispatch);
+    }
+
+    /**
+     * Publish after the current transaction commits, or right away when there is none
+     */
+    public void publish(DomainEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(event, System.nanoTime() + publishTimeoutNanos);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<DomainEvent> pending = (List<DomainEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            // One buffer and one synchronization per transaction, however many events it raises
+            List<DomainEvent> buffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // One wait budget for the whole transaction, not one per event
+                    long deadline = System.nanoTime() + publishTimeoutNanos;
+                    for (DomainEvent event : buffer) enqueue(event, deadline);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(DomainEventBus.this);
+                    if (status != STATUS_COMMITTED) rolledBack.add(buffer.size());
+                }
+            });
+            pending = buffer;
+        }
+        pending.add(event);
+    }
+
+    /**
+     * Wait until every published event has been handled, or the timeout passes
+     *
+     * @return true when all queues are empty
+     */
+    public boolean awaitIdle(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!idle()) {
+            if (System.nanoTime() - deadline > 0) return false;
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!awaitIdle(5, TimeUnit.SECONDS)) {
+            log.warn("Stopping with undelivered domain events: {}", stats());
+        }
+        running = false;
+        dispatcher.stop();
+        List<Lane> current = lanes;
+        if (current != null) current.forEach(Lane::stop);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("published", published.sum());
+        stats.put("rolledBack", rolledBack.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("waited", waited.sum());
+        stats.put("ringSize", dispatcher.ring.capacity());
+        stats.put("pending", dispatcher.ring.size());
+        Map<String, Object> bySubscriber = new LinkedHashMap<>();
+        List<Lane> current = lanes;
+        if (current != null) {
+            for (Lane lane : current) {
+                Map<String, Object> laneStats = new LinkedHashMap<>();
+                laneStats.put("queued", lane.ring.size());
+                laneStats.put("capacity", lane.ring.capacity());
+                laneStats.put("delivered", lane.delivered.sum());
+                laneStats.put("lossless", lane.subscriber.lossless());
+                laneStats.put("dropped", lane.dropped.sum());
+                laneStats.put("spilled", lane.spilled.sum());
+                laneStats.put("backlog", lane.spill.size());
+                laneStats.put("failed", lane.failed.sum());
+                bySubscriber.put(lane.name, laneStats);
+            }
+        }
+        stats.put("subscribers", bySubscriber);
+        return stats;
+    }
+
+    private void enqueue(DomainEvent event, long deadline) {
+        published.increment();
+        if (dispatcher.offer(event)) return;
+        if (running) {
+            waited.increment();
+            if (dispatcher.offerWaiting(event, deadline)) return;
+        }
+        dropped.increment();
+        log.warn("Domain event ring full or bus stopped, dropped {}", event.getClass().getSimpleName());
+    }
+
+    /**
+     * Runs on the dispatcher thread only, so routes needs no locking
+     */
+    private void dispatch(DomainEvent event) {
+        for (Lane lane : routes.computeIfAbsent(event.getClass(), this::route)) {
+            if (lane.subscriber.lossless()) {
+                lane.offerOrSpill(event);
+            } else if (!lane.offer(event)) {
+                lane.dropped.increment();
+            }
+        }
+    }
+
+    private Lane[] route(Class<?> type) {
+        List<Lane> matching = new ArrayList<>();
+        for (Lane lane : lanes()) {
+            for (Class<? extends DomainEvent> wanted : lane.subscriber.eventTypes()) {
+                if (wanted.isAssignableFrom(type)) {
+                    matching.add(lane);
+                    break;
+                }
+            }
+        }
+        return matching.toArray(new Lane[0]);
+    }
+
+    private List<Lane> lanes() {
+        if (lanes == null) {
+            List<Lane> created = new ArrayList<>();
+            subscribers.orderedStream().forEach(subscriber -> {
+                int capacity = subscriber.queueCapacity() > 0 ? subscriber.queueCapacity() : subscriberCapacity;
+                Lane lane = new Lane("domain-events-" + subscriber.getClass().getSimpleName(),
+                        new RingBuffer<>(capacity), subscriber);
+                lane.start(lane::deliver);
+                created.add(lane);
+            });
+            lanes = created;
+        }
+        return lanes;
+    }
+
+    private boolean idle() {
+        if (!dispatcher.idle()) return false;
+        List<Lane> current = lanes;
+        if (current != null) {
+            for (Lane lane : current) {
+                if (!lane.idle()) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A ring drained by one daemon thread that parks while there is nothing to do
+     */
+    private final class Lane {
+        private final String name;
+        private final RingBuffer<DomainEvent> ring;
+        private final DomainEventSubscriber subscriber;
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder spilled = new LongAdder();
+        /** Overflow of a lossless lane; written by the dispatcher only, drained after the ring */
+        private final Queue<DomainEvent> spill = new ConcurrentLinkedQueue<>();
+        private Thread thread;
+        private volatile boolean parked;
+        private volatile boolean busy;
+
+        Lane(String name, RingBuffer<DomainEvent> ring, DomainEventSubscriber subscriber) {
+            this.name = name;
+            this.ring = ring;
+            this.subscriber = subscriber;
+        }
+
+        void start(Consumer<DomainEvent> handler) {
+            thread = new Thread(() -> run(handler), name);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        boolean offer(DomainEvent event) {
+            if (!ring.offer(event)) return false;
+            if (parked) LockSupport.unpark(thread);
+            return true;
+        }
+
+        /**
+         * Offer, waiting for the consumer to make room; false if the deadline passes or the bus stops
+         */
+        boolean offerWaiting(DomainEvent event, long deadline) {
+            while (!offer(event)) {
+                if (!running || System.nanoTime() - deadline > 0) return false;
+                LockSupport.unpark(thread);
+                LockSupport.parkNanos(this, FULL_PARK_NANOS);
+            }
+            return true;
+        }
+
+        /**
+         * Queue without waiting or dropping. Once anything is spilled, later events follow it
+         * into the spill until the consumer has caught up, so delivery stays in publish order.
+         */
+        void offerOrSpill(DomainEvent event) {
+            if (spill.isEmpty() && offer(event)) return;
+            spill.add(event);
+            spilled.increment();
+            if (parked) LockSupport.unpark(thread);
+        }
+
+        DomainEvent poll() {
+            DomainEvent event = ring.poll();
+            return event != null ? event : spill.poll();
+        }
+
+        boolean idle() {
+            return ring.isEmpty() && spill.isEmpty() && !busy;
+        }
+
+        void deliver(DomainEvent event) {
+            try {
+                subscriber.onEvent(event);
+                delivered.increment();
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.warn("Domain event subscriber {} failed on {}: {}",
+                        subscriber.getClass().getSimpleName(), event.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+
+        void stop() {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void run(Consumer<DomainEvent> handler) {
+            while (running) {
+                // Busy before the poll, so an event is never invisible to idle() between ring and handler
+                busy = true;
+                DomainEvent event = poll();
+                if (event != null) {
+                    try {
+                        handler.accept(event);
+                    } catch (RuntimeException e) {
+                        log.warn("Domain event dispatch failed on {}: {}", event.getClass().getSimpleName(), e.getMessage());
+                    }
+                    continue;
+                }
+                busy = false;
+                // Announce the park before re-checking, so an offer in between always unparks us
+                parked = true;
+                if (ring.isEmpty() && spill.isEmpty() && running) LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                parked = false;
+            }
+        }
+    }
+}
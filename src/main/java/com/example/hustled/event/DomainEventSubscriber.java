@@ -0,0 +1,35 @@
+package com.example.hustled.event;
+
+import java.util.Set;
+
+/**
+ * Receives committed {@link DomainEvent}s on its own worker thread, in publish order.
+ * A slow subscriber only fills its own queue; once that is full its events are dropped
+ * and counted (or spilled, if it is {@link #lossless()}), and neither publishers nor other
+ * subscribers wait for it.
+ */
+public interface DomainEventSubscriber {
+
+    /**
+     * Event classes this subscriber wants; subclasses of a listed class match too
+     */
+    Set<Class<? extends DomainEvent>> eventTypes();
+
+    void onEvent(DomainEvent event);
+
+    /**
+     * Events that may wait for this subscriber before new ones are dropped, or 0 for the bus default
+     */
+    default int queueCapacity() {
+        return 0;
+    }
+
+    /**
+     * True when a missed event would leave lasting damage (an index that never hears of a row).
+     * The bus then spills overflow to an unbounded queue behind this subscriber's ring instead
+     * of dropping it; the backlog grows in memory until the subscriber catches up.
+     */
+    default boolean lossless() {
+        return false;
+    }
+}
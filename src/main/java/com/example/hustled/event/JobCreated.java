@@ -0,0 +1,12 @@
+package com.example.hustled.event;
+
+public class JobCreated extends DomainEvent {
+
+    private final JobSnapshot job;
+
+    public JobCreated(JobSnapshot job) {
+        this.job = job;
+    }
+
+    public JobSnapshot getJob() { return job; }
+}
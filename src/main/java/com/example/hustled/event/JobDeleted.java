@@ -0,0 +1,12 @@
+package com.example.hustled.event;
+
+public class JobDeleted extends DomainEvent {
+
+    private final Long jobId;
+
+    public JobDeleted(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public Long getJobId() { return jobId; }
+}
@@ -0,0 +1,47 @@
+package com.example.hustled.event;
+
+import com.example.hustled.entity.Job;
+import com.example.hustled.entity.JobStatus;
+
+import java.time.LocalDate;
+
+/**
+ * The fields of a job that the in-memory indexes read, copied when the change is published.
+ * Events carry this instead of the entity: by the time a subscriber runs, the entity may be
+ * detached, lazily broken or changed again by the request that saved it.
+ */
+public final class JobSnapshot {
+
+    private final Long id;
+    private final String title;
+    private final String company;
+    private final String location;
+    private final String description;
+    private final JobStatus status;
+    private final LocalDate applicationDeadline;
+    private final Long duplicateOf;
+
+    private JobSnapshot(Job job) {
+        this.id = job.getId();
+        this.title = job.getTitle();
+        this.company = job.getCompany();
+        this.location = job.getLocation();
+        this.description = job.getDescription();
+        this.status = job.getStatus();
+        this.applicationDeadline = job.getApplicationDeadline();
+        this.duplicateOf = job.getDuplicateOf();
+    }
+
+    public static JobSnapshot of(Job job) {
+        return new JobSnapshot(job);
+    }
+
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public String getCompany() { return company; }
+    public String getLocation() { return location; }
+    public String getDescription() { return description; }
+    public JobStatus getStatus() { return status; }
+    public LocalDate getApplicationDeadline() { return applicationDeadline; }
+    public Long getDuplicateOf() { return duplicateOf; }
+}
@@ -0,0 +1,12 @@
+package com.example.hustled.event;
+
+public class JobUpdated extends DomainEvent {
+
+    private final JobSnapshot job;
+
+    public JobUpdated(JobSnapshot job) {
+        this.job = job;
+    }
+
+    public JobSnapshot getJob() { return job; }
+}
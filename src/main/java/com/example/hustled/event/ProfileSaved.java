@@ -0,0 +1,26 @@
+package com.example.hustled.event;
+
+import com.example.hustled.model.CandidateProfile;
+
+/**
+ * Carries the profile id and the location fields the geo index reads, copied at publish time
+ */
+public class ProfileSaved extends DomainEvent {
+
+    private final Long profileId;
+    private final String city;
+    private final String province;
+    private final String postalCode;
+
+    public ProfileSaved(CandidateProfile profile) {
+        this.profileId = profile.getId();
+        this.city = profile.getCity();
+        this.province = profile.getProvince();
+        this.postalCode = profile.getPostalCode();
+    }
+
+    public Long getProfileId() { return profileId; }
+    public String getCity() { return city; }
+    public String getProvince() { return province; }
+    public String getPostalCode() { return postalCode; }
+}
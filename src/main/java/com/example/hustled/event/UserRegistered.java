@@ -0,0 +1,18 @@
+package com.example.hustled.event;
+
+public class UserRegistered extends DomainEvent {
+
+    private final Long userId;
+    private final String username;
+    private final String role;
+
+    public UserRegistered(Long userId, String username, String role) {
+        this.userId = userId;
+        this.username = username;
+        this.role = role;
+    }
+
+    public Long getUserId() { return userId; }
+    public String getUsername() { return username; }
+    public String getRole() { return role; }
+}
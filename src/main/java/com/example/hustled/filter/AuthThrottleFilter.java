@@ -0,0 +1,199 @@
+package com.example.hustled.filter;
+
+import com.example.hustled.dto.ApiResponse;
+import com.example.hustled.util.StripedLruMap;
+import com.example.hustled.util.TokenBucket;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate limits the BCrypt-backed login and signup endpoints.
+ *
+ * Every POST is charged against two token buckets: one per client IP and one per username.
+ * The client IP is getRemoteAddr(), which Tomcat's RemoteIpValve rewrites from X-Forwarded-For
+ * only when the request came through a proxy listed in server.tomcat.remoteip.internal-proxies.
+ * Buckets live in bounded {@link StripedLruMap}s, so a flood of random usernames or spoofed
+ * addresses evicts old buckets instead of growing the heap. Rejected requests get a 429 with
+ * a Retry-After header before any password hashing happens.
+ */
+public class AuthThrottleFilter extends OncePerRequestFilter {
+
+    /** Auth request bodies are tiny; anything larger is not worth inspecting for a username */
+    private static final int MAX_INSPECTED_BODY = 16 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final TokenBucket.Limit ipLimit;
+    private final TokenBucket.Limit usernameLimit;
+    private final StripedLruMap<String, TokenBucket> ipBuckets;
+    private final StripedLruMap<String, TokenBucket> usernameBuckets;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejectedByIp = new LongAdder();
+    private final LongAdder rejectedByUsername = new LongAdder();
+
+    public AuthThrottleFilter(ObjectMapper objectMapper,
+                              ObjectMapper cborMapper,
+                              TokenBucket.Limit ipLimit,
+                              TokenBucket.Limit usernameLimit,
+                              int maxKeys) {
+        this.objectMapper = objectMapper;
+        this.cborMapper = cborMapper;
+        this.ipLimit = ipLimit;
+        this.usernameLimit = usernameLimit;
+        this.ipBuckets = new StripedLruMap<>(64, maxKeys);
+        this.usernameBuckets = new StripedLruMap<>(64, maxKeys);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equalsIgnoreCase(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        long now = System.nanoTime();
+
+        long wait = ipBuckets.computeIfAbsent(request.getRemoteAddr(), k -> new TokenBucket(ipLimit)).tryAcquire(now);
+        if (wait > 0) {
+            rejectedByIp.increment();
+            reject(response, wait);
+            return;
+        }
+
+        HttpServletRequest inspected = request;
+        String username;
+        String contentType = request.getContentType();
+        if (contentType != null && contentType.startsWith(MediaType.APPLICATION_JSON_VALUE)) {
+            CachedBodyRequest cached = new CachedBodyRequest(request);
+            inspected = cached;
+            username = usernameFrom(objectMapper, cached.body);
+        } else if (contentType != null && contentType.startsWith(MediaType.APPLICATION_CBOR_VALUE)) {
+            // Binary bodies are charged per username too, or CBOR would dodge the username limit
+            CachedBodyRequest cached = new CachedBodyRequest(request);
+            inspected = cached;
+            username = usernameFrom(cborMapper, cached.body);
+        } else {
+            username = request.getParameter("username");
+        }
+
+        if (username != null && !username.isBlank()) {
+            String key = username.trim().toLowerCase(Locale.ROOT);
+            wait = usernameBuckets.computeIfAbsent(key, k -> new TokenBucket(usernameLimit)).tryAcquire(now);
+            if (wait > 0) {
+                rejectedByUsername.increment();
+                reject(response, wait);
+                return;
+            }
+        }
+
+        allowed.increment();
+        chain.doFilter(inspected, response);
+    }
+
+    /**
+     * Counters for the admin metrics endpoint
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("allowed", allowed.sum());
+        stats.put("rejectedByIp", rejectedByIp.sum());
+        stats.put("rejectedByUsername", rejectedByUsername.sum());
+        stats.put("ipBuckets", ipBuckets.size());
+        stats.put("usernameBuckets", usernameBuckets.size());
+        stats.put("evictedBuckets", ipBuckets.evictions() + usernameBuckets.evictions());
+        return stats;
+    }
+
+    private static String usernameFrom(ObjectMapper mapper, byte[] body) {
+        if (body.length == 0) return null;
+        try {
+            JsonNode root = mapper.readTree(body);
+            JsonNode node = root != null ? root.get("username") : null;
+            return node != null && node.isTextual() ? node.asText() : null;
+        } catch (IOException e) {
+            // Malformed bodies are left for the controller to reject
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                new ApiResponse("Too many attempts. Please try again in " + seconds + " seconds.", false));
+    }
+
+    /**
+     * Buffers a small JSON or CBOR body so it can be inspected here and read again by the controller
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readNBytes(MAX_INSPECTED_BODY);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            ServletInputStream rest = super.getInputStream();
+            return new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    int b = in.read();
+                    return b != -1 ? b : rest.read();
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0 && rest.isFinished();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return in.available() > 0 || rest.isReady();
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // Async readers are driven by the container stream; read() still serves the buffered prefix first
+                    rest.setReadListener(listener);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), encoding));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.hustled.filter;
+
+import com.example.hustled.dto.ApiResponse;
+import com.example.hustled.util.AdaptiveConcurrencyLimit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps in-flight requests with an {@link AdaptiveConcurrencyLimit} and sheds the least
+ * important work first.
+ *
+ * Page loads, static files and the public browse APIs may use the whole limit; other API calls,
+ * including authenticated reads such as exports and admin pages, get a smaller share, and
+ * signups and bulk uploads (BCrypt or thousands of inserts) the smallest. As the server
+ * saturates, the low class is turned away first with an immediate 503 and Retry-After instead
+ * of waiting in Tomcat's queue until it times out.
+ *
+ * A request that goes async (exports, chat streams) gives its slot back as soon as the
+ * container thread returns, without a latency sample. A stream may stay open for minutes while
+ * the client reads; holding a slot for it would let a few dozen open streams shut out page
+ * loads, and its duration says how slow the client is, not how loaded the server is.
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    public enum Priority { HIGH, NORMAL, LOW }
+
+    /** API reads that back the public job pages */
+    private static final List<String> BROWSE_APIS = List.of(
+            "/api/jobs/feed", "/api/autocomplete", "/api/geo/", "/api/files/");
+
+    private final ObjectMapper objectMapper;
+    private final AdaptiveConcurrencyLimit limit;
+    private final double[] shares;
+
+    private final LongAdder[] admitted = counters();
+    private final LongAdder[] shed = counters();
+
+    /**
+     * @param normalShare fraction of the limit available to ordinary API calls
+     * @param lowShare fraction of the limit available to signups and bulk uploads
+     */
+    public LoadSheddingFilter(ObjectMapper objectMapper, AdaptiveConcurrencyLimit limit,
+                              double normalShare, double lowShare) {
+        this.objectMapper = objectMapper;
+        this.limit = limit;
+        this.shares = new double[] { 1.0, normalShare, lowShare };
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        Priority priority = priorityOf(request);
+        if (!limit.tryAcquire(shares[priority.ordinal()])) {
+            shed[priority.ordinal()].increment();
+            reject(response);
+            return;
+        }
+        admitted[priority.ordinal()].increment();
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            async = request.isAsyncStarted();
+        } finally {
+            if (async) {
+                limit.releaseUnsampled();
+            } else {
+                limit.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    static Priority priorityOf(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if ("POST".equalsIgnoreCase(method)
+                && (path.startsWith("/api/auth/signup") || path.equals("/register") || path.startsWith("/api/jobs/bulk"))) {
+            return Priority.LOW;
+        }
+        if ("GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method) || "OPTIONS".equalsIgnoreCase(method)) {
+            if (!path.startsWith("/api/")) return Priority.HIGH;
+            for (String prefix : BROWSE_APIS) {
+                if (path.startsWith(prefix)) return Priority.HIGH;
+            }
+        }
+        return Priority.NORMAL;
+    }
+
+    /**
+     * Counters for the admin metrics endpoint
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("limit", limit.getLimit());
+        stats.put("inFlight", limit.getInFlight());
+        stats.put("noLoadLatencyMs", Math.round(limit.getNoLoadMillis() * 100) / 100.0);
+        for (Priority priority : Priority.values()) {
+            Map<String, Object> byClass = new LinkedHashMap<>();
+            byClass.put("share", shares[priority.ordinal()]);
+            byClass.put("admitted", admitted[priority.ordinal()].sum());
+            byClass.put("shed", shed[priority.ordinal()].sum());
+            stats.put(priority.name().toLowerCase(Locale.ROOT), byClass);
+        }
+        return stats;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                new ApiResponse("Server is busy. Please try again in a moment.", false));
+    }
+
+    private static LongAdder[] counters() {
+        LongAdder[] counters = new LongAdder[Priority.values().length];
+        for (int i = 0; i < counters.length; i++) counters[i] = new LongAdder();
+        return counters;
+    }
+}
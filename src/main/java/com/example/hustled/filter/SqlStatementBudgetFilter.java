@@ -0,0 +1,91 @@
+package com.example.hustled.filter;
+
+import com.example.hustled.config.SqlStatementTracker;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the SQL statements each request issues (staging and load tests; off by default).
+ *
+ * Requests over the statement budget, or repeating one statement shape past the N+1 threshold,
+ * are logged once per endpoint pattern with the offending shapes and the application frames that
+ * issued them. Worst counts per endpoint are kept for the admin metrics endpoint.
+ */
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+
+    private final int budget;
+    private final int repeatThreshold;
+    private final Map<String, Integer> worstByEndpoint = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> reported = new ConcurrentHashMap<>();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder overBudget = new LongAdder();
+    private final LongAdder repeatedShapes = new LongAdder();
+
+    public SqlStatementBudgetFilter(int budget, int repeatThreshold) {
+        this.budget = budget;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        SqlStatementTracker.Scope scope = SqlStatementTracker.open(request.getMethod() + " " + request.getRequestURI(), repeatThreshold);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            scope.close();
+            inspect(request, scope);
+        }
+    }
+
+    /**
+     * Counters for the admin metrics endpoint
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", requests.sum());
+        stats.put("statements", statements.sum());
+        stats.put("overBudget", overBudget.sum());
+        stats.put("repeatedShapes", repeatedShapes.sum());
+        stats.put("budget", budget);
+        stats.put("worstByEndpoint", new LinkedHashMap<>(worstByEndpoint));
+        return stats;
+    }
+
+    private void inspect(HttpServletRequest request, SqlStatementTracker.Scope scope) {
+        requests.increment();
+        statements.add(scope.statements());
+        if (scope.statements() == 0) return;
+
+        // Group by mapping pattern (/api/jobs/{id}) so ids do not multiply the entries
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        worstByEndpoint.merge(endpoint, scope.statements(), Math::max);
+
+        boolean over = scope.statements() > budget;
+        boolean repeated = !scope.repeated().isEmpty();
+        if (over) overBudget.increment();
+        if (repeated) repeatedShapes.increment();
+        if ((over || repeated) && reported.putIfAbsent(endpoint, Boolean.TRUE) == null) {
+            log.warn("SQL budget exceeded by {} (budget {}, N+1 threshold {}): {}",
+                    endpoint, budget, repeatThreshold, scope.report());
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.example.hustled.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "candidate_profiles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "candidateProfiles")
 public class CandidateProfile {
 
     @Id
@@ -61,6 +66,12 @@ public class CandidateProfile {
     @Column(name = "github_url", length = 255)
     private String github;
 
+    @Column(name = "resume_url", length = 255)
+    private String resumeUrl;
+
+    @Column(name = "photo_url", length = 255)
+    private String photoUrl;
+
     @Column(name = "is_profile_complete")
     private Boolean isProfileComplete = false;
 
@@ -228,6 +239,22 @@ public class CandidateProfile {
         this.github = github;
     }
 
+    public String getResumeUrl() {
+        return resumeUrl;
+    }
+
+    public void setResumeUrl(String resumeUrl) {
+        this.resumeUrl = resumeUrl;
+    }
+
+    public String getPhotoUrl() {
+        return photoUrl;
+    }
+
+    public void setPhotoUrl(String photoUrl) {
+        this.photoUrl = photoUrl;
+    }
+
     public Boolean getIsProfileComplete() {
         return isProfileComplete;
     }
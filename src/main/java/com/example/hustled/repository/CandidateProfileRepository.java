@@ -1,8 +1,12 @@
 package com.example.hustled.repository;
 
 import com.example.hustled.model.CandidateProfile;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -18,6 +22,8 @@ public interface CandidateProfileRepository extends JpaRepository<CandidateProfi
      * @param userId the user ID
      * @return Optional containing the profile if found
      */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<CandidateProfile> findByUserId(Long userId);
     
     /**
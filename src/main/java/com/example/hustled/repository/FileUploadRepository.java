@@ -0,0 +1,29 @@
+package com.example.hustled.repository;
+
+import com.example.hustled.entity.FileUpload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface FileUploadRepository extends JpaRepository<FileUpload, Long> {
+
+    boolean existsByHashAndUploadedBy(String hash, Long uploadedBy);
+
+    Optional<FileUpload> findFirstByHashAndUploadedByOrderByIdDesc(String hash, Long uploadedBy);
+
+    @Query("SELECT COUNT(p) > 0 FROM CandidateProfile p " +
+            "WHERE p.userId = :userId AND (p.resumeUrl = :url OR p.photoUrl = :url)")
+    boolean isLinkedFromProfileOf(@Param("url") String url, @Param("userId") Long userId);
+
+    /**
+     * User ids of candidates who sent the file, as their resume or through their profile, with
+     * an application to a job the employer posted
+     */
+    @Query("SELECT DISTINCT p.userId FROM JobApplication a, Job j, CandidateProfile p " +
+            "WHERE j.id = a.jobId AND p.id = a.candidateId AND j.postedBy.id = :employerId " +
+            "AND (a.resumeUrl = :url OR p.resumeUrl = :url OR p.photoUrl = :url)")
+    List<Long> findApplicantsSharing(@Param("url") String url, @Param("employerId") Long employerId);
+}
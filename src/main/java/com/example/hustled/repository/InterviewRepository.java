@@ -0,0 +1,33 @@
+package com.example.hustled.repository;
+
+import com.example.hustled.entity.Interview;
+import com.example.hustled.entity.InterviewStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface InterviewRepository extends JpaRepository<Interview, Long> {
+
+    /**
+     * Booked interviews that start after the cutoff; the cutoff is pushed back by the
+     * longest allowed duration so interviews already in progress are included
+     */
+    List<Interview> findByInterviewerIdAndStatusAndInterviewDateAfter(Long interviewerId,
+                                                                      InterviewStatus status,
+                                                                      LocalDateTime cutoff);
+
+    List<Interview> findByApplicationIdOrderByInterviewDateAsc(Long applicationId);
+
+    /**
+     * Interviews in a status that start strictly between two instants, for overlap checks
+     */
+    @Query("SELECT i FROM Interview i WHERE i.interviewerId = :interviewerId AND i.status = :status " +
+            "AND i.interviewDate > :after AND i.interviewDate < :before ORDER BY i.interviewDate")
+    List<Interview> findStartingBetween(@Param("interviewerId") Long interviewerId,
+                                        @Param("status") InterviewStatus status,
+                                        @Param("after") LocalDateTime after,
+                                        @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,22 @@
+package com.example.hustled.repository;
+
+import com.example.hustled.entity.JobApplication;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
+
+    boolean existsByJobIdAndCandidateId(Long jobId, Long candidateId);
+
+    /**
+     * Row-locked read so two concurrent status changes cannot both move the same counter
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM JobApplication a WHERE a.id = :id")
+    Optional<JobApplication> findForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,42 @@
+package com.example.hustled.repository;
+
+import com.example.hustled.entity.JobChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface JobChangeRepository extends JpaRepository<JobChange, Long> {
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM JobChange c")
+    long findMaxId();
+
+    @Query("SELECT COALESCE(MIN(c.id), 0) FROM JobChange c")
+    long findMinId();
+
+    /**
+     * Newest id above the given one whose row was written before the cutoff, or that id itself
+     */
+    @Query("SELECT COALESCE(MAX(c.id), :after) FROM JobChange c WHERE c.id > :after AND c.changedAt < :cutoff")
+    long findMaxIdChangedBefore(@Param("after") long after, @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Changes after the cursor up to and including the snapshot version, oldest first
+     */
+    @Query("SELECT c FROM JobChange c WHERE c.id > :after AND c.id <= :upTo ORDER BY c.id")
+    List<JobChange> findPage(@Param("after") long after, @Param("upTo") long upTo, Pageable page);
+
+    Optional<JobChange> findFirstByChangedAtAfterOrderByIdAsc(LocalDateTime since);
+
+    /**
+     * Drop old log rows, always keeping the newest one so the version never goes backwards
+     */
+    @Modifying
+    @Query("DELETE FROM JobChange c WHERE c.changedAt < :cutoff AND c.id < :keepFrom")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff, @Param("keepFrom") long keepFrom);
+}
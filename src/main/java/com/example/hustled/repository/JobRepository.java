@@ -1,11 +1,28 @@
 package com.example.hustled.repository;
 
 import com.example.hustled.entity.Job;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
 public interface JobRepository extends JpaRepository<Job, Long> {
 
+    /**
+     * Full job listing; results are kept in the query cache until the jobs table changes.
+     * The poster is joined in: as an eager to-one it would otherwise cost a SELECT per poster.
+     */
+    @Override
+    @EntityGraph(attributePaths = "postedBy")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Job> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "postedBy")
+    List<Job> findAllById(Iterable<Long> ids);
+
 }
@@ -0,0 +1,7 @@
+package com.example.hustled.repository;
+
+import com.example.hustled.entity.StoredFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+}
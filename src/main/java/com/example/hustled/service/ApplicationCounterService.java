@@ -0,0 +1,181 @@
+package com.example.hustled.service;
+
+import com.example.hustled.dto.PipelineEntryDTO;
+import com.example.hustled.entity.ApplicationStatus;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Materialized per-job application counts (job_application_counts), one column per status.
+ *
+ * Counters are changed with single-statement arithmetic in the same transaction as the
+ * application write, so the InnoDB row lock on the counter row serializes concurrent updates
+ * and a rollback undoes both. A scheduled GROUP BY pass finds drift, e.g. from rows edited
+ * by hand, and repairs each drifted job in its own transaction under row locks, so the
+ * recount cannot overwrite increments that commit while it runs.
+ */
+@Service
+public class ApplicationCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationCounterService.class);
+
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+    private static final String COLUMNS = Arrays.stream(STATUSES)
+            .map(ApplicationStatus::counterColumn).collect(Collectors.joining(", "));
+
+    private final JdbcTemplate jdbc;
+    private final EntityManager entityManager;
+    private final TransactionTemplate tx;
+
+    public ApplicationCounterService(JdbcTemplate jdbc,
+                                     EntityManager entityManager,
+                                     PlatformTransactionManager transactionManager) {
+        this.jdbc = jdbc;
+        this.entityManager = entityManager;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * A new application entered the pipeline; must run inside the inserting transaction
+     */
+    public void increment(long jobId, ApplicationStatus status) {
+        String column = status.counterColumn();
+        jdbc.update("INSERT INTO job_application_counts (job_id, " + column + ", updated_at) VALUES (?, 1, NOW(6)) " +
+                "ON DUPLICATE KEY UPDATE " + column + " = " + column + " + 1, updated_at = NOW(6)", jobId);
+    }
+
+    /**
+     * An application moved between stages; must run inside the updating transaction
+     */
+    public void move(long jobId, ApplicationStatus from, ApplicationStatus to) {
+        if (from == to) return;
+        String dec = from.counterColumn();
+        String inc = to.counterColumn();
+        int updated = jdbc.update("UPDATE job_application_counts SET " +
+                dec + " = GREATEST(" + dec + " - 1, 0), " + inc + " = " + inc + " + 1, updated_at = NOW(6) " +
+                "WHERE job_id = ?", jobId);
+        if (updated == 0) {
+            // No counter row yet (applications predating the table): build it from the source rows,
+            // after pushing the caller's pending status change so the recount includes it
+            entityManager.flush();
+            reconcileJob(jobId);
+        }
+    }
+
+    /**
+     * Whole pipeline for one employer in a single indexed query
+     */
+    @Transactional(readOnly = true)
+    public List<PipelineEntryDTO> pipeline(long employerId) {
+        String selects = Arrays.stream(STATUSES)
+                .map(s -> "COALESCE(c." + s.counterColumn() + ", 0) AS " + s.counterColumn())
+                .collect(Collectors.joining(", "));
+        return jdbc.query("SELECT j.id, j.title, " + selects + " FROM jobs j " +
+                "LEFT JOIN job_application_counts c ON c.job_id = j.id " +
+                "WHERE j.posted_by = ? ORDER BY j.id DESC", (rs, i) -> toEntry(rs), employerId);
+    }
+
+    /**
+     * Recount one job from job_applications; must run inside a transaction. The job's
+     * application rows are read with FOR UPDATE before the counter row, the same order the
+     * application writes take their locks, so a concurrent apply or status change either
+     * commits before the count or waits until the rewritten row has committed.
+     *
+     * @return true when the stored counts were wrong and have been rewritten
+     */
+    public boolean reconcileJob(long jobId) {
+        Map<ApplicationStatus, Long> actual = new EnumMap<>(ApplicationStatus.class);
+        jdbc.query("SELECT status FROM job_applications WHERE job_id = ? FOR UPDATE",
+                rs -> {
+                    actual.merge(ApplicationStatus.fromLabel(rs.getString(1)), 1L, Long::sum);
+                }, jobId);
+        List<Map<ApplicationStatus, Long>> stored = jdbc.query(
+                "SELECT " + COLUMNS + " FROM job_application_counts WHERE job_id = ? FOR UPDATE",
+                (rs, i) -> countsOf(rs, 1), jobId);
+        if (!stored.isEmpty() && stored.get(0).equals(actual)) return false;
+        write(jobId, actual);
+        return true;
+    }
+
+    /**
+     * Compare every counter row with a GROUP BY over job_applications, then recount each job
+     * that looks drifted with {@link #reconcileJob} in a transaction of its own. The snapshot
+     * only picks candidates; a job that merely changed during the scan recounts to the same values.
+     */
+    @Scheduled(cron = "${hustled.applications.reconcile-cron:0 15 * * * *}")
+    public int reconcileAll() {
+        Map<Long, Map<ApplicationStatus, Long>> actual = new HashMap<>();
+        jdbc.query("SELECT job_id, status, COUNT(*) FROM job_applications GROUP BY job_id, status", rs -> {
+            actual.computeIfAbsent(rs.getLong(1), k -> new EnumMap<>(ApplicationStatus.class))
+                    .put(ApplicationStatus.fromLabel(rs.getString(2)), rs.getLong(3));
+        });
+
+        Map<Long, Map<ApplicationStatus, Long>> stored = new HashMap<>();
+        jdbc.query("SELECT job_id, " + COLUMNS + " FROM job_application_counts", rs -> {
+            stored.put(rs.getLong(1), countsOf(rs, 2));
+        });
+
+        int repaired = 0;
+        Set<Long> jobIds = new HashSet<>(actual.keySet());
+        jobIds.addAll(stored.keySet());
+        for (Long jobId : jobIds) {
+            Map<ApplicationStatus, Long> expected = actual.getOrDefault(jobId, Collections.emptyMap());
+            if (!expected.equals(stored.getOrDefault(jobId, Collections.emptyMap()))
+                    && Boolean.TRUE.equals(tx.execute(status -> reconcileJob(jobId)))) {
+                repaired++;
+            }
+        }
+        if (repaired > 0) log.warn("Reconciled application counters for {} jobs", repaired);
+        return repaired;
+    }
+
+    /**
+     * Non-zero counters of a job_application_counts row, starting at the given column
+     */
+    private static Map<ApplicationStatus, Long> countsOf(ResultSet rs, int firstColumn) throws SQLException {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (int i = 0; i < STATUSES.length; i++) {
+            long n = rs.getLong(i + firstColumn);
+            if (n != 0) counts.put(STATUSES[i], n);
+        }
+        return counts;
+    }
+
+    private void write(long jobId, Map<ApplicationStatus, Long> counts) {
+        StringBuilder values = new StringBuilder();
+        StringBuilder updates = new StringBuilder();
+        Object[] args = new Object[STATUSES.length + 1];
+        args[0] = jobId;
+        for (int i = 0; i < STATUSES.length; i++) {
+            String column = STATUSES[i].counterColumn();
+            values.append(", ?");
+            updates.append(column).append(" = VALUES(").append(column).append("), ");
+            args[i + 1] = counts.getOrDefault(STATUSES[i], 0L);
+        }
+        jdbc.update("INSERT INTO job_application_counts (job_id, " + COLUMNS + ", updated_at) VALUES (?" + values +
+                ", NOW(6)) ON DUPLICATE KEY UPDATE " + updates + "updated_at = NOW(6)", args);
+    }
+
+    private static PipelineEntryDTO toEntry(ResultSet rs) throws SQLException {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        long total = 0;
+        for (ApplicationStatus status : STATUSES) {
+            long n = rs.getLong(status.counterColumn());
+            counts.put(status.getLabel(), n);
+            total += n;
+        }
+        return new PipelineEntryDTO(rs.getLong("id"), rs.getString("title"), total, counts);
+    }
+}
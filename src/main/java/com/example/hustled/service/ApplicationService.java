@@ -0,0 +1,109 @@
+package com.example.hustled.service;
+
+import com.example.hustled.config.ReadYourWritesTracker;
+import com.example.hustled.entity.ApplicationStatus;
+import com.example.hustled.entity.Job;
+import com.example.hustled.entity.JobApplication;
+import com.example.hustled.entity.JobStatus;
+import com.example.hustled.entity.User;
+import com.example.hustled.model.CandidateProfile;
+import com.example.hustled.repository.CandidateProfileRepository;
+import com.example.hustled.repository.JobApplicationRepository;
+import com.example.hustled.repository.JobRepository;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+
+/**
+ * Job applications and their status transitions. Every write also moves the materialized
+ * pipeline counters in the same transaction.
+ */
+@Service
+public class ApplicationService {
+
+    private final JobApplicationRepository applicationRepo;
+    private final JobRepository jobRepo;
+    private final CandidateProfileRepository profileRepo;
+    private final ApplicationCounterService counters;
+    private final ReadYourWritesTracker readYourWrites;
+
+    public ApplicationService(JobApplicationRepository applicationRepo,
+                              JobRepository jobRepo,
+                              CandidateProfileRepository profileRepo,
+                              ApplicationCounterService counters,
+                              ReadYourWritesTracker readYourWrites) {
+        this.applicationRepo = applicationRepo;
+        this.jobRepo = jobRepo;
+        this.profileRepo = profileRepo;
+        this.counters = counters;
+        this.readYourWrites = readYourWrites;
+    }
+
+    /**
+     * @throws NoSuchElementException when the job or the candidate's profile does not exist
+     * @throws IllegalStateException when the candidate already applied or the job is closed
+     */
+    @Transactional
+    public JobApplication apply(Long jobId, User candidate, String coverLetter, String resumeUrl) {
+        readYourWrites.recordWrite();
+        Job job = jobRepo.findById(jobId).orElseThrow(() -> new NoSuchElementException("Job not found"));
+        if (job.getStatus() != JobStatus.OPEN
+                || (job.getApplicationDeadline() != null && job.getApplicationDeadline().isBefore(LocalDate.now()))) {
+            throw new IllegalStateException("This job is no longer accepting applications");
+        }
+        CandidateProfile profile = profileRepo.findByUserId(candidate.getId())
+                .orElseThrow(() -> new NoSuchElementException("Create your candidate profile before applying"));
+        if (applicationRepo.existsByJobIdAndCandidateId(job.getId(), profile.getId())) {
+            throw new IllegalStateException("You already applied to this job");
+        }
+
+        JobApplication application = new JobApplication();
+        application.setJobId(job.getId());
+        application.setCandidateId(profile.getId());
+        application.setCoverLetter(coverLetter);
+        application.setResumeUrl(resumeUrl != null && !resumeUrl.isBlank() ? resumeUrl : profile.getResumeUrl());
+        application.setStatus(ApplicationStatus.APPLIED);
+        application.setAppliedDate(LocalDateTime.now());
+        application.setUpdatedAt(application.getAppliedDate());
+        JobApplication saved = applicationRepo.save(application);
+
+        counters.increment(job.getId(), ApplicationStatus.APPLIED);
+        return saved;
+    }
+
+    /**
+     * The employer who posted the job moves an application through the pipeline; the
+     * candidate may only withdraw their own application.
+     */
+    @Transactional
+    public JobApplication changeStatus(Long applicationId, ApplicationStatus next, User actor) {
+        readYourWrites.recordWrite();
+        JobApplication application = applicationRepo.findForUpdate(applicationId)
+                .orElseThrow(() -> new NoSuchElementException("Application not found"));
+        Job job = jobRepo.findById(application.getJobId())
+                .orElseThrow(() -> new NoSuchElementException("Job not found"));
+
+        boolean employer = job.getPostedBy() != null && job.getPostedBy().getId().equals(actor.getId());
+        boolean candidate = next == ApplicationStatus.WITHDRAWN && profileRepo.findByUserId(actor.getId())
+                .map(p -> p.getId().equals(application.getCandidateId())).orElse(false);
+        if (!employer && !candidate) {
+            throw new AccessDeniedException("Not allowed to change this application");
+        }
+        if (application.getStatus() == ApplicationStatus.WITHDRAWN) {
+            throw new IllegalStateException("Application was withdrawn");
+        }
+
+        ApplicationStatus previous = application.getStatus();
+        if (previous == next) return application;
+        application.setStatus(next);
+        application.setUpdatedAt(LocalDateTime.now());
+        JobApplication saved = applicationRepo.save(application);
+
+        counters.move(application.getJobId(), previous, next);
+        return saved;
+    }
+}
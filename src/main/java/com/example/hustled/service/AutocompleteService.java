@@ -0,0 +1,166 @@
+package com.example.hustled.service;
+
+import com.example.hustled.dto.AutocompleteSuggestion;
+import com.example.hustled.entity.Job;
+import com.example.hustled.event.JobSnapshot;
+import com.example.hustled.repository.JobRepository;
+import com.example.hustled.util.PrefixTrie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Typeahead suggestions for job titles, company names and locations.
+ *
+ * Suggestions are served from one {@link PrefixTrie} per field, weighted by how many postings
+ * use a value. The tries are rebuilt from the database at startup (and periodically, to pick up
+ * employer profiles) and patched incrementally as jobs are saved or deleted, so a keystroke
+ * never reaches MySQL.
+ */
+@Service
+public class AutocompleteService implements JobChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(AutocompleteService.class);
+
+    /** Separates a mid-term word suffix from the full key it points to */
+    private static final char SUFFIX_SEPARATOR = '\u0001';
+    /** Only the first few words of a term are indexed as separate entry points */
+    private static final int MAX_WORD_SUFFIXES = 6;
+
+    public enum Field { TITLE, COMPANY, LOCATION }
+
+    private final JobRepository jobRepo;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Map<Field, PrefixTrie> tries = emptyTries();
+    private final Map<Long, String[]> indexedJobs = new ConcurrentHashMap<>();
+
+    public AutocompleteService(JobRepository jobRepo, JdbcTemplate jdbcTemplate) {
+        this.jobRepo = jobRepo;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Rebuild all tries from the jobs and employer_profiles tables
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${hustled.autocomplete.rebuild-interval-ms:1800000}",
+               fixedDelayString = "${hustled.autocomplete.rebuild-interval-ms:1800000}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        Map<Field, PrefixTrie> fresh = emptyTries();
+        Map<Long, String[]> snapshot = new HashMap<>();
+
+        for (Job job : jobRepo.findAll()) {
+            String[] values = valuesOf(JobSnapshot.of(job));
+            snapshot.put(job.getId(), values);
+            apply(fresh, values, 1);
+        }
+
+        try {
+            List<String> companies = jdbcTemplate.queryForList(
+                    "SELECT company_name FROM employer_profiles", String.class);
+            for (String company : companies) {
+                index(fresh.get(Field.COMPANY), company, 1);
+            }
+        } catch (DataAccessException e) {
+            log.debug("employer_profiles not available for autocomplete: {}", e.getMessage());
+        }
+
+        tries = fresh;
+        indexedJobs.clear();
+        indexedJobs.putAll(snapshot);
+        log.info("Autocomplete rebuilt from {} jobs in {} ms", snapshot.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Suggestions for a prefix, optionally restricted to one field
+     */
+    public List<AutocompleteSuggestion> suggest(String query, Field field, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) return Collections.emptyList();
+
+        Map<Field, PrefixTrie> current = tries;
+        List<AutocompleteSuggestion> suggestions = new ArrayList<>();
+        for (Field f : field != null ? EnumSet.of(field) : EnumSet.allOf(Field.class)) {
+            for (PrefixTrie.Match match : current.get(f).topK(prefix, limit)) {
+                suggestions.add(new AutocompleteSuggestion(match.getText(), f.name().toLowerCase(Locale.ROOT), match.getWeight()));
+            }
+        }
+        if (field == null) {
+            suggestions.sort(Comparator.comparingLong(AutocompleteSuggestion::getWeight).reversed());
+            if (suggestions.size() > limit) {
+                suggestions = new ArrayList<>(suggestions.subList(0, limit));
+            }
+        }
+        return suggestions;
+    }
+
+    @Override
+    public synchronized void onJobSaved(JobSnapshot job) {
+        if (job == null || job.getId() == null) return;
+        String[] values = valuesOf(job);
+        String[] previous = indexedJobs.put(job.getId(), values);
+        if (previous != null && Arrays.equals(previous, values)) return;
+
+        Map<Field, PrefixTrie> current = tries;
+        if (previous != null) apply(current, previous, -1);
+        apply(current, values, 1);
+    }
+
+    @Override
+    public synchronized void onJobDeleted(Long jobId) {
+        String[] previous = indexedJobs.remove(jobId);
+        if (previous != null) apply(tries, previous, -1);
+    }
+
+    private static void apply(Map<Field, PrefixTrie> target, String[] values, long delta) {
+        index(target.get(Field.TITLE), values[0], delta);
+        index(target.get(Field.COMPANY), values[1], delta);
+        index(target.get(Field.LOCATION), values[2], delta);
+    }
+
+    /**
+     * Index a term under its full key and under each word it contains, so that
+     * "dev" suggests "Java Developer" as well as "Developer Advocate"
+     */
+    private static void index(PrefixTrie trie, String value, long delta) {
+        String key = normalize(value);
+        if (key.isEmpty()) return;
+        String display = value.trim().replaceAll("\\s+", " ");
+        trie.add(key, display, delta);
+
+        int words = 0;
+        for (int i = 1; i < key.length() && words < MAX_WORD_SUFFIXES; i++) {
+            if (key.charAt(i - 1) == ' ') {
+                trie.add(key.substring(i) + SUFFIX_SEPARATOR + key, display, delta);
+                words++;
+            }
+        }
+    }
+
+    private static String[] valuesOf(JobSnapshot job) {
+        return new String[] { job.getTitle(), job.getCompany(), job.getLocation() };
+    }
+
+    static String normalize(String value) {
+        if (value == null) return "";
+        return value.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    private static Map<Field, PrefixTrie> emptyTries() {
+        Map<Field, PrefixTrie> map = new EnumMap<>(Field.class);
+        for (Field f : Field.values()) {
+            map.put(f, new PrefixTrie());
+        }
+        return map;
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.hustled.service;
+
+import com.example.hustled.dto.BulkJobResultDTO;
+import com.example.hustled.entity.Job;
+import com.example.hustled.entity.JobStatus;
+import com.example.hustled.entity.User;
+import com.example.hustled.util.Csv;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulk job posting for agencies: parse a JSON array or CSV, validate every row in parallel,
+ * then insert all valid rows through {@link JobService#createAll} in one batched transaction.
+ * Invalid rows are reported and skipped; they never block the valid ones.
+ */
+@Service
+public class BulkJobService {
+
+    private static final int VALIDATION_CHUNK = 100;
+
+    private final JobService jobService;
+    private final Validator validator;
+    private final int maxRows;
+    private final ThreadPoolExecutor executor;
+
+    public BulkJobService(JobService jobService,
+                          Validator validator,
+                          @Value("${hustled.jobs.bulk.max-rows:1000}") int maxRows,
+                          @Value("${hustled.jobs.bulk.validation-threads:4}") int threads) {
+        this.jobService = jobService;
+        this.validator = validator;
+        this.maxRows = maxRows;
+        AtomicInteger threadId = new AtomicInteger();
+        // Callers run the chunk themselves when the queue is full, so validation is never dropped
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(64),
+                r -> {
+                    Thread t = new Thread(r, "bulk-job-validation-" + threadId.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public int maxRows() {
+        return maxRows;
+    }
+
+    /**
+     * @throws IllegalArgumentException when there are more rows than hustled.jobs.bulk.max-rows
+     */
+    public List<BulkJobResultDTO> postAll(List<Job> jobs, User poster) {
+        if (jobs.size() > maxRows) throw new IllegalArgumentException("At most " + maxRows + " jobs per request");
+        List<List<String>> errors = new ArrayList<>(jobs.size());
+        for (int i = 0; i < jobs.size(); i++) errors.add(new ArrayList<>());
+        return post(jobs, errors, poster);
+    }
+
+    /**
+     * CSV with a header row naming any of: title, company, location, description, status,
+     * application_deadline (yyyy-MM-dd). Unknown columns are ignored.
+     *
+     * @throws IllegalArgumentException on a missing title/company column, too many rows or broken quoting
+     */
+    public List<BulkJobResultDTO> postCsv(Reader csv, User poster) throws IOException {
+        List<String[]> rows = Csv.readRows(csv, maxRows + 1);
+        if (rows.isEmpty()) throw new IllegalArgumentException("CSV is empty");
+        Map<String, Integer> columns = new HashMap<>();
+        String[] header = rows.get(0);
+        for (int i = 0; i < header.length; i++) {
+            columns.put(header[i].trim().toLowerCase(Locale.ROOT).replace("_", "").replace(" ", ""), i);
+        }
+        if (!columns.containsKey("title") || !columns.containsKey("company")) {
+            throw new IllegalArgumentException("CSV header must include title and company");
+        }
+
+        List<Job> jobs = new ArrayList<>(rows.size() - 1);
+        List<List<String>> errors = new ArrayList<>(rows.size() - 1);
+        for (String[] row : rows.subList(1, rows.size())) {
+            List<String> rowErrors = new ArrayList<>();
+            Job job = new Job();
+            job.setTitle(cell(row, columns, "title"));
+            job.setCompany(cell(row, columns, "company"));
+            job.setLocation(cell(row, columns, "location"));
+            job.setDescription(cell(row, columns, "description"));
+            String status = cell(row, columns, "status");
+            if (status != null) {
+                try {
+                    job.setStatus(JobStatus.fromLabel(status));
+                } catch (IllegalArgumentException e) {
+                    rowErrors.add("status: " + e.getMessage());
+                }
+            }
+            String deadline = cell(row, columns, "applicationdeadline");
+            if (deadline != null) {
+                try {
+                    job.setApplicationDeadline(LocalDate.parse(deadline));
+                } catch (DateTimeParseException e) {
+                    rowErrors.add("applicationDeadline: expected yyyy-MM-dd");
+                }
+            }
+            jobs.add(job);
+            errors.add(rowErrors);
+        }
+        return post(jobs, errors, poster);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private List<BulkJobResultDTO> post(List<Job> jobs, List<List<String>> errors, User poster) {
+        validate(jobs, errors);
+
+        List<Job> valid = new ArrayList<>();
+        List<Integer> validRows = new ArrayList<>();
+        for (int i = 0; i < jobs.size(); i++) {
+            if (errors.get(i).isEmpty()) {
+                valid.add(jobs.get(i));
+                validRows.add(i);
+            }
+        }
+        List<Job> saved = valid.isEmpty() ? List.of() : jobService.createAll(valid, poster);
+
+        BulkJobResultDTO[] results = new BulkJobResultDTO[jobs.size()];
+        for (int i = 0; i < saved.size(); i++) {
+            int row = validRows.get(i);
+            results[row] = new BulkJobResultDTO(row + 1, true, saved.get(i).getId(), List.of());
+        }
+        for (int i = 0; i < jobs.size(); i++) {
+            if (results[i] == null) results[i] = new BulkJobResultDTO(i + 1, false, null, errors.get(i));
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Bean Validation of each row, in chunks across the pool; each chunk writes only its own rows
+     */
+    private void validate(List<Job> jobs, List<List<String>> errors) {
+        List<Future<?>> chunks = new ArrayList<>();
+        for (int from = 0; from < jobs.size(); from += VALIDATION_CHUNK) {
+            int start = from;
+            int end = Math.min(from + VALIDATION_CHUNK, jobs.size());
+            chunks.add(executor.submit(() -> {
+                for (int i = start; i < end; i++) {
+                    Job job = jobs.get(i);
+                    if (job == null) {
+                        errors.get(i).add("row is empty");
+                        continue;
+                    }
+                    for (ConstraintViolation<Job> violation : validator.validate(job)) {
+                        errors.get(i).add(violation.getPropertyPath() + ": " + violation.getMessage());
+                    }
+                }
+            }));
+        }
+        for (Future<?> chunk : chunks) {
+            try {
+                chunk.get(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while validating jobs", e);
+            } catch (ExecutionException | TimeoutException e) {
+                throw new IllegalStateException("Job validation failed", e);
+            }
+        }
+    }
+
+    private static String cell(String[] row, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= row.length) return null;
+        String value = row[index].trim();
+        return value.isEmpty() ? null : value;
+    }
+}
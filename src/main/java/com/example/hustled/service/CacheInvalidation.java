@@ -0,0 +1,37 @@
+package com.example.hustled.service;
+
+import java.util.Objects;
+
+/**
+ * One entity whose cached copies are stale, e.g. ("job", 42)
+ */
+public final class CacheInvalidation {
+
+    private final String region;
+    private final long id;
+
+    public CacheInvalidation(String region, long id) {
+        this.region = Objects.requireNonNull(region);
+        this.id = id;
+    }
+
+    public String getRegion() { return region; }
+    public long getId() { return id; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof CacheInvalidation)) return false;
+        CacheInvalidation other = (CacheInvalidation) o;
+        return id == other.id && region.equals(other.region);
+    }
+
+    @Override
+    public int hashCode() {
+        return region.hashCode() * 31 + Long.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+        return region + ":" + id;
+    }
+}
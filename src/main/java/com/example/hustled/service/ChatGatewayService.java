@@ -0,0 +1,420 @@
+package com.example.hustled.service;
+
+import com.example.hustled.util.StripedLruMap;
+import com.example.hustled.util.TokenBucket;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Career assistant chat gateway in front of a {@link ChatModelBackend}.
+ *
+ * Prompts are normalized (case, whitespace, trailing punctuation) into a cache key. A cached
+ * answer is replayed immediately; otherwise identical prompts that arrive while an upstream
+ * call is running join that call instead of starting another one. Late joiners first receive
+ * the text generated so far, then the remaining tokens as they arrive. Finished answers are
+ * kept in a bounded LRU with a TTL.
+ *
+ * The upstream thread never writes to a client itself. Each listener has its own pending
+ * text, drained by a delivery pool, so a slow browser only delays its own stream; once it
+ * falls more than max-pending-chars behind it is failed and dropped. Callers are rate limited
+ * per client with {@link #tryAcquire} because every miss costs a paid model call.
+ */
+@Service
+public class ChatGatewayService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatGatewayService.class);
+
+    static final String SYSTEM_INSTRUCTION =
+            "You are the JobZilla Career Assistant, an expert in OJT and permanent employment matching for the local market. " +
+            "Your primary goal is to guide users to relevant job listings, OJT requirements, and career advice. " +
+            "Maintain a professional, encouraging, and helpful tone. " +
+            "If the user asks for jobs, always ask for their preferred field and location. Do not invent job listings.";
+
+    /** Long, specific prompts are unlikely to repeat; only shorter ones are cached */
+    private static final int MAX_CACHED_PROMPT = 500;
+
+    /**
+     * Receives one answer on a delivery thread. Callbacks for a given listener are never
+     * concurrent, and consecutive tokens may arrive merged into one call.
+     */
+    public interface Listener {
+        void onToken(String text) throws Exception;
+
+        void onComplete(String answer) throws Exception;
+
+        void onError(Throwable error) throws Exception;
+    }
+
+    private final ChatModelBackend backend;
+    private final StripedLruMap<String, CachedAnswer> cache;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService upstream;
+    private final ExecutorService delivery;
+    private final long ttlNanos;
+    private final int maxPendingChars;
+    private final TokenBucket.Limit clientLimit;
+    private final StripedLruMap<String, TokenBucket> clientBuckets;
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder upstreamCalls = new LongAdder();
+    private final LongAdder upstreamErrors = new LongAdder();
+    private final LongAdder slowListeners = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    public ChatGatewayService(ChatModelBackend backend,
+                              @Value("${hustled.chat.cache.max-entries:2000}") int maxEntries,
+                              @Value("${hustled.chat.cache.ttl:6h}") Duration ttl,
+                              @Value("${hustled.chat.max-concurrent-upstream:8}") int maxConcurrent,
+                              @Value("${hustled.chat.max-queued:100}") int maxQueued,
+                              @Value("${hustled.chat.delivery-threads:16}") int deliveryThreads,
+                              @Value("${hustled.chat.max-pending-chars:32768}") int maxPendingChars,
+                              @Value("${hustled.chat.client.capacity:10}") int clientCapacity,
+                              @Value("${hustled.chat.client.per-minute:20}") int clientPerMinute) {
+        this.backend = backend;
+        this.cache = new StripedLruMap<>(16, maxEntries);
+        this.ttlNanos = ttl.toNanos();
+        this.maxPendingChars = maxPendingChars;
+        this.clientLimit = new TokenBucket.Limit(clientCapacity, clientPerMinute);
+        this.clientBuckets = new StripedLruMap<>(64, 100_000);
+        AtomicInteger threadId = new AtomicInteger();
+        this.upstream = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxQueued),
+                r -> {
+                    Thread t = new Thread(r, "chat-upstream-" + threadId.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        AtomicInteger deliveryId = new AtomicInteger();
+        // Unbounded queue: each listener has at most one drain task queued at a time
+        this.delivery = new ThreadPoolExecutor(deliveryThreads, deliveryThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread t = new Thread(r, "chat-delivery-" + deliveryId.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /**
+     * Charge one question to a client
+     * @param client stable caller key, e.g. username or client address
+     * @return 0 when allowed, otherwise nanoseconds until the client may ask again
+     */
+    public long tryAcquire(String client) {
+        long wait = clientBuckets.computeIfAbsent(client, k -> new TokenBucket(clientLimit)).tryAcquire(System.nanoTime());
+        if (wait > 0) throttled.increment();
+        return wait;
+    }
+
+    /**
+     * Answer a message, streaming tokens to the listener
+     */
+    public void ask(String message, Listener listener) {
+        String key = normalize(message);
+        boolean cacheable = key.length() <= MAX_CACHED_PROMPT;
+
+        if (cacheable) {
+            CachedAnswer cached = cache.get(key);
+            if (cached != null && cached.expiresAt - System.nanoTime() > 0) {
+                cacheHits.increment();
+                deliverCached(cached.text, listener);
+                return;
+            }
+        }
+
+        InFlight call = new InFlight();
+        InFlight existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            existing.subscribe(listener);
+            return;
+        }
+        call.subscribe(listener);
+
+        if (cacheable) {
+            // A call for this key may have finished between the cache check and putIfAbsent
+            CachedAnswer cached = cache.get(key);
+            if (cached != null && cached.expiresAt - System.nanoTime() > 0) {
+                cacheHits.increment();
+                inFlight.remove(key, call);
+                call.token(cached.text);
+                call.complete();
+                return;
+            }
+        }
+
+        try {
+            upstream.execute(() -> run(key, message, call, cacheable));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, call);
+            call.fail(new IllegalStateException("The assistant is busy, please try again shortly", e));
+        }
+    }
+
+    /**
+     * Future-returning convenience wrapper around {@link #ask(String, Listener)}; completes with the full answer
+     */
+    public CompletableFuture<String> ask(String message) {
+        CompletableFuture<String> answer = new CompletableFuture<>();
+        ask(message, new Listener() {
+            @Override
+            public void onToken(String text) {
+            }
+
+            @Override
+            public void onComplete(String text) {
+                answer.complete(text);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                answer.completeExceptionally(error);
+            }
+        });
+        return answer;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cacheHits", cacheHits.sum());
+        stats.put("coalesced", coalesced.sum());
+        stats.put("upstreamCalls", upstreamCalls.sum());
+        stats.put("upstreamErrors", upstreamErrors.sum());
+        stats.put("slowListenersDropped", slowListeners.sum());
+        stats.put("throttled", throttled.sum());
+        stats.put("clients", clientBuckets.size());
+        stats.put("cachedAnswers", cache.size());
+        stats.put("inFlight", inFlight.size());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        upstream.shutdownNow();
+        delivery.shutdownNow();
+    }
+
+    private void run(String key, String message, InFlight call, boolean cacheable) {
+        upstreamCalls.increment();
+        try {
+            backend.generate(SYSTEM_INSTRUCTION, message.trim(), call::token);
+            String answer = call.answerSoFar();
+            // Cache before leaving the in-flight map; ask() re-checks the cache after winning
+            // putIfAbsent, so a request racing this removal cannot start a second call
+            if (cacheable && !answer.isBlank()) {
+                cache.put(key, new CachedAnswer(answer, System.nanoTime() + ttlNanos));
+            }
+            call.complete();
+        } catch (Exception e) {
+            upstreamErrors.increment();
+            log.warn("Chat backend call failed: {}", e.getMessage());
+            call.fail(e);
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private static void deliverCached(String text, Listener listener) {
+        try {
+            listener.onToken(text);
+            listener.onComplete(text);
+        } catch (Exception e) {
+            log.debug("Chat listener failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Cache key for a prompt: "What are OJT requirements?" and "what are  ojt requirements" match
+     */
+    static String normalize(String message) {
+        String text = Normalizer.normalize(message == null ? "" : message, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .trim();
+        int end = text.length();
+        while (end > 0 && ".?!".indexOf(text.charAt(end - 1)) >= 0) end--;
+        return text.substring(0, end).trim();
+    }
+
+    private static final class CachedAnswer {
+        final String text;
+        final long expiresAt;
+
+        CachedAnswer(String text, long expiresAt) {
+            this.text = text;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * One upstream call shared by every listener asking the same question. Only appends to
+     * each listener's pending text while holding its lock; the writes happen on delivery threads.
+     */
+    private final class InFlight {
+        private final StringBuilder answer = new StringBuilder();
+        private final List<Subscription> subscriptions = new ArrayList<>();
+        private boolean done;
+        private Throwable error;
+
+        synchronized void subscribe(Listener listener) {
+            Subscription subscription = new Subscription(listener);
+            if (answer.length() > 0) subscription.catchUp(answer.toString());
+            if (!done) {
+                subscriptions.add(subscription);
+            } else if (error != null) {
+                subscription.finish(null, error);
+            } else {
+                subscription.finish(answer.toString(), null);
+            }
+        }
+
+        synchronized void token(String text) {
+            answer.append(text);
+            subscriptions.removeIf(s -> !s.token(text));
+        }
+
+        synchronized String answerSoFar() {
+            return answer.toString();
+        }
+
+        synchronized void complete() {
+            done = true;
+            String text = answer.toString();
+            subscriptions.forEach(s -> s.finish(text, null));
+            subscriptions.clear();
+        }
+
+        synchronized void fail(Throwable e) {
+            done = true;
+            error = e;
+            subscriptions.forEach(s -> s.finish(null, e));
+            subscriptions.clear();
+        }
+    }
+
+    /**
+     * Text not yet written to one listener, drained by at most one delivery task at a time
+     */
+    private final class Subscription {
+        private final Listener listener;
+        private final StringBuilder pending = new StringBuilder();
+        private boolean finished;
+        private String finalAnswer;
+        private Throwable finalError;
+        private boolean closed;
+        private boolean scheduled;
+
+        Subscription(Listener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * @return false once the listener is gone or too far behind to keep
+         */
+        synchronized boolean token(String text) {
+            if (closed || finished) return false;
+            if (pending.length() > 0 && pending.length() + text.length() > maxPendingChars) {
+                slowListeners.increment();
+                log.debug("Dropping chat listener {} chars behind", pending.length());
+                pending.setLength(0);
+                finish(null, new IllegalStateException("Chat client fell too far behind"));
+                return false;
+            }
+            pending.append(text);
+            schedule();
+            return true;
+        }
+
+        /**
+         * Text generated before this listener joined; not counted against the backlog limit
+         */
+        synchronized void catchUp(String text) {
+            pending.append(text);
+            schedule();
+        }
+
+        synchronized void finish(String answer, Throwable error) {
+            if (closed || finished) return;
+            finished = true;
+            finalAnswer = answer;
+            finalError = error;
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled) return;
+            scheduled = true;
+            try {
+                delivery.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                closed = true;
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                String text;
+                boolean last;
+                synchronized (this) {
+                    text = pending.length() > 0 ? pending.toString() : null;
+                    pending.setLength(0);
+                    last = text == null && finished;
+                    if (closed || (text == null && !finished)) {
+                        scheduled = false;
+                        return;
+                    }
+                    if (last) closed = true;
+                }
+                boolean delivered;
+                if (text != null) {
+                    delivered = deliver(listener, l -> l.onToken(text));
+                } else if (finalError != null) {
+                    delivered = deliver(listener, l -> l.onError(finalError));
+                } else {
+                    delivered = deliver(listener, l -> l.onComplete(finalAnswer));
+                }
+                if (!delivered || last) {
+                    synchronized (this) {
+                        closed = true;
+                        pending.setLength(0);
+                        scheduled = false;
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * A listener that throws (e.g. the browser disconnected) is dropped; the call goes on for the rest
+     */
+    private static boolean deliver(Listener listener, Callback callback) {
+        try {
+            callback.call(listener);
+            return true;
+        } catch (Exception e) {
+            log.debug("Dropping chat listener: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Callback {
+        void call(Listener listener) throws Exception;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.hustled.service;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * A language model that ChatGatewayService forwards prompts to.
+ * The implementation is chosen with hustled.chat.backend (stub or gemini).
+ */
+public interface ChatModelBackend {
+
+    /**
+     * Generate an answer, passing each text fragment to onToken as it arrives.
+     * Blocks until the answer is complete.
+     */
+    void generate(String systemInstruction, String prompt, Consumer<String> onToken) throws IOException;
+}
@@ -0,0 +1,107 @@
+package com.example.hustled.service;
+
+import com.example.hustled.entity.Job;
+import com.example.hustled.entity.User;
+import com.example.hustled.model.CandidateProfile;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Second-level cache housekeeping.
+ *
+ * Writes that go through the EntityManager keep the READ_WRITE regions in ehcache.xml up to
+ * date on commit. Anything that changes users, jobs or candidate_profiles with plain JDBC or
+ * native SQL must evict here, otherwise readers keep seeing the cached row until it expires.
+ * Other nodes' writes arrive through {@link InvalidationBus}; they also drop the cached query
+ * results, since this node's query cache cannot see a peer's table updates.
+ */
+@Service
+@Order(0)
+public class EntityCacheEvictor implements InvalidationListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public EntityCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public void evictJob(Long id) {
+        evict(Job.class, id);
+    }
+
+    public void evictUser(Long id) {
+        evict(User.class, id);
+    }
+
+    public void evictProfile(Long id) {
+        evict(CandidateProfile.class, id);
+    }
+
+    @Override
+    public void onInvalidate(String region, Collection<Long> ids, boolean remote) {
+        // Local writes went through the EntityManager, which already updated the regions
+        if (!remote) return;
+        switch (region) {
+            case InvalidationBus.JOB -> ids.forEach(this::evictJob);
+            case InvalidationBus.USER -> ids.forEach(this::evictUser);
+            case InvalidationBus.PROFILE -> ids.forEach(this::evictProfile);
+            default -> { return; }
+        }
+        sessionFactory().getCache().evictQueryRegions();
+    }
+
+    /**
+     * Drop an entity type and every cached query result, e.g. after a bulk native update
+     */
+    public void evictAll(Class<?> entityType) {
+        sessionFactory().getCache().evictEntityData(entityType);
+        sessionFactory().getCache().evictQueryRegions();
+    }
+
+    /**
+     * Hit/miss/put counters per region for the admin metrics endpoint
+     */
+    public Map<String, Object> regionStats() {
+        Statistics statistics = sessionFactory().getStatistics();
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String name : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+            if (region == null) continue;
+            Map<String, Object> stats = new LinkedHashMap<>();
+            long hits = region.getHitCount();
+            long misses = region.getMissCount();
+            stats.put("hits", hits);
+            stats.put("misses", misses);
+            stats.put("puts", region.getPutCount());
+            stats.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+            stats.put("elementsInMemory", region.getElementCountInMemory());
+            regions.put(name, stats);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        result.put("regions", regions);
+        result.put("queryCacheHits", statistics.getQueryCacheHitCount());
+        result.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+        result.put("queryCachePuts", statistics.getQueryCachePutCount());
+        result.put("entityLoads", statistics.getEntityLoadCount());
+        result.put("queriesExecuted", statistics.getQueryExecutionCount());
+        return result;
+    }
+
+    private void evict(Class<?> entityType, Long id) {
+        if (id != null) entityManagerFactory.getCache().evict(entityType, id);
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.hustled.service;
+
+import com.example.hustled.util.Csv;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Streams large result sets straight from JDBC to a response body.
+ *
+ * Rows are read through a forward-only, read-only cursor and written as they arrive, without
+ * entities or a persistence context, so memory use does not grow with the export size. MySQL
+ * Connector/J only streams when the fetch size is Integer.MIN_VALUE; other drivers get the
+ * configured fetch size. The read runs in a read-only transaction so it can use a replica.
+ *
+ * The cursor holds a database connection for as long as the client keeps downloading, so an
+ * export is cut off after max-rows rows or max-duration, whichever comes first. The response is
+ * then aborted instead of completed, so the client cannot mistake a partial file for a whole one.
+ */
+@Service
+public class ExportService {
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private static final String JOBS_SQL =
+            "SELECT j.id, j.title, j.company, j.location, j.description, j.status, j.application_deadline, j.created_at, j.updated_at, " +
+            "u.username AS posted_by " +
+            "FROM jobs j LEFT JOIN users u ON u.id = j.posted_by ORDER BY j.id";
+
+    private static final String APPLICANTS_SQL =
+            "SELECT a.id AS application_id, a.applied_date, a.status, c.id AS candidate_id, " +
+            "c.first_name, c.last_name, u.email, c.phone, c.city, c.province, c.headline " +
+            "FROM job_applications a " +
+            "JOIN candidate_profiles c ON c.id = a.candidate_id " +
+            "JOIN users u ON u.id = c.user_id " +
+            "WHERE a.job_id = ? ORDER BY a.id";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTx;
+    private final int fetchSize;
+    private final int maxRows;
+    private final Duration maxDuration;
+    private final ObjectMapper objectMapper;
+
+    public ExportService(JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper,
+                         @Value("${hustled.export.fetch-size:500}") int fetchSize,
+                         @Value("${hustled.export.max-rows:2000000}") int maxRows,
+                         @Value("${hustled.export.max-duration:5m}") Duration maxDuration) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.maxRows = maxRows;
+        this.maxDuration = maxDuration;
+    }
+
+    public static Format parseFormat(String value) {
+        if (value == null || value.isBlank()) return Format.CSV;
+        return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public void exportJobs(Format format, OutputStream out) throws IOException {
+        stream(JOBS_SQL, new Object[0], format, out);
+    }
+
+    public void exportApplicants(Long jobId, Format format, OutputStream out) throws IOException {
+        stream(APPLICANTS_SQL, new Object[] { jobId }, format, out);
+    }
+
+    private void stream(String sql, Object[] args, Format format, OutputStream out) throws IOException {
+        RowWriter writer = format == Format.CSV
+                ? new CsvRowWriter(out)
+                : new NdjsonRowWriter(objectMapper.createGenerator(new BufferedOutputStream(out, BUFFER_SIZE)));
+        long deadline = System.nanoTime() + maxDuration.toNanos();
+        try {
+            readOnlyTx.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(isMySql(con) ? Integer.MIN_VALUE : fetchSize);
+                // One row past the limit tells a cut-off export from one that fits exactly
+                ps.setMaxRows(maxRows == Integer.MAX_VALUE ? 0 : maxRows + 1);
+                for (int i = 0; i < args.length; i++) {
+                    ps.setObject(i + 1, args[i]);
+                }
+                return ps;
+            }, (ResultSetExtractor<Void>) rs -> {
+                // The header comes from the metadata, so an empty export still has one
+                writer.start(rs.getMetaData());
+                long rows = 0;
+                while (rs.next()) {
+                    if (++rows > maxRows) {
+                        throw new IllegalStateException("Export stopped after " + maxRows + " rows");
+                    }
+                    if ((rows & 1023) == 0 && System.nanoTime() - deadline > 0) {
+                        // Closing a MySQL streaming result set reads it to the end unless the query is cancelled
+                        rs.getStatement().cancel();
+                        throw new IllegalStateException("Export stopped after " + maxDuration.toSeconds() + " s");
+                    }
+                    writer.row(rs);
+                }
+                return null;
+            }));
+        } catch (UncheckedIOException e) {
+            // Client went away mid-download; unwrap so the container sees the I/O error
+            throw e.getCause();
+        }
+        writer.close();
+    }
+
+    private static boolean isMySql(Connection con) throws SQLException {
+        return con.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+    }
+
+    private interface RowWriter {
+        void start(ResultSetMetaData meta) throws SQLException;
+
+        void row(ResultSet rs) throws SQLException;
+
+        void close() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer out;
+        private String[] fields;
+
+        CsvRowWriter(OutputStream out) {
+            this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        }
+
+        @Override
+        public void start(ResultSetMetaData meta) throws SQLException {
+            fields = new String[meta.getColumnCount()];
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = meta.getColumnLabel(i + 1).toLowerCase(Locale.ROOT);
+            }
+            try {
+                Csv.writeRow(out, fields);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void row(ResultSet rs) throws SQLException {
+            try {
+                for (int i = 0; i < fields.length; i++) {
+                    fields[i] = rs.getString(i + 1);
+                }
+                Csv.writeRow(out, fields);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator json;
+        private String[] labels;
+
+        NdjsonRowWriter(JsonGenerator json) {
+            // One object per line; the newline is written explicitly after each row
+            this.json = json.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void start(ResultSetMetaData meta) throws SQLException {
+            labels = new String[meta.getColumnCount()];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = meta.getColumnLabel(i + 1).toLowerCase(Locale.ROOT);
+            }
+        }
+
+        @Override
+        public void row(ResultSet rs) throws SQLException {
+            try {
+                json.writeStartObject();
+                for (int i = 0; i < labels.length; i++) {
+                    json.writeFieldName(labels[i]);
+                    Object value = rs.getObject(i + 1);
+                    if (value instanceof Timestamp) value = ((Timestamp) value).toLocalDateTime();
+                    json.writeObject(value);
+                }
+                json.writeEndObject();
+                json.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            json.flush();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.hustled.service;
+
+import com.example.hustled.entity.FileUpload;
+import com.example.hustled.entity.StoredFile;
+import com.example.hustled.repository.FileUploadRepository;
+import com.example.hustled.repository.StoredFileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed file store for resumes, photos and message attachments.
+ *
+ * Uploads are copied in fixed-size chunks to a temp file while their SHA-256 is computed, then
+ * moved to root/ab/cd/&lt;hash&gt;. Nothing is held in the heap beyond the copy buffer. When
+ * the hash already exists the temp file is discarded, so identical uploads share one file and
+ * one stored_files row. Files are immutable once stored. Every upload also gets its own
+ * file_uploads row with the uploader and the name they used, which is what access checks and
+ * download names go by.
+ */
+@Service
+public class FileStorageService {
+
+    private static final Logger log = LoggerFactory.getLogger(FileStorageService.class);
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    public static final Set<String> ALLOWED_TYPES = Set.of(
+            "application/pdf",
+            "application/msword",
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+            "text/plain",
+            "image/png",
+            "image/jpeg",
+            "image/gif",
+            "image/webp");
+
+    private final StoredFileRepository repo;
+    private final FileUploadRepository uploads;
+    private final Path root;
+    private final Path tmp;
+    private final long maxBytes;
+
+    public FileStorageService(StoredFileRepository repo,
+                              FileUploadRepository uploads,
+                              @Value("${hustled.storage.root:data/files}") String root,
+                              @Value("${hustled.storage.max-file-size:20MB}") DataSize maxFileSize) throws IOException {
+        this.repo = repo;
+        this.uploads = uploads;
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.tmp = this.root.resolve("tmp");
+        this.maxBytes = maxFileSize.toBytes();
+        Files.createDirectories(tmp);
+        log.info("File storage at {}", this.root);
+    }
+
+    public static boolean isValidHash(String hash) {
+        return hash != null && HASH.matcher(hash).matches();
+    }
+
+    /**
+     * Stream an upload into the store and return its (possibly pre-existing) metadata
+     *
+     * @throws IllegalArgumentException for a disallowed content type or an oversized file
+     */
+    public StoredFile store(InputStream in, String originalName, String contentType, Long uploadedBy) throws IOException {
+        String type = normalizeType(contentType);
+        if (!ALLOWED_TYPES.contains(type)) {
+            throw new IllegalArgumentException("Unsupported file type: " + contentType);
+        }
+
+        Path temp = Files.createTempFile(tmp, "upload-", ".part");
+        try {
+            MessageDigest sha256 = sha256();
+            long size = 0;
+            try (DigestInputStream digest = new DigestInputStream(in, sha256);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int n;
+                while ((n = digest.read(buffer)) != -1) {
+                    size += n;
+                    if (size > maxBytes) {
+                        throw new IllegalArgumentException("File exceeds " + maxBytes + " bytes");
+                    }
+                    out.write(buffer, 0, n);
+                }
+            }
+            if (size == 0) {
+                throw new IllegalArgumentException("File is empty");
+            }
+
+            String hash = HexFormat.of().formatHex(sha256.digest());
+            Path target = pathFor(hash);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // A concurrent upload of the same bytes won; its copy is identical
+                }
+            }
+            StoredFile stored = register(hash, size, type);
+            recordUpload(hash, originalName, uploadedBy);
+            return stored;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public Optional<StoredFile> find(String hash) {
+        return isValidHash(hash) ? repo.findById(hash) : Optional.empty();
+    }
+
+    /**
+     * Whether a user may download a non-image file, and through whose upload: their own, the
+     * file linked from their candidate profile, or a file a candidate sent with an application
+     * to one of their jobs. Images are public (photos and logos appear on public pages) and are
+     * not checked here.
+     *
+     * @return the user whose upload grants access, or empty when the user may not read the file
+     */
+    public Optional<Long> readableThrough(String hash, Long userId) {
+        if (userId == null || !isValidHash(hash)) return Optional.empty();
+        if (uploads.existsByHashAndUploadedBy(hash, userId)) return Optional.of(userId);
+        String url = urlFor(hash);
+        if (uploads.isLinkedFromProfileOf(url, userId)) return Optional.of(userId);
+        List<Long> applicants = uploads.findApplicantsSharing(url, userId);
+        return applicants.isEmpty() ? Optional.empty() : Optional.of(applicants.get(0));
+    }
+
+    /**
+     * The name a user gave the file when they last uploaded it
+     */
+    public Optional<String> originalName(String hash, Long uploadedBy) {
+        if (uploadedBy == null) return Optional.empty();
+        return uploads.findFirstByHashAndUploadedByOrderByIdDesc(hash, uploadedBy).map(FileUpload::getOriginalName);
+    }
+
+    /**
+     * Where the bytes for a hash live: root/ab/cd/abcd...
+     */
+    public Path pathFor(String hash) {
+        if (!isValidHash(hash)) throw new IllegalArgumentException("Invalid file hash");
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    public static String urlFor(String hash) {
+        return "/api/files/" + hash;
+    }
+
+    private StoredFile register(String hash, long size, String type) {
+        Optional<StoredFile> existing = repo.findById(hash);
+        if (existing.isPresent()) return existing.get();
+
+        StoredFile file = new StoredFile();
+        file.setHash(hash);
+        file.setSize(size);
+        file.setContentType(type);
+        file.setCreatedAt(LocalDateTime.now());
+        try {
+            return repo.save(file);
+        } catch (DataIntegrityViolationException e) {
+            return repo.findById(hash).orElseThrow(() -> e);
+        }
+    }
+
+    private void recordUpload(String hash, String originalName, Long uploadedBy) {
+        FileUpload upload = new FileUpload();
+        upload.setHash(hash);
+        upload.setUploadedBy(uploadedBy);
+        upload.setOriginalName(baseName(originalName));
+        upload.setCreatedAt(LocalDateTime.now());
+        uploads.save(upload);
+    }
+
+    /**
+     * Browsers may send a full client path; keep only the last segment, capped to the column size
+     */
+    private static String baseName(String name) {
+        if (name == null) return null;
+        String base = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1).trim();
+        return base.length() > 255 ? base.substring(base.length() - 255) : base;
+    }
+
+    private static String normalizeType(String contentType) {
+        if (contentType == null) return "";
+        int semicolon = contentType.indexOf(';');
+        return (semicolon >= 0 ? contentType.substring(0, semicolon) : contentType).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
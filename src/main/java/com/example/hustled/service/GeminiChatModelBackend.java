@@ -0,0 +1,96 @@
+package com.example.hustled.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Google Gemini over its REST streaming endpoint (the same model the Flask jobzilla-api used),
+ * reading server-sent events so tokens reach the browser as soon as Gemini produces them.
+ */
+@Service
+@ConditionalOnProperty(name = "hustled.chat.backend", havingValue = "gemini")
+public class GeminiChatModelBackend implements ChatModelBackend {
+
+    private static final String ENDPOINT =
+            "https://generativelanguage.googleapis.com/v1beta/models/%s:streamGenerateContent?alt=sse";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String apiKey;
+    private final String model;
+    private final Duration timeout;
+
+    public GeminiChatModelBackend(ObjectMapper objectMapper,
+                                  @Value("${hustled.chat.gemini.api-key:${GEMINI_API_KEY:}}") String apiKey,
+                                  @Value("${hustled.chat.gemini.model:gemini-2.5-flash}") String model,
+                                  @Value("${hustled.chat.gemini.timeout:60s}") Duration timeout) {
+        if (apiKey == null || apiKey.isBlank()) {
+            throw new IllegalStateException("hustled.chat.backend=gemini requires GEMINI_API_KEY");
+        }
+        this.objectMapper = objectMapper;
+        this.apiKey = apiKey;
+        this.model = model;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @Override
+    public void generate(String systemInstruction, String prompt, Consumer<String> onToken) throws IOException {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.putObject("system_instruction").putArray("parts").addObject().put("text", systemInstruction);
+        ObjectNode content = body.putArray("contents").addObject();
+        content.put("role", "user");
+        content.putArray("parts").addObject().put("text", prompt);
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(String.format(ENDPOINT, URLEncoder.encode(model, StandardCharsets.UTF_8))))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .header("x-goog-api-key", apiKey)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+
+        HttpResponse<Stream<String>> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Gemini request interrupted");
+        }
+
+        try (Stream<String> lines = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("Gemini returned HTTP " + response.statusCode());
+            }
+            Iterator<String> it = lines.iterator();
+            while (it.hasNext()) {
+                String line = it.next();
+                if (!line.startsWith("data:")) continue;
+                JsonNode parts = objectMapper.readTree(line.substring(5)).path("candidates").path(0).path("content").path("parts");
+                for (JsonNode part : parts) {
+                    String text = part.path("text").asText("");
+                    if (!text.isEmpty()) onToken.accept(text);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.hustled.service;
+
+import com.example.hustled.event.DomainEvent;
+import com.example.hustled.event.DomainEventSubscriber;
+import com.example.hustled.event.JobSnapshot;
+import com.example.hustled.event.ProfileSaved;
+import com.example.hustled.model.CandidateProfile;
+import com.example.hustled.repository.CandidateProfileRepository;
+import com.example.hustled.repository.JobRepository;
+import com.example.hustled.util.GeoGridIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Radius and nearest-neighbour search over jobs and candidate profiles.
+ *
+ * Free-text locations are mapped to coordinates by {@link LocationNormalizer} and kept in two
+ * in-memory {@link GeoGridIndex} instances. Jobs are patched through {@link JobChangeListener};
+ * profiles are patched from {@link ProfileSaved} events after each committed save.
+ */
+@Service
+public class GeoSearchService implements JobChangeListener, DomainEventSubscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(GeoSearchService.class);
+
+    /** Largest search radius the web endpoints accept */
+    public static final double MAX_RADIUS_KM = 500;
+
+    private final JobRepository jobRepo;
+    private final CandidateProfileRepository profileRepo;
+    private final LocationNormalizer normalizer;
+    private final GeoGridIndex<Long> jobIndex;
+    private final GeoGridIndex<Long> candidateIndex;
+
+    public GeoSearchService(JobRepository jobRepo,
+                            CandidateProfileRepository profileRepo,
+                            LocationNormalizer normalizer,
+                            @Value("${hustled.geo.cell-degrees:0.1}") double cellDegrees) {
+        this.jobRepo = jobRepo;
+        this.profileRepo = profileRepo;
+        this.normalizer = normalizer;
+        this.jobIndex = new GeoGridIndex<>(cellDegrees);
+        this.candidateIndex = new GeoGridIndex<>(cellDegrees);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        jobIndex.clear();
+        candidateIndex.clear();
+        jobRepo.findAll().forEach(job -> onJobSaved(JobSnapshot.of(job)));
+        profileRepo.findAll().forEach(this::onProfileSaved);
+        log.info("Geo index built: {} jobs, {} candidates located", jobIndex.size(), candidateIndex.size());
+    }
+
+    public LocationNormalizer.Place resolve(String text) {
+        return normalizer.resolve(text);
+    }
+
+    public List<GeoGridIndex.Hit<Long>> jobsWithin(double lat, double lon, double radiusKm) {
+        return jobIndex.withinRadius(lat, lon, radiusKm);
+    }
+
+    public List<GeoGridIndex.Hit<Long>> nearestJobs(double lat, double lon, int k, double maxKm) {
+        return jobIndex.nearest(lat, lon, k, maxKm);
+    }
+
+    public List<GeoGridIndex.Hit<Long>> candidatesWithin(double lat, double lon, double radiusKm) {
+        return candidateIndex.withinRadius(lat, lon, radiusKm);
+    }
+
+    @Override
+    public void onJobSaved(JobSnapshot job) {
+        LocationNormalizer.Place place = normalizer.resolve(job.getLocation());
+        if (place == null) {
+            jobIndex.remove(job.getId());
+        } else {
+            jobIndex.put(job.getId(), place.getLatitude(), place.getLongitude());
+        }
+    }
+
+    @Override
+    public void onJobDeleted(Long jobId) {
+        jobIndex.remove(jobId);
+    }
+
+    @Override
+    public Set<Class<? extends DomainEvent>> eventTypes() {
+        return Set.of(ProfileSaved.class);
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        ProfileSaved saved = (ProfileSaved) event;
+        locate(saved.getProfileId(), saved.getCity(), saved.getProvince(), saved.getPostalCode());
+    }
+
+    public void onProfileSaved(CandidateProfile profile) {
+        if (profile == null) return;
+        locate(profile.getId(), profile.getCity(), profile.getProvince(), profile.getPostalCode());
+    }
+
+    private void locate(Long profileId, String city, String province, String postalCode) {
+        if (profileId == null) return;
+        LocationNormalizer.Place place = normalizer.resolve(city, province, postalCode);
+        if (place == null) {
+            candidateIndex.remove(profileId);
+        } else {
+            candidateIndex.put(profileId, place.getLatitude(), place.getLongitude());
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.hustled.service;
+
+import com.example.hustled.entity.StoredFile;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resized variants of uploaded photos and logos, generated with javax.imageio and Java2D.
+ *
+ * Every image upload queues its variants on a small bounded executor; when the queue is full
+ * the work is simply dropped and done lazily on first request instead. Requested sizes snap
+ * to the configured ladder so the disk cache holds at most a few files per image, stored
+ * next to the original as ab/cd/&lt;hash&gt;_&lt;size&gt;.&lt;ext&gt;. Concurrent requests for a missing
+ * variant wait on a single generation.
+ */
+@Service
+public class ImageDerivativeService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageDerivativeService.class);
+
+    /** Refuse to decode anything larger than this many pixels (decompression bombs) */
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+
+    private final FileStorageService storage;
+    private final int[] sizes;
+    private final ThreadPoolExecutor executor;
+    private final ConcurrentMap<Path, CompletableFuture<Path>> generating = new ConcurrentHashMap<>();
+    private final LongAdder generated = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public ImageDerivativeService(FileStorageService storage,
+                                  @Value("${hustled.images.sizes:64,128,256,512}") int[] sizes,
+                                  @Value("${hustled.images.threads:2}") int threads,
+                                  @Value("${hustled.images.queue:200}") int queue) {
+        this.storage = storage;
+        this.sizes = Arrays.stream(sizes).sorted().toArray();
+        AtomicInteger threadId = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queue),
+                r -> {
+                    Thread t = new Thread(r, "image-derivative-" + threadId.incrementAndGet());
+                    t.setDaemon(true);
+                    t.setPriority(Thread.NORM_PRIORITY - 1);
+                    return t;
+                },
+                (r, pool) -> dropped.increment());
+    }
+
+    public static boolean isResizable(String contentType) {
+        return "image/jpeg".equals(contentType) || "image/png".equals(contentType) || "image/gif".equals(contentType);
+    }
+
+    /**
+     * Queue every size for a freshly uploaded image
+     */
+    public void scheduleDerivatives(StoredFile file) {
+        if (!isResizable(file.getContentType())) return;
+        for (int size : sizes) {
+            executor.execute(() -> {
+                try {
+                    derivative(file, size);
+                } catch (IOException e) {
+                    log.warn("Could not resize {} to {}: {}", file.getHash(), size, e.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * Smallest configured size at least as large as requested (or the largest one)
+     */
+    public int snap(int requested) {
+        for (int size : sizes) {
+            if (size >= requested) return size;
+        }
+        return sizes[sizes.length - 1];
+    }
+
+    /**
+     * Path of the variant, generating it now if it is not cached yet
+     */
+    public Path derivative(StoredFile file, int requestedSize) throws IOException {
+        int size = snap(requestedSize);
+        Path original = storage.pathFor(file.getHash());
+        Path target = original.resolveSibling(file.getHash() + "_" + size + "." + extension(file.getContentType()));
+        if (Files.exists(target)) return target;
+
+        CompletableFuture<Path> mine = new CompletableFuture<>();
+        CompletableFuture<Path> running = generating.putIfAbsent(target, mine);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            if (!Files.exists(target)) {
+                resize(original, target, size, file.getContentType());
+                generated.increment();
+            }
+            mine.complete(target);
+            return target;
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            generating.remove(target, mine);
+        }
+    }
+
+    public long generatedCount() {
+        return generated.sum();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static Path await(CompletableFuture<Path> future) throws IOException {
+        try {
+            return future.get(30, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IOException("Timed out waiting for image resize", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting for image resize", e);
+        }
+    }
+
+    private static void resize(Path source, Path target, int size, String contentType) throws IOException {
+        BufferedImage image = read(source, size);
+        int w = image.getWidth();
+        int h = image.getHeight();
+        double scale = Math.min(1.0, (double) size / Math.max(w, h));
+        int tw = Math.max(1, (int) Math.round(w * scale));
+        int th = Math.max(1, (int) Math.round(h * scale));
+
+        boolean jpeg = "image/jpeg".equals(contentType);
+        // Halve repeatedly, then a final bilinear step: much sharper than one big downscale
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= tw && current.getHeight() / 2 >= th) {
+            current = scale(current, current.getWidth() / 2, current.getHeight() / 2, jpeg);
+        }
+        if (current.getWidth() != tw || current.getHeight() != th) {
+            current = scale(current, tw, th, jpeg);
+        }
+
+        Path temp = Files.createTempFile(target.getParent(), ".resize-", ".tmp");
+        try {
+            write(current, temp, jpeg);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Decode with source subsampling so a 6000px photo never becomes a full-size bitmap
+     */
+    private static BufferedImage read(Path source, int size) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) throw new IOException("Unsupported image format");
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int w = reader.getWidth(0);
+                int h = reader.getHeight(0);
+                if ((long) w * h > MAX_SOURCE_PIXELS) throw new IOException("Image too large: " + w + "x" + h);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(w, h) / (size * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage image = reader.read(0, param);
+                if (image == null) throw new IOException("Could not decode image");
+                return image;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage src, int w, int h, boolean opaque) {
+        BufferedImage out = new BufferedImage(w, h, opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(src, 0, 0, w, h, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    private static void write(BufferedImage image, Path target, boolean jpeg) throws IOException {
+        if (!jpeg) {
+            if (!ImageIO.write(image, "png", target.toFile())) throw new IOException("No PNG writer");
+            return;
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(0.85f);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    public static String contentTypeOf(String originalContentType) {
+        return "image/jpeg".equals(originalContentType) ? "image/jpeg" : "image/png";
+    }
+
+    private static String extension(String contentType) {
+        return "image/jpeg".equals(contentType) ? "jpg" : "png";
+    }
+}
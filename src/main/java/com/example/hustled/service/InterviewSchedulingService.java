@@ -0,0 +1,372 @@
+package com.example.hustled.service;
+
+import com.example.hustled.config.ReadYourWritesTracker;
+import com.example.hustled.dto.TimeSlotDTO;
+import com.example.hustled.entity.ApplicationStatus;
+import com.example.hustled.entity.Interview;
+import com.example.hustled.entity.InterviewStatus;
+import com.example.hustled.entity.Job;
+import com.example.hustled.entity.JobApplication;
+import com.example.hustled.entity.User;
+import com.example.hustled.repository.CandidateProfileRepository;
+import com.example.hustled.repository.InterviewRepository;
+import com.example.hustled.repository.JobApplicationRepository;
+import com.example.hustled.repository.JobRepository;
+import com.example.hustled.repository.UserRepository;
+import com.example.hustled.util.IntervalTree;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Books interviews without double-booking an interviewer.
+ *
+ * Booking is decided by the database: the transaction locks the interviewer's users row
+ * (SELECT ... FOR UPDATE) and then looks for an overlapping scheduled interview, so two
+ * bookings for one interviewer serialise on every node. Free/busy and next-free-slot queries
+ * are answered from an in-memory {@link IntervalTree} per interviewer, loaded on first use
+ * and patched after each local booking and cancellation. Calendars idle for longer than
+ * hustled.interviews.idle-ms are dropped and reloaded on next use, which also forgets past
+ * interviews and picks up other nodes' writes.
+ */
+@Service
+public class InterviewSchedulingService {
+
+    public static final int MIN_DURATION_MINUTES = 15;
+    public static final int MAX_DURATION_MINUTES = 8 * 60;
+    private static final int MAX_SEARCH_DAYS = 90;
+
+    private final InterviewRepository interviewRepo;
+    private final JobApplicationRepository applicationRepo;
+    private final JobRepository jobRepo;
+    private final UserRepository userRepo;
+    private final CandidateProfileRepository profileRepo;
+    private final ApplicationService applicationService;
+    private final ReadYourWritesTracker readYourWrites;
+    private final TransactionTemplate tx;
+    private final LocalTime dayStart;
+    private final LocalTime dayEnd;
+    private final long idleMillis;
+
+    private final Map<Long, Calendar> calendars = new ConcurrentHashMap<>();
+
+    public InterviewSchedulingService(InterviewRepository interviewRepo,
+                                      JobApplicationRepository applicationRepo,
+                                      JobRepository jobRepo,
+                                      UserRepository userRepo,
+                                      CandidateProfileRepository profileRepo,
+                                      ApplicationService applicationService,
+                                      ReadYourWritesTracker readYourWrites,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${hustled.interviews.day-start:09:00}") String dayStart,
+                                      @Value("${hustled.interviews.day-end:18:00}") String dayEnd,
+                                      @Value("${hustled.interviews.idle-ms:3600000}") long idleMillis) {
+        this.dayStart = LocalTime.parse(dayStart);
+        this.dayEnd = LocalTime.parse(dayEnd);
+        if (!this.dayEnd.isAfter(this.dayStart)) {
+            throw new IllegalArgumentException("hustled.interviews.day-end must be after day-start");
+        }
+        this.interviewRepo = interviewRepo;
+        this.applicationRepo = applicationRepo;
+        this.jobRepo = jobRepo;
+        this.userRepo = userRepo;
+        this.profileRepo = profileRepo;
+        this.applicationService = applicationService;
+        this.readYourWrites = readYourWrites;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.idleMillis = idleMillis;
+    }
+
+    /**
+     * Book an interview for an application; only the employer who posted the job may do this,
+     * on their own calendar. A fresh application moves to Interview Scheduled in the same transaction.
+     *
+     * @throws NoSuchElementException when the application does not exist
+     * @throws IllegalArgumentException when the slot is in the past, the duration is out of range
+     *         or the interviewer is not the employer
+     * @throws SlotTakenException when the interviewer already has an overlapping interview
+     */
+    public Interview schedule(Long applicationId, Long interviewerId, LocalDateTime start, int durationMinutes,
+                              String interviewType, String location, String notes, User actor) {
+        validate(start, durationMinutes);
+        JobApplication application = applicationRepo.findById(applicationId)
+                .orElseThrow(() -> new NoSuchElementException("Application not found"));
+        requireEmployer(application, actor);
+        Long interviewer = interviewerId != null ? interviewerId : actor.getId();
+        if (!interviewer.equals(actor.getId())) {
+            throw new IllegalArgumentException("Interviews can only be booked on the employer's own calendar");
+        }
+
+        long from = minutes(start);
+        long to = from + durationMinutes;
+        Interview saved = tx.execute(status -> {
+            userRepo.findForUpdate(interviewer)
+                    .orElseThrow(() -> new NoSuchElementException("Interviewer not found"));
+            // Anything that could reach into the slot started less than the longest duration before it
+            for (Interview booked : interviewRepo.findStartingBetween(interviewer, InterviewStatus.SCHEDULED,
+                    start.minusMinutes(MAX_DURATION_MINUTES), start.plusMinutes(durationMinutes))) {
+                long bookedFrom = minutes(booked.getInterviewDate());
+                long bookedTo = bookedFrom + booked.getDurationMinutes();
+                if (bookedFrom < to && bookedTo > from) {
+                    throw new SlotTakenException(new TimeSlotDTO(dateTime(bookedFrom), dateTime(bookedTo)));
+                }
+            }
+
+            readYourWrites.recordWrite();
+            Interview interview = new Interview();
+            interview.setApplicationId(applicationId);
+            interview.setInterviewerId(interviewer);
+            interview.setInterviewDate(start);
+            interview.setDurationMinutes(durationMinutes);
+            if (interviewType != null && !interviewType.isBlank()) interview.setInterviewType(interviewType.trim());
+            interview.setLocation(location);
+            interview.setInterviewNotes(notes);
+            interview.setStatus(InterviewStatus.SCHEDULED);
+            interview.setCreatedAt(LocalDateTime.now());
+            interview.setUpdatedAt(interview.getCreatedAt());
+            Interview result = interviewRepo.save(interview);
+
+            ApplicationStatus current = application.getStatus();
+            if (current == ApplicationStatus.APPLIED || current == ApplicationStatus.REVIEWED) {
+                applicationService.changeStatus(applicationId, ApplicationStatus.INTERVIEW_SCHEDULED, actor);
+            }
+            return result;
+        });
+
+        Calendar calendar = calendars.get(interviewer);
+        if (calendar != null) {
+            synchronized (calendar) {
+                if (calendar.tree != null) calendar.tree.insert(from, to, saved.getId(), applicationId);
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * Interviews booked for an application; only its candidate and the job's employer may see them
+     */
+    public List<Interview> forApplication(Long applicationId, User actor) {
+        JobApplication application = applicationRepo.findById(applicationId)
+                .orElseThrow(() -> new NoSuchElementException("Application not found"));
+        // candidate_id points at the candidate's profile, not their user row
+        boolean candidate = profileRepo.findByUserId(actor.getId())
+                .map(profile -> profile.getId().equals(application.getCandidateId())).orElse(false);
+        if (!candidate) {
+            requireEmployer(application, actor);
+        }
+        return interviewRepo.findByApplicationIdOrderByInterviewDateAsc(applicationId);
+    }
+
+    /**
+     * Cancel a booked interview and free its slot; the interviewer or the job's employer may do this
+     */
+    public Interview cancel(Long interviewId, User actor) {
+        Interview existing = interviewRepo.findById(interviewId)
+                .orElseThrow(() -> new NoSuchElementException("Interview not found"));
+        if (!actor.getId().equals(existing.getInterviewerId())) {
+            JobApplication application = applicationRepo.findById(existing.getApplicationId())
+                    .orElseThrow(() -> new NoSuchElementException("Application not found"));
+            requireEmployer(application, actor);
+        }
+        if (existing.getStatus() != InterviewStatus.SCHEDULED) {
+            throw new IllegalStateException("Only scheduled interviews can be cancelled");
+        }
+
+        Interview saved = tx.execute(status -> {
+            readYourWrites.recordWrite();
+            existing.setStatus(InterviewStatus.CANCELLED);
+            existing.setUpdatedAt(LocalDateTime.now());
+            return interviewRepo.save(existing);
+        });
+        Calendar calendar = existing.getInterviewerId() != null ? calendars.get(existing.getInterviewerId()) : null;
+        if (calendar != null) {
+            synchronized (calendar) {
+                if (calendar.tree != null) calendar.tree.remove(minutes(existing.getInterviewDate()), existing.getId());
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * Earliest slot of the given length that starts at or after from, falls inside working
+     * hours and does not overlap any booked interview; null if none within the search window
+     *
+     * @throws NoSuchElementException when interviewerId is not an employer
+     */
+    public TimeSlotDTO nextFreeSlot(Long interviewerId, LocalDateTime from, int durationMinutes, int searchDays) {
+        if (durationMinutes < MIN_DURATION_MINUTES || durationMinutes > MAX_DURATION_MINUTES) {
+            throw new IllegalArgumentException("durationMinutes must be between " + MIN_DURATION_MINUTES
+                    + " and " + MAX_DURATION_MINUTES);
+        }
+        if (durationMinutes > Duration.between(dayStart, dayEnd).toMinutes()) {
+            throw new IllegalArgumentException("durationMinutes is longer than the working day");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime earliest = from == null || from.isBefore(now) ? now : from;
+        // Round up to the next whole quarter hour
+        earliest = earliest.withSecond(0).withNano(0);
+        int remainder = earliest.getMinute() % 15;
+        if (remainder != 0) earliest = earliest.plusMinutes(15 - remainder);
+
+        long limit = minutes(earliest.toLocalDate().plusDays(Math.min(Math.max(searchDays, 1), MAX_SEARCH_DAYS)).atTime(dayEnd));
+        Calendar calendar = calendar(interviewerId);
+        synchronized (calendar) {
+            IntervalTree<Long> tree = calendar.tree(interviewerId);
+            long t = minutes(earliest);
+            while (t + durationMinutes <= limit) {
+                LocalDateTime candidate = dateTime(t);
+                LocalDate day = candidate.toLocalDate();
+                if (candidate.toLocalTime().isBefore(dayStart)) {
+                    t = minutes(day.atTime(dayStart));
+                    continue;
+                }
+                if (candidate.toLocalTime().plusMinutes(durationMinutes).isAfter(dayEnd)
+                        || candidate.toLocalTime().plusMinutes(durationMinutes).isBefore(candidate.toLocalTime())) {
+                    t = minutes(day.plusDays(1).atTime(dayStart));
+                    continue;
+                }
+                IntervalTree.Interval<Long> clash = tree.firstOverlap(t, t + durationMinutes);
+                if (clash == null) return new TimeSlotDTO(candidate, candidate.plusMinutes(durationMinutes));
+                t = clash.getEnd();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Booked blocks for an interviewer between two instants, ordered by start
+     *
+     * @throws NoSuchElementException when interviewerId is not an employer
+     */
+    public List<TimeSlotDTO> busy(Long interviewerId, LocalDateTime from, LocalDateTime to) {
+        Calendar calendar = calendar(interviewerId);
+        List<TimeSlotDTO> slots = new ArrayList<>();
+        synchronized (calendar) {
+            for (IntervalTree.Interval<Long> interval : calendar.tree(interviewerId).overlapping(minutes(from), minutes(to))) {
+                slots.add(slot(interval));
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Drop calendars nobody touched recently; they are rebuilt from the database on next use
+     */
+    @Scheduled(fixedDelayString = "${hustled.interviews.idle-ms:3600000}")
+    public void unloadIdle() {
+        long cutoff = System.currentTimeMillis() - idleMillis;
+        calendars.values().removeIf(calendar -> {
+            synchronized (calendar) {
+                return calendar.lastUsed < cutoff;
+            }
+        });
+    }
+
+    public Map<String, Object> stats() {
+        int loaded = 0;
+        long intervals = 0;
+        for (Calendar calendar : calendars.values()) {
+            synchronized (calendar) {
+                if (calendar.tree != null) {
+                    loaded++;
+                    intervals += calendar.tree.size();
+                }
+            }
+        }
+        return Map.of("calendars", calendars.size(), "loadedCalendars", loaded, "bookedIntervals", intervals);
+    }
+
+    /**
+     * Calendars are only a read cache; bookings are checked in the database. Unknown ids are
+     * refused before a calendar is created, so callers cannot grow the map with made-up ids.
+     */
+    private Calendar calendar(Long interviewerId) {
+        Calendar calendar = calendars.get(interviewerId);
+        if (calendar != null) return calendar;
+        userRepo.findById(interviewerId)
+                .filter(user -> "ADMIN".equals(user.getRole()))
+                .orElseThrow(() -> new NoSuchElementException("Interviewer not found"));
+        return calendars.computeIfAbsent(interviewerId, id -> new Calendar());
+    }
+
+    private void requireEmployer(JobApplication application, User actor) {
+        Job job = jobRepo.findById(application.getJobId())
+                .orElseThrow(() -> new NoSuchElementException("Job not found"));
+        if (job.getPostedBy() == null || !job.getPostedBy().getId().equals(actor.getId())) {
+            throw new AccessDeniedException("Only the employer who posted this job can manage its interviews");
+        }
+    }
+
+    private static void validate(LocalDateTime start, int durationMinutes) {
+        if (start == null) throw new IllegalArgumentException("start is required");
+        if (start.isBefore(LocalDateTime.now())) throw new IllegalArgumentException("start must be in the future");
+        if (durationMinutes < MIN_DURATION_MINUTES || durationMinutes > MAX_DURATION_MINUTES) {
+            throw new IllegalArgumentException("durationMinutes must be between " + MIN_DURATION_MINUTES
+                    + " and " + MAX_DURATION_MINUTES);
+        }
+    }
+
+    private static TimeSlotDTO slot(IntervalTree.Interval<Long> interval) {
+        return new TimeSlotDTO(dateTime(interval.getStart()), dateTime(interval.getEnd()));
+    }
+
+    /** Interviews are stored as zone-less local times, so minutes are counted on a fixed offset */
+    private static long minutes(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static LocalDateTime dateTime(long minutes) {
+        return LocalDateTime.ofEpochSecond(minutes * 60, 0, ZoneOffset.UTC);
+    }
+
+    private final class Calendar {
+        IntervalTree<Long> tree;
+        long lastUsed;
+
+        /** Caller holds this calendar's monitor */
+        IntervalTree<Long> tree(Long interviewerId) {
+            lastUsed = System.currentTimeMillis();
+            if (tree == null) {
+                IntervalTree<Long> loaded = new IntervalTree<>();
+                LocalDateTime cutoff = LocalDateTime.now().minusMinutes(MAX_DURATION_MINUTES);
+                for (Interview interview : interviewRepo.findByInterviewerIdAndStatusAndInterviewDateAfter(
+                        interviewerId, InterviewStatus.SCHEDULED, cutoff)) {
+                    long start = minutes(interview.getInterviewDate());
+                    loaded.insert(start, start + interview.getDurationMinutes(), interview.getId(), interview.getApplicationId());
+                }
+                tree = loaded;
+            }
+            return tree;
+        }
+    }
+
+    /**
+     * The requested slot overlaps an interview the interviewer already has
+     */
+    public static class SlotTakenException extends IllegalStateException {
+        private final TimeSlotDTO conflict;
+
+        public SlotTakenException(TimeSlotDTO conflict) {
+            super("Interviewer is already booked from " + conflict.getStart() + " to " + conflict.getEnd());
+            this.conflict = conflict;
+        }
+
+        public TimeSlotDTO getConflict() {
+            return conflict;
+        }
+    }
+}
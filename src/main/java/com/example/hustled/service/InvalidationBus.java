@@ -0,0 +1,153 @@
+package com.example.hustled.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tells every app node that cached copies of an entity are stale.
+ *
+ * {@link #publish} runs the local {@link InvalidationListener}s after the surrounding
+ * transaction commits (so no node can re-cache the old row) and queues the entity for peers.
+ * Queued entries are a set, so repeated writes to the same row between flushes collapse into
+ * one; the scheduled flush sends them in batches through the configured
+ * {@link InvalidationTransport} and peers hand each batch to their listeners as remote.
+ */
+@Service
+public class InvalidationBus {
+
+    public static final String JOB = "job";
+    public static final String USER = "user";
+    public static final String PROFILE = "profile";
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidationBus.class);
+
+    private final InvalidationTransport transport;
+    private final ObjectProvider<InvalidationListener> listeners;
+    private final int maxBatch;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Set<CacheInvalidation> pending = ConcurrentHashMap.newKeySet();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder batchesSent = new LongAdder();
+    private final LongAdder sendFailures = new LongAdder();
+    private final LongAdder received = new LongAdder();
+
+    public InvalidationBus(InvalidationTransport transport,
+                           ObjectProvider<InvalidationListener> listeners,
+                           @Value("${hustled.invalidation.max-batch:500}") int maxBatch) {
+        this.transport = transport;
+        // Resolved per dispatch: listeners may themselves depend on the bus
+        this.listeners = listeners;
+        this.maxBatch = maxBatch;
+    }
+
+    @PostConstruct
+    public void start() {
+        transport.start(nodeId, this::receive);
+    }
+
+    /**
+     * Mark an entity stale on every node; inside a transaction this takes effect on commit
+     */
+    public void publish(String region, Long id) {
+        if (id == null) return;
+        CacheInvalidation invalidation = new CacheInvalidation(region, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(invalidation);
+                }
+            });
+        } else {
+            enqueue(invalidation);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        flush();
+        transport.stop();
+    }
+
+    @Scheduled(fixedDelayString = "${hustled.invalidation.flush-ms:250}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) return;
+        List<CacheInvalidation> batch = new ArrayList<>(Math.min(pending.size(), maxBatch));
+        for (Iterator<CacheInvalidation> it = pending.iterator(); it.hasNext(); ) {
+            batch.add(it.next());
+            it.remove();
+            if (batch.size() == maxBatch || !it.hasNext()) {
+                if (!send(batch)) return;
+                batch = new ArrayList<>();
+            }
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("transport", transport.getClass().getSimpleName());
+        stats.put("nodeId", nodeId);
+        stats.put("published", published.sum());
+        stats.put("coalesced", coalesced.sum());
+        stats.put("pending", pending.size());
+        stats.put("batchesSent", batchesSent.sum());
+        stats.put("sendFailures", sendFailures.sum());
+        stats.put("received", received.sum());
+        return stats;
+    }
+
+    private void enqueue(CacheInvalidation invalidation) {
+        published.increment();
+        dispatch(invalidation.getRegion(), List.of(invalidation.getId()), false);
+        if (!pending.add(invalidation)) coalesced.increment();
+    }
+
+    private boolean send(List<CacheInvalidation> batch) {
+        try {
+            transport.send(nodeId, batch);
+            batchesSent.increment();
+            return true;
+        } catch (RuntimeException e) {
+            // Keep the entries; the next flush retries them along with anything new
+            sendFailures.increment();
+            pending.addAll(batch);
+            log.warn("Could not send {} cache invalidations: {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void receive(String origin, List<CacheInvalidation> batch) {
+        if (nodeId.equals(origin)) return;
+        received.add(batch.size());
+        Map<String, Set<Long>> byRegion = new LinkedHashMap<>();
+        for (CacheInvalidation invalidation : batch) {
+            byRegion.computeIfAbsent(invalidation.getRegion(), r -> new LinkedHashSet<>()).add(invalidation.getId());
+        }
+        byRegion.forEach((region, ids) -> dispatch(region, ids, true));
+    }
+
+    private void dispatch(String region, Collection<Long> ids, boolean remote) {
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onInvalidate(region, ids, remote);
+            } catch (RuntimeException e) {
+                log.warn("Invalidation listener {} failed for {} {}: {}",
+                        listener.getClass().getSimpleName(), region, ids, e.getMessage());
+            }
+        });
+    }
+}
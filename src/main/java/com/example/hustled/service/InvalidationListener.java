@@ -0,0 +1,17 @@
+package com.example.hustled.service;
+
+import java.util.Collection;
+
+/**
+ * Evicts one kind of in-process cache when {@link InvalidationBus} reports stale entities.
+ */
+public interface InvalidationListener {
+
+    /**
+     * @param region entity kind, one of the InvalidationBus region constants
+     * @param ids    distinct ids in that region
+     * @param remote false when the write happened on this node, whose caches the write path
+     *               usually maintains already; true when it came from a peer
+     */
+    void onInvalidate(String region, Collection<Long> ids, boolean remote);
+}
@@ -0,0 +1,83 @@
+package com.example.hustled.service;
+
+import com.example.hustled.entity.Job;
+import com.example.hustled.event.JobSnapshot;
+import com.example.hustled.model.CandidateProfile;
+import com.example.hustled.repository.CandidateProfileRepository;
+import com.example.hustled.repository.JobRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * Connects the in-memory job and profile indexes to {@link InvalidationBus}.
+ *
+ * Local job saves and deletes are published to peers. When a peer reports changed jobs, they
+ * are re-read (after {@link EntityCacheEvictor} has dropped the stale L2 copies) and replayed to
+ * every other {@link JobChangeListener}, so geo and autocomplete indexes converge on all nodes;
+ * changed profiles are replayed to the candidate geo index the same way.
+ *
+ * The re-read runs in a read-write transaction so it is routed to the primary: a replica may
+ * not have the peer's commit yet, and a job missing there would be replayed as a delete.
+ */
+@Service
+@Order(10)
+public class InvalidationRelay implements JobChangeListener, InvalidationListener {
+
+    private final InvalidationBus bus;
+    private final ObjectProvider<JobChangeListener> jobListeners;
+    private final JobRepository jobRepo;
+    private final CandidateProfileRepository profileRepo;
+    private final GeoSearchService geoSearch;
+    private final TransactionTemplate primaryTx;
+
+    public InvalidationRelay(InvalidationBus bus,
+                             ObjectProvider<JobChangeListener> jobListeners,
+                             JobRepository jobRepo,
+                             CandidateProfileRepository profileRepo,
+                             GeoSearchService geoSearch,
+                             PlatformTransactionManager transactionManager) {
+        this.bus = bus;
+        this.jobListeners = jobListeners;
+        this.jobRepo = jobRepo;
+        this.profileRepo = profileRepo;
+        this.geoSearch = geoSearch;
+        this.primaryTx = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void onJobSaved(JobSnapshot job) {
+        bus.publish(InvalidationBus.JOB, job.getId());
+    }
+
+    @Override
+    public void onJobDeleted(Long jobId) {
+        bus.publish(InvalidationBus.JOB, jobId);
+    }
+
+    @Override
+    public void onInvalidate(String region, Collection<Long> ids, boolean remote) {
+        if (!remote) return;
+        if (InvalidationBus.JOB.equals(region)) {
+            Map<Long, Job> found = new HashMap<>();
+            primaryTx.executeWithoutResult(status ->
+                    jobRepo.findAllById(ids).forEach(job -> found.put(job.getId(), job)));
+            jobListeners.orderedStream().filter(listener -> listener != this).forEach(listener -> {
+                for (Long id : ids) {
+                    Job job = found.get(id);
+                    if (job != null) listener.onJobSaved(JobSnapshot.of(job));
+                    else listener.onJobDeleted(id);
+                }
+            });
+        } else if (InvalidationBus.PROFILE.equals(region)) {
+            List<CandidateProfile> profiles = primaryTx.execute(status -> profileRepo.findAllById(ids));
+            for (CandidateProfile profile : profiles) {
+                geoSearch.onProfileSaved(profile);
+            }
+        }
+    }
+}
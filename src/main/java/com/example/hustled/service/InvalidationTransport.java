@@ -0,0 +1,23 @@
+package com.example.hustled.service;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Carries invalidation batches between app nodes for {@link InvalidationBus}.
+ */
+public interface InvalidationTransport {
+
+    /**
+     * Begin delivering batches to the receiver as (origin node id, batch). Batches this node
+     * sent may be delivered back; the bus ignores them.
+     */
+    void start(String nodeId, BiConsumer<String, List<CacheInvalidation>> receiver);
+
+    /**
+     * Hand one deduplicated batch to the peers; throws when it could not be sent
+     */
+    void send(String nodeId, List<CacheInvalidation> batch);
+
+    default void stop() {}
+}
@@ -0,0 +1,131 @@
+package com.example.hustled.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Broker-less transport over the shared MySQL database.
+ *
+ * Each batch is one row in cache_invalidations; every node polls for rows newer than the last
+ * created_at it saw. The poll re-reads a short overlap window because an auto-increment id can
+ * commit after a higher one, and remembers which ids it already applied in that window.
+ * Evictions are idempotent, so an occasional duplicate delivery is harmless. Old rows are
+ * pruned by every node.
+ */
+@Service
+@ConditionalOnProperty(name = "hustled.invalidation.transport", havingValue = "jdbc")
+public class JdbcInvalidationTransport implements InvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcInvalidationTransport.class);
+    private static final long OVERLAP_MS = 5000;
+    private static final int MAX_ROWS_PER_POLL = 1000;
+
+    private final JdbcTemplate jdbc;
+    private final int retentionMinutes;
+
+    private volatile BiConsumer<String, List<CacheInvalidation>> receiver;
+    private Timestamp watermark;
+    private final Map<Long, Timestamp> applied = new HashMap<>();
+
+    public JdbcInvalidationTransport(JdbcTemplate jdbc,
+                                     @Value("${hustled.invalidation.jdbc.retention-minutes:60}") int retentionMinutes) {
+        this.jdbc = jdbc;
+        this.retentionMinutes = retentionMinutes;
+    }
+
+    @Override
+    public synchronized void start(String nodeId, BiConsumer<String, List<CacheInvalidation>> receiver) {
+        // The database clock is the only one created_at is ever compared against
+        this.watermark = jdbc.queryForObject("SELECT NOW(6)", Timestamp.class);
+        this.receiver = receiver;
+        log.info("Cache invalidation bus polling cache_invalidations as node {}", nodeId);
+    }
+
+    @Override
+    public void send(String nodeId, List<CacheInvalidation> batch) {
+        jdbc.update("INSERT INTO cache_invalidations (node_id, payload, created_at) VALUES (?, ?, NOW(6))",
+                nodeId, encode(batch));
+    }
+
+    @Scheduled(fixedDelayString = "${hustled.invalidation.jdbc.poll-ms:1000}")
+    public synchronized void poll() {
+        if (receiver == null) return;
+        Timestamp from = new Timestamp(watermark.getTime() - OVERLAP_MS);
+        // Pages by (created_at, id) so a burst larger than one page is still read through
+        Timestamp afterTime = from;
+        long afterId = Long.MAX_VALUE;
+        List<Object[]> rows;
+        do {
+            try {
+                rows = jdbc.query("SELECT id, node_id, payload, created_at FROM cache_invalidations " +
+                                "WHERE created_at > ? OR (created_at = ? AND id > ?) " +
+                                "ORDER BY created_at, id LIMIT " + MAX_ROWS_PER_POLL,
+                        (rs, i) -> new Object[] { rs.getLong(1), rs.getString(2), rs.getString(3), rs.getTimestamp(4) },
+                        afterTime, afterTime, afterId);
+            } catch (DataAccessException e) {
+                log.warn("Polling cache_invalidations failed: {}", e.getMessage());
+                return;
+            }
+            for (Object[] row : rows) {
+                long id = (Long) row[0];
+                Timestamp createdAt = (Timestamp) row[3];
+                afterTime = createdAt;
+                afterId = id;
+                if (createdAt.after(watermark)) watermark = createdAt;
+                if (applied.putIfAbsent(id, createdAt) != null) continue;
+                receiver.accept((String) row[1], decode((String) row[2]));
+            }
+        } while (rows.size() == MAX_ROWS_PER_POLL && receiver != null);
+        applied.values().removeIf(t -> t.getTime() < from.getTime());
+    }
+
+    @Scheduled(cron = "${hustled.invalidation.jdbc.prune-cron:0 */10 * * * *}")
+    public void prune() {
+        if (receiver == null) return;
+        int removed = jdbc.update("DELETE FROM cache_invalidations WHERE created_at < NOW(6) - INTERVAL ? MINUTE", retentionMinutes);
+        if (removed > 0) log.debug("Pruned {} cache invalidation rows", removed);
+    }
+
+    @Override
+    public void stop() {
+        receiver = null;
+    }
+
+    /**
+     * "job:1,2;user:7" - one section per region
+     */
+    static String encode(List<CacheInvalidation> batch) {
+        Map<String, StringBuilder> byRegion = new LinkedHashMap<>();
+        for (CacheInvalidation inv : batch) {
+            StringBuilder ids = byRegion.computeIfAbsent(inv.getRegion(), r -> new StringBuilder());
+            if (ids.length() > 0) ids.append(',');
+            ids.append(inv.getId());
+        }
+        StringJoiner payload = new StringJoiner(";");
+        byRegion.forEach((region, ids) -> payload.add(region + ":" + ids));
+        return payload.toString();
+    }
+
+    static List<CacheInvalidation> decode(String payload) {
+        List<CacheInvalidation> batch = new ArrayList<>();
+        for (String section : payload.split(";")) {
+            int colon = section.indexOf(':');
+            if (colon <= 0) continue;
+            String region = section.substring(0, colon);
+            for (String id : section.substring(colon + 1).split(",")) {
+                if (!id.isEmpty()) batch.add(new CacheInvalidation(region, Long.parseLong(id)));
+            }
+        }
+        return batch;
+    }
+}
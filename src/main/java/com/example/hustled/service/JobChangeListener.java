@@ -0,0 +1,20 @@
+package com.example.hustled.service;
+
+import com.example.hustled.event.JobSnapshot;
+
+/**
+ * Callback for in-memory structures derived from jobs (search indexes, suggestions, ...).
+ * JobService notifies every registered listener after a job has been saved or deleted.
+ */
+public interface JobChangeListener {
+
+    /**
+     * Called after a job has been created or updated, with its fields as they were committed
+     */
+    void onJobSaved(JobSnapshot job);
+
+    /**
+     * Called after a job has been deleted
+     */
+    void onJobDeleted(Long jobId);
+}
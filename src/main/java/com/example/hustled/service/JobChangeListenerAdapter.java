@@ -0,0 +1,69 @@
+package com.example.hustled.service;
+
+import com.example.hustled.event.DomainEvent;
+import com.example.hustled.event.DomainEventSubscriber;
+import com.example.hustled.event.JobCreated;
+import com.example.hustled.event.JobDeleted;
+import com.example.hustled.event.JobUpdated;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Feeds committed job events to every {@link JobChangeListener}, in their declared order,
+ * on the bus worker thread instead of the request thread. Lossless: expiry, the search
+ * indexes and peer invalidation all go permanently stale if an event is skipped.
+ */
+@Component
+public class JobChangeListenerAdapter implements DomainEventSubscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(JobChangeListenerAdapter.class);
+
+    private final ObjectProvider<JobChangeListener> listenerProvider;
+    private volatile List<JobChangeListener> listeners;
+
+    public JobChangeListenerAdapter(ObjectProvider<JobChangeListener> listenerProvider) {
+        this.listenerProvider = listenerProvider;
+    }
+
+    @Override
+    public Set<Class<? extends DomainEvent>> eventTypes() {
+        return Set.of(JobCreated.class, JobUpdated.class, JobDeleted.class);
+    }
+
+    @Override
+    public boolean lossless() {
+        return true;
+    }
+
+    @Override
+    public void onEvent(DomainEvent event) {
+        for (JobChangeListener listener : listeners()) {
+            try {
+                if (event instanceof JobCreated created) {
+                    listener.onJobSaved(created.getJob());
+                } else if (event instanceof JobUpdated updated) {
+                    listener.onJobSaved(updated.getJob());
+                } else if (event instanceof JobDeleted deleted) {
+                    listener.onJobDeleted(deleted.getJobId());
+                }
+            } catch (RuntimeException e) {
+                // One broken index must not keep the others from seeing the change
+                log.warn("Job listener {} failed on {}: {}",
+                        listener.getClass().getSimpleName(), event.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    private List<JobChangeListener> listeners() {
+        if (listeners == null) {
+            listeners = listenerProvider.orderedStream().collect(Collectors.toList());
+        }
+        return listeners;
+    }
+}
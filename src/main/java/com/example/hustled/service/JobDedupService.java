@@ -0,0 +1,235 @@
+package com.example.hustled.service;
+
+import com.example.hustled.entity.Job;
+import com.example.hustled.event.JobSnapshot;
+import com.example.hustled.util.MinHashIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Flags re-posted jobs whose title and description barely differ from an older posting.
+ *
+ * Every job's MinHash signature sits in a {@link MinHashIndex}, built at startup and patched
+ * through {@link JobChangeListener}. JobService calls {@link #flag} before each save, which
+ * points duplicate_of at the oldest original among the LSH candidates; a posting is never
+ * compared against the whole table. Postings reach the index only once their transaction
+ * commits, so a rolled back save never leaves a phantom original behind.
+ */
+@Service
+public class JobDedupService implements JobChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(JobDedupService.class);
+    private static final String SIGNED_COLUMNS_SQL = "SELECT id, title, description, duplicate_of FROM jobs";
+    private static final int FETCH_SIZE = 500;
+
+    private final JdbcTemplate jdbc;
+    private final int bands;
+    private final int rows;
+    private final MinHashIndex<Long> index;
+    private final double threshold;
+    private final int minShingles;
+    /** duplicate_of of every indexed job, so matches can be followed to the original */
+    private final Map<Long, Long> originals = new ConcurrentHashMap<>();
+
+    private final LongAdder checked = new LongAdder();
+    private final LongAdder flagged = new LongAdder();
+
+    public JobDedupService(JdbcTemplate jdbc,
+                           @Value("${hustled.jobs.dedup.bands:20}") int bands,
+                           @Value("${hustled.jobs.dedup.rows:5}") int rows,
+                           @Value("${hustled.jobs.dedup.threshold:0.8}") double threshold,
+                           @Value("${hustled.jobs.dedup.min-shingles:5}") int minShingles) {
+        this.jdbc = jdbc;
+        this.bands = bands;
+        this.rows = rows;
+        this.index = new MinHashIndex<>(bands, rows);
+        this.threshold = threshold;
+        this.minShingles = minShingles;
+    }
+
+    /**
+     * Streams only the signed columns; entities (and their posters) are never loaded
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        index.clear();
+        originals.clear();
+        jdbc.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SIGNED_COLUMNS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(con.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql")
+                    ? Integer.MIN_VALUE : FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> put(index, originals, rs.getLong(1),
+                signatureOf(rs.getString(2), rs.getString(3)), rs.getObject(4, Long.class)));
+        log.info("Dedup index built: {} jobs signed", index.size());
+    }
+
+    /**
+     * Set or clear the job's duplicate_of before it is saved. Only older postings count as
+     * originals, so an edit never makes the first posting a duplicate of its copy.
+     */
+    public void flag(Job job) {
+        flag(job, null);
+    }
+
+    /**
+     * Dedup state for one multi-job transaction
+     */
+    public Batch batch() {
+        return new Batch();
+    }
+
+    private void flag(Job job, Batch batch) {
+        checked.increment();
+        long[] signature = signatureOf(job);
+        Long original = null;
+        if (signature != null) {
+            original = oldestOriginal(job, signature, index, originals, null);
+            if (batch != null) original = oldestOriginal(job, signature, batch.index, batch.originals, original);
+        }
+        job.setDuplicateOf(original);
+        if (original != null) flagged.increment();
+    }
+
+    private Long oldestOriginal(Job job, long[] signature, MinHashIndex<Long> index, Map<Long, Long> originals, Long original) {
+        for (MinHashIndex.Match<Long> match : index.similar(signature, threshold)) {
+            Long candidate = originals.getOrDefault(match.getKey(), match.getKey());
+            if (job.getId() != null && candidate >= job.getId()) continue;
+            if (original == null || candidate < original) original = candidate;
+        }
+        return original;
+    }
+
+    /**
+     * Index the job as soon as its transaction commits, on the committing thread. The
+     * {@link JobChangeListener} path runs later on the event bus, and a copy posted in
+     * between would otherwise be checked against an index that has not seen the original.
+     */
+    public void indexOnCommit(Job job) {
+        indexOnCommit(List.of(JobSnapshot.of(job)));
+    }
+
+    private void indexOnCommit(List<JobSnapshot> jobs) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jobs.forEach(this::onJobSaved);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                jobs.forEach(JobDedupService.this::onJobSaved);
+            }
+        });
+    }
+
+    /**
+     * Indexed postings at least threshold-similar to the given job, most similar first
+     */
+    public List<MinHashIndex.Match<Long>> duplicatesOf(Long jobId) {
+        long[] signature = index.signatureOf(jobId);
+        if (signature == null) return Collections.emptyList();
+        return index.similar(signature, threshold).stream()
+                .filter(match -> !match.getKey().equals(jobId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Counters for the admin metrics endpoint
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("indexed", index.size());
+        stats.put("duplicates", originals.size());
+        stats.put("checked", checked.sum());
+        stats.put("flagged", flagged.sum());
+        stats.put("threshold", threshold);
+        return stats;
+    }
+
+    @Override
+    public void onJobSaved(JobSnapshot job) {
+        if (job == null || job.getId() == null) return;
+        put(index, originals, job.getId(), signatureOf(job.getTitle(), job.getDescription()), job.getDuplicateOf());
+    }
+
+    private static void put(MinHashIndex<Long> index, Map<Long, Long> originals, Long id, long[] signature, Long duplicateOf) {
+        if (signature == null) {
+            index.remove(id);
+        } else if (!Arrays.equals(signature, index.signatureOf(id))) {
+            index.put(id, signature);
+        }
+        if (duplicateOf != null) {
+            originals.put(id, duplicateOf);
+        } else {
+            originals.remove(id);
+        }
+    }
+
+    @Override
+    public void onJobDeleted(Long jobId) {
+        index.remove(jobId);
+        originals.remove(jobId);
+        // duplicate_of is cleared by the foreign key; keep the in-memory view in step
+        originals.values().removeIf(jobId::equals);
+    }
+
+    /**
+     * Null for postings too short to judge: two bare "Cashier" titles are not a re-post
+     */
+    private long[] signatureOf(Job job) {
+        return signatureOf(job.getTitle(), job.getDescription());
+    }
+
+    private long[] signatureOf(String title, String description) {
+        String text = (title != null ? title : "") + " " + (description != null ? description : "");
+        long[] shingles = MinHashIndex.shingles(text);
+        return shingles.length < minShingles ? null : index.signature(shingles);
+    }
+
+    /**
+     * Postings saved earlier in the same transaction are matched too, but they are kept in a
+     * private index and reach the shared one only after the commit
+     */
+    public final class Batch {
+        private final MinHashIndex<Long> index = new MinHashIndex<>(bands, rows);
+        private final Map<Long, Long> originals = new HashMap<>();
+        private final List<JobSnapshot> saved = new ArrayList<>();
+
+        private Batch() {
+        }
+
+        public void flag(Job job) {
+            JobDedupService.this.flag(job, this);
+        }
+
+        /**
+         * Record a persisted job of this batch
+         */
+        public void add(Job job) {
+            put(index, originals, job.getId(), signatureOf(job), job.getDuplicateOf());
+            saved.add(JobSnapshot.of(job));
+        }
+
+        /**
+         * Index the whole batch once the transaction commits
+         */
+        public void indexOnCommit() {
+            JobDedupService.this.indexOnCommit(new ArrayList<>(saved));
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.hustled.service;
+
+import com.example.hustled.entity.JobChange;
+import com.example.hustled.entity.JobStatus;
+import com.example.hustled.event.JobSnapshot;
+import com.example.hustled.util.HierarchicalTimingWheel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Closes open postings when their application deadline has passed.
+ *
+ * Deadlines of open jobs are read once at startup into a {@link HierarchicalTimingWheel} and
+ * kept in sync through {@link JobChangeListener}, so nothing scans the jobs table afterwards.
+ * Every tick advances the wheel; jobs that came due are closed in batched UPDATEs that re-check
+ * status and deadline under a row lock, which makes stale wheel entries (rolled-back edits,
+ * several nodes firing the same job) harmless.
+ */
+@Service
+public class JobExpiryService implements JobChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(JobExpiryService.class);
+    private static final long RETRY_DELAY_MS = 60_000;
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final JobFeedService feed;
+    private final EntityCacheEvictor entityCache;
+    private final InvalidationBus invalidationBus;
+    private final int batchSize;
+    private final HierarchicalTimingWheel<Long> wheel;
+
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+
+    public JobExpiryService(JdbcTemplate jdbc,
+                            PlatformTransactionManager transactionManager,
+                            JobFeedService feed,
+                            EntityCacheEvictor entityCache,
+                            InvalidationBus invalidationBus,
+                            @Value("${hustled.jobs.expiry.tick-ms:1000}") long tickMillis,
+                            @Value("${hustled.jobs.expiry.batch-size:500}") int batchSize) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.feed = feed;
+        this.entityCache = entityCache;
+        this.invalidationBus = invalidationBus;
+        this.batchSize = batchSize;
+        // 64 buckets x 4 levels spans 64^4 ticks, about 194 days at one-second ticks
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, 64, 4, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Object[]> rows = jdbc.query("SELECT id, application_deadline FROM jobs " +
+                        "WHERE status = ? AND application_deadline IS NOT NULL",
+                (rs, i) -> new Object[] { rs.getLong(1), rs.getDate(2).toLocalDate() }, JobStatus.OPEN.getLabel());
+        synchronized (wheel) {
+            for (Object[] row : rows) wheel.schedule((Long) row[0], expiresAt((LocalDate) row[1]));
+        }
+        log.info("Job expiry wheel loaded with {} deadlines", rows.size());
+        tick();
+    }
+
+    @Override
+    public void onJobSaved(JobSnapshot job) {
+        synchronized (wheel) {
+            if (job.getStatus() == JobStatus.OPEN && job.getApplicationDeadline() != null) {
+                wheel.schedule(job.getId(), expiresAt(job.getApplicationDeadline()));
+            } else {
+                wheel.cancel(job.getId());
+            }
+        }
+    }
+
+    @Override
+    public void onJobDeleted(Long jobId) {
+        synchronized (wheel) {
+            wheel.cancel(jobId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${hustled.jobs.expiry.tick-ms:1000}")
+    public void tick() {
+        List<Long> due;
+        synchronized (wheel) {
+            due = wheel.advance(System.currentTimeMillis());
+        }
+        if (due.isEmpty()) return;
+        fired.add(due.size());
+        for (int from = 0; from < due.size(); from += batchSize) {
+            closeBatch(due.subList(from, Math.min(from + batchSize, due.size())));
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (wheel) {
+            stats.put("scheduled", wheel.size());
+        }
+        stats.put("fired", fired.sum());
+        stats.put("closed", closed.sum());
+        return stats;
+    }
+
+    private void closeBatch(List<Long> ids) {
+        String in = ids.stream().map(id -> "?").collect(Collectors.joining(", "));
+        List<Long> expired;
+        try {
+            expired = tx.execute(status -> {
+                List<Object> args = new ArrayList<>(ids);
+                args.add(JobStatus.OPEN.getLabel());
+                args.add(Date.valueOf(LocalDate.now()));
+                List<Long> locked = jdbc.queryForList("SELECT id FROM jobs WHERE id IN (" + in + ") " +
+                        "AND status = ? AND application_deadline < ? FOR UPDATE", Long.class, args.toArray());
+                if (locked.isEmpty()) return locked;
+
+                List<Object> update = new ArrayList<>();
+                update.add(JobStatus.CLOSED.getLabel());
+                update.addAll(locked);
+                jdbc.update("UPDATE jobs SET status = ?, updated_at = NOW(6) WHERE id IN (" +
+                        locked.stream().map(id -> "?").collect(Collectors.joining(", ")) + ")", update.toArray());
+                locked.forEach(id -> feed.record(id, JobChange.Type.UPSERT));
+                return locked;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Could not close {} expired jobs, retrying in a minute: {}", ids.size(), e.getMessage());
+            long retryAt = System.currentTimeMillis() + RETRY_DELAY_MS;
+            synchronized (wheel) {
+                ids.forEach(id -> wheel.schedule(id, retryAt));
+            }
+            return;
+        }
+        // Plain JDBC bypassed the second-level cache
+        for (Long id : expired) {
+            entityCache.evictJob(id);
+            invalidationBus.publish(InvalidationBus.JOB, id);
+        }
+        closed.add(expired.size());
+        if (!expired.isEmpty()) log.info("Closed {} jobs past their application deadline", expired.size());
+    }
+
+    /** The deadline day is the last one applications are accepted */
+    private static long expiresAt(LocalDate deadline) {
+        return deadline.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.hustled.service;
+
+import com.example.hustled.dto.JobFeedDTO;
+import com.example.hustled.dto.JobSummaryDTO;
+import com.example.hustled.entity.Job;
+import com.example.hustled.entity.JobChange;
+import com.example.hustled.repository.JobChangeRepository;
+import com.example.hustled.repository.JobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Change log and delta queries behind GET /api/jobs/feed.
+ *
+ * JobService records one job_changes row per create, update and delete inside its own
+ * transaction. Ids are handed out at insert time but transactions commit in any order, so the
+ * newest id is not a safe cursor: a client that read up to it would never see a smaller id
+ * that commits later. The catalogue version is therefore the newest id whose row is older
+ * than the commit window, the longest a change row may stay uncommitted or unreplicated;
+ * every smaller id has committed or rolled back by then. The version is kept in memory and
+ * moved forward periodically, so an unchanged client can be answered with 304 without
+ * touching the database.
+ */
+@Service
+public class JobFeedService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobFeedService.class);
+
+    private final JobChangeRepository changeRepo;
+    private final JobRepository jobRepo;
+    private final JdbcTemplate jdbc;
+    private final int pageSize;
+    private final int retentionDays;
+    private final Duration commitWindow;
+    private final AtomicLong version = new AtomicLong();
+
+    public JobFeedService(JobChangeRepository changeRepo,
+                          JobRepository jobRepo,
+                          JdbcTemplate jdbc,
+                          @Value("${hustled.feed.page-size:500}") int pageSize,
+                          @Value("${hustled.feed.retention-days:30}") int retentionDays,
+                          @Value("${hustled.feed.commit-window-ms:15000}") long commitWindowMs) {
+        this.changeRepo = changeRepo;
+        this.jobRepo = jobRepo;
+        this.jdbc = jdbc;
+        this.pageSize = pageSize;
+        this.retentionDays = retentionDays;
+        this.commitWindow = Duration.ofMillis(commitWindowMs);
+    }
+
+    /**
+     * Current catalogue version, used as the feed ETag
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Append a change in the caller's transaction. Callers record it last, just before commit,
+     * so the row's age bounds how long it can still be in flight.
+     */
+    public void record(Long jobId, JobChange.Type type) {
+        JobChange change = new JobChange();
+        change.setJobId(jobId);
+        change.setType(type);
+        change.setChangedAt(LocalDateTime.now());
+        changeRepo.save(change);
+    }
+
+    /**
+     * Append one change per job as a single JDBC batch in the caller's transaction
+     */
+    public void recordAll(List<Long> jobIds, JobChange.Type type) {
+        if (jobIds.isEmpty()) return;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = jobIds.stream().map(id -> new Object[] { id, type.name(), now }).collect(Collectors.toList());
+        jdbc.batchUpdate("INSERT INTO job_changes (job_id, change_type, changed_at) VALUES (?, ?, ?)", rows);
+    }
+
+    /**
+     * Whole catalogue plus the cursor to continue from
+     */
+    @Transactional(readOnly = true)
+    public JobFeedDTO full() {
+        long snapshot = settledVersion();
+        List<JobSummaryDTO> jobs = jobRepo.findAll().stream().map(JobSummaryDTO::from).collect(Collectors.toList());
+        return new JobFeedDTO(snapshot, true, false, jobs, Collections.emptyList());
+    }
+
+    /**
+     * Changes after a cursor, collapsed to the latest state per job
+     */
+    @Transactional(readOnly = true)
+    public JobFeedDTO since(long cursor) {
+        long snapshot = settledVersion();
+        if (cursor < changeRepo.findMinId() - 1) {
+            // Part of the requested range has been pruned; the client has to resync
+            return full();
+        }
+        if (cursor >= snapshot) {
+            return new JobFeedDTO(snapshot, false, false, Collections.emptyList(), Collections.emptyList());
+        }
+
+        List<JobChange> changes = changeRepo.findPage(cursor, snapshot, PageRequest.of(0, pageSize));
+        Map<Long, JobChange.Type> latest = new LinkedHashMap<>();
+        for (JobChange change : changes) {
+            latest.remove(change.getJobId());
+            latest.put(change.getJobId(), change.getType());
+        }
+
+        List<Long> upsertIds = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        latest.forEach((jobId, type) -> (type == JobChange.Type.DELETE ? deleted : upsertIds).add(jobId));
+
+        Map<Long, Job> byId = jobRepo.findAllById(upsertIds).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<JobSummaryDTO> upserts = new ArrayList<>();
+        for (Long id : upsertIds) {
+            Job job = byId.get(id);
+            if (job != null) {
+                upserts.add(JobSummaryDTO.from(job));
+            } else {
+                // Deleted after this page's snapshot; its tombstone follows in a later page
+                deleted.add(id);
+            }
+        }
+
+        long next = changes.isEmpty() ? snapshot : changes.get(changes.size() - 1).getId();
+        return new JobFeedDTO(next, false, next < snapshot, upserts, deleted);
+    }
+
+    /**
+     * Cursor equivalent of a timestamp: everything changed after it
+     */
+    @Transactional(readOnly = true)
+    public JobFeedDTO since(LocalDateTime timestamp) {
+        return changeRepo.findFirstByChangedAtAfterOrderByIdAsc(timestamp)
+                .map(first -> since(first.getId() - 1))
+                .orElseGet(() -> since(settledVersion()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${hustled.feed.version-refresh-ms:5000}", initialDelayString = "${hustled.feed.version-refresh-ms:5000}")
+    public void refreshVersion() {
+        try {
+            settledVersion();
+        } catch (DataAccessException e) {
+            log.warn("Could not read job feed version: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Move the version up to the newest change older than the commit window. Only ids above
+     * the current version are scanned, so this stays a short primary-key range read.
+     */
+    private long settledVersion() {
+        long current = version.get();
+        long settled = changeRepo.findMaxIdChangedBefore(current, LocalDateTime.now().minus(commitWindow));
+        return version.accumulateAndGet(settled, Math::max);
+    }
+
+    @Scheduled(cron = "${hustled.feed.prune-cron:0 30 3 * * *}")
+    @Transactional
+    public void prune() {
+        int removed = changeRepo.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays), changeRepo.findMaxId());
+        if (removed > 0) log.info("Pruned {} job feed changes older than {} days", removed, retentionDays);
+    }
+}
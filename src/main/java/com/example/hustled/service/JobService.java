@@ -1,50 +1,161 @@
 package com.example.hustled.service;
 
+import com.example.hustled.config.ReadYourWritesTracker;
 import com.example.hustled.entity.Job;
+import com.example.hustled.entity.JobChange;
+import com.example.hustled.entity.JobStatus;
 import com.example.hustled.entity.User;
+import com.example.hustled.event.DomainEventBus;
+import com.example.hustled.event.JobCreated;
+import com.example.hustled.event.JobSnapshot;
+import com.example.hustled.event.JobDeleted;
+import com.example.hustled.event.JobUpdated;
 import com.example.hustled.repository.JobRepository;
+import com.example.hustled.util.GeoGridIndex;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class JobService {
 
     private final JobRepository jobRepo;
+    private final DomainEventBus events;
+    private final GeoSearchService geoSearch;
+    private final ReadYourWritesTracker readYourWrites;
+    private final JobFeedService feed;
+    private final JobDedupService dedup;
+    private final EntityManager entityManager;
+    private final int batchSize;
 
-    public JobService(JobRepository jobRepo) {
+    public JobService(JobRepository jobRepo,
+                      DomainEventBus events,
+                      GeoSearchService geoSearch,
+                      ReadYourWritesTracker readYourWrites,
+                      JobFeedService feed,
+                      JobDedupService dedup,
+                      EntityManager entityManager,
+                      @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
         this.jobRepo = jobRepo;
+        this.events = events;
+        this.geoSearch = geoSearch;
+        this.readYourWrites = readYourWrites;
+        this.feed = feed;
+        this.dedup = dedup;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
     }
 
+    @Transactional(readOnly = true)
     public List<Job> findAll() {
         return jobRepo.findAll();
     }
 
+    /**
+     * Jobs located within radiusKm of a free-text place, closest first.
+     * Returns an empty list when the place is not in the gazetteer.
+     */
+    @Transactional(readOnly = true)
+    public List<Job> findNear(String place, double radiusKm) {
+        LocationNormalizer.Place origin = geoSearch.resolve(place);
+        if (origin == null) return Collections.emptyList();
+
+        List<GeoGridIndex.Hit<Long>> hits = geoSearch.jobsWithin(origin.getLatitude(), origin.getLongitude(), radiusKm);
+        List<Long> ids = hits.stream().map(GeoGridIndex.Hit::getKey).collect(Collectors.toList());
+        Map<Long, Job> byId = jobRepo.findAllById(ids).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
     public Job findById(Long id) {
         return jobRepo.findById(id).orElse(null);
     }
 
+    @Transactional
     public Job create(Job job, User postedBy) {
+        readYourWrites.recordWrite();
         job.setPostedBy(postedBy);
+        if (job.getStatus() == null) job.setStatus(JobStatus.OPEN);
         job.setCreatedAt(LocalDateTime.now());
-        return jobRepo.save(job);
+        dedup.flag(job);
+        Job saved = jobRepo.save(job);
+        feed.record(saved.getId(), JobChange.Type.UPSERT);
+        dedup.indexOnCommit(saved);
+        events.publish(new JobCreated(JobSnapshot.of(saved)));
+        return saved;
+    }
+
+    /**
+     * Insert many jobs for one poster in a single transaction. The persistence context is
+     * flushed and cleared every batch_size rows, so Hibernate sends each chunk as one JDBC batch
+     * and memory stays flat; feed entries go in as one more batch.
+     */
+    @Transactional
+    public List<Job> createAll(List<Job> jobs, User postedBy) {
+        readYourWrites.recordWrite();
+        LocalDateTime now = LocalDateTime.now();
+        List<Job> saved = new ArrayList<>(jobs.size());
+        JobDedupService.Batch dedupBatch = dedup.batch();
+        for (Job job : jobs) {
+            job.setId(null);
+            job.setPostedBy(postedBy);
+            if (job.getStatus() == null) job.setStatus(JobStatus.OPEN);
+            job.setCreatedAt(now);
+            job.setUpdatedAt(null);
+            dedupBatch.flag(job);
+            entityManager.persist(job);
+            // Copies within the same upload are caught against the batch until it commits
+            dedupBatch.add(job);
+            saved.add(job);
+            if (saved.size() % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        dedupBatch.indexOnCommit();
+        feed.recordAll(saved.stream().map(Job::getId).collect(Collectors.toList()), JobChange.Type.UPSERT);
+        saved.forEach(job -> events.publish(new JobCreated(JobSnapshot.of(job))));
+        return saved;
     }
 
+    @Transactional
     public Job update(Long id, Job updated, User postedBy) {
+        readYourWrites.recordWrite();
         Job existing = findById(id);
         if (existing == null) return null;
         existing.setTitle(updated.getTitle());
         existing.setCompany(updated.getCompany());
         existing.setLocation(updated.getLocation());
         existing.setDescription(updated.getDescription());
+        if (updated.getStatus() != null) existing.setStatus(updated.getStatus());
+        existing.setApplicationDeadline(updated.getApplicationDeadline());
         existing.setUpdatedAt(LocalDateTime.now());
         existing.setPostedBy(postedBy);
-        return jobRepo.save(existing);
+        dedup.flag(existing);
+        Job saved = jobRepo.save(existing);
+        feed.record(saved.getId(), JobChange.Type.UPSERT);
+        dedup.indexOnCommit(saved);
+        events.publish(new JobUpdated(JobSnapshot.of(saved)));
+        return saved;
     }
 
+    @Transactional
     public void delete(Long id) {
+        readYourWrites.recordWrite();
+        if (!jobRepo.existsById(id)) return;
         jobRepo.deleteById(id);
+        feed.record(id, JobChange.Type.DELETE);
+        events.publish(new JobDeleted(id));
     }
 
 }
@@ -0,0 +1,258 @@
+package com.example.hustled.service;
+
+import com.example.hustled.dto.ViewStatsDTO;
+import com.example.hustled.util.HyperLogLog;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Job page views per hour and unique viewers per day, without a database write per view.
+ *
+ * Views land in per-(job, hour) {@link LongAdder}s and viewers in per-(job, day)
+ * {@link HyperLogLog} sketches, both lock-free. A scheduled flush adds the hourly counts to
+ * job_view_hourly and merges each changed sketch into job_view_daily; because sketch merges are
+ * idempotent, a day's sketch can be flushed repeatedly and from several nodes. Dashboards read
+ * only the rollup tables, so they lag live traffic by at most one flush interval.
+ */
+@Service
+public class JobViewAnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobViewAnalyticsService.class);
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final int precision;
+    private final int maxSketches;
+
+    private final Map<Key<LocalDateTime>, LongAdder> hourlyViews = new ConcurrentHashMap<>();
+    private final Map<Key<LocalDate>, DaySketch> dailyViewers = new ConcurrentHashMap<>();
+    /** Adders taken out by the last flush and the count flushed from each, guarded by flush() */
+    private Map<Key<LocalDateTime>, Retired> retired = new HashMap<>();
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder untrackedViewers = new LongAdder();
+    private final LongAdder flushFailures = new LongAdder();
+
+    public JobViewAnalyticsService(JdbcTemplate jdbc,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${hustled.analytics.hll-precision:11}") int precision,
+                                   @Value("${hustled.analytics.max-sketches:10000}") int maxSketches) {
+        if (precision < 4 || precision > 14) throw new IllegalArgumentException("hustled.analytics.hll-precision must be between 4 and 14");
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.precision = precision;
+        this.maxSketches = maxSketches;
+    }
+
+    /**
+     * Count one page view; viewerKey identifies the viewer (user name or client address)
+     */
+    public void recordView(long jobId, String viewerKey) {
+        LocalDateTime now = LocalDateTime.now();
+        recorded.increment();
+        hourlyViews.computeIfAbsent(new Key<>(jobId, now.truncatedTo(ChronoUnit.HOURS)), k -> new LongAdder()).increment();
+
+        Key<LocalDate> day = new Key<>(jobId, now.toLocalDate());
+        DaySketch sketch = dailyViewers.get(day);
+        if (sketch == null) {
+            if (dailyViewers.size() >= maxSketches) {
+                // Views are still counted; only the unique-viewer estimate misses this one
+                untrackedViewers.increment();
+                return;
+            }
+            sketch = dailyViewers.computeIfAbsent(day, k -> new DaySketch(precision));
+        }
+        if (sketch.sketch.offer(HyperLogLog.hash(viewerKey))) sketch.dirty = true;
+    }
+
+    @Scheduled(fixedDelayString = "${hustled.analytics.flush-ms:60000}", initialDelayString = "${hustled.analytics.flush-ms:60000}")
+    @PreDestroy
+    public synchronized void flush() {
+        flushHourly();
+        flushDaily();
+    }
+
+    /**
+     * Views per hour, or per day with unique viewers, for the last {@code days} days
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> report(long jobId, int days, boolean hourly) {
+        LocalDate fromDate = LocalDate.now().minusDays(Math.max(days, 1) - 1L);
+        Timestamp from = Timestamp.valueOf(fromDate.atStartOfDay());
+
+        List<ViewStatsDTO> series;
+        if (hourly) {
+            series = jdbc.query("SELECT hour_start, views FROM job_view_hourly WHERE job_id = ? AND hour_start >= ? ORDER BY hour_start",
+                    (rs, i) -> new ViewStatsDTO(rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2), null), jobId, from);
+        } else {
+            Map<LocalDate, ViewStatsDTO> byDay = new TreeMap<>();
+            jdbc.query("SELECT DATE(hour_start), SUM(views) FROM job_view_hourly WHERE job_id = ? AND hour_start >= ? GROUP BY DATE(hour_start)",
+                    rs -> {
+                        LocalDate day = rs.getDate(1).toLocalDate();
+                        byDay.put(day, new ViewStatsDTO(day.atStartOfDay(), rs.getLong(2), 0L));
+                    }, jobId, from);
+            jdbc.query("SELECT view_date, unique_viewers FROM job_view_daily WHERE job_id = ? AND view_date >= ?",
+                    rs -> {
+                        LocalDate day = rs.getDate(1).toLocalDate();
+                        byDay.computeIfAbsent(day, d -> new ViewStatsDTO(d.atStartOfDay(), 0, 0L)).setUniqueViewers(rs.getLong(2));
+                    }, jobId, Date.valueOf(fromDate));
+            series = new ArrayList<>(byDay.values());
+        }
+
+        // Distinct viewers across the whole window: merge the daily sketches rather than adding up days
+        HyperLogLog window = new HyperLogLog(precision);
+        jdbc.query("SELECT unique_sketch FROM job_view_daily WHERE job_id = ? AND view_date >= ? AND unique_sketch IS NOT NULL",
+                rs -> {
+                    byte[] registers = rs.getBytes(1);
+                    if (registers.length == 1 << precision) window.merge(registers);
+                }, jobId, Date.valueOf(fromDate));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("jobId", jobId);
+        report.put("granularity", hourly ? "hour" : "day");
+        report.put("totalViews", series.stream().mapToLong(ViewStatsDTO::getViews).sum());
+        report.put("uniqueViewers", window.estimate());
+        report.put("series", series);
+        return report;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("recordedViews", recorded.sum());
+        stats.put("pendingHourBuckets", hourlyViews.size());
+        stats.put("daySketches", dailyViewers.size());
+        stats.put("untrackedViewers", untrackedViewers.sum());
+        stats.put("flushFailures", flushFailures.sum());
+        return stats;
+    }
+
+    private void flushHourly() {
+        // A view that fetched an adder just before the last flush removed it lands late; carry it over
+        retired.forEach((key, r) -> {
+            long late = r.adder.sum() - r.flushed;
+            if (late > 0) hourlyViews.computeIfAbsent(key, k -> new LongAdder()).add(late);
+        });
+        retired = new HashMap<>();
+
+        List<Object[]> rows = new ArrayList<>();
+        List<Key<LocalDateTime>> keys = new ArrayList<>();
+        for (Map.Entry<Key<LocalDateTime>, LongAdder> entry : hourlyViews.entrySet()) {
+            Key<LocalDateTime> key = entry.getKey();
+            LongAdder adder = entry.getValue();
+            // Swapped out rather than reset in place: sumThenReset can lose a concurrent increment
+            if (!hourlyViews.remove(key, adder)) continue;
+            long views = adder.sum();
+            retired.put(key, new Retired(adder, views));
+            if (views == 0) continue;
+            rows.add(new Object[] { Timestamp.valueOf(key.bucket), views, key.jobId });
+            keys.add(key);
+        }
+        if (rows.isEmpty()) return;
+        try {
+            // One transaction, so a failure leaves nothing applied and everything can be re-queued.
+            // Selecting from jobs skips views of postings deleted since they were counted.
+            tx.executeWithoutResult(status -> jdbc.batchUpdate(
+                    "INSERT INTO job_view_hourly (job_id, hour_start, views) SELECT id, ?, ? FROM jobs WHERE id = ? " +
+                    "ON DUPLICATE KEY UPDATE views = views + VALUES(views)", rows));
+        } catch (DataAccessException e) {
+            flushFailures.increment();
+            log.warn("Could not flush {} hourly view buckets, keeping them for the next flush: {}", rows.size(), e.getMessage());
+            for (int i = 0; i < rows.size(); i++) {
+                hourlyViews.computeIfAbsent(keys.get(i), k -> new LongAdder()).add((Long) rows.get(i)[1]);
+            }
+        }
+    }
+
+    private void flushDaily() {
+        LocalDate today = LocalDate.now();
+        for (Map.Entry<Key<LocalDate>, DaySketch> entry : dailyViewers.entrySet()) {
+            Key<LocalDate> key = entry.getKey();
+            DaySketch sketch = entry.getValue();
+            if (sketch.dirty) {
+                // Clear first: an offer racing with the flush sets it again and is picked up next time
+                sketch.dirty = false;
+                try {
+                    tx.executeWithoutResult(status -> mergeDay(key, sketch.sketch));
+                } catch (DataAccessException e) {
+                    sketch.dirty = true;
+                    flushFailures.increment();
+                    log.warn("Could not flush viewer sketch for job {} on {}: {}", key.jobId, key.bucket, e.getMessage());
+                    continue;
+                }
+            }
+            if (key.bucket.isBefore(today) && !sketch.dirty) dailyViewers.remove(key, sketch);
+        }
+    }
+
+    private void mergeDay(Key<LocalDate> key, HyperLogLog local) {
+        Date day = Date.valueOf(key.bucket);
+        List<byte[]> stored = jdbc.query("SELECT unique_sketch FROM job_view_daily WHERE job_id = ? AND view_date = ? FOR UPDATE",
+                (rs, i) -> rs.getBytes(1), key.jobId, day);
+        HyperLogLog merged = HyperLogLog.fromBytes(local.toBytes());
+        if (!stored.isEmpty() && stored.get(0) != null && stored.get(0).length == 1 << precision) {
+            merged.merge(stored.get(0));
+        }
+        jdbc.update("INSERT INTO job_view_daily (job_id, view_date, unique_viewers, unique_sketch, updated_at) " +
+                        "SELECT id, ?, ?, ?, NOW(6) FROM jobs WHERE id = ? " +
+                        "ON DUPLICATE KEY UPDATE unique_viewers = VALUES(unique_viewers), unique_sketch = VALUES(unique_sketch), updated_at = VALUES(updated_at)",
+                day, merged.estimate(), merged.toBytes(), key.jobId);
+    }
+
+    private static final class DaySketch {
+        final HyperLogLog sketch;
+        volatile boolean dirty;
+
+        DaySketch(int precision) {
+            this.sketch = new HyperLogLog(precision);
+        }
+    }
+
+    private static final class Key<T> {
+        final long jobId;
+        final T bucket;
+
+        Key(long jobId, T bucket) {
+            this.jobId = jobId;
+            this.bucket = bucket;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key<?> other = (Key<?>) o;
+            return jobId == other.jobId && bucket.equals(other.bucket);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(jobId) * 31 + bucket.hashCode();
+        }
+    }
+
+    private static final class Retired {
+        final LongAdder adder;
+        final long flushed;
+
+        Retired(LongAdder adder, long flushed) {
+            this.adder = adder;
+            this.flushed = flushed;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.hustled.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * Maps free-text locations ("Quezon City, PH", "BGC, Taguig", "4026") to coordinates using the
+ * bundled offline gazetteer in classpath:geo/gazetteer.csv.
+ *
+ * Lookup tries the whole string first, then each comma-separated part, then shorter word
+ * windows, so noise such as "Remote / Makati office" still resolves. Province names resolve
+ * to their most populous gazetteer city.
+ */
+@Service
+public class LocationNormalizer {
+
+    private static final Logger log = LoggerFactory.getLogger(LocationNormalizer.class);
+    private static final String GAZETTEER = "geo/gazetteer.csv";
+    private static final Set<String> NOISE_WORDS = Set.of("city", "of", "ph", "phl", "philippines", "metro", "the");
+
+    private final Map<String, Place> byName = new HashMap<>();
+    private final Map<String, Place> byPostalCode = new HashMap<>();
+    private final Map<String, Place> byProvince = new HashMap<>();
+
+    public LocationNormalizer() {
+        load();
+    }
+
+    /**
+     * Resolve a free-text location, or null when nothing in the gazetteer matches
+     */
+    public Place resolve(String text) {
+        if (text == null || text.isBlank()) return null;
+
+        String trimmed = text.trim();
+        Place postal = byPostalCode.get(trimmed);
+        if (postal != null) return postal;
+
+        Place place = lookup(normalize(trimmed));
+        if (place != null) return place;
+
+        for (String part : trimmed.split("[,;/|()\\-]")) {
+            place = lookup(normalize(part));
+            if (place != null) return place;
+        }
+
+        // Longest word windows first, e.g. "san jose del monte" before "san jose"
+        String[] words = normalize(trimmed).split(" ");
+        for (int len = Math.min(words.length, 4); len >= 1; len--) {
+            for (int i = 0; i + len <= words.length; i++) {
+                place = lookup(String.join(" ", Arrays.copyOfRange(words, i, i + len)));
+                if (place != null) return place;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolve a structured address, most specific field first
+     */
+    public Place resolve(String city, String province, String postalCode) {
+        Place place = resolve(city);
+        if (place == null && postalCode != null) place = byPostalCode.get(postalCode.trim());
+        if (place == null) place = resolve(province);
+        return place;
+    }
+
+    private Place lookup(String key) {
+        if (key.isEmpty()) return null;
+        Place place = byName.get(key);
+        if (place == null) place = byProvince.get(key);
+        if (place == null) {
+            String stripped = stripNoise(key);
+            if (!stripped.isEmpty() && !stripped.equals(key)) {
+                place = byName.get(stripped);
+                if (place == null) place = byProvince.get(stripped);
+            }
+        }
+        return place;
+    }
+
+    private void load() {
+        ClassPathResource resource = new ClassPathResource(GAZETTEER);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                String[] cols = line.split(",", -1);
+                Place place = new Place(cols[0].trim(), cols[1].trim(),
+                        Double.parseDouble(cols[2]), Double.parseDouble(cols[3]), Long.parseLong(cols[4]));
+
+                register(byName, normalize(place.getName()), place);
+                register(byName, stripNoise(normalize(place.getName())), place);
+                if (cols.length > 6 && !cols[6].isBlank()) {
+                    for (String alias : cols[6].split("\\|")) {
+                        register(byName, normalize(alias), place);
+                    }
+                }
+                if (!cols[5].isBlank()) byPostalCode.putIfAbsent(cols[5].trim(), place);
+                register(byProvince, normalize(place.getProvince()), place);
+            }
+            log.info("Loaded {} gazetteer names", byName.size());
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read " + GAZETTEER, e);
+        }
+    }
+
+    /**
+     * Keep the most populous place when two entries share a key
+     */
+    private static void register(Map<String, Place> index, String key, Place place) {
+        if (key.isEmpty()) return;
+        index.merge(key, place, (a, b) -> a.getPopulation() >= b.getPopulation() ? a : b);
+    }
+
+    static String normalize(String value) {
+        if (value == null) return "";
+        String ascii = Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return ascii.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", " ").trim();
+    }
+
+    private static String stripNoise(String key) {
+        StringBuilder sb = new StringBuilder();
+        for (String word : key.split(" ")) {
+            if (NOISE_WORDS.contains(word)) continue;
+            if (sb.length() > 0) sb.append(' ');
+            sb.append(word);
+        }
+        return sb.toString();
+    }
+
+    public static class Place {
+        private final String name;
+        private final String province;
+        private final double latitude;
+        private final double longitude;
+        private final long population;
+
+        public Place(String name, String province, double latitude, double longitude, long population) {
+            this.name = name;
+            this.province = province;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.population = population;
+        }
+
+        public String getName() { return name; }
+        public String getProvince() { return province; }
+        public double getLatitude() { return latitude; }
+        public double getLongitude() { return longitude; }
+        public long getPopulation() { return population; }
+    }
+}
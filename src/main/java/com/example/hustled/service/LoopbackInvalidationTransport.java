@@ -0,0 +1,51 @@
+package com.example.hustled.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * In-process transport. Every transport sharing a {@link Hub} receives every batch
+ * synchronously, which lets tests run several buses as if they were separate nodes. The
+ * default bean gets its own hub, so a single-node deployment pays nothing.
+ */
+@Service
+@ConditionalOnProperty(name = "hustled.invalidation.transport", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    private final Hub hub;
+    private BiConsumer<String, List<CacheInvalidation>> receiver;
+
+    public LoopbackInvalidationTransport() {
+        this(new Hub());
+    }
+
+    public LoopbackInvalidationTransport(Hub hub) {
+        this.hub = hub;
+    }
+
+    @Override
+    public void start(String nodeId, BiConsumer<String, List<CacheInvalidation>> receiver) {
+        this.receiver = receiver;
+        hub.members.add(this);
+    }
+
+    @Override
+    public void send(String nodeId, List<CacheInvalidation> batch) {
+        for (LoopbackInvalidationTransport member : hub.members) {
+            member.receiver.accept(nodeId, batch);
+        }
+    }
+
+    @Override
+    public void stop() {
+        hub.members.remove(this);
+    }
+
+    public static class Hub {
+        private final List<LoopbackInvalidationTransport> members = new CopyOnWriteArrayList<>();
+    }
+}
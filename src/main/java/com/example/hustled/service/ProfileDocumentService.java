@@ -0,0 +1,438 @@
+package com.example.hustled.service;
+
+import com.example.hustled.util.StripedLruMap;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Denormalized candidate profile documents: the candidate_profiles row plus skills, experiences,
+ * education and certifications as one JSON blob in candidate_profile_documents.
+ *
+ * A full build is a single UNION ALL round trip, with MySQL packing each row into a JSON object.
+ * When one part changes only that section is re-queried and spliced into the stored document,
+ * under a row lock. Reads are one primary-key lookup, fronted by an LRU of the serialized bytes
+ * that peers clear through the PROFILE region of {@link InvalidationBus}.
+ */
+@Service
+@Order(20)
+public class ProfileDocumentService implements InvalidationListener {
+
+    private static final String DOCUMENT_BY_CANDIDATE =
+            "SELECT document FROM candidate_profile_documents WHERE candidate_id = ?";
+    private static final String UPSERT_DOCUMENT =
+            "INSERT INTO candidate_profile_documents (candidate_id, user_id, document, built_at) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE user_id = VALUES(user_id), document = VALUES(document), built_at = VALUES(built_at)";
+
+    public enum Section {
+        PROFILE(null, "candidate_profiles", "id", "0",
+                col("id", "id", Kind.NUMBER), col("userId", "user_id", Kind.NUMBER),
+                col("firstName", "first_name", Kind.TEXT), col("lastName", "last_name", Kind.TEXT),
+                col("headline", "headline", Kind.TEXT), col("bio", "bio", Kind.TEXT),
+                col("phone", "phone", Kind.TEXT), col("city", "city", Kind.TEXT),
+                col("province", "province", Kind.TEXT), col("postalCode", "postal_code", Kind.TEXT),
+                col("address", "address", Kind.TEXT), col("dateOfBirth", "date_of_birth", Kind.DATE),
+                col("gender", "gender", Kind.TEXT), col("website", "website_url", Kind.TEXT),
+                col("portfolio", "portfolio_url", Kind.TEXT), col("linkedin", "linkedin_url", Kind.TEXT),
+                col("github", "github_url", Kind.TEXT), col("resumeUrl", "resume_url", Kind.TEXT),
+                col("photoUrl", "photo_url", Kind.TEXT), col("isProfileComplete", "is_profile_complete", Kind.BOOLEAN),
+                col("createdAt", "created_at", Kind.TIMESTAMP), col("updatedAt", "updated_at", Kind.TIMESTAMP)),
+        SKILLS("skills", "candidate_skills", "candidate_id", "id",
+                col("id", "id", Kind.NUMBER), col("skillName", "skill_name", Kind.TEXT),
+                col("proficiencyLevel", "proficiency_level", Kind.TEXT),
+                col("yearsOfExperience", "years_of_experience", Kind.NUMBER)),
+        EXPERIENCES("experiences", "candidate_experiences", "candidate_id", "-TO_DAYS(start_date)",
+                col("id", "id", Kind.NUMBER), col("jobTitle", "job_title", Kind.TEXT),
+                col("companyName", "company_name", Kind.TEXT), col("employmentType", "employment_type", Kind.TEXT),
+                col("location", "location", Kind.TEXT), col("startDate", "start_date", Kind.DATE),
+                col("endDate", "end_date", Kind.DATE), col("isCurrentJob", "is_current_job", Kind.BOOLEAN),
+                col("description", "description", Kind.TEXT)),
+        EDUCATION("education", "candidate_education", "candidate_id", "-TO_DAYS(start_date)",
+                col("id", "id", Kind.NUMBER), col("schoolName", "school_name", Kind.TEXT),
+                col("degree", "degree", Kind.TEXT), col("fieldOfStudy", "field_of_study", Kind.TEXT),
+                col("startDate", "start_date", Kind.DATE), col("endDate", "end_date", Kind.DATE),
+                col("gradeGpa", "grade_gpa", Kind.TEXT), col("description", "description", Kind.TEXT)),
+        CERTIFICATIONS("certifications", "candidate_certifications", "candidate_id", "-TO_DAYS(issue_date)",
+                col("id", "id", Kind.NUMBER), col("certificationName", "certification_name", Kind.TEXT),
+                col("issuingOrganization", "issuing_organization", Kind.TEXT),
+                col("issueDate", "issue_date", Kind.DATE), col("expirationDate", "expiration_date", Kind.DATE),
+                col("credentialUrl", "credential_url", Kind.TEXT), col("description", "description", Kind.TEXT));
+
+        /** Array property in the document, or null for the top-level profile fields */
+        private final String key;
+        private final String table;
+        private final String ownerColumn;
+        private final String sortExpression;
+        private final List<Column> columns;
+
+        Section(String key, String table, String ownerColumn, String sortExpression, Column... columns) {
+            this.key = key;
+            this.table = table;
+            this.ownerColumn = ownerColumn;
+            this.sortExpression = sortExpression;
+            this.columns = List.of(columns);
+        }
+
+        public String key() {
+            return key;
+        }
+
+        /**
+         * Case-insensitive lookup by document key ("skills", "education", ...); null when unknown
+         */
+        public static Section fromKey(String key) {
+            for (Section section : values()) {
+                if (section.key != null && section.key.equalsIgnoreCase(key)) return section;
+            }
+            return null;
+        }
+
+        /** One branch of the UNION ALL: (section ordinal, sort key, row id, row as JSON) */
+        String select() {
+            String fields = columns.stream().map(Column::jsonPair).collect(Collectors.joining(", "));
+            return "SELECT " + ordinal() + " AS section, " + sortExpression + " AS sort_key, id AS row_id, "
+                    + "JSON_OBJECT(" + fields + ") AS data FROM " + table + " WHERE " + ownerColumn + " = ?";
+        }
+    }
+
+    enum Kind { TEXT, NUMBER, DATE, TIMESTAMP, BOOLEAN }
+
+    private static final class Column {
+        final String property;
+        final String column;
+        final Kind kind;
+
+        Column(String property, String column, Kind kind) {
+            this.property = property;
+            this.column = column;
+            this.kind = kind;
+        }
+
+        /** Encoded the way the entities' Jackson output looks, so both paths agree */
+        String jsonPair() {
+            String value = switch (kind) {
+                case TIMESTAMP -> "DATE_FORMAT(" + column + ", '%Y-%m-%dT%H:%i:%s')";
+                case BOOLEAN -> "JSON_EXTRACT(IF(" + column + ", 'true', 'false'), '$')";
+                default -> column;
+            };
+            return "'" + property + "', " + value;
+        }
+    }
+
+    private static Column col(String property, String column, Kind kind) {
+        return new Column(property, column, kind);
+    }
+
+    /** Every section in one round trip; an instance field because Section's constants call back into this class */
+    private final String fullBuild = Arrays.stream(Section.values())
+            .map(Section::select)
+            .collect(Collectors.joining(" UNION ALL ")) + " ORDER BY section, sort_key, row_id";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final ObjectMapper objectMapper;
+    private final InvalidationBus invalidationBus;
+    private final StripedLruMap<Long, byte[]> documents;
+    private final StripedLruMap<Long, Long> candidateByUser;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder fullBuilds = new LongAdder();
+    private final LongAdder sectionBuilds = new LongAdder();
+
+    public ProfileDocumentService(JdbcTemplate jdbc,
+                                  PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper,
+                                  InvalidationBus invalidationBus,
+                                  @Value("${hustled.profiles.document-cache-size:5000}") int cacheSize) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(transactionManager);
+        // Section rebuilds run from afterCommit callbacks, where REQUIRED would join the finished transaction
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.invalidationBus = invalidationBus;
+        this.documents = new StripedLruMap<>(16, cacheSize);
+        this.candidateByUser = new StripedLruMap<>(16, cacheSize);
+    }
+
+    /**
+     * The serialized profile document of a candidate, building it on first access;
+     * null when the candidate does not exist
+     */
+    public byte[] findByCandidateId(Long candidateId) {
+        byte[] cached = documents.get(candidateId);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        loads.increment();
+        List<byte[]> stored = jdbc.query(DOCUMENT_BY_CANDIDATE, (rs, i) -> rs.getBytes(1), candidateId);
+        byte[] document = stored.isEmpty() ? rebuild(candidateId) : stored.get(0);
+        if (document != null) documents.put(candidateId, document);
+        return document;
+    }
+
+    /**
+     * The profile document of the candidate owned by a user; null when the user has no profile
+     */
+    public byte[] findByUserId(Long userId) {
+        Long candidateId = candidateByUser.get(userId);
+        if (candidateId == null) {
+            List<Long> ids = jdbc.queryForList("SELECT id FROM candidate_profiles WHERE user_id = ?", Long.class, userId);
+            if (ids.isEmpty()) return null;
+            candidateId = ids.get(0);
+            candidateByUser.put(userId, candidateId);
+        }
+        return findByCandidateId(candidateId);
+    }
+
+    /**
+     * Documents for a page of candidates (employer grids): cached ones from memory, the rest in
+     * one IN query, and only never-built ones assembled individually. Missing candidates are skipped.
+     */
+    public Map<Long, byte[]> findAllByCandidateIds(Collection<Long> candidateIds) {
+        Map<Long, byte[]> found = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(candidateIds)) {
+            byte[] cached = documents.get(id);
+            if (cached != null) {
+                hits.increment();
+                found.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            loads.add(missing.size());
+            String in = missing.stream().map(id -> "?").collect(Collectors.joining(", "));
+            jdbc.query("SELECT candidate_id, document FROM candidate_profile_documents WHERE candidate_id IN (" + in + ")",
+                    rs -> {
+                        long id = rs.getLong(1);
+                        byte[] document = rs.getBytes(2);
+                        documents.put(id, document);
+                        found.put(id, document);
+                    }, missing.toArray());
+            for (Long id : missing) {
+                if (found.containsKey(id)) continue;
+                byte[] document = rebuild(id);
+                if (document != null) {
+                    documents.put(id, document);
+                    found.put(id, document);
+                }
+            }
+        }
+        // Keep the caller's order
+        Map<Long, byte[]> ordered = new LinkedHashMap<>();
+        for (Long id : candidateIds) {
+            if (found.containsKey(id)) ordered.put(id, found.get(id));
+        }
+        return ordered;
+    }
+
+    /**
+     * Assemble and store the whole document in one UNION ALL query; returns null and drops any
+     * stored document when the candidate no longer exists
+     */
+    public byte[] rebuild(Long candidateId) {
+        return tx.execute(status -> {
+            fullBuilds.increment();
+            Object[] args = new Object[Section.values().length];
+            Arrays.fill(args, candidateId);
+            Map<Section, List<JsonNode>> rows = new EnumMap<>(Section.class);
+            jdbc.query(fullBuild, rs -> {
+                Section section = Section.values()[rs.getInt("section")];
+                rows.computeIfAbsent(section, s -> new ArrayList<>()).add(parse(rs.getString("data")));
+            }, args);
+            if (!rows.containsKey(Section.PROFILE)) {
+                jdbc.update("DELETE FROM candidate_profile_documents WHERE candidate_id = ?", candidateId);
+                afterCommit(() -> documents.remove(candidateId));
+                return null;
+            }
+            ObjectNode document = objectMapper.createObjectNode();
+            for (Section section : Section.values()) {
+                splice(document, section, rows.getOrDefault(section, List.of()));
+            }
+            return store(candidateId, document);
+        });
+    }
+
+    /**
+     * Re-query only the changed sections and splice them into the stored document. Runs after
+     * the surrounding transaction commits, so the new rows are visible.
+     */
+    public void sectionsChanged(Long candidateId, Section... sections) {
+        afterCommit(() -> rebuildSections(candidateId, sections));
+    }
+
+    /**
+     * Replace every row of one list section, e.g. a candidate's full skill list, and refresh the
+     * document. Unknown properties are ignored.
+     *
+     * @throws IllegalArgumentException for the profile section, which is saved through the entity
+     */
+    public void replaceSection(Long candidateId, Section section, List<Map<String, Object>> items) {
+        if (section == Section.PROFILE) throw new IllegalArgumentException("Profile fields are saved through /profile/save");
+        List<Column> writable = section.columns.stream()
+                .filter(c -> !c.property.equals("id"))
+                .collect(Collectors.toList());
+        String sql = "INSERT INTO " + section.table + " (candidate_id, "
+                + writable.stream().map(c -> c.column).collect(Collectors.joining(", ")) + ") VALUES (?, "
+                + writable.stream().map(c -> "?").collect(Collectors.joining(", ")) + ")";
+        List<Object[]> batch = new ArrayList<>(items.size());
+        for (Map<String, Object> item : items) {
+            Object[] values = new Object[writable.size() + 1];
+            values[0] = candidateId;
+            for (int i = 0; i < writable.size(); i++) values[i + 1] = item.get(writable.get(i).property);
+            batch.add(values);
+        }
+        tx.executeWithoutResult(status -> {
+            jdbc.update("DELETE FROM " + section.table + " WHERE candidate_id = ?", candidateId);
+            if (!batch.isEmpty()) jdbc.batchUpdate(sql, batch);
+            sectionsChanged(candidateId, section);
+        });
+    }
+
+    /**
+     * Counters for the admin metrics endpoint
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cached", documents.size());
+        stats.put("hits", hits.sum());
+        stats.put("loads", loads.sum());
+        stats.put("fullBuilds", fullBuilds.sum());
+        stats.put("sectionBuilds", sectionBuilds.sum());
+        return stats;
+    }
+
+    @Override
+    public void onInvalidate(String region, Collection<Long> ids, boolean remote) {
+        // Local writes refresh the cache themselves once the document is rebuilt
+        if (!remote || !InvalidationBus.PROFILE.equals(region)) return;
+        ids.forEach(documents::remove);
+    }
+
+    private void rebuildSections(Long candidateId, Section... sections) {
+        byte[] built = tx.execute(status -> {
+            byte[] current;
+            try {
+                current = jdbc.queryForObject(DOCUMENT_BY_CANDIDATE + " FOR UPDATE", byte[].class, candidateId);
+            } catch (EmptyResultDataAccessException e) {
+                current = null;
+            }
+            // Never built yet: the full build reads every section anyway
+            if (current == null) return null;
+            sectionBuilds.increment();
+            ObjectNode document = (ObjectNode) parse(current);
+            for (Section section : sections) {
+                List<JsonNode> rows = jdbc.query(section.select() + " ORDER BY sort_key, row_id",
+                        (rs, i) -> parse(rs.getString("data")), candidateId);
+                if (section == Section.PROFILE && rows.isEmpty()) {
+                    jdbc.update("DELETE FROM candidate_profile_documents WHERE candidate_id = ?", candidateId);
+                    return new byte[0];
+                }
+                splice(document, section, rows);
+            }
+            invalidationBus.publish(InvalidationBus.PROFILE, candidateId);
+            return store(candidateId, document);
+        });
+        if (built == null) {
+            built = rebuild(candidateId);
+        } else if (built.length == 0) {
+            built = null;
+        }
+        if (built == null) {
+            documents.remove(candidateId);
+        } else {
+            documents.put(candidateId, built);
+        }
+    }
+
+    private byte[] store(Long candidateId, ObjectNode document) {
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        jdbc.update(UPSERT_DOCUMENT, candidateId, document.path("userId").asLong(), bytes,
+                Timestamp.valueOf(LocalDateTime.now()));
+        return bytes;
+    }
+
+    /**
+     * Replace one section of a document. Profile rows overwrite the top-level scalar fields;
+     * other sections become their array. Null fields are dropped, as in every other JSON response.
+     */
+    static void splice(ObjectNode document, Section section, List<JsonNode> rows) {
+        if (section.key == null) {
+            List<String> scalars = new ArrayList<>();
+            document.fieldNames().forEachRemaining(name -> {
+                if (!document.get(name).isArray()) scalars.add(name);
+            });
+            document.remove(scalars);
+            if (!rows.isEmpty()) copyNonNull((ObjectNode) rows.get(0), document);
+            return;
+        }
+        ArrayNode array = document.arrayNode(rows.size());
+        for (JsonNode row : rows) {
+            ObjectNode item = array.addObject();
+            copyNonNull((ObjectNode) row, item);
+        }
+        document.set(section.key, array);
+    }
+
+    private static void copyNonNull(ObjectNode from, ObjectNode to) {
+        from.fields().forEachRemaining(field -> {
+            if (!field.getValue().isNull()) to.set(field.getKey(), field.getValue());
+        });
+    }
+
+    private JsonNode parse(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonNode parse(byte[] json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.hustled.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.InterruptedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Offline backend for development and tests: echoes the question back word by word with a
+ * small delay per token, so streaming, caching and coalescing behave as they would upstream.
+ */
+@Service
+@ConditionalOnProperty(name = "hustled.chat.backend", havingValue = "stub", matchIfMissing = true)
+public class StubChatModelBackend implements ChatModelBackend {
+
+    private final long tokenDelayMs;
+
+    public StubChatModelBackend(@Value("${hustled.chat.stub.token-delay-ms:25}") long tokenDelayMs) {
+        this.tokenDelayMs = tokenDelayMs;
+    }
+
+    @Override
+    public void generate(String systemInstruction, String prompt, Consumer<String> onToken) throws InterruptedIOException {
+        String answer = "This is the local JobZilla assistant stub. You asked: \"" + prompt.trim()
+                + "\". Set hustled.chat.backend=gemini to get real answers.";
+        String[] words = answer.split(" ");
+        for (int i = 0; i < words.length; i++) {
+            if (tokenDelayMs > 0) {
+                try {
+                    Thread.sleep(tokenDelayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Stub generation interrupted");
+                }
+            }
+            onToken.accept(i == 0 ? words[i] : " " + words[i]);
+        }
+    }
+}
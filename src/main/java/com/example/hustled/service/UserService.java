@@ -1,6 +1,9 @@
 package com.example.hustled.service;
 
+import com.example.hustled.config.ReadYourWritesTracker;
 import com.example.hustled.entity.User;
+import com.example.hustled.event.DomainEventBus;
+import com.example.hustled.event.UserRegistered;
 import com.example.hustled.repository.UserRepository;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -10,10 +13,18 @@ import java.util.Optional;
 public class UserService {
     private final UserRepository userRepo;
     private final BCryptPasswordEncoder encoder;
+    private final InvalidationBus invalidationBus;
+    private final DomainEventBus events;
+    private final ReadYourWritesTracker readYourWrites;
 
-    public UserService(UserRepository userRepo, BCryptPasswordEncoder encoder) {
+    public UserService(UserRepository userRepo, BCryptPasswordEncoder encoder,
+                       InvalidationBus invalidationBus, DomainEventBus events,
+                       ReadYourWritesTracker readYourWrites) {
         this.userRepo = userRepo;
         this.encoder = encoder;
+        this.invalidationBus = invalidationBus;
+        this.events = events;
+        this.readYourWrites = readYourWrites;
     }
 
     public boolean register(User user){
@@ -30,6 +41,12 @@ public class UserService {
         User newUser = null;
         try{
             newUser = userRepo.save(user);
+            // The login that follows may come from this anonymous caller or already as the new user
+            readYourWrites.recordWrite();
+            readYourWrites.recordWrite(newUser.getUsername());
+            // Peers may have cached "no such user" for this username
+            invalidationBus.publish(InvalidationBus.USER, newUser.getId());
+            events.publish(new UserRegistered(newUser.getId(), newUser.getUsername(), newUser.getRole()));
         }catch (Exception ex){
             ex.printStackTrace();
             return false;
@@ -0,0 +1,118 @@
+package com.example.hustled.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows measured latency instead of a fixed pool size.
+ *
+ * Request latencies are averaged over windows of a fixed number of samples. The lowest window
+ * average seen so far is the no-load latency; each window moves the limit towards
+ * {@code limit * min(1, tolerance * noLoad / current) + sqrt(limit)}. The limit therefore
+ * grows by about sqrt(limit) while latency stays near no-load, and it shrinks in proportion
+ * once requests start queueing. Callers pass a share of the limit to {@link #tryAcquire}, so
+ * lower-priority work is refused first as in-flight requests approach the limit.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    /** Weight of a new window when smoothing the limit */
+    private static final double SMOOTHING = 0.2;
+    /** How fast the no-load latency drifts up towards a persistently higher baseline */
+    private static final double NO_LOAD_DRIFT = 0.01;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final int windowSize;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // Window state, guarded by this
+    private long windowSumNanos;
+    private int windowCount;
+    private int windowPeakInFlight;
+    private double noLoadNanos;
+
+    /**
+     * @param initialLimit starting limit
+     * @param minLimit the limit never drops below this
+     * @param maxLimit the limit never grows above this
+     * @param tolerance latency growth over no-load accepted before the limit shrinks, e.g. 1.5
+     * @param windowSize completed requests per adjustment
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, int windowSize) {
+        if (minLimit < 1 || maxLimit < minLimit) throw new IllegalArgumentException("need 1 <= minLimit <= maxLimit");
+        if (tolerance < 1) throw new IllegalArgumentException("tolerance must be at least 1");
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.windowSize = Math.max(1, windowSize);
+        this.limit = clamp(initialLimit);
+    }
+
+    /**
+     * Take a slot if fewer than share * limit requests are in flight
+     * @param share fraction of the limit this caller may use, in (0, 1]
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) return false;
+            if (inFlight.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    /**
+     * Return a slot taken by {@link #tryAcquire} and record how long the request took
+     */
+    public void release(long latencyNanos) {
+        int before = inFlight.getAndDecrement();
+        sample(latencyNanos, before);
+    }
+
+    /**
+     * Return a slot without recording a latency, for requests whose duration is not service
+     * time (a stream that stays open as long as the client reads)
+     */
+    public void releaseUnsampled() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() { return limit; }
+    public int getInFlight() { return inFlight.get(); }
+
+    public synchronized double getNoLoadMillis() {
+        return noLoadNanos / 1_000_000.0;
+    }
+
+    private synchronized void sample(long latencyNanos, int inFlightAtRelease) {
+        windowSumNanos += Math.max(1, latencyNanos);
+        windowPeakInFlight = Math.max(windowPeakInFlight, inFlightAtRelease);
+        if (++windowCount < windowSize) return;
+
+        double average = (double) windowSumNanos / windowCount;
+        if (noLoadNanos == 0 || average < noLoadNanos) {
+            noLoadNanos = average;
+        } else {
+            // A lasting shift (slower database, bigger pages) eventually becomes the new baseline
+            noLoadNanos += (average - noLoadNanos) * NO_LOAD_DRIFT;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * noLoadNanos / average));
+        int current = limit;
+        double target = current * gradient + Math.sqrt(current);
+        // Traffic that never came close to the limit says nothing about a higher one
+        if (target > current && windowPeakInFlight < current / 2) target = current;
+        double smoothed = current * (1 - SMOOTHING) + target * SMOOTHING;
+        // Round growth up so small limits can still climb one slot at a time
+        limit = clamp((int) (target > current ? Math.ceil(smoothed) : Math.round(smoothed)));
+
+        windowSumNanos = 0;
+        windowCount = 0;
+        windowPeakInFlight = 0;
+    }
+
+    private int clamp(int value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
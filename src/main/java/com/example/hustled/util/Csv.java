@@ -0,0 +1,119 @@
+package com.example.hustled.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 helpers for streaming exports and bulk imports.
+ *
+ * Fields containing a comma, quote or line break are quoted with embedded quotes doubled.
+ * Values starting with a spreadsheet formula character are prefixed with an apostrophe so an
+ * exported job title cannot execute as a formula when the file is opened in Excel.
+ */
+public final class Csv {
+
+    private Csv() {
+    }
+
+    public static void writeRow(Writer out, String... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) out.write(',');
+            writeField(out, fields[i]);
+        }
+        out.write("\r\n");
+    }
+
+    public static void writeField(Writer out, String value) throws IOException {
+        if (value == null || value.isEmpty()) return;
+
+        boolean formula = "=+-@".indexOf(value.charAt(0)) >= 0 && !isNumber(value);
+        boolean quote = formula;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+
+        out.write('"');
+        if (formula) out.write('\'');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') out.write('"');
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    /**
+     * Parse quoted or plain fields, CRLF or LF line ends; blank lines are skipped
+     *
+     * @throws IllegalArgumentException when there are more than maxRows rows or a quote is unterminated
+     */
+    public static List<String[]> readRows(Reader in, int maxRows) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean closedQuote = false;
+        boolean pending = false;
+        int c;
+        while ((c = in.read()) != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    quoted = false;
+                    closedQuote = true;
+                } else {
+                    field.append((char) c);
+                }
+                continue;
+            }
+            if (c == '"') {
+                // A quote right after a closing quote is an escaped quote inside the field
+                if (closedQuote) field.append('"');
+                quoted = true;
+                closedQuote = false;
+                pending = true;
+                continue;
+            }
+            closedQuote = false;
+            if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                pending = true;
+            } else if (c == '\n' || c == '\r') {
+                if (pending) addRow(rows, fields, field, maxRows);
+                pending = false;
+            } else {
+                field.append((char) c);
+                pending = true;
+            }
+        }
+        if (quoted) throw new IllegalArgumentException("Unterminated quoted field");
+        if (pending) addRow(rows, fields, field, maxRows);
+        return rows;
+    }
+
+    private static void addRow(List<String[]> rows, List<String> fields, StringBuilder field, int maxRows) {
+        fields.add(field.toString());
+        if (rows.size() == maxRows) throw new IllegalArgumentException("More than " + maxRows + " rows");
+        rows.add(fields.toArray(new String[0]));
+        fields.clear();
+        field.setLength(0);
+    }
+
+    private static boolean isNumber(String value) {
+        int start = value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0;
+        if (start == value.length()) return false;
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && c != '.') return false;
+        }
+        return true;
+    }
+}
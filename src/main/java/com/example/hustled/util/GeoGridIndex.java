@@ -0,0 +1,266 @@
+package com.example.hustled.util;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory spatial index that buckets points into a fixed lat/lon grid.
+ *
+ * A radius query only touches the cells overlapping the search circle's bounding box, and a
+ * nearest query expands ring by ring around the origin cell until no closer point can exist.
+ * Distances are great-circle (haversine) kilometres. Row and column ranges are clamped to the
+ * globe, and when a query's cell box holds more cells than there are points the points are
+ * scanned directly instead, so no input can make a query walk more than min(cells, points).
+ *
+ * @param <K> identifier of the indexed item, e.g. a job or profile id
+ */
+public class GeoGridIndex<K> {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    /** Half the earth's circumference; a larger radius already covers every point */
+    public static final double MAX_RADIUS_KM = Math.PI * EARTH_RADIUS_KM;
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+
+    private final double cellDegrees;
+    private final Map<Long, Set<K>> cells = new HashMap<>();
+    private final Map<K, Point> points = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param cellDegrees grid cell edge in degrees (0.1 is roughly 11 km at the equator)
+     */
+    public GeoGridIndex(double cellDegrees) {
+        if (cellDegrees <= 0) throw new IllegalArgumentException("cellDegrees must be positive");
+        this.cellDegrees = cellDegrees;
+    }
+
+    /**
+     * Insert or move an item
+     */
+    public void put(K key, double lat, double lon) {
+        checkCoordinate(lat, lon);
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            long cell = cellOf(lat, lon);
+            points.put(key, new Point(lat, lon, cell));
+            cells.computeIfAbsent(cell, c -> new HashSet<>()).add(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            points.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return points.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * All items within radiusKm of the origin, closest first
+     */
+    public List<Hit<K>> withinRadius(double lat, double lon, double radiusKm) {
+        checkQuery(lat, lon, radiusKm);
+        double radius = Math.min(radiusKm, MAX_RADIUS_KM);
+        double dLat = radius / KM_PER_DEGREE_LAT;
+        double dLon = radius / (KM_PER_DEGREE_LAT * Math.max(Math.cos(Math.toRadians(lat)), 0.01));
+        int minRow = Math.max(row(lat - dLat), row(-90)), maxRow = Math.min(row(lat + dLat), row(90));
+        int minCol = Math.max(col(lon - dLon), col(-180)), maxCol = Math.min(col(lon + dLon), col(180));
+
+        List<Hit<K>> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            long boxCells = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+            if (boxCells > points.size()) {
+                scanAll(lat, lon, radius, hits);
+            } else {
+                for (int r = minRow; r <= maxRow; r++) {
+                    for (int c = minCol; c <= maxCol; c++) {
+                        collect(key(r, c), lat, lon, radius, hits);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(Comparator.comparingDouble(Hit::getDistanceKm));
+        return hits;
+    }
+
+    /**
+     * The k items closest to the origin, no further than maxKm, closest first
+     */
+    public List<Hit<K>> nearest(double lat, double lon, int k, double maxKm) {
+        checkQuery(lat, lon, maxKm);
+        if (k <= 0) return Collections.emptyList();
+        double radius = Math.min(maxKm, MAX_RADIUS_KM);
+        int originRow = row(lat), originCol = col(lon);
+        int minRow = row(-90), maxRow = row(90), minCol = col(-180), maxCol = col(180);
+        // Smallest extent of a cell in km; a ring r cells away is at least (r - 1) * this far
+        double cellKm = cellDegrees * KM_PER_DEGREE_LAT * Math.max(Math.cos(Math.toRadians(Math.min(90, Math.abs(lat) + cellDegrees))), 0.01);
+        long maxRing = Math.min((long) Math.ceil(radius / cellKm) + 1, Math.max(maxRow - minRow, maxCol - minCol) + 1L);
+
+        PriorityQueue<Hit<K>> best = new PriorityQueue<>(Comparator.comparingDouble(Hit<K>::getDistanceKm).reversed());
+        lock.readLock().lock();
+        try {
+            if ((2 * maxRing + 1) * (2 * maxRing + 1) > points.size()) {
+                List<Hit<K>> all = new ArrayList<>();
+                scanAll(lat, lon, radius, all);
+                for (Hit<K> hit : all) keepBest(best, hit, k);
+            } else {
+                for (int ring = 0; ring <= maxRing; ring++) {
+                    if (best.size() == k && (ring - 1) * cellKm > best.peek().getDistanceKm()) break;
+                    List<Hit<K>> found = new ArrayList<>();
+                    for (int r = Math.max(originRow - ring, minRow); r <= Math.min(originRow + ring, maxRow); r++) {
+                        if (Math.abs(r - originRow) == ring) {
+                            for (int c = Math.max(originCol - ring, minCol); c <= Math.min(originCol + ring, maxCol); c++) {
+                                collect(key(r, c), lat, lon, radius, found);
+                            }
+                        } else {
+                            // Interior rows of a ring only touch its left and right edges
+                            if (originCol - ring >= minCol) collect(key(r, originCol - ring), lat, lon, radius, found);
+                            if (ring > 0 && originCol + ring <= maxCol) collect(key(r, originCol + ring), lat, lon, radius, found);
+                        }
+                    }
+                    for (Hit<K> hit : found) keepBest(best, hit, k);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Hit<K>> result = new ArrayList<>(best);
+        result.sort(Comparator.comparingDouble(Hit::getDistanceKm));
+        return result;
+    }
+
+    /**
+     * True for a finite latitude in [-90, 90] and longitude in [-180, 180]
+     */
+    public static boolean isValidCoordinate(double lat, double lon) {
+        return lat >= -90 && lat <= 90 && lon >= -180 && lon <= 180;
+    }
+
+    private static void checkCoordinate(double lat, double lon) {
+        if (!isValidCoordinate(lat, lon)) {
+            throw new IllegalArgumentException("Coordinate out of range: " + lat + ", " + lon);
+        }
+    }
+
+    private static void checkQuery(double lat, double lon, double radiusKm) {
+        checkCoordinate(lat, lon);
+        if (!(radiusKm > 0) || Double.isInfinite(radiusKm)) {
+            throw new IllegalArgumentException("Radius must be a positive number of km: " + radiusKm);
+        }
+    }
+
+    private static <K> void keepBest(PriorityQueue<Hit<K>> best, Hit<K> hit, int k) {
+        best.add(hit);
+        if (best.size() > k) best.poll();
+    }
+
+    private void scanAll(double lat, double lon, double radiusKm, List<Hit<K>> out) {
+        for (Map.Entry<K, Point> entry : points.entrySet()) {
+            Point p = entry.getValue();
+            double d = haversineKm(lat, lon, p.lat, p.lon);
+            if (d <= radiusKm) out.add(new Hit<>(entry.getKey(), d));
+        }
+    }
+
+    private void collect(long cell, double lat, double lon, double radiusKm, List<Hit<K>> out) {
+        Set<K> members = cells.get(cell);
+        if (members == null) return;
+        for (K member : members) {
+            Point p = points.get(member);
+            double d = haversineKm(lat, lon, p.lat, p.lon);
+            if (d <= radiusKm) out.add(new Hit<>(member, d));
+        }
+    }
+
+    private void removeInternal(K key) {
+        Point old = points.remove(key);
+        if (old == null) return;
+        Set<K> members = cells.get(old.cell);
+        if (members != null) {
+            members.remove(key);
+            if (members.isEmpty()) cells.remove(old.cell);
+        }
+    }
+
+    private long cellOf(double lat, double lon) {
+        return key(row(lat), col(lon));
+    }
+
+    private int row(double lat) {
+        return (int) Math.floor(lat / cellDegrees);
+    }
+
+    private int col(double lon) {
+        return (int) Math.floor(lon / cellDegrees);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    public static class Hit<K> {
+        private final K key;
+        private final double distanceKm;
+
+        public Hit(K key, double distanceKm) {
+            this.key = key;
+            this.distanceKm = distanceKm;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public double getDistanceKm() {
+            return distanceKm;
+        }
+    }
+
+    private static final class Point {
+        final double lat;
+        final double lon;
+        final long cell;
+
+        Point(double lat, double lon, long cell) {
+            this.lat = lat;
+            this.lon = lon;
+            this.cell = cell;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.hustled.util;
+
+import java.util.*;
+
+/**
+ * Hierarchical timing wheel of keyed deadlines.
+ *
+ * Level 0 has one bucket per tick; each level above covers wheelSize times the span of the one
+ * below. A deadline goes into the lowest level whose span reaches it, and when time enters a
+ * higher-level bucket its entries are re-placed into finer levels, so adding, cancelling and
+ * firing an entry are O(1) amortised no matter how many deadlines are pending. Deadlines past
+ * the top level's span wait in the top level and are re-placed each time it comes around.
+ * Not thread-safe; callers serialise access.
+ *
+ * @param <K> identifier of the scheduled item; re-adding a key reschedules it
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final int levels;
+    private final List<List<Set<K>>> wheels = new ArrayList<>();
+    private final Map<K, Entry> entries = new HashMap<>();
+    private final Set<K> overdue = new LinkedHashSet<>();
+    private long currentTick;
+
+    /**
+     * @param tickMillis resolution of a deadline
+     * @param wheelSize  buckets per level, a power of two
+     * @param levels     number of levels; total span is tickMillis * wheelSize^levels
+     * @param nowMillis  the wheel's starting time
+     */
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long nowMillis) {
+        if (tickMillis <= 0) throw new IllegalArgumentException("tickMillis must be positive");
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) throw new IllegalArgumentException("wheelSize must be a power of two");
+        if (levels < 1 || (long) Integer.numberOfTrailingZeros(wheelSize) * levels > 62) {
+            throw new IllegalArgumentException("levels out of range");
+        }
+        this.tickMillis = tickMillis;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = levels;
+        for (int level = 0; level < levels; level++) {
+            List<Set<K>> buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) buckets.add(new LinkedHashSet<>());
+            wheels.add(buckets);
+        }
+        this.currentTick = Math.floorDiv(nowMillis, tickMillis);
+    }
+
+    /**
+     * Schedule or reschedule a key; a deadline already passed fires on the next advance
+     */
+    public void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        // Round up so an entry never fires before its deadline
+        long tick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        if (tick <= currentTick) {
+            overdue.add(key);
+            return;
+        }
+        Entry entry = new Entry(tick);
+        entries.put(key, entry);
+        place(key, entry);
+    }
+
+    public boolean cancel(K key) {
+        if (overdue.remove(key)) return true;
+        Entry entry = entries.remove(key);
+        if (entry == null) return false;
+        wheels.get(entry.level).get(entry.slot).remove(key);
+        return true;
+    }
+
+    public boolean contains(K key) {
+        return entries.containsKey(key) || overdue.contains(key);
+    }
+
+    public int size() {
+        return entries.size() + overdue.size();
+    }
+
+    /**
+     * Move the clock forward and return every key whose deadline is at or before nowMillis
+     */
+    public List<K> advance(long nowMillis) {
+        List<K> fired = new ArrayList<>(overdue);
+        overdue.clear();
+        long target = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < target) {
+            currentTick++;
+            // Entering a new window at a higher level: push its entries down a level or more
+            for (int level = levels - 1; level >= 1; level--) {
+                if ((currentTick & ((1L << (bits * level)) - 1)) == 0) {
+                    cascade(level, fired);
+                }
+            }
+            Set<K> bucket = wheels.get(0).get((int) (currentTick & mask));
+            if (bucket.isEmpty()) continue;
+            List<K> keys = new ArrayList<>(bucket);
+            bucket.clear();
+            for (K key : keys) {
+                Entry entry = entries.get(key);
+                if (entry.tick <= currentTick) {
+                    entries.remove(key);
+                    fired.add(key);
+                } else {
+                    place(key, entry);
+                }
+            }
+        }
+        return fired;
+    }
+
+    private void cascade(int level, List<K> fired) {
+        Set<K> bucket = wheels.get(level).get((int) ((currentTick >>> (bits * level)) & mask));
+        if (bucket.isEmpty()) return;
+        List<K> keys = new ArrayList<>(bucket);
+        bucket.clear();
+        for (K key : keys) {
+            Entry entry = entries.get(key);
+            if (entry.tick <= currentTick) {
+                entries.remove(key);
+                fired.add(key);
+            } else {
+                place(key, entry);
+            }
+        }
+    }
+
+    private void place(K key, Entry entry) {
+        long delta = entry.tick - currentTick;
+        int level = 0;
+        while (level < levels - 1 && delta >= 1L << (bits * (level + 1))) level++;
+        entry.level = level;
+        entry.slot = (int) ((entry.tick >>> (bits * level)) & mask);
+        wheels.get(level).get(entry.slot).add(key);
+    }
+
+    private static final class Entry {
+        final long tick;
+        int level;
+        int slot;
+
+        Entry(long tick) {
+            this.tick = tick;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.hustled.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Augmented AVL tree of half-open intervals [start, end).
+ *
+ * Nodes are ordered by start (then id, so equal starts can coexist) and each node also
+ * stores the largest end in its subtree. That lets an overlap query skip any subtree whose
+ * max end is at or before the query start, so insert, remove and first-overlap lookups are
+ * O(log n). Not thread-safe; callers guard each tree with their own lock.
+ *
+ * @param <V> payload stored with each interval
+ */
+public class IntervalTree<V> {
+
+    private Node<V> root;
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Add an interval; id must be unique among intervals with the same start
+     */
+    public void insert(long start, long end, long id, V value) {
+        if (end <= start) throw new IllegalArgumentException("end must be after start");
+        root = insert(root, new Node<>(start, end, id, value));
+        size++;
+    }
+
+    /**
+     * Remove the interval added with this start and id; returns false when absent
+     */
+    public boolean remove(long start, long id) {
+        int before = size;
+        root = remove(root, start, id);
+        return size < before;
+    }
+
+    /**
+     * The overlapping interval with the smallest start, or null when [start, end) is free
+     */
+    public Interval<V> firstOverlap(long start, long end) {
+        return firstOverlapIn(root, start, end);
+    }
+
+    /**
+     * Every interval overlapping [start, end), ordered by start
+     */
+    public List<Interval<V>> overlapping(long start, long end) {
+        List<Interval<V>> out = new ArrayList<>();
+        collect(root, start, end, out);
+        return out;
+    }
+
+    private Interval<V> firstOverlapIn(Node<V> node, long start, long end) {
+        if (node == null || node.maxEnd <= start) return null;
+        Interval<V> left = firstOverlapIn(node.left, start, end);
+        if (left != null) return left;
+        if (node.start >= end) return null;
+        if (node.end > start) return node.toInterval();
+        return firstOverlapIn(node.right, start, end);
+    }
+
+    private void collect(Node<V> node, long start, long end, List<Interval<V>> out) {
+        if (node == null || node.maxEnd <= start) return;
+        collect(node.left, start, end, out);
+        if (node.start >= end) return;
+        if (node.end > start) out.add(node.toInterval());
+        collect(node.right, start, end, out);
+    }
+
+    private Node<V> insert(Node<V> node, Node<V> added) {
+        if (node == null) return added;
+        if (compare(added.start, added.id, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return balance(node);
+    }
+
+    private Node<V> remove(Node<V> node, long start, long id) {
+        if (node == null) return null;
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, start, id);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, start, id);
+        } else {
+            size--;
+            if (node.left == null) return node.right;
+            if (node.right == null) return node.left;
+            Node<V> successor = node.right;
+            while (successor.left != null) successor = successor.left;
+            node.right = removeMin(node.right);
+            successor.right = node.right;
+            successor.left = node.left;
+            node = successor;
+        }
+        return balance(node);
+    }
+
+    private Node<V> removeMin(Node<V> node) {
+        if (node.left == null) return node.right;
+        node.left = removeMin(node.left);
+        return balance(node);
+    }
+
+    private static int compare(long start, long id, Node<?> node) {
+        int c = Long.compare(start, node.start);
+        return c != 0 ? c : Long.compare(id, node.id);
+    }
+
+    private Node<V> balance(Node<V> node) {
+        update(node);
+        int bf = height(node.left) - height(node.right);
+        if (bf > 1) {
+            if (height(node.left.left) < height(node.left.right)) node.left = rotateLeft(node.left);
+            return rotateRight(node);
+        }
+        if (bf < -1) {
+            if (height(node.right.right) < height(node.right.left)) node.right = rotateRight(node.right);
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<V> rotateRight(Node<V> node) {
+        Node<V> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<V> rotateLeft(Node<V> node) {
+        Node<V> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node<?> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        long max = node.end;
+        if (node.left != null) max = Math.max(max, node.left.maxEnd);
+        if (node.right != null) max = Math.max(max, node.right.maxEnd);
+        node.maxEnd = max;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    public static class Interval<V> {
+        private final long start;
+        private final long end;
+        private final long id;
+        private final V value;
+
+        Interval(long start, long end, long id, V value) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.value = value;
+        }
+
+        public long getStart() { return start; }
+        public long getEnd() { return end; }
+        public long getId() { return id; }
+        public V getValue() { return value; }
+    }
+
+    private static final class Node<V> {
+        final long start;
+        final long end;
+        final long id;
+        final V value;
+        long maxEnd;
+        int height = 1;
+        Node<V> left;
+        Node<V> right;
+
+        Node(long start, long end, long id, V value) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.value = value;
+            this.maxEnd = end;
+        }
+
+        Interval<V> toInterval() {
+            return new Interval<>(start, end, id, value);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.hustled.util;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Near-duplicate index over text: MinHash signatures bucketed by locality-sensitive hashing.
+ *
+ * Text is reduced to word 3-gram shingles; a signature keeps the minimum of bands * rows
+ * independent hashes over them, so the share of equal positions in two signatures estimates
+ * their Jaccard similarity. Each band of rows values is hashed into one bucket, and only items
+ * sharing at least one bucket are compared. Pairs above roughly (1 / bands)^(1 / rows)
+ * similarity collide with high probability; lookups cost one probe per band, not a scan.
+ *
+ * @param <K> identifier of the indexed item, e.g. a job id
+ */
+public class MinHashIndex<K> {
+
+    private static final int SHINGLE_WORDS = 3;
+
+    private final int bands;
+    private final int rows;
+    private final long[] seeds;
+    private final List<Map<Long, Set<K>>> buckets;
+    private final Map<K, long[]> signatures = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public MinHashIndex(int bands, int rows) {
+        if (bands <= 0 || rows <= 0) throw new IllegalArgumentException("bands and rows must be positive");
+        this.bands = bands;
+        this.rows = rows;
+        // Fixed seed: signatures must agree across restarts and nodes
+        SplittableRandom random = new SplittableRandom(0x5DEECE66DL);
+        this.seeds = new long[bands * rows];
+        for (int i = 0; i < seeds.length; i++) seeds[i] = random.nextLong();
+        this.buckets = new ArrayList<>(bands);
+        for (int b = 0; b < bands; b++) buckets.add(new HashMap<>());
+    }
+
+    /**
+     * Hashed word 3-grams of the text after lower-casing and stripping punctuation; texts shorter
+     * than three words give a single shingle of all their words, and blank text none
+     */
+    public static long[] shingles(String text) {
+        if (text == null) return new long[0];
+        String[] words = text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim().split(" ");
+        if (words.length == 1 && words[0].isEmpty()) return new long[0];
+        int n = Math.min(SHINGLE_WORDS, words.length);
+        Set<Long> distinct = new HashSet<>();
+        for (int i = 0; i + n <= words.length; i++) {
+            long h = 0;
+            for (int j = i; j < i + n; j++) h = mix(h * 31 + words[j].hashCode());
+            distinct.add(h);
+        }
+        long[] result = new long[distinct.size()];
+        int i = 0;
+        for (long h : distinct) result[i++] = h;
+        return result;
+    }
+
+    /**
+     * MinHash signature of a shingle set, or null when the set is empty
+     */
+    public long[] signature(long[] shingles) {
+        if (shingles.length == 0) return null;
+        long[] signature = new long[seeds.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < seeds.length; i++) {
+                long h = mix(shingle ^ seeds[i]);
+                if (h < signature[i]) signature[i] = h;
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Estimated Jaccard similarity of two signatures from this index
+     */
+    public static double similarity(long[] a, long[] b) {
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) equal++;
+        }
+        return (double) equal / a.length;
+    }
+
+    /**
+     * Insert or replace an item's signature
+     */
+    public void put(K key, long[] signature) {
+        if (signature.length != seeds.length) throw new IllegalArgumentException("signature length must be " + seeds.length);
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            signatures.put(key, signature);
+            for (int b = 0; b < bands; b++) {
+                buckets.get(b).computeIfAbsent(bandHash(signature, b), h -> new HashSet<>()).add(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            signatures.clear();
+            buckets.forEach(Map::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long[] signatureOf(K key) {
+        lock.readLock().lock();
+        try {
+            return signatures.get(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return signatures.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexed items sharing a bucket with the signature and at least minSimilarity alike,
+     * most similar first
+     */
+    public List<Match<K>> similar(long[] signature, double minSimilarity) {
+        List<Match<K>> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<K> seen = new HashSet<>();
+            for (int b = 0; b < bands; b++) {
+                Set<K> members = buckets.get(b).get(bandHash(signature, b));
+                if (members == null) continue;
+                for (K member : members) {
+                    if (!seen.add(member)) continue;
+                    double s = similarity(signature, signatures.get(member));
+                    if (s >= minSimilarity) matches.add(new Match<>(member, s));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(Comparator.comparingDouble(Match<K>::getSimilarity).reversed());
+        return matches;
+    }
+
+    private void removeInternal(K key) {
+        long[] old = signatures.remove(key);
+        if (old == null) return;
+        for (int b = 0; b < bands; b++) {
+            long h = bandHash(old, b);
+            Set<K> members = buckets.get(b).get(h);
+            if (members != null) {
+                members.remove(key);
+                if (members.isEmpty()) buckets.get(b).remove(h);
+            }
+        }
+    }
+
+    private long bandHash(long[] signature, int band) {
+        long h = band;
+        for (int i = band * rows; i < (band + 1) * rows; i++) h = mix(h * 31 + signature[i]);
+        return h;
+    }
+
+    /** 64-bit finalizer from MurmurHash3 */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    public static class Match<K> {
+        private final K key;
+        private final double similarity;
+
+        public Match(K key, double similarity) {
+            this.key = key;
+            this.similarity = similarity;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        public double getSimilarity() {
+            return similarity;
+        }
+    }
+}
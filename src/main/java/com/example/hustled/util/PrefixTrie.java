@@ -0,0 +1,217 @@
+package com.example.hustled.util;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Popularity-weighted prefix trie used for typeahead suggestions.
+ *
+ * Every node keeps its children in sorted parallel arrays (no per-edge map objects) and the
+ * highest weight found anywhere below it, so a top-k lookup walks the prefix once and then
+ * expands only the most promising branches instead of visiting the whole subtree.
+ * Weights can be patched in place with {@link #add(String, String, long)}; a term whose
+ * weight drops to zero is pruned.
+ */
+public class PrefixTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int size;
+
+    /**
+     * Adjust the weight of a term by delta, inserting it if it is new
+     * @param key normalized lookup key
+     * @param display text returned to the caller for this key
+     * @param delta weight change, may be negative
+     */
+    public void add(String key, String display, long delta) {
+        if (key == null || key.isEmpty() || delta == 0) return;
+        lock.writeLock().lock();
+        try {
+            Node[] path = new Node[key.length() + 1];
+            Node node = root;
+            path[0] = node;
+            for (int i = 0; i < key.length(); i++) {
+                Node child = node.child(key.charAt(i));
+                if (child == null) {
+                    if (delta < 0) return;
+                    child = node.addChild(key.charAt(i));
+                }
+                node = child;
+                path[i + 1] = node;
+            }
+
+            boolean wasTerm = node.weight > 0;
+            node.weight = Math.max(0, node.weight + delta);
+            if (node.weight > 0) {
+                node.display = display;
+            } else {
+                node.display = null;
+            }
+            if (!wasTerm && node.weight > 0) size++;
+            if (wasTerm && node.weight == 0) size--;
+
+            // Walk back up recomputing subtree maxima and pruning empty leaves
+            for (int i = key.length(); i >= 0; i--) {
+                Node n = path[i];
+                n.recomputeMax();
+                if (i > 0 && n.weight == 0 && n.keys.length == 0) {
+                    path[i - 1].removeChild(key.charAt(i - 1));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Return up to limit terms starting with the given prefix, heaviest first.
+     * Terms sharing the same display text are reported once.
+     */
+    public List<Match> topK(String prefix, int limit) {
+        if (prefix == null || limit <= 0) return Collections.emptyList();
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.child(prefix.charAt(i));
+            }
+            if (node == null || node.maxWeight == 0) return Collections.emptyList();
+
+            List<Match> result = new ArrayList<>(limit);
+            Set<String> seen = new HashSet<>();
+            // Entries are either a subtree (ranked by its max) or a concrete term (ranked by its weight)
+            PriorityQueue<Candidate> queue = new PriorityQueue<>();
+            queue.add(new Candidate(node, node.maxWeight, false));
+            while (!queue.isEmpty() && result.size() < limit) {
+                Candidate c = queue.poll();
+                if (c.terminal) {
+                    if (seen.add(c.node.display)) {
+                        result.add(new Match(c.node.display, c.node.weight));
+                    }
+                    continue;
+                }
+                if (c.node.weight > 0) {
+                    queue.add(new Candidate(c.node, c.node.weight, true));
+                }
+                for (Node child : c.node.children) {
+                    if (child.maxWeight > 0) {
+                        queue.add(new Candidate(child, child.maxWeight, false));
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of distinct keys with a positive weight
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static class Match {
+        private final String text;
+        private final long weight;
+
+        public Match(String text, long weight) {
+            this.text = text;
+            this.weight = weight;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public long getWeight() {
+            return weight;
+        }
+    }
+
+    private static final class Candidate implements Comparable<Candidate> {
+        final Node node;
+        final long rank;
+        final boolean terminal;
+
+        Candidate(Node node, long rank, boolean terminal) {
+            this.node = node;
+            this.rank = rank;
+            this.terminal = terminal;
+        }
+
+        @Override
+        public int compareTo(Candidate o) {
+            int cmp = Long.compare(o.rank, rank);
+            if (cmp != 0) return cmp;
+            // On ties, surface concrete terms before expanding further
+            return Boolean.compare(o.terminal, terminal);
+        }
+    }
+
+    private static final class Node {
+        char[] keys = NO_KEYS;
+        Node[] children = NO_CHILDREN;
+        long weight;
+        long maxWeight;
+        String display;
+
+        Node child(char c) {
+            int idx = Arrays.binarySearch(keys, c);
+            return idx >= 0 ? children[idx] : null;
+        }
+
+        Node addChild(char c) {
+            int idx = -(Arrays.binarySearch(keys, c) + 1);
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, idx);
+            System.arraycopy(children, 0, newChildren, 0, idx);
+            System.arraycopy(keys, idx, newKeys, idx + 1, keys.length - idx);
+            System.arraycopy(children, idx, newChildren, idx + 1, children.length - idx);
+            Node child = new Node();
+            newKeys[idx] = c;
+            newChildren[idx] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char c) {
+            int idx = Arrays.binarySearch(keys, c);
+            if (idx < 0) return;
+            if (keys.length == 1) {
+                keys = NO_KEYS;
+                children = NO_CHILDREN;
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, idx);
+            System.arraycopy(children, 0, newChildren, 0, idx);
+            System.arraycopy(keys, idx + 1, newKeys, idx, keys.length - idx - 1);
+            System.arraycopy(children, idx + 1, newChildren, idx, children.length - idx - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        void recomputeMax() {
+            long max = weight;
+            for (Node child : children) {
+                if (child.maxWeight > max) max = child.maxWeight;
+            }
+            maxWeight = max;
+        }
+    }
+}
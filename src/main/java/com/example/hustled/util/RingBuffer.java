@@ -0,0 +1,87 @@
+package com.example.hustled.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded multi-producer, single-consumer queue over a preallocated ring of slots.
+ *
+ * Producers claim a position with one CAS on the tail and then publish the slot by advancing
+ * its sequence number; the consumer only reads a slot once its sequence says it is published.
+ * Nothing is allocated per element, and a full ring makes {@link #offer} return false instead
+ * of blocking, so callers decide whether to drop or retry. Only one thread may call
+ * {@link #poll}.
+ */
+public class RingBuffer<T> {
+
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * @param capacity number of slots, rounded up to a power of two
+     */
+    public RingBuffer(int capacity) {
+        int n = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        slots = new AtomicReferenceArray<>(n);
+        sequences = new AtomicLongArray(n);
+        for (int i = 0; i < n; i++) {
+            sequences.set(i, i);
+        }
+        mask = n - 1;
+    }
+
+    /**
+     * Add an element, or return false when the ring is full
+     */
+    public boolean offer(T item) {
+        if (item == null) throw new NullPointerException("item");
+        long pos = tail.get();
+        int index;
+        while (true) {
+            index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) break;
+                pos = tail.get();
+            } else if (diff < 0) {
+                // The consumer has not freed this slot from the previous lap yet
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+        slots.set(index, item);
+        sequences.lazySet(index, pos + 1);
+        return true;
+    }
+
+    /**
+     * Remove the oldest element, or return null when nothing is published yet. Single consumer only.
+     */
+    public T poll() {
+        long pos = head;
+        int index = (int) (pos & mask);
+        if (sequences.get(index) != pos + 1) return null;
+        T item = slots.get(index);
+        slots.lazySet(index, null);
+        sequences.lazySet(index, pos + mask + 1);
+        head = pos + 1;
+        return item;
+    }
+
+    public boolean isEmpty() {
+        return tail.get() == head;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.hustled.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Size-bounded map split into independently locked stripes.
+ *
+ * Each stripe is an access-ordered LinkedHashMap that drops its least recently used entry once
+ * it is full, so memory stays bounded no matter how many distinct keys arrive. Contention is
+ * limited to callers whose keys hash to the same stripe, and the lock is only held for the
+ * lookup itself.
+ */
+public class StripedLruMap<K, V> {
+
+    private final Stripe<K, V>[] stripes;
+    private final int mask;
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param stripeCount number of stripes, rounded up to a power of two
+     * @param maxEntries total capacity across all stripes
+     */
+    @SuppressWarnings("unchecked")
+    public StripedLruMap(int stripeCount, int maxEntries) {
+        int n = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        int perStripe = Math.max(1, maxEntries / n);
+        stripes = new Stripe[n];
+        for (int i = 0; i < n; i++) {
+            stripes[i] = new Stripe<>(perStripe, evictions);
+        }
+        mask = n - 1;
+    }
+
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> factory) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            V value = stripe.get(key);
+            if (value == null) {
+                value = factory.apply(key);
+                stripe.put(key, value);
+            }
+            return value;
+        }
+    }
+
+    public V get(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            return stripe.get(key);
+        }
+    }
+
+    public V put(K key, V value) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            return stripe.put(key, value);
+        }
+    }
+
+    public V remove(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            return stripe.remove(key);
+        }
+    }
+
+    public void clear() {
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    private Stripe<K, V> stripeFor(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return stripes[h & mask];
+    }
+
+    private static final class Stripe<K, V> extends LinkedHashMap<K, V> {
+        private final int capacity;
+        private final LongAdder evictions;
+
+        Stripe(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
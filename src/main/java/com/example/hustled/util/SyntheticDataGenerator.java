@@ -0,0 +1,604 @@
+package com.example.hustled.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Fills the database with a scale-test dataset: users (employers and candidates), candidate
+ * profiles, jobs and applications.
+ *
+ * Every phase is split into fixed-size chunks, and each chunk draws from its own random stream
+ * derived from the seed and the chunk number, so the same seed yields the same rows no matter
+ * how many threads run. Chunks are written in parallel, each on its own connection, as JDBC
+ * batches that the driver rewrites into multi-row INSERTs (rewriteBatchedStatements=true).
+ *
+ * Distributions: a few agencies post most jobs and a few jobs draw most applications (Zipf),
+ * locations follow city population in the gazetteer, applications per candidate are
+ * exponential around the configured mean, and timestamps lean towards the recent past.
+ * Ids come from blocks reserved up front (user and profile AUTO_INCREMENT counters are moved
+ * past the block, job ids are taken from the pooled generator), so signups and saves that arrive
+ * during the load, on this node or another, never collide with seeded rows.
+ *
+ * Seeded jobs are logged in job_changes like any other insert, so feed clients receive them as
+ * deltas. A finished load is recorded in synthetic_seeds; a load that died part way leaves no
+ * marker and is refused on the next start until its rows are removed.
+ */
+@Component
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    /** Random stream ids, one per phase plus one for job posting times */
+    private static final long USERS = 1, PROFILES = 2, JOBS = 3, APPLICATIONS = 4, JOB_TIMES = 5;
+    /** Must match the job_ids table generator on Job */
+    private static final int JOB_ID_ALLOCATION = 50;
+    /** Ids left free below a reserved block for rows inserted while it is being reserved */
+    private static final int RESERVE_GAP = 1000;
+    private static final int MAX_APPLICATIONS_PER_CANDIDATE = 40;
+    private static final int HISTORY_DAYS = 365;
+
+    private static final String[] FIRST_NAMES = {
+            "Juan", "Maria", "Jose", "Ana", "Mark", "Angel", "John", "Kristine", "Paolo", "Camille",
+            "Miguel", "Patricia", "Carlo", "Nicole", "Rafael", "Jasmine", "Gabriel", "Andrea", "Joshua", "Bea",
+            "Christian", "Sofia", "Daniel", "Katrina", "Adrian", "Alyssa", "Kevin", "Michelle", "Ramon", "Liza"};
+    private static final String[] LAST_NAMES = {
+            "Santos", "Reyes", "Cruz", "Bautista", "Ocampo", "Garcia", "Mendoza", "Torres", "Tomas", "Andrada",
+            "Castillo", "Flores", "Villanueva", "Ramos", "Castro", "Rivera", "Aquino", "Navarro", "Salazar", "Mercado",
+            "Aguilar", "Dela Cruz", "Gonzales", "Lopez", "Fernandez", "Soriano", "Domingo", "Pascual", "Valdez", "Lim"};
+    private static final String[] ROLES = {
+            "Java Developer", "Frontend Developer", "Customer Service Representative", "Accountant", "Staff Nurse",
+            "Sales Associate", "Data Analyst", "Graphic Designer", "Warehouse Supervisor", "HR Generalist",
+            "Technical Support Specialist", "Marketing Coordinator", "Civil Engineer", "Cashier", "Delivery Rider",
+            "QA Engineer", "Project Manager", "Virtual Assistant", "Electrician", "Teacher"};
+    private static final String[] SENIORITY = {"Junior", "", "", "Senior", "Lead"};
+    private static final String[] COMPANY_WORDS = {
+            "Pacific", "Luzon", "Visayas", "Bayanihan", "Summit", "Harbor", "Metro", "Island", "Sunrise", "Golden",
+            "Northpoint", "Evergreen", "Apex", "Coral", "Mabuhay", "Unity", "Horizon", "Mountain", "Pearl", "Rizal"};
+    private static final String[] COMPANY_KINDS = {
+            "Solutions", "Outsourcing", "Logistics", "Health", "Retail", "Builders", "Foods", "Technologies", "Bank", "Staffing"};
+    private static final String[] SENTENCES = {
+            "You will work closely with a small, friendly team.",
+            "Training is provided for new hires.",
+            "Candidates with at least one year of experience are preferred.",
+            "Fresh graduates are welcome to apply.",
+            "The role includes HMO coverage from day one.",
+            "Night shift differential applies to graveyard schedules.",
+            "Must be willing to work on weekends when needed.",
+            "We offer a hybrid setup after regularization.",
+            "Strong written and spoken English is required.",
+            "Knowledge of Excel and Google Sheets is an advantage.",
+            "You will report directly to the operations manager.",
+            "Performance bonuses are given every quarter.",
+            "Transportation allowance is included.",
+            "Immediate hiring for qualified applicants.",
+            "Applicants must have their own laptop and stable internet.",
+            "Prior experience in a similar industry is a plus.",
+            "You will handle daily reporting and inventory checks.",
+            "Attention to detail and good time management are a must.",
+            "Career growth opportunities within the company.",
+            "The position is based on site with occasional travel."};
+    private static final String[] JOB_STATUSES = {"Open", "Closed", "On Hold", "Draft"};
+    private static final double[] JOB_STATUS_WEIGHTS = {0.80, 0.15, 0.03, 0.02};
+    private static final String[] APPLICATION_STATUSES = {
+            "Applied", "Reviewed", "Rejected", "Interview Scheduled", "Accepted", "Withdrawn"};
+    private static final double[] APPLICATION_STATUS_WEIGHTS = {0.55, 0.20, 0.15, 0.06, 0.02, 0.02};
+    private static final String[] GENDERS = {"Male", "Female", "Other"};
+    private static final double[] GENDER_WEIGHTS = {0.48, 0.50, 0.02};
+
+    private final DataSource dataSource;
+    private final BCryptPasswordEncoder encoder;
+    private final boolean enabled;
+    private final long seed;
+    private final int users;
+    private final double employerRatio;
+    private final double profileRatio;
+    private final int jobs;
+    private final double applicationsPerCandidate;
+    private final String password;
+    private final int threads;
+    private final int chunkSize;
+    private final int batchSize;
+
+    private final List<String[]> places = new ArrayList<>();
+    private double[] placeWeights;
+
+    public SyntheticDataGenerator(DataSource dataSource,
+                                  BCryptPasswordEncoder encoder,
+                                  @Value("${hustled.seed.synthetic.enabled:false}") boolean enabled,
+                                  @Value("${hustled.seed.synthetic.seed:42}") long seed,
+                                  @Value("${hustled.seed.synthetic.users:1000000}") int users,
+                                  @Value("${hustled.seed.synthetic.employer-ratio:0.02}") double employerRatio,
+                                  @Value("${hustled.seed.synthetic.profile-ratio:0.8}") double profileRatio,
+                                  @Value("${hustled.seed.synthetic.jobs:200000}") int jobs,
+                                  @Value("${hustled.seed.synthetic.applications-per-candidate:5}") double applicationsPerCandidate,
+                                  @Value("${hustled.seed.synthetic.password:Password123!}") String password,
+                                  @Value("${hustled.seed.synthetic.threads:0}") int threads,
+                                  @Value("${hustled.seed.synthetic.chunk-size:10000}") int chunkSize,
+                                  @Value("${hustled.seed.synthetic.batch-size:1000}") int batchSize) {
+        this.dataSource = dataSource;
+        this.encoder = encoder;
+        this.enabled = enabled;
+        this.seed = seed;
+        this.users = users;
+        this.employerRatio = employerRatio;
+        this.profileRatio = profileRatio;
+        this.jobs = jobs;
+        this.applicationsPerCandidate = applicationsPerCandidate;
+        this.password = password;
+        this.threads = threads > 0 ? threads : Math.min(8, Runtime.getRuntime().availableProcessors());
+        this.chunkSize = Math.max(1, chunkSize);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Generate the whole dataset, unless this seed has already been loaded
+     */
+    public void generate() {
+        int employers = Math.max(1, (int) Math.round(users * employerRatio));
+        int profiles = (int) Math.round((users - employers) * profileRatio);
+        if (users <= employers) throw new IllegalArgumentException("users must exceed the employer count");
+
+        try (Connection con = dataSource.getConnection()) {
+            if (completed(con)) {
+                log.info("Synthetic dataset for seed {} already present, skipping", seed);
+                return;
+            }
+            if (exists(con, username(0))) {
+                throw new IllegalStateException("An earlier synthetic load for seed " + seed + " did not finish;"
+                        + " delete its users (username s" + seed + "_u...) and their rows before seeding again");
+            }
+            loadPlaces();
+            long started = System.nanoTime();
+            LocalDateTime anchor = LocalDate.now().atStartOfDay();
+            long userBase = reserveIds(con, "users", users);
+            long profileBase = reserveIds(con, "candidate_profiles", profiles);
+            long jobBase = reserveJobIds(con, jobs);
+            // Hashed once: BCrypt per row would take longer than the whole load
+            String passwordHash = encoder.encode(password);
+
+            double[] posterWeights = zipf(employers, 1.1);
+            double[] jobPopularity = zipf(jobs, 0.9);
+
+            ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+                Thread t = new Thread(r, "synthetic-data");
+                t.setDaemon(true);
+                return t;
+            });
+            try {
+                run(pool, "users", USERS, users, (c, rnd, from, to) ->
+                        insertUsers(c, rnd, from, to, userBase, employers, passwordHash));
+                run(pool, "candidate profiles", PROFILES, profiles, (c, rnd, from, to) ->
+                        insertProfiles(c, rnd, from, to, profileBase, userBase + employers, anchor));
+                run(pool, "jobs", JOBS, jobs, (c, rnd, from, to) ->
+                        insertJobs(c, rnd, from, to, jobBase, userBase, posterWeights, anchor));
+                run(pool, "applications", APPLICATIONS, profiles, (c, rnd, from, to) ->
+                        insertApplications(c, rnd, from, to, profileBase, jobBase, jobPopularity, anchor));
+            } finally {
+                pool.shutdownNow();
+            }
+            refreshApplicationCounts(con, jobBase, jobBase + jobs);
+            markCompleted(con);
+            log.info("Synthetic dataset (seed {}) loaded in {} s", seed, (System.nanoTime() - started) / 1_000_000_000);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not generate synthetic data", e);
+        }
+    }
+
+    private void insertUsers(Connection con, SplittableRandom rnd, long from, long to,
+                             long userBase, int employers, String passwordHash) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement(
+                "INSERT INTO users (id, username, password, email, phone, role) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (long i = from; i < to; i++) {
+                String username = username(i);
+                ps.setLong(1, userBase + i);
+                ps.setString(2, username);
+                ps.setString(3, passwordHash);
+                ps.setString(4, username + "@example.test");
+                ps.setString(5, phone(rnd));
+                ps.setString(6, i < employers ? "ADMIN" : "CANDIDATE");
+                addBatch(ps, i - from);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertProfiles(Connection con, SplittableRandom rnd, long from, long to,
+                                long profileBase, long firstCandidateId, LocalDateTime anchor) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement(
+                "INSERT INTO candidate_profiles (id, user_id, first_name, last_name, headline, bio, phone, city, province,"
+                        + " postal_code, date_of_birth, gender, is_profile_complete, created_at)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (long i = from; i < to; i++) {
+                String[] place = places.get(pickCumulative(rnd, placeWeights));
+                String role = ROLES[rnd.nextInt(ROLES.length)];
+                int years = (int) Math.min(30, -4 * Math.log(1 - rnd.nextDouble()));
+                ps.setLong(1, profileBase + i);
+                ps.setLong(2, firstCandidateId + i);
+                ps.setString(3, FIRST_NAMES[rnd.nextInt(FIRST_NAMES.length)]);
+                ps.setString(4, LAST_NAMES[rnd.nextInt(LAST_NAMES.length)]);
+                ps.setString(5, title(rnd, role));
+                ps.setString(6, years == 0 ? "Fresh graduate looking for a first role as " + role + "."
+                        : years + " years of experience as " + role + " based in " + place[0] + ".");
+                ps.setString(7, phone(rnd));
+                ps.setString(8, place[0]);
+                ps.setString(9, place[1]);
+                ps.setString(10, place[5].isEmpty() ? null : place[5]);
+                ps.setDate(11, Date.valueOf(LocalDate.of(1965 + rnd.nextInt(40), 1 + rnd.nextInt(12), 1 + rnd.nextInt(28))));
+                ps.setString(12, GENDERS[pick(rnd, GENDER_WEIGHTS)]);
+                ps.setBoolean(13, rnd.nextDouble() < 0.85);
+                ps.setTimestamp(14, Timestamp.valueOf(pastTime(rnd, anchor, HISTORY_DAYS * 2)));
+                addBatch(ps, i - from);
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertJobs(Connection con, SplittableRandom rnd, long from, long to, long jobBase,
+                            long userBase, double[] posterWeights, LocalDateTime anchor) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement(
+                "INSERT INTO jobs (id, title, company, location, description, created_at, posted_by, status, application_deadline)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (long j = from; j < to; j++) {
+                int poster = pickCumulative(rnd, posterWeights);
+                String[] place = places.get(pickCumulative(rnd, placeWeights));
+                String title = title(rnd, ROLES[rnd.nextInt(ROLES.length)]);
+                String company = company(poster);
+                String status = JOB_STATUSES[pick(rnd, JOB_STATUS_WEIGHTS)];
+                LocalDateTime createdAt = jobCreatedAt(j, anchor);
+                LocalDate deadline = null;
+                if ("Open".equals(status) && rnd.nextDouble() < 0.6) {
+                    deadline = anchor.toLocalDate().plusDays(1 + rnd.nextInt(60));
+                } else if ("Closed".equals(status)) {
+                    deadline = createdAt.toLocalDate().plusDays(7 + rnd.nextInt(30));
+                }
+                ps.setLong(1, jobBase + j);
+                ps.setString(2, title);
+                ps.setString(3, company);
+                ps.setString(4, place[0] + ", " + place[1]);
+                ps.setString(5, description(rnd, title, company, place[0]));
+                ps.setTimestamp(6, Timestamp.valueOf(createdAt));
+                ps.setLong(7, userBase + poster);
+                ps.setString(8, status);
+                ps.setDate(9, deadline == null ? null : Date.valueOf(deadline));
+                addBatch(ps, j - from);
+            }
+            ps.executeBatch();
+        }
+        // Committed with the chunk, so the feed never announces a job that is not there
+        try (PreparedStatement ps = con.prepareStatement(
+                "INSERT INTO job_changes (job_id, change_type, changed_at)"
+                        + " SELECT id, 'UPSERT', NOW(6) FROM jobs WHERE id >= ? AND id < ? ORDER BY id")) {
+            ps.setLong(1, jobBase + from);
+            ps.setLong(2, jobBase + to);
+            ps.executeUpdate();
+        }
+    }
+
+    private void insertApplications(Connection con, SplittableRandom rnd, long from, long to, long profileBase,
+                                    long jobBase, double[] jobPopularity, LocalDateTime anchor) throws SQLException {
+        long[] chosen = new long[MAX_APPLICATIONS_PER_CANDIDATE];
+        long rows = 0;
+        try (PreparedStatement ps = con.prepareStatement(
+                "INSERT INTO job_applications (job_id, candidate_id, applied_date, cover_letter, status, rating, updated_at)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (long p = from; p < to; p++) {
+                int count = (int) Math.min(Math.min(MAX_APPLICATIONS_PER_CANDIDATE, jobs),
+                        Math.round(-applicationsPerCandidate * Math.log(1 - rnd.nextDouble())));
+                int n = 0;
+                for (int attempt = 0; n < count && attempt < count * 4; attempt++) {
+                    long job = pickCumulative(rnd, jobPopularity);
+                    if (contains(chosen, n, job)) continue;
+                    chosen[n++] = job;
+
+                    LocalDateTime posted = jobCreatedAt(job, anchor);
+                    long window = Math.max(1, Duration.between(posted, anchor).toMinutes());
+                    LocalDateTime applied = posted.plusMinutes((long) (rnd.nextDouble() * window));
+                    String status = APPLICATION_STATUSES[pick(rnd, APPLICATION_STATUS_WEIGHTS)];
+                    ps.setLong(1, jobBase + job);
+                    ps.setLong(2, profileBase + p);
+                    ps.setTimestamp(3, Timestamp.valueOf(applied));
+                    ps.setString(4, rnd.nextDouble() < 0.3 ? "I am interested in this role and available immediately." : null);
+                    ps.setString(5, status);
+                    if ("Applied".equals(status)) {
+                        ps.setNull(6, Types.INTEGER);
+                        ps.setNull(7, Types.TIMESTAMP);
+                    } else {
+                        ps.setInt(6, 1 + rnd.nextInt(5));
+                        ps.setTimestamp(7, Timestamp.valueOf(applied.plusMinutes((long) (rnd.nextDouble()
+                                * Math.max(1, Duration.between(applied, anchor).toMinutes())))));
+                    }
+                    addBatch(ps, rows++);
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    /**
+     * Bring the per-job status counters in line with the applications just inserted
+     */
+    private static void refreshApplicationCounts(Connection con, long fromJobId, long toJobId) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement(
+                "INSERT INTO job_application_counts (job_id, applied, reviewed, interview_scheduled, rejected, accepted, withdrawn, updated_at)"
+                        + " SELECT job_id, SUM(status = 'Applied'), SUM(status = 'Reviewed'), SUM(status = 'Interview Scheduled'),"
+                        + " SUM(status = 'Rejected'), SUM(status = 'Accepted'), SUM(status = 'Withdrawn'), NOW(6)"
+                        + " FROM job_applications WHERE job_id >= ? AND job_id < ? GROUP BY job_id"
+                        + " ON DUPLICATE KEY UPDATE applied = VALUES(applied), reviewed = VALUES(reviewed),"
+                        + " interview_scheduled = VALUES(interview_scheduled), rejected = VALUES(rejected),"
+                        + " accepted = VALUES(accepted), withdrawn = VALUES(withdrawn), updated_at = VALUES(updated_at)")) {
+            ps.setLong(1, fromJobId);
+            ps.setLong(2, toJobId);
+            ps.executeUpdate();
+        }
+    }
+
+    private void run(ExecutorService pool, String name, long stream, long total, ChunkWriter writer) {
+        long started = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (long from = 0; from < total; from += chunkSize) {
+            long start = from;
+            long end = Math.min(total, from + chunkSize);
+            // One random stream per chunk keeps the output independent of thread scheduling
+            SplittableRandom rnd = new SplittableRandom(mix(seed, stream, start / chunkSize));
+            futures.add(pool.submit(() -> {
+                try (Connection con = dataSource.getConnection()) {
+                    con.setAutoCommit(false);
+                    writer.write(con, rnd, start, end);
+                    con.commit();
+                }
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> future : futures) future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while seeding " + name, e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("Could not seed " + name, e.getCause());
+        }
+        log.info("Seeded {} {} in {} ms", total, name, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void addBatch(PreparedStatement ps, long index) throws SQLException {
+        ps.addBatch();
+        if ((index + 1) % batchSize == 0) ps.executeBatch();
+    }
+
+    /**
+     * Job posting time as a pure function of the job, so applications can be dated after it
+     * without looking the job up. Recent days are more likely than old ones.
+     */
+    private LocalDateTime jobCreatedAt(long job, LocalDateTime anchor) {
+        double u = (mix(seed, JOB_TIMES, job) >>> 11) * 0x1.0p-53;
+        return anchor.minusMinutes((long) (u * u * HISTORY_DAYS * 24 * 60));
+    }
+
+    private static LocalDateTime pastTime(SplittableRandom rnd, LocalDateTime anchor, int days) {
+        double u = rnd.nextDouble();
+        return anchor.minusMinutes((long) (u * u * days * 24 * 60));
+    }
+
+    private String username(long index) {
+        return "s" + seed + "_u" + index;
+    }
+
+    private static String title(SplittableRandom rnd, String role) {
+        String level = SENIORITY[rnd.nextInt(SENIORITY.length)];
+        return level.isEmpty() ? role : level + " " + role;
+    }
+
+    private static String company(int employer) {
+        return COMPANY_WORDS[employer % COMPANY_WORDS.length] + " "
+                + COMPANY_KINDS[(employer / COMPANY_WORDS.length) % COMPANY_KINDS.length]
+                + (employer >= COMPANY_WORDS.length * COMPANY_KINDS.length
+                ? " " + (employer / (COMPANY_WORDS.length * COMPANY_KINDS.length) + 1) : "");
+    }
+
+    private static String description(SplittableRandom rnd, String title, String company, String city) {
+        StringBuilder sb = new StringBuilder()
+                .append(company).append(" is hiring a ").append(title).append(" for our ").append(city).append(" office.");
+        int sentences = 3 + rnd.nextInt(4);
+        for (int i = 0; i < sentences; i++) {
+            sb.append(' ').append(SENTENCES[rnd.nextInt(SENTENCES.length)]);
+        }
+        sb.append(" Salary range: PHP ").append(15 + rnd.nextInt(60)).append(",000 to ")
+                .append(80 + rnd.nextInt(70)).append(",000 per month.");
+        return sb.toString();
+    }
+
+    private static String phone(SplittableRandom rnd) {
+        return "09" + (100_000_000 + rnd.nextInt(900_000_000));
+    }
+
+    /**
+     * Cumulative Zipf weights over n ranks with exponent s
+     */
+    private static double[] zipf(int n, double s) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1 / Math.pow(k + 1, s);
+            cumulative[k] = sum;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Index drawn in proportion to a short list of weights
+     */
+    private static int pick(SplittableRandom rnd, double[] weights) {
+        double r = rnd.nextDouble();
+        for (int i = 0; i < weights.length; i++) {
+            r -= weights[i];
+            if (r < 0) return i;
+        }
+        return weights.length - 1;
+    }
+
+    /**
+     * Index drawn in proportion to weights given as a running total
+     */
+    private static int pickCumulative(SplittableRandom rnd, double[] cumulative) {
+        double r = rnd.nextDouble() * cumulative[cumulative.length - 1];
+        int i = Arrays.binarySearch(cumulative, r);
+        return Math.min(cumulative.length - 1, i >= 0 ? i + 1 : -i - 1);
+    }
+
+    private static boolean contains(long[] values, int n, long value) {
+        for (int i = 0; i < n; i++) {
+            if (values[i] == value) return true;
+        }
+        return false;
+    }
+
+    /**
+     * SplitMix64 finalizer over the seed, a stream id and an index
+     */
+    private static long mix(long seed, long stream, long index) {
+        long z = seed + stream * 0x9E3779B97F4A7C15L + index * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private boolean completed(Connection con) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement("SELECT 1 FROM synthetic_seeds WHERE seed = ?")) {
+            ps.setLong(1, seed);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private void markCompleted(Connection con) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement("INSERT INTO synthetic_seeds (seed, completed_at) VALUES (?, NOW(6))")) {
+            ps.setLong(1, seed);
+            ps.executeUpdate();
+        }
+    }
+
+    private static boolean exists(Connection con, String username) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement("SELECT 1 FROM users WHERE username = ?")) {
+            ps.setString(1, username);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    /**
+     * Move a table's AUTO_INCREMENT counter past a block of count ids and return the block's
+     * first id. The block starts RESERVE_GAP above the current counter, so rows inserted between
+     * reading the counter and moving it cannot land inside the block.
+     */
+    private static long reserveIds(Connection con, String table, long count) throws SQLException {
+        boolean mySql = con.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("mysql");
+        try (Statement st = con.createStatement()) {
+            long next;
+            try (ResultSet rs = st.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+                rs.next();
+                next = rs.getLong(1);
+            }
+            if (mySql) {
+                // MySQL 8 caches information_schema statistics; 5.7 has no such setting and reads live values
+                try {
+                    st.execute("SET SESSION information_schema_stats_expiry = 0");
+                } catch (SQLException e) {
+                    log.debug("information_schema_stats_expiry not supported: {}", e.getMessage());
+                }
+                try (ResultSet rs = st.executeQuery("SELECT AUTO_INCREMENT FROM information_schema.tables"
+                        + " WHERE table_schema = DATABASE() AND table_name = '" + table + "'")) {
+                    if (rs.next()) next = Math.max(next, rs.getLong(1));
+                }
+            }
+            long base = next + RESERVE_GAP;
+            long end = base + count;
+            st.execute(mySql
+                    ? "ALTER TABLE " + table + " AUTO_INCREMENT = " + end
+                    : "ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + end);
+            return base;
+        }
+    }
+
+    /**
+     * Take a block of job ids out of the pooled generator, so nodes that are running keep
+     * handing out ids above the seeded ones
+     */
+    private static long reserveJobIds(Connection con, int count) throws SQLException {
+        boolean autoCommit = con.getAutoCommit();
+        con.setAutoCommit(false);
+        try (Statement st = con.createStatement()) {
+            long next;
+            try (ResultSet rs = st.executeQuery("SELECT GREATEST(g.next_val, (SELECT COALESCE(MAX(id), 0) + 1 FROM jobs))"
+                    + " FROM id_generators g WHERE g.name = 'jobs' FOR UPDATE")) {
+                if (!rs.next()) throw new IllegalStateException("id_generators has no 'jobs' row; run the migrations first");
+                next = rs.getLong(1);
+            }
+            // Skip one allocation block: a node may hold ids just below or just above next_val
+            long base = next + JOB_ID_ALLOCATION;
+            st.executeUpdate("UPDATE id_generators SET next_val = " + (base + count + JOB_ID_ALLOCATION) + " WHERE name = 'jobs'");
+            con.commit();
+            return base;
+        } finally {
+            con.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void loadPlaces() {
+        if (!places.isEmpty()) return;
+        ClassPathResource resource = new ClassPathResource("geo/gazetteer.csv");
+        List<Double> weights = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) continue;
+                String[] cols = line.split(",", -1);
+                places.add(new String[] { cols[0].trim(), cols[1].trim(), cols[2], cols[3], cols[4], cols[5].trim() });
+                weights.add(Double.parseDouble(cols[4]));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read geo/gazetteer.csv", e);
+        }
+        placeWeights = new double[weights.size()];
+        double sum = 0;
+        for (int i = 0; i < placeWeights.length; i++) {
+            sum += weights.get(i);
+            placeWeights[i] = sum;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        void write(Connection con, SplittableRandom rnd, long from, long to) throws SQLException;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.hustled.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket implemented as a generic cell rate algorithm (GCRA).
+ *
+ * The whole bucket state is a single "theoretical arrival time" updated with CAS, so a bucket
+ * costs one object plus one AtomicLong and never blocks. Refill rate and burst capacity live in
+ * a shared {@link Limit} so thousands of buckets do not each carry their own configuration.
+ */
+public class TokenBucket {
+
+    private final Limit limit;
+    private final AtomicLong theoreticalArrival = new AtomicLong();
+
+    public TokenBucket(Limit limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Try to take one token
+     * @param nowNanos current time from {@link System#nanoTime()}
+     * @return 0 when the token was granted, otherwise nanoseconds until one becomes available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = tat == 0 ? nowNanos : Math.max(tat, nowNanos);
+            long next = base + limit.intervalNanos;
+            long wait = next - nowNanos - limit.burstNanos;
+            if (wait > 0) return wait;
+            if (theoreticalArrival.compareAndSet(tat, next)) return 0;
+        }
+    }
+
+    /**
+     * Refill rate and burst size shared by a family of buckets
+     */
+    public static final class Limit {
+        private final long intervalNanos;
+        private final long burstNanos;
+
+        /**
+         * @param capacity maximum burst size in tokens
+         * @param perMinute sustained refill rate
+         */
+        public Limit(int capacity, int perMinute) {
+            if (capacity < 1 || perMinute < 1) throw new IllegalArgumentException("capacity and rate must be positive");
+            this.intervalNanos = 60_000_000_000L / perMinute;
+            this.burstNanos = intervalNanos * capacity;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+-- ========================================
+-- V10: Near-duplicate job flag
+-- ========================================
+
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE jobs ADD COLUMN duplicate_of BIGINT NULL', 'DO 0')
+  FROM information_schema.columns
+  WHERE table_schema = DATABASE() AND table_name = 'jobs' AND column_name = 'duplicate_of');
+PREPARE s FROM @stmt; EXECUTE s; DEALLOCATE PREPARE s;
+
+-- Deleting an original turns its copies back into ordinary postings
+SET @stmt = (SELECT IF(COUNT(*) = 0,
+    'ALTER TABLE jobs ADD CONSTRAINT fk_jobs_duplicate_of FOREIGN KEY (duplicate_of) REFERENCES jobs (id) ON DELETE SET NULL',
+    'DO 0')
+  FROM information_schema.table_constraints
+  WHERE table_schema = DATABASE() AND table_name = 'jobs' AND constraint_name = 'fk_jobs_duplicate_of');
+PREPARE s FROM @stmt; EXECUTE s; DEALLOCATE PREPARE s;
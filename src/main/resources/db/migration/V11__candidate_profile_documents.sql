@@ -0,0 +1,77 @@
+-- ========================================
+-- V11: Candidate profile sections (already present in sql/schema.sql databases) and the
+-- denormalized profile document read model
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS candidate_skills (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  candidate_id BIGINT NOT NULL,
+  skill_name VARCHAR(100) NOT NULL,
+  proficiency_level VARCHAR(20) DEFAULT 'Intermediate',
+  years_of_experience INT,
+  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (id),
+  KEY idx_candidate_skills_candidate (candidate_id),
+  CONSTRAINT fk_candidate_skills_candidate FOREIGN KEY (candidate_id) REFERENCES candidate_profiles (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS candidate_experiences (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  candidate_id BIGINT NOT NULL,
+  job_title VARCHAR(150) NOT NULL,
+  company_name VARCHAR(150) NOT NULL,
+  employment_type VARCHAR(20) NOT NULL,
+  location VARCHAR(150),
+  start_date DATE NOT NULL,
+  end_date DATE,
+  is_current_job BOOLEAN DEFAULT FALSE,
+  description TEXT,
+  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  PRIMARY KEY (id),
+  KEY idx_candidate_experiences_candidate (candidate_id),
+  CONSTRAINT fk_candidate_experiences_candidate FOREIGN KEY (candidate_id) REFERENCES candidate_profiles (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS candidate_education (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  candidate_id BIGINT NOT NULL,
+  school_name VARCHAR(200) NOT NULL,
+  degree VARCHAR(100) NOT NULL,
+  field_of_study VARCHAR(150),
+  start_date DATE NOT NULL,
+  end_date DATE,
+  grade_gpa VARCHAR(10),
+  description TEXT,
+  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  PRIMARY KEY (id),
+  KEY idx_candidate_education_candidate (candidate_id),
+  CONSTRAINT fk_candidate_education_candidate FOREIGN KEY (candidate_id) REFERENCES candidate_profiles (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS candidate_certifications (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  candidate_id BIGINT NOT NULL,
+  certification_name VARCHAR(200) NOT NULL,
+  issuing_organization VARCHAR(150) NOT NULL,
+  issue_date DATE NOT NULL,
+  expiration_date DATE,
+  credential_url VARCHAR(255),
+  description TEXT,
+  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (id),
+  KEY idx_candidate_certifications_candidate (candidate_id),
+  CONSTRAINT fk_candidate_certifications_candidate FOREIGN KEY (candidate_id) REFERENCES candidate_profiles (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- One JSON document per candidate: profile fields plus every section, served without joins
+CREATE TABLE IF NOT EXISTS candidate_profile_documents (
+  candidate_id BIGINT NOT NULL,
+  user_id BIGINT NOT NULL,
+  document MEDIUMBLOB NOT NULL,
+  built_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (candidate_id),
+  UNIQUE KEY uk_candidate_profile_documents_user (user_id),
+  CONSTRAINT fk_candidate_profile_documents_candidate FOREIGN KEY (candidate_id) REFERENCES candidate_profiles (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
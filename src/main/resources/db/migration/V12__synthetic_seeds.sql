@@ -0,0 +1,10 @@
+-- ========================================
+-- V12: Completion markers for synthetic scale-test datasets
+-- ========================================
+
+-- A row is written only after every phase of a load has committed
+CREATE TABLE IF NOT EXISTS synthetic_seeds (
+  seed BIGINT NOT NULL,
+  completed_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (seed)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,27 @@
+-- ========================================
+-- V13: Per-upload file metadata, split from the content-addressed blob
+-- ========================================
+
+-- stored_files has one row per distinct content. Who uploaded it and under what name
+-- differs per upload, so it moves to one row per upload here.
+CREATE TABLE IF NOT EXISTS file_uploads (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  hash CHAR(64) NOT NULL,
+  uploaded_by BIGINT,
+  original_name VARCHAR(255),
+  created_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (id),
+  KEY idx_file_uploads_hash_uploader (hash, uploaded_by),
+  CONSTRAINT fk_file_upload_file FOREIGN KEY (hash) REFERENCES stored_files (hash) ON DELETE CASCADE,
+  CONSTRAINT fk_file_upload_user FOREIGN KEY (uploaded_by) REFERENCES users (id) ON DELETE SET NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Only the first upload of each file was recorded so far
+INSERT INTO file_uploads (hash, uploaded_by, original_name, created_at)
+SELECT f.hash, u.id, f.original_name, f.created_at
+FROM stored_files f
+LEFT JOIN users u ON u.id = f.uploaded_by;
+
+ALTER TABLE stored_files
+  DROP COLUMN original_name,
+  DROP COLUMN uploaded_by;
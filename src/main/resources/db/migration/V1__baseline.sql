@@ -0,0 +1,55 @@
+-- ========================================
+-- V1: Baseline - the tables the JPA entities map to
+-- Databases that already have these tables (from ddl-auto=update or sql/schema.sql)
+-- are baselined at version 1 and start from V2.
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS users (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  username VARCHAR(50) NOT NULL,
+  password VARCHAR(100) NOT NULL,
+  email VARCHAR(255) NOT NULL,
+  phone VARCHAR(255),
+  role VARCHAR(255) NOT NULL DEFAULT 'USER',
+  PRIMARY KEY (id),
+  UNIQUE KEY uk_users_username (username)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS jobs (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  title VARCHAR(255) NOT NULL,
+  company VARCHAR(255) NOT NULL,
+  location VARCHAR(255),
+  description TEXT,
+  created_at DATETIME(6),
+  updated_at DATETIME(6),
+  posted_by BIGINT,
+  PRIMARY KEY (id),
+  KEY idx_jobs_posted_by (posted_by),
+  CONSTRAINT fk_jobs_posted_by FOREIGN KEY (posted_by) REFERENCES users (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS candidate_profiles (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  user_id BIGINT NOT NULL,
+  first_name VARCHAR(50) NOT NULL,
+  last_name VARCHAR(50) NOT NULL,
+  headline VARCHAR(150),
+  bio TEXT,
+  phone VARCHAR(20),
+  city VARCHAR(100),
+  province VARCHAR(100),
+  postal_code VARCHAR(10),
+  address VARCHAR(255),
+  date_of_birth DATE,
+  gender VARCHAR(10),
+  website_url VARCHAR(255),
+  portfolio_url VARCHAR(255),
+  linkedin_url VARCHAR(255),
+  github_url VARCHAR(255),
+  is_profile_complete BOOLEAN DEFAULT FALSE,
+  created_at DATETIME(6) NOT NULL,
+  updated_at DATETIME(6),
+  PRIMARY KEY (id),
+  UNIQUE KEY uk_candidate_profiles_user_id (user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,57 @@
+-- ========================================
+-- V2: Bring databases created from sql/schema.sql in line with the entities.
+-- The jobs steps check information_schema first. The users.role and candidate_profiles.gender
+-- column changes run unconditionally; on a V1 database they re-declare the same types, and the
+-- role UPDATE matches no rows.
+-- ========================================
+
+-- users.role was ENUM('candidate','employer','admin'); the app stores USER / CANDIDATE / ADMIN
+ALTER TABLE users MODIFY role VARCHAR(255) NOT NULL DEFAULT 'USER';
+
+-- Employers sign in as ADMIN. BINARY keeps the case-insensitive collation from matching 'ADMIN'.
+UPDATE users SET role = CASE role WHEN 'candidate' THEN 'CANDIDATE' ELSE 'ADMIN' END
+  WHERE BINARY role IN ('candidate', 'employer', 'admin');
+
+-- Legacy jobs columns the entity never writes must not block inserts
+SET @stmt = (SELECT IF(COUNT(*) > 0,
+  'ALTER TABLE jobs MODIFY employer_id BIGINT NULL, MODIFY job_title VARCHAR(150) NULL, MODIFY job_description TEXT NULL, MODIFY job_type VARCHAR(20) NULL, MODIFY location VARCHAR(150) NULL',
+  'DO 0')
+  FROM information_schema.columns
+  WHERE table_schema = DATABASE() AND table_name = 'jobs' AND column_name = 'job_title');
+PREPARE s FROM @stmt; EXECUTE s; DEALLOCATE PREPARE s;
+
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE jobs ADD COLUMN title VARCHAR(255) NULL', 'DO 0')
+  FROM information_schema.columns
+  WHERE table_schema = DATABASE() AND table_name = 'jobs' AND column_name = 'title');
+PREPARE s FROM @stmt; EXECUTE s; DEALLOCATE PREPARE s;
+
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE jobs ADD COLUMN company VARCHAR(255) NULL', 'DO 0')
+  FROM information_schema.columns
+  WHERE table_schema = DATABASE() AND table_name = 'jobs' AND column_name = 'company');
+PREPARE s FROM @stmt; EXECUTE s; DEALLOCATE PREPARE s;
+
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE jobs ADD COLUMN description TEXT NULL', 'DO 0')
+  FROM information_schema.columns
+  WHERE table_schema = DATABASE() AND table_name = 'jobs' AND column_name = 'description');
+PREPARE s FROM @stmt; EXECUTE s; DEALLOCATE PREPARE s;
+
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE jobs ADD COLUMN created_at DATETIME(6) NULL', 'DO 0')
+  FROM information_schema.columns
+  WHERE table_schema = DATABASE() AND table_name = 'jobs' AND column_name = 'created_at');
+PREPARE s FROM @stmt; EXECUTE s; DEALLOCATE PREPARE s;
+
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE jobs ADD COLUMN posted_by BIGINT NULL, ADD KEY idx_jobs_posted_by (posted_by)', 'DO 0')
+  FROM information_schema.columns
+  WHERE table_schema = DATABASE() AND table_name = 'jobs' AND column_name = 'posted_by');
+PREPARE s FROM @stmt; EXECUTE s; DEALLOCATE PREPARE s;
+
+-- Carry legacy values into the entity columns
+SET @stmt = (SELECT IF(COUNT(*) > 0,
+  'UPDATE jobs SET title = COALESCE(title, job_title), description = COALESCE(description, job_description), created_at = COALESCE(created_at, posted_date)',
+  'DO 0')
+  FROM information_schema.columns
+  WHERE table_schema = DATABASE() AND table_name = 'jobs' AND column_name = 'job_title');
+PREPARE s FROM @stmt; EXECUTE s; DEALLOCATE PREPARE s;
+
+-- candidate_profiles.gender was ENUM('Male','Female','Other'); the entity stores the same names as text
+ALTER TABLE candidate_profiles MODIFY gender VARCHAR(10) NULL;
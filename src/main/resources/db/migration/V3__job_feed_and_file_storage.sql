@@ -0,0 +1,33 @@
+-- ========================================
+-- V3: Job delta-sync log, content-addressed files, profile photo/resume links
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS job_changes (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  job_id BIGINT NOT NULL,
+  change_type VARCHAR(10) NOT NULL,
+  changed_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (id),
+  KEY idx_job_changes_changed_at (changed_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS stored_files (
+  hash CHAR(64) NOT NULL,
+  size_bytes BIGINT NOT NULL,
+  content_type VARCHAR(100) NOT NULL,
+  original_name VARCHAR(255),
+  uploaded_by BIGINT,
+  created_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (hash)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- sql/schema.sql already had these columns
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE candidate_profiles ADD COLUMN resume_url VARCHAR(255) NULL', 'DO 0')
+  FROM information_schema.columns
+  WHERE table_schema = DATABASE() AND table_name = 'candidate_profiles' AND column_name = 'resume_url');
+PREPARE s FROM @stmt; EXECUTE s; DEALLOCATE PREPARE s;
+
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE candidate_profiles ADD COLUMN photo_url VARCHAR(255) NULL', 'DO 0')
+  FROM information_schema.columns
+  WHERE table_schema = DATABASE() AND table_name = 'candidate_profiles' AND column_name = 'photo_url');
+PREPARE s FROM @stmt; EXECUTE s; DEALLOCATE PREPARE s;
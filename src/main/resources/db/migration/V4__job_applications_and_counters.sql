@@ -0,0 +1,51 @@
+-- ========================================
+-- V4: Job applications (as in sql/schema.sql) and materialized per-job status counts
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS job_applications (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  job_id BIGINT NOT NULL,
+  candidate_id BIGINT NOT NULL,
+  applied_date DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6),
+  cover_letter TEXT,
+  resume_url VARCHAR(255),
+  status VARCHAR(30) NOT NULL DEFAULT 'Applied',
+  rating INT,
+  notes TEXT,
+  updated_at DATETIME(6),
+  PRIMARY KEY (id),
+  UNIQUE KEY unique_application (job_id, candidate_id),
+  KEY idx_candidate_id (candidate_id),
+  KEY idx_status (status),
+  CONSTRAINT fk_application_job FOREIGN KEY (job_id) REFERENCES jobs (id) ON DELETE CASCADE,
+  CONSTRAINT fk_application_candidate FOREIGN KEY (candidate_id) REFERENCES candidate_profiles (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS job_application_counts (
+  job_id BIGINT NOT NULL,
+  applied INT NOT NULL DEFAULT 0,
+  reviewed INT NOT NULL DEFAULT 0,
+  interview_scheduled INT NOT NULL DEFAULT 0,
+  rejected INT NOT NULL DEFAULT 0,
+  accepted INT NOT NULL DEFAULT 0,
+  withdrawn INT NOT NULL DEFAULT 0,
+  updated_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (job_id),
+  CONSTRAINT fk_application_counts_job FOREIGN KEY (job_id) REFERENCES jobs (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Seed counters from any applications that already exist
+INSERT INTO job_application_counts (job_id, applied, reviewed, interview_scheduled, rejected, accepted, withdrawn, updated_at)
+SELECT job_id,
+       SUM(status = 'Applied'),
+       SUM(status = 'Reviewed'),
+       SUM(status = 'Interview Scheduled'),
+       SUM(status = 'Rejected'),
+       SUM(status = 'Accepted'),
+       SUM(status = 'Withdrawn'),
+       NOW(6)
+FROM job_applications
+GROUP BY job_id
+ON DUPLICATE KEY UPDATE applied = VALUES(applied), reviewed = VALUES(reviewed),
+  interview_scheduled = VALUES(interview_scheduled), rejected = VALUES(rejected),
+  accepted = VALUES(accepted), withdrawn = VALUES(withdrawn), updated_at = VALUES(updated_at);
@@ -0,0 +1,35 @@
+-- ========================================
+-- V5: Interviews (as in sql/schema.sql) with an explicit duration for overlap checks
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS interviews (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  application_id BIGINT NOT NULL,
+  interview_date DATETIME(6) NOT NULL,
+  duration_minutes INT NOT NULL DEFAULT 60,
+  interview_type VARCHAR(20) DEFAULT 'Video',
+  location VARCHAR(255),
+  interviewer_id BIGINT,
+  interview_notes TEXT,
+  feedback TEXT,
+  status VARCHAR(20) NOT NULL DEFAULT 'Scheduled',
+  created_at DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6),
+  updated_at DATETIME(6),
+  PRIMARY KEY (id),
+  KEY idx_application_id (application_id),
+  KEY idx_interview_date (interview_date),
+  KEY idx_interviewer_schedule (interviewer_id, status, interview_date),
+  CONSTRAINT fk_interview_application FOREIGN KEY (application_id) REFERENCES job_applications (id) ON DELETE CASCADE,
+  CONSTRAINT fk_interview_interviewer FOREIGN KEY (interviewer_id) REFERENCES users (id) ON DELETE SET NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Databases created from sql/schema.sql have the table but not these
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE interviews ADD COLUMN duration_minutes INT NOT NULL DEFAULT 60 AFTER interview_date', 'DO 0')
+  FROM information_schema.columns
+  WHERE table_schema = DATABASE() AND table_name = 'interviews' AND column_name = 'duration_minutes');
+PREPARE s FROM @stmt; EXECUTE s; DEALLOCATE PREPARE s;
+
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_interviewer_schedule ON interviews (interviewer_id, status, interview_date)', 'DO 0')
+  FROM information_schema.statistics
+  WHERE table_schema = DATABASE() AND table_name = 'interviews' AND index_name = 'idx_interviewer_schedule');
+PREPARE s FROM @stmt; EXECUTE s; DEALLOCATE PREPARE s;
@@ -0,0 +1,23 @@
+-- ========================================
+-- V6: Job view rollups flushed from in-memory counters
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS job_view_hourly (
+  job_id BIGINT NOT NULL,
+  hour_start DATETIME NOT NULL,
+  views BIGINT NOT NULL DEFAULT 0,
+  PRIMARY KEY (job_id, hour_start),
+  CONSTRAINT fk_view_hourly_job FOREIGN KEY (job_id) REFERENCES jobs (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Daily views are summed from job_view_hourly; unique_sketch holds the HyperLogLog registers
+-- so later flushes and other nodes can merge into it
+CREATE TABLE IF NOT EXISTS job_view_daily (
+  job_id BIGINT NOT NULL,
+  view_date DATE NOT NULL,
+  unique_viewers BIGINT NOT NULL DEFAULT 0,
+  unique_sketch VARBINARY(16384),
+  updated_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (job_id, view_date),
+  CONSTRAINT fk_view_daily_job FOREIGN KEY (job_id) REFERENCES jobs (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
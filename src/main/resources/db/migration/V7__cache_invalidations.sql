@@ -0,0 +1,12 @@
+-- ========================================
+-- V7: Cache invalidation batches for the JDBC invalidation transport
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS cache_invalidations (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  node_id VARCHAR(64) NOT NULL,
+  payload TEXT NOT NULL,
+  created_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (id),
+  KEY idx_cache_invalidations_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,21 @@
+-- ========================================
+-- V8: Job status and application deadline (already present in sql/schema.sql databases)
+-- ========================================
+
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE jobs ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT ''Open''', 'DO 0')
+  FROM information_schema.columns
+  WHERE table_schema = DATABASE() AND table_name = 'jobs' AND column_name = 'status');
+PREPARE s FROM @stmt; EXECUTE s; DEALLOCATE PREPARE s;
+
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE jobs ADD COLUMN application_deadline DATE NULL', 'DO 0')
+  FROM information_schema.columns
+  WHERE table_schema = DATABASE() AND table_name = 'jobs' AND column_name = 'application_deadline');
+PREPARE s FROM @stmt; EXECUTE s; DEALLOCATE PREPARE s;
+
+UPDATE jobs SET status = 'Open' WHERE status IS NULL;
+
+-- Startup loads open postings with a deadline; the expiry batch re-checks both columns
+SET @stmt = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_jobs_status_deadline ON jobs (status, application_deadline)', 'DO 0')
+  FROM information_schema.statistics
+  WHERE table_schema = DATABASE() AND table_name = 'jobs' AND index_name = 'idx_jobs_status_deadline');
+PREPARE s FROM @stmt; EXECUTE s; DEALLOCATE PREPARE s;
@@ -0,0 +1,15 @@
+-- ========================================
+-- V9: Pooled id block table for jobs (lets Hibernate batch job inserts)
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS id_generators (
+  name VARCHAR(64) NOT NULL,
+  next_val BIGINT NOT NULL,
+  PRIMARY KEY (name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Start past every existing id plus one allocation block. Insert jobs through the app from now
+-- on: an AUTO_INCREMENT id taken by hand can land inside a block a node has already reserved
+INSERT INTO id_generators (name, next_val)
+SELECT 'jobs', COALESCE(MAX(id), 0) + 100 FROM jobs
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
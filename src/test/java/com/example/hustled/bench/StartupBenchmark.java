@@ -0,0 +1,77 @@
+package com.example.hustled.bench;
+
+import com.example.hustled.HustledApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Measures cold-start time to a ready context and lists the slowest startup steps.
+ *
+ * Needs the MySQL database from application.properties. After mvn test-compile:
+ *   java -cp "target/test-classes:target/classes:$(./mvnw -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *        com.example.hustled.bench.StartupBenchmark 5
+ *
+ * Args: runs (default 5) followed by any extra Spring arguments, e.g. --spring.jpa.hibernate.ddl-auto=update
+ * to compare against the old schema-scanning startup. The first run includes Flyway applying
+ * pending migrations; later runs show the steady state where every migration is skipped.
+ */
+public class StartupBenchmark {
+
+    private static final int TOP_STEPS = 12;
+
+    public static void main(String[] args) {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        String[] springArgs = Arrays.copyOfRange(args, Math.min(1, args.length), args.length);
+        String[] appArgs = concat(springArgs, "--server.port=0", "--spring.main.banner-mode=off",
+                "--spring.jpa.show-sql=false", "--logging.level.root=WARN");
+
+        long[] millis = new long[runs];
+        BufferingApplicationStartup lastStartup = null;
+        for (int i = 0; i < runs; i++) {
+            BufferingApplicationStartup startup = new BufferingApplicationStartup(20_000);
+            SpringApplication app = new SpringApplication(HustledApplication.class);
+            app.setApplicationStartup(startup);
+
+            long start = System.nanoTime();
+            try (ConfigurableApplicationContext ignored = app.run(appArgs)) {
+                millis[i] = (System.nanoTime() - start) / 1_000_000;
+            }
+            System.out.printf("run %d: %d ms%n", i + 1, millis[i]);
+            lastStartup = startup;
+        }
+
+        long[] sorted = millis.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%nstartup over %d runs: min %d ms, median %d ms, max %d ms%n",
+                runs, sorted[0], sorted[runs / 2], sorted[runs - 1]);
+
+        if (lastStartup != null) {
+            System.out.println("\nSlowest steps (last run):");
+            lastStartup.getBufferedTimeline().getEvents().stream()
+                    .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                    .limit(TOP_STEPS)
+                    .forEach(e -> System.out.printf("  %6d ms  %s%s%n", e.getDuration().toMillis(),
+                            e.getStartupStep().getName(), describe(e.getStartupStep())));
+        }
+    }
+
+    private static String describe(StartupStep step) {
+        StringBuilder sb = new StringBuilder();
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (tag.getKey().equals("beanName")) sb.append(" [").append(tag.getValue()).append(']');
+        }
+        return sb.toString();
+    }
+
+    private static String[] concat(String[] first, String... rest) {
+        String[] all = Arrays.copyOf(first, first.length + rest.length);
+        System.arraycopy(rest, 0, all, first.length, rest.length);
+        return all;
+    }
+}
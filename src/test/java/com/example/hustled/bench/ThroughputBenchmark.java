@@ -0,0 +1,109 @@
+package com.example.hustled.bench;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load generator for comparing platform-thread and virtual-thread execution.
+ *
+ * Start the app twice against the same database and run this against each:
+ *   ./mvnw spring-boot:run -Dspring-boot.run.arguments="--hustled.throttle.enabled=false --hustled.concurrency.enabled=false"
+ *   ./mvnw -Pjava21 spring-boot:run -Dspring-boot.run.profiles=vthreads -Dspring-boot.run.arguments="--hustled.throttle.enabled=false --hustled.concurrency.enabled=false"
+ *
+ * Then (from target/test-classes after mvn test-compile):
+ *   java -cp target/test-classes com.example.hustled.bench.ThroughputBenchmark http://localhost:3000 nhyll password 400 30
+ *
+ * Args: baseUrl username password concurrency seconds. Throttling must be disabled or the
+ * login scenario measures 429s instead of BCrypt, and load shedding too, or both scenarios
+ * measure fast 503s once the adaptive limit settles.
+ */
+public class ThroughputBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:3000";
+        String username = args.length > 1 ? args[1] : "nhyll";
+        String password = args.length > 2 ? args[2] : "password";
+        int concurrency = args.length > 3 ? Integer.parseInt(args[3]) : 200;
+        int seconds = args.length > 4 ? Integer.parseInt(args[4]) : 30;
+
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(32))
+                .build();
+
+        // Form login once so /jobs is served instead of redirecting to the login page
+        HttpResponse<Void> login = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/process-login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString("username=" + username + "&password=" + password))
+                        .build(), HttpResponse.BodyHandlers.discarding());
+        System.out.println("Form login -> " + login.statusCode() + " " + login.headers().firstValue("Location").orElse(""));
+
+        HttpRequest jobs = HttpRequest.newBuilder(URI.create(baseUrl + "/jobs")).GET().build();
+        HttpRequest apiLogin = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login/candidate"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .build();
+
+        run("GET /jobs", client, jobs, concurrency, seconds);
+        run("POST /api/auth/login/candidate", client, apiLogin, concurrency, seconds);
+        System.exit(0);
+    }
+
+    private static void run(String name, HttpClient client, HttpRequest request,
+                            int concurrency, int seconds) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder ok = new LongAdder();
+        LongAdder failed = new LongAdder();
+        ConcurrentLinkedQueue<long[]> latencies = new ConcurrentLinkedQueue<>();
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.submit(() -> {
+                long[] samples = new long[1 << 16];
+                int n = 0;
+                while (running.get()) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() < 400) ok.increment(); else failed.increment();
+                    } catch (Exception e) {
+                        failed.increment();
+                    }
+                    if (n < samples.length) samples[n++] = System.nanoTime() - start;
+                }
+                latencies.add(Arrays.copyOf(samples, n));
+            });
+        }
+
+        Thread.sleep(seconds * 1000L);
+        running.set(false);
+        workers.shutdown();
+        workers.awaitTermination(60, TimeUnit.SECONDS);
+
+        List<Long> all = new ArrayList<>();
+        for (long[] chunk : latencies) for (long l : chunk) all.add(l);
+        all.sort(null);
+        System.out.printf("%-32s %8.1f req/s  ok=%d failed=%d  p50=%.1fms p99=%.1fms%n",
+                name, ok.sum() / (double) seconds, ok.sum(), failed.sum(),
+                percentile(all, 0.50), percentile(all, 0.99));
+    }
+
+    private static double percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) return 0;
+        int idx = (int) Math.min(sorted.size() - 1, Math.round(p * (sorted.size() - 1)));
+        return sorted.get(idx) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.hustled.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routes between two embedded H2 databases that each identify themselves through a marker row
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private ReadYourWritesTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5));
+        routing = new ReadWriteRoutingDataSource(primary, List.of(replica), tracker);
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager txManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(txManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(txManager);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("nhyll", null, AuthorityUtils.NO_AUTHORITIES));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        assertEquals("replica", readOnly.execute(s -> whoAmI()));
+        assertEquals("primary", readWrite.execute(s -> whoAmI()));
+    }
+
+    @Test
+    void recentWriterReadsFromPrimary() {
+        tracker.recordWrite();
+        assertEquals("primary", readOnly.execute(s -> whoAmI()));
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("someone-else", null, AuthorityUtils.NO_AUTHORITIES));
+        assertEquals("replica", readOnly.execute(s -> whoAmI()));
+    }
+
+    @Test
+    void signedUpUserReadsFromPrimaryOnceLoggedIn() {
+        SecurityContextHolder.clearContext();
+        tracker.recordWrite("newcomer");
+        assertEquals("replica", readOnly.execute(s -> whoAmI()));
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("newcomer", null, AuthorityUtils.NO_AUTHORITIES));
+        assertEquals("primary", readOnly.execute(s -> whoAmI()));
+    }
+
+    @Test
+    void unhealthyReplicaFallsBackToPrimary() {
+        routing.setReplicaHealthy(0, false);
+        assertEquals("primary", readOnly.execute(s -> whoAmI()));
+    }
+
+    private String whoAmI() {
+        return jdbc.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource ds = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate init = new JdbcTemplate(ds);
+        init.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+        init.update("DELETE FROM marker");
+        init.update("INSERT INTO marker VALUES (?)", name);
+        return ds;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.hustled.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CannedResponseTest {
+
+    private final CannedResponse response = CannedResponse.of(HttpStatus.BAD_REQUEST,
+            Map.of("success", false), new ObjectMapper(), new ObjectMapper(new CBORFactory()));
+
+    @Test
+    void negotiatesOnQualityValues() {
+        assertEquals(MediaType.APPLICATION_CBOR, type("application/cbor"));
+        assertEquals(MediaType.APPLICATION_CBOR, type("application/json;q=0.5, application/cbor"));
+        assertEquals(MediaType.APPLICATION_JSON, type("application/cbor;q=0.5, application/json"));
+        assertEquals(MediaType.APPLICATION_JSON, type("application/cbor;q=0, */*"));
+        assertEquals(MediaType.APPLICATION_CBOR, type("application/cbor, */*;q=0.1"));
+    }
+
+    @Test
+    void fallsBackToJsonAndAlwaysVariesOnAccept() {
+        assertEquals(MediaType.APPLICATION_JSON, type(null));
+        assertEquals(MediaType.APPLICATION_JSON, type("*/*"));
+        assertEquals(MediaType.APPLICATION_JSON, type("not a media type"));
+
+        ResponseEntity<byte[]> rendered = response.render("application/cbor");
+        assertEquals(HttpStatus.BAD_REQUEST, rendered.getStatusCode());
+        assertEquals(HttpHeaders.ACCEPT, rendered.getHeaders().getFirst(HttpHeaders.VARY));
+        assertEquals(HttpHeaders.ACCEPT, response.render(null).getHeaders().getFirst(HttpHeaders.VARY));
+    }
+
+    private MediaType type(String accept) {
+        return response.render(accept).getHeaders().getContentType();
+    }
+}
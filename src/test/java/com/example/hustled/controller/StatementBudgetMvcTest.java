@@ -0,0 +1,154 @@
+package com.example.hustled.controller;
+
+import com.example.hustled.entity.Job;
+import com.example.hustled.entity.User;
+import com.example.hustled.filter.SqlStatementBudgetFilter;
+import com.example.hustled.model.CandidateProfile;
+import com.example.hustled.repository.CandidateProfileRepository;
+import com.example.hustled.repository.JobRepository;
+import com.example.hustled.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statements per request through the whole stack (security, controller, template), counted by
+ * {@link SqlStatementBudgetFilter} on H2 in MySQL mode with the schema generated from the entities
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "hustled.sql.tracking.enabled=true"
+})
+@AutoConfigureMockMvc
+class StatementBudgetMvcTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private SqlStatementBudgetFilter budget;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private JobRepository jobRepo;
+
+    @Autowired
+    private CandidateProfileRepository profileRepo;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.execute("CREATE TABLE IF NOT EXISTS candidate_profile_documents (candidate_id BIGINT NOT NULL PRIMARY KEY, " +
+                "user_id BIGINT NOT NULL, document BLOB NOT NULL, built_at TIMESTAMP(6) NOT NULL)");
+    }
+
+    @Test
+    void jobListCostsTheSameWhateverTheNumberOfPosters() throws Exception {
+        MockHttpSession session = login(user("lister", "CANDIDATE"));
+        postJobs("small", 2);
+        int few = statements(get("/jobs").session(session));
+
+        postJobs("large", 10);
+        int many = statements(get("/jobs").session(session));
+
+        // Jobs and their posters in one statement, template rendering included
+        assertEquals(1, few);
+        assertEquals(few, many, "statements grew with the number of posters");
+        assertEquals(0L, budget.stats().get("repeatedShapes"));
+    }
+
+    @Test
+    void profileIsOneDocumentLookupAndThenServedFromTheCache() throws Exception {
+        User owner = user("candidate", "CANDIDATE");
+        CandidateProfile profile = new CandidateProfile();
+        profile.setUserId(owner.getId());
+        profile.setFirstName("Ana");
+        profile.setLastName("Silva");
+        profile = profileRepo.save(profile);
+        String document = "{\"id\":" + profile.getId() + ",\"userId\":" + owner.getId()
+                + ",\"firstName\":\"Ana\",\"skills\":[],\"experiences\":[],\"education\":[],\"certifications\":[]}";
+        jdbc.update("INSERT INTO candidate_profile_documents (candidate_id, user_id, document, built_at) VALUES (?, ?, ?, ?)",
+                profile.getId(), owner.getId(), document.getBytes(StandardCharsets.UTF_8), Timestamp.valueOf(LocalDateTime.now()));
+        MockHttpSession session = login(owner);
+
+        // Candidate id, then the stored document: never a query per section
+        int miss = statements(get("/api/candidate/profile").session(session));
+        int hit = statements(get("/api/candidate/profile").session(session));
+
+        assertEquals(2, miss);
+        assertEquals(0, hit);
+        mvc.perform(get("/api/candidate/profile").session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.firstName").value("Ana"));
+    }
+
+    /**
+     * Statements the request issued, as counted by the budget filter
+     */
+    private int statements(MockHttpServletRequestBuilder request) throws Exception {
+        long before = (Long) budget.stats().get("statements");
+        mvc.perform(request).andExpect(status().isOk());
+        return (int) ((Long) budget.stats().get("statements") - before);
+    }
+
+    private void postJobs(String prefix, int posters) {
+        for (int p = 0; p < posters; p++) {
+            User poster = user(prefix + "-employer" + p, "ADMIN");
+            Job job = new Job();
+            job.setTitle("Job " + prefix + " " + p);
+            job.setCompany("Company " + p);
+            job.setPostedBy(poster);
+            jobRepo.save(job);
+        }
+    }
+
+    private User user(String username, String role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("secret-password");
+        user.setEmail(username + "@example.com");
+        user.setRole(role);
+        return userRepo.save(user);
+    }
+
+    private static MockHttpSession login(User user) {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                new SecurityContextImpl(new UsernamePasswordAuthenticationToken(user, null,
+                        List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole())))));
+        return session;
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.hustled.event;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DomainEventBusTest {
+
+    @Test
+    void subscribersOnlyReceiveTheirEventTypesInOrder() {
+        Recorder jobs = new Recorder(Set.of(JobDeleted.class), 0);
+        Recorder users = new Recorder(Set.of(UserRegistered.class), 0);
+        DomainEventBus bus = bus(64, 64, jobs, users);
+
+        bus.publish(new JobDeleted(1L));
+        bus.publish(new UserRegistered(7L, "ana", "USER"));
+        bus.publish(new JobDeleted(2L));
+
+        assertTrue(bus.awaitIdle(5, TimeUnit.SECONDS));
+        assertEquals(List.of("JobDeleted:1", "JobDeleted:2"), jobs.seen);
+        assertEquals(List.of("UserRegistered:7"), users.seen);
+        bus.stop();
+    }
+
+    @Test
+    void eventsWaitForCommitAndRollbackPublishesNothing() {
+        Recorder recorder = new Recorder(Set.of(DomainEvent.class), 0);
+        DomainEventBus bus = bus(64, 64, recorder);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bus.publish(new JobDeleted(1L));
+            bus.publish(new JobDeleted(2L));
+            assertTrue(bus.awaitIdle(1, TimeUnit.SECONDS));
+            assertTrue(recorder.seen.isEmpty());
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bus.publish(new JobDeleted(3L));
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(bus.awaitIdle(5, TimeUnit.SECONDS));
+        assertEquals(List.of("JobDeleted:1", "JobDeleted:2"), recorder.seen);
+        assertEquals(1L, bus.stats().get("rolledBack"));
+        bus.stop();
+    }
+
+    @Test
+    void slowSubscriberDropsOnlyItsOwnEvents() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Recorder slow = new Recorder(Set.of(JobDeleted.class), 2) {
+            @Override
+            public void onEvent(DomainEvent event) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onEvent(event);
+            }
+        };
+        Recorder fast = new Recorder(Set.of(JobDeleted.class), 0);
+        DomainEventBus bus = bus(64, 64, slow, fast);
+
+        for (long id = 1; id <= 10; id++) bus.publish(new JobDeleted(id));
+        waitFor(() -> fast.seen.size() == 10);
+        release.countDown();
+
+        assertTrue(bus.awaitIdle(5, TimeUnit.SECONDS));
+        assertTrue(slow.seen.size() < 10);
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> lanes = (Map<String, Map<String, Object>>) bus.stats().get("subscribers");
+        long dropped = lanes.values().stream().mapToLong(l -> (Long) l.get("dropped")).sum();
+        assertEquals(10 - slow.seen.size(), dropped);
+        bus.stop();
+    }
+
+    @Test
+    void losslessSubscriberSpillsInsteadOfDroppingOrBlocking() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Recorder slow = new Recorder(Set.of(JobDeleted.class), 2) {
+            @Override
+            public boolean lossless() {
+                return true;
+            }
+
+            @Override
+            public void onEvent(DomainEvent event) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onEvent(event);
+            }
+        };
+        DomainEventBus bus = bus(4, 2, slow);
+
+        // Returns while the subscriber is still stuck on the first event
+        for (long id = 1; id <= 50; id++) bus.publish(new JobDeleted(id));
+        waitFor(() -> spilled(bus) >= 47);
+        assertTrue(slow.seen.isEmpty());
+        release.countDown();
+
+        assertTrue(bus.awaitIdle(5, TimeUnit.SECONDS));
+        assertEquals(50, slow.seen.size());
+        for (int i = 0; i < 50; i++) assertEquals("JobDeleted:" + (i + 1), slow.seen.get(i));
+        assertEquals(0L, bus.stats().get("dropped"));
+        assertTrue(spilled(bus) > 0);
+        bus.stop();
+    }
+
+    @Test
+    void committingPublisherWaitsAtMostTheTimeoutForAStuckDispatcher() {
+        CountDownLatch release = new CountDownLatch(1);
+        // Routing happens on the dispatcher thread, so a blocking eventTypes() stalls it
+        Recorder stuck = new Recorder(Set.of(JobDeleted.class), 0) {
+            @Override
+            public Set<Class<? extends DomainEvent>> eventTypes() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.eventTypes();
+            }
+        };
+        DomainEventBus bus = new DomainEventBus(provider(stuck), 4, 4, 50);
+        bus.start();
+
+        long started = System.nanoTime();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            for (long id = 1; id <= 20; id++) bus.publish(new JobDeleted(id));
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertTrue(elapsedMs < 2000, "afterCommit blocked for " + elapsedMs + " ms");
+        assertTrue((Long) bus.stats().get("dropped") >= 15);
+        release.countDown();
+        assertTrue(bus.awaitIdle(5, TimeUnit.SECONDS));
+        bus.stop();
+    }
+
+    private static long spilled(DomainEventBus bus) {
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> lanes = (Map<String, Map<String, Object>>) bus.stats().get("subscribers");
+        return lanes.values().stream().mapToLong(l -> (Long) l.get("spilled")).sum();
+    }
+
+    private static DomainEventBus bus(int ringSize, int subscriberQueue, DomainEventSubscriber... subscribers) {
+        DomainEventBus bus = new DomainEventBus(provider(subscribers), ringSize, subscriberQueue, 1000);
+        bus.start();
+        return bus;
+    }
+
+    private static ObjectProvider<DomainEventSubscriber> provider(DomainEventSubscriber... subscribers) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        for (int i = 0; i < subscribers.length; i++) beans.addBean("subscriber" + i, subscribers[i]);
+        return beans.getBeanProvider(DomainEventSubscriber.class);
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(s -> s.afterCompletion(status));
+    }
+
+    private static void waitFor(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(1);
+        }
+    }
+
+    private static class Recorder implements DomainEventSubscriber {
+        final List<String> seen = new CopyOnWriteArrayList<>();
+        private final Set<Class<? extends DomainEvent>> types;
+        private final int capacity;
+
+        Recorder(Set<Class<? extends DomainEvent>> types, int capacity) {
+            this.types = types;
+            this.capacity = capacity;
+        }
+
+        @Override
+        public Set<Class<? extends DomainEvent>> eventTypes() {
+            return types;
+        }
+
+        @Override
+        public int queueCapacity() {
+            return capacity;
+        }
+
+        @Override
+        public void onEvent(DomainEvent event) {
+            Object id = event instanceof JobDeleted d ? d.getJobId()
+                    : event instanceof UserRegistered u ? u.getUserId() : "?";
+            seen.add(event.getClass().getSimpleName() + ":" + id);
+        }
+    }
+}
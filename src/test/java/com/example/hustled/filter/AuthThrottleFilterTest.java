@@ -0,0 +1,157 @@
+package com.example.hustled.filter;
+
+import com.example.hustled.util.TokenBucket;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthThrottleFilterTest {
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+
+    @Test
+    void limitsEachClientAddressSeparately() throws Exception {
+        AuthThrottleFilter filter = filter(2, 100);
+
+        assertEquals(200, login(filter, "10.0.0.1", "ana").getStatus());
+        assertEquals(200, login(filter, "10.0.0.1", "ben").getStatus());
+        MockHttpServletResponse rejected = login(filter, "10.0.0.1", "cy");
+        assertEquals(429, rejected.getStatus());
+        assertNotNull(rejected.getHeader("Retry-After"));
+
+        assertEquals(200, login(filter, "10.0.0.2", "cy").getStatus());
+        assertEquals(1L, filter.stats().get("rejectedByIp"));
+    }
+
+    @Test
+    void limitsAUsernameAcrossAddressesAndCaseAndKeepsTheBodyReadable() throws Exception {
+        AuthThrottleFilter filter = filter(100, 2);
+
+        assertEquals(200, login(filter, "10.0.0.1", "Ana").getStatus());
+        assertEquals(200, login(filter, "10.0.0.2", " ana ").getStatus());
+        assertEquals(429, login(filter, "10.0.0.3", "ANA").getStatus());
+        assertEquals(1L, filter.stats().get("rejectedByUsername"));
+
+        MockHttpServletRequest request = post("10.0.0.4", "{\"username\":\"ben\",\"password\":\"secret\"}");
+        AtomicReference<String> seen = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+                seen.set(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8)));
+        assertEquals("{\"username\":\"ben\",\"password\":\"secret\"}", seen.get());
+    }
+
+    @Test
+    void cborBodiesAreChargedPerUsername() throws Exception {
+        AuthThrottleFilter filter = filter(100, 1);
+        byte[] body = cbor.writeValueAsBytes(Map.of("username", "ana", "password", "secret"));
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login/cbor");
+            request.setRemoteAddr("10.0.0." + i);
+            request.setContentType("application/cbor");
+            request.setContent(body);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            assertEquals(i == 0 ? 200 : 429, response.getStatus());
+        }
+    }
+
+    @Test
+    void getRequestsAreNotCharged() throws Exception {
+        AuthThrottleFilter filter = filter(1, 1);
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/register");
+            request.setRemoteAddr("10.0.0.1");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    @Test
+    void asyncReadListenerIsHandedToTheContainerStream() throws Exception {
+        AuthThrottleFilter filter = filter(100, 100);
+        AtomicReference<ReadListener> registered = new AtomicReference<>();
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login") {
+            @Override
+            public ServletInputStream getInputStream() {
+                ServletInputStream in = super.getInputStream();
+                return new ServletInputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        return in.read();
+                    }
+
+                    @Override
+                    public boolean isFinished() {
+                        return in.isFinished();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setReadListener(ReadListener listener) {
+                        registered.set(listener);
+                    }
+                };
+            }
+        };
+        request.setRemoteAddr("10.0.0.1");
+        request.setContentType("application/json");
+        request.setContent("{\"username\":\"ana\"}".getBytes(StandardCharsets.UTF_8));
+
+        ReadListener listener = new ReadListener() {
+            @Override
+            public void onDataAvailable() {
+            }
+
+            @Override
+            public void onAllDataRead() {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+        };
+        filter.doFilter(request, new MockHttpServletResponse(), (ServletRequest req, ServletResponse res) ->
+                req.getInputStream().setReadListener(listener));
+        assertSame(listener, registered.get());
+    }
+
+    private AuthThrottleFilter filter(int perIp, int perUsername) {
+        return new AuthThrottleFilter(json, cbor,
+                new TokenBucket.Limit(perIp, 1), new TokenBucket.Limit(perUsername, 1), 1_000);
+    }
+
+    private MockHttpServletResponse login(AuthThrottleFilter filter, String address, String username) throws Exception {
+        MockHttpServletRequest request = post(address, "{\"username\":\"" + username + "\",\"password\":\"secret\"}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest post(String address, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(address);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.hustled.filter;
+
+import com.example.hustled.util.AdaptiveConcurrencyLimit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadSheddingFilterTest {
+
+    @Test
+    void onlyPagesAndBrowseApisAreHighPriority() {
+        assertEquals(LoadSheddingFilter.Priority.HIGH, priority("GET", "/jobs/12"));
+        assertEquals(LoadSheddingFilter.Priority.HIGH, priority("GET", "/css/site.css"));
+        assertEquals(LoadSheddingFilter.Priority.HIGH, priority("GET", "/api/jobs/feed"));
+        assertEquals(LoadSheddingFilter.Priority.HIGH, priority("GET", "/api/geo/jobs"));
+
+        assertEquals(LoadSheddingFilter.Priority.NORMAL, priority("GET", "/api/export/jobs"));
+        assertEquals(LoadSheddingFilter.Priority.NORMAL, priority("GET", "/api/admin/metrics/sql"));
+        assertEquals(LoadSheddingFilter.Priority.NORMAL, priority("POST", "/api/jobs"));
+        assertEquals(LoadSheddingFilter.Priority.LOW, priority("POST", "/api/jobs/bulk"));
+        assertEquals(LoadSheddingFilter.Priority.LOW, priority("POST", "/api/auth/signup"));
+    }
+
+    @Test
+    void shedsOnceTheShareIsUsedAndReleasesSynchronousRequests() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1, 1.5, 100);
+        LoadSheddingFilter filter = new LoadSheddingFilter(new ObjectMapper(), limit, 0.9, 0.6);
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/jobs"), new MockHttpServletResponse(), (req, res) -> {
+            assertEquals(1, limit.getInFlight());
+            filter.doFilter(new MockHttpServletRequest("GET", "/jobs/1"), rejected, (r, s) -> fail("should be shed"));
+        });
+
+        assertEquals(503, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    void asyncRequestGivesItsSlotBackWhenTheContainerThreadReturns() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 10, 1.5, 1);
+        LoadSheddingFilter filter = new LoadSheddingFilter(new ObjectMapper(), limit, 0.9, 0.6);
+
+        AsyncContext async = startStream(filter);
+
+        assertEquals(0, limit.getInFlight());
+        async.complete();
+        assertEquals(0, limit.getInFlight());
+        // The stream's duration is not a latency sample
+        assertEquals(0.0, limit.getNoLoadMillis());
+    }
+
+    @Test
+    void openStreamsDoNotCrowdOutPageLoads() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 4, 1.5, 100);
+        LoadSheddingFilter filter = new LoadSheddingFilter(new ObjectMapper(), limit, 0.9, 0.6);
+
+        List<AsyncContext> open = new ArrayList<>();
+        for (int i = 0; i < 20; i++) open.add(startStream(filter));
+
+        AtomicInteger served = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/jobs/" + i), response, (req, res) -> served.incrementAndGet());
+            assertEquals(200, response.getStatus());
+        }
+        assertEquals(4, served.get());
+        open.forEach(AsyncContext::complete);
+    }
+
+    private static AsyncContext startStream(LoadSheddingFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/export/jobs");
+        request.setAsyncSupported(true);
+        AtomicReference<AsyncContext> async = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> async.set(req.startAsync()));
+        return async.get();
+    }
+
+    private static LoadSheddingFilter.Priority priority(String method, String path) {
+        return LoadSheddingFilter.priorityOf(new MockHttpServletRequest(method, path));
+    }
+}
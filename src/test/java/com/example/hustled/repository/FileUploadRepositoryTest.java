@@ -0,0 +1,114 @@
+package com.example.hustled.repository;
+
+import com.example.hustled.entity.FileUpload;
+import com.example.hustled.entity.Job;
+import com.example.hustled.entity.JobApplication;
+import com.example.hustled.entity.StoredFile;
+import com.example.hustled.entity.User;
+import com.example.hustled.model.CandidateProfile;
+import com.example.hustled.service.FileStorageService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Who may download a private file, on H2 with the schema generated from the entities
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class FileUploadRepositoryTest {
+
+    private static final String RESUME = "a".repeat(64);
+
+    @TempDir
+    Path root;
+
+    @Autowired
+    private StoredFileRepository files;
+
+    @Autowired
+    private FileUploadRepository uploads;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void resumeIsReadableByUploaderProfileOwnerAndEmployersAppliedTo() throws Exception {
+        User candidate = user("candidate", "CANDIDATE");
+        User employer = user("employer", "ADMIN");
+        User otherEmployer = user("other", "ADMIN");
+        User recruiter = user("recruiter", "ADMIN");
+
+        StoredFile blob = new StoredFile();
+        blob.setHash(RESUME);
+        blob.setSize(10);
+        blob.setContentType("application/pdf");
+        blob.setCreatedAt(LocalDateTime.now());
+        em.persist(blob);
+        // The recruiter uploaded the same bytes under another name
+        upload(recruiter, "their-copy.pdf");
+        upload(candidate, "cv.pdf");
+
+        CandidateProfile profile = new CandidateProfile();
+        profile.setUserId(candidate.getId());
+        profile.setFirstName("Ana");
+        profile.setLastName("Silva");
+        profile.setResumeUrl(FileStorageService.urlFor(RESUME));
+        em.persist(profile);
+        Job job = new Job();
+        job.setTitle("Developer");
+        job.setCompany("Acme");
+        job.setPostedBy(employer);
+        em.persist(job);
+        JobApplication application = new JobApplication();
+        application.setJobId(job.getId());
+        application.setCandidateId(profile.getId());
+        em.persist(application);
+        em.flush();
+
+        FileStorageService storage = new FileStorageService(files, uploads, root.toString(), DataSize.ofMegabytes(1));
+        assertEquals(Optional.of(candidate.getId()), storage.readableThrough(RESUME, candidate.getId()));
+        assertEquals(Optional.of(recruiter.getId()), storage.readableThrough(RESUME, recruiter.getId()));
+        assertEquals(Optional.of(candidate.getId()), storage.readableThrough(RESUME, employer.getId()));
+        assertEquals(Optional.empty(), storage.readableThrough(RESUME, otherEmployer.getId()));
+        assertEquals(Optional.empty(), storage.readableThrough(RESUME, null));
+
+        // The employer downloads it under the candidate's name for it, not the recruiter's
+        assertEquals(Optional.of("cv.pdf"), storage.originalName(RESUME, candidate.getId()));
+        assertEquals(Optional.of("their-copy.pdf"), storage.originalName(RESUME, recruiter.getId()));
+    }
+
+    private User user(String username, String role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword("secret-password");
+        user.setEmail(username + "@example.com");
+        user.setRole(role);
+        return em.persist(user);
+    }
+
+    private void upload(User by, String name) {
+        FileUpload upload = new FileUpload();
+        upload.setHash(RESUME);
+        upload.setUploadedBy(by.getId());
+        upload.setOriginalName(name);
+        upload.setCreatedAt(LocalDateTime.now());
+        em.persist(upload);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.hustled.repository;
+
+import com.example.hustled.config.SqlStatementTracker;
+import com.example.hustled.config.SqlTrackingConfig;
+import com.example.hustled.entity.Job;
+import com.example.hustled.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement budgets for job listings, on H2 with the schema generated from the entities
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "hustled.sql.tracking.enabled=true"
+})
+@Import(SqlTrackingConfig.class)
+class JobRepositoryStatementTest {
+
+    private static final int POSTERS = 5;
+
+    @Autowired
+    private JobRepository jobRepo;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @BeforeEach
+    void seed() {
+        for (int p = 0; p < POSTERS; p++) {
+            User poster = new User();
+            poster.setUsername("employer" + p);
+            poster.setPassword("secret-password");
+            poster.setEmail("employer" + p + "@example.com");
+            poster.setRole("ADMIN");
+            em.persist(poster);
+            for (int j = 0; j < 2; j++) {
+                Job job = new Job();
+                job.setTitle("Job " + p + "-" + j);
+                job.setCompany("Company " + p);
+                job.setPostedBy(poster);
+                em.persist(job);
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void listingFetchesPostersInTheSameStatement() {
+        List<Job> jobs;
+        try (SqlStatementTracker.Scope scope = SqlStatementTracker.open("findAll", 2)) {
+            jobs = jobRepo.findAll();
+            jobs.forEach(job -> job.getPostedBy().getUsername());
+
+            assertEquals(1, scope.statements(), scope.report());
+        }
+        assertEquals(POSTERS * 2, jobs.size());
+    }
+
+    @Test
+    void repeatedLookupsAreReportedAsOneShape() {
+        List<Long> ids = jobRepo.findAll().stream().map(Job::getId).toList();
+        em.clear();
+
+        try (SqlStatementTracker.Scope scope = SqlStatementTracker.open("loop", 3)) {
+            ids.forEach(id -> jobRepo.findById(id));
+
+            assertEquals(ids.size(), scope.statements(), scope.report());
+            assertEquals(1, scope.repeated().size(), scope.report());
+            assertEquals(ids.size(), scope.repeated().values().iterator().next());
+            assertFalse(scope.callSite(scope.repeated().keySet().iterator().next()).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.hustled.service;
+
+import com.example.hustled.entity.ApplicationStatus;
+import com.example.hustled.entity.Job;
+import com.example.hustled.entity.JobApplication;
+import com.example.hustled.entity.User;
+import com.example.hustled.model.CandidateProfile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counter maintenance on H2 in MySQL mode, with the counter table from the V4 migration
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:counters;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ApplicationCounterServiceTest {
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ApplicationCounterService counters;
+    private Job job;
+    private CandidateProfile profile;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.execute("CREATE TABLE IF NOT EXISTS job_application_counts (job_id BIGINT NOT NULL PRIMARY KEY, " +
+                "applied INT NOT NULL DEFAULT 0, reviewed INT NOT NULL DEFAULT 0, " +
+                "interview_scheduled INT NOT NULL DEFAULT 0, rejected INT NOT NULL DEFAULT 0, " +
+                "accepted INT NOT NULL DEFAULT 0, withdrawn INT NOT NULL DEFAULT 0, updated_at TIMESTAMP(6) NOT NULL)");
+        counters = new ApplicationCounterService(jdbc, em.getEntityManager(), transactionManager);
+
+        User employer = new User();
+        employer.setUsername("employer");
+        employer.setPassword("secret-password");
+        employer.setEmail("employer@example.com");
+        employer.setRole("ADMIN");
+        em.persist(employer);
+        job = new Job();
+        job.setTitle("Barista");
+        job.setCompany("Cafe");
+        job.setPostedBy(employer);
+        em.persist(job);
+
+        User candidate = new User();
+        candidate.setUsername("candidate");
+        candidate.setPassword("secret-password");
+        candidate.setEmail("candidate@example.com");
+        em.persist(candidate);
+        profile = new CandidateProfile();
+        profile.setUserId(candidate.getId());
+        profile.setFirstName("Ana");
+        profile.setLastName("Cruz");
+        em.persist(profile);
+        em.flush();
+    }
+
+    @Test
+    void moveWithoutCounterRowCountsThePendingStatusChange() {
+        JobApplication first = apply();
+        apply();
+
+        // As ApplicationService.changeStatus does: the entity is changed but not flushed yet
+        first.setStatus(ApplicationStatus.REVIEWED);
+        counters.move(job.getId(), ApplicationStatus.APPLIED, ApplicationStatus.REVIEWED);
+
+        assertEquals(Map.of(ApplicationStatus.APPLIED, 1L, ApplicationStatus.REVIEWED, 1L), stored());
+    }
+
+    @Test
+    void incrementsAndMovesKeepCountsWithoutReconciling() {
+        apply();
+        counters.increment(job.getId(), ApplicationStatus.APPLIED);
+        apply();
+        counters.increment(job.getId(), ApplicationStatus.APPLIED);
+        counters.move(job.getId(), ApplicationStatus.APPLIED, ApplicationStatus.REJECTED);
+
+        assertEquals(Map.of(ApplicationStatus.APPLIED, 1L, ApplicationStatus.REJECTED, 1L), stored());
+    }
+
+    @Test
+    void reconcileRepairsOnlyDriftedJobs() {
+        apply();
+        apply();
+        counters.increment(job.getId(), ApplicationStatus.APPLIED);
+        assertEquals(1, counters.reconcileAll());
+        assertEquals(Map.of(ApplicationStatus.APPLIED, 2L), stored());
+
+        assertEquals(0, counters.reconcileAll());
+        assertFalse(counters.reconcileJob(job.getId()));
+    }
+
+    private JobApplication apply() {
+        JobApplication application = new JobApplication();
+        application.setJobId(job.getId());
+        application.setCandidateId(profile.getId());
+        application.setStatus(ApplicationStatus.APPLIED);
+        application.setAppliedDate(LocalDateTime.now());
+        em.persist(application);
+        em.flush();
+        return application;
+    }
+
+    private Map<ApplicationStatus, Long> stored() {
+        List<Map<String, Object>> rows = jdbc.queryForList("SELECT * FROM job_application_counts WHERE job_id = ?", job.getId());
+        assertEquals(1, rows.size());
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            long n = ((Number) rows.get(0).get(status.counterColumn())).longValue();
+            if (n != 0) counts.put(status, n);
+        }
+        return counts;
+    }
+}
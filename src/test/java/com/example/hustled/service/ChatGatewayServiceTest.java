@@ -0,0 +1,102 @@
+package com.example.hustled.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatGatewayServiceTest {
+
+    @Test
+    void identicalPromptsShareOneUpstreamCallAndAreCached() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ChatModelBackend backend = (system, prompt, onToken) -> {
+            calls.incrementAndGet();
+            onToken.accept("Bring your ");
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            onToken.accept("MOA.");
+        };
+        ChatGatewayService gateway = gateway(backend);
+
+        CompletableFuture<String> first = gateway.ask("What are OJT requirements?");
+        CompletableFuture<String> second = gateway.ask("  what are ojt   requirements ");
+        release.countDown();
+
+        assertEquals("Bring your MOA.", first.get(5, TimeUnit.SECONDS));
+        assertEquals("Bring your MOA.", second.get(5, TimeUnit.SECONDS));
+        assertEquals("Bring your MOA.", gateway.ask("WHAT ARE OJT REQUIREMENTS!").get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+        gateway.shutdown();
+    }
+
+    @Test
+    void slowListenerIsDroppedWithoutStallingTheOthers() throws Exception {
+        CountDownLatch stuck = new CountDownLatch(1);
+        CountDownLatch writing = new CountDownLatch(1);
+        ChatModelBackend backend = (system, prompt, onToken) -> {
+            onToken.accept("#");
+            try {
+                writing.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            for (int i = 0; i < 200; i++) onToken.accept("0123456789");
+        };
+        ChatGatewayService gateway = gateway(backend);
+        CompletableFuture<Throwable> slowResult = new CompletableFuture<>();
+        gateway.ask("Tell me about resumes", new ChatGatewayService.Listener() {
+            @Override
+            public void onToken(String text) throws Exception {
+                // A browser that stopped reading: the first write never returns in time
+                writing.countDown();
+                stuck.await(5, TimeUnit.SECONDS);
+            }
+
+            @Override
+            public void onComplete(String answer) {
+                slowResult.complete(null);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                slowResult.complete(error);
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((Integer) gateway.stats().get("inFlight") > 0) {
+            assertTrue(System.nanoTime() < deadline, "upstream call stalled behind a slow listener");
+            Thread.sleep(1);
+        }
+
+        // The answer finished and was cached while the slow listener is still stuck in its first write
+        assertEquals(2001, gateway.ask("tell me about resumes").get(5, TimeUnit.SECONDS).length());
+        assertFalse(slowResult.isDone());
+        stuck.countDown();
+        assertNotNull(slowResult.get(5, TimeUnit.SECONDS));
+        assertEquals(1L, gateway.stats().get("slowListenersDropped"));
+        gateway.shutdown();
+    }
+
+    @Test
+    void clientsAreThrottledIndependently() {
+        ChatGatewayService gateway = gateway((system, prompt, onToken) -> onToken.accept("ok"));
+        for (int i = 0; i < 3; i++) assertEquals(0, gateway.tryAcquire("a:10.0.0.1"));
+        assertTrue(gateway.tryAcquire("a:10.0.0.1") > 0);
+        assertEquals(0, gateway.tryAcquire("a:10.0.0.2"));
+        gateway.shutdown();
+    }
+
+    private static ChatGatewayService gateway(ChatModelBackend backend) {
+        return new ChatGatewayService(backend, 100, Duration.ofMinutes(5), 2, 10, 2, 1000, 3, 1);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.hustled.service;
+
+import com.example.hustled.entity.Job;
+import com.example.hustled.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exports on H2 with the schema generated from the entities
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class ExportServiceTest {
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void emptyCsvExportStillHasTheHeader() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exports(10).exportJobs(ExportService.Format.CSV, out);
+
+        assertEquals("id,title,company,location,description,status,application_deadline,created_at,updated_at,posted_by\r\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportLargerThanTheRowLimitIsCutOff() throws Exception {
+        User poster = new User();
+        poster.setUsername("employer");
+        poster.setPassword("secret-password");
+        poster.setEmail("employer@example.com");
+        poster.setRole("ADMIN");
+        em.persist(poster);
+        for (int i = 0; i < 3; i++) {
+            Job job = new Job();
+            job.setTitle("Job " + i);
+            job.setCompany("Company");
+            job.setPostedBy(poster);
+            em.persist(job);
+        }
+        em.flush();
+
+        exports(3).exportJobs(ExportService.Format.CSV, new ByteArrayOutputStream());
+        assertThrows(IllegalStateException.class,
+                () -> exports(2).exportJobs(ExportService.Format.CSV, new ByteArrayOutputStream()));
+    }
+
+    private ExportService exports(int maxRows) {
+        return new ExportService(jdbc, transactionManager, new ObjectMapper(), 500, maxRows, Duration.ofMinutes(5));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.hustled.service;
+
+import com.example.hustled.entity.FileUpload;
+import com.example.hustled.entity.StoredFile;
+import com.example.hustled.repository.FileUploadRepository;
+import com.example.hustled.repository.StoredFileRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class FileStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void identicalUploadsAreStoredOnce() throws Exception {
+        Map<String, StoredFile> rows = new HashMap<>();
+        StoredFileRepository repo = mock(StoredFileRepository.class);
+        when(repo.findById(anyString())).thenAnswer(inv -> Optional.ofNullable(rows.get(inv.<String>getArgument(0))));
+        when(repo.save(any())).thenAnswer(inv -> {
+            StoredFile file = inv.getArgument(0);
+            rows.put(file.getHash(), file);
+            return file;
+        });
+        List<FileUpload> uploadRows = new ArrayList<>();
+        FileUploadRepository uploads = mock(FileUploadRepository.class);
+        when(uploads.save(any())).thenAnswer(inv -> {
+            uploadRows.add(inv.getArgument(0));
+            return inv.getArgument(0);
+        });
+        FileStorageService storage = new FileStorageService(repo, uploads, root.toString(), DataSize.ofMegabytes(1));
+
+        byte[] pdf = "%PDF-1.4 resume".getBytes(StandardCharsets.US_ASCII);
+        StoredFile first = storage.store(new ByteArrayInputStream(pdf), "C:\\Users\\me\\cv.pdf", "application/pdf", 1L);
+        StoredFile second = storage.store(new ByteArrayInputStream(pdf), "copy.pdf", "application/pdf", 2L);
+
+        assertEquals(first.getHash(), second.getHash());
+        // One blob, but each upload keeps its own uploader and name
+        assertEquals(List.of(1L, 2L), uploadRows.stream().map(FileUpload::getUploadedBy).toList());
+        assertEquals(List.of("cv.pdf", "copy.pdf"), uploadRows.stream().map(FileUpload::getOriginalName).toList());
+        assertArrayEquals(pdf, Files.readAllBytes(storage.pathFor(first.getHash())));
+        verify(repo, times(1)).save(any());
+        try (Stream<Path> temps = Files.list(root.resolve("tmp"))) {
+            assertEquals(0, temps.count());
+        }
+    }
+
+    @Test
+    void rejectsDisallowedTypesAndOversizedFiles() throws Exception {
+        FileStorageService storage = new FileStorageService(mock(StoredFileRepository.class), mock(FileUploadRepository.class), root.toString(), DataSize.ofBytes(4));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> storage.store(new ByteArrayInputStream(new byte[1]), "x.html", "text/html", 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> storage.store(new ByteArrayInputStream(new byte[5]), "x.pdf", "application/pdf", 1L));
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.hustled.service;
+
+import com.example.hustled.entity.StoredFile;
+import com.example.hustled.repository.FileUploadRepository;
+import com.example.hustled.repository.StoredFileRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ImageDerivativeServiceTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void resizesToSnappedSizeKeepingAspectRatio() throws Exception {
+        StoredFileRepository repo = mock(StoredFileRepository.class);
+        when(repo.findById(anyString())).thenReturn(Optional.empty());
+        when(repo.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        FileStorageService storage = new FileStorageService(repo, mock(FileUploadRepository.class), root.toString(), DataSize.ofMegabytes(5));
+        ImageDerivativeService images = new ImageDerivativeService(storage, new int[] { 64, 128, 256 }, 1, 10);
+
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(800, 400, BufferedImage.TYPE_INT_ARGB), "png", png);
+        StoredFile file = storage.store(new ByteArrayInputStream(png.toByteArray()), "logo.png", "image/png", 1L);
+
+        assertEquals(128, images.snap(100));
+        Path thumb = images.derivative(file, 100);
+        BufferedImage result = ImageIO.read(thumb.toFile());
+        assertEquals(128, result.getWidth());
+        assertEquals(64, result.getHeight());
+        assertEquals(thumb, images.derivative(file, 128));
+        assertEquals(1, images.generatedCount());
+        images.shutdown();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.hustled.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InvalidationBusTest {
+
+    @Test
+    void peersReceiveOneDeduplicatedBatchAndOriginOnlyEvictsLocally() {
+        LoopbackInvalidationTransport.Hub hub = new LoopbackInvalidationTransport.Hub();
+        Recorder onA = new Recorder();
+        Recorder onB = new Recorder();
+        InvalidationBus a = bus(hub, onA);
+        InvalidationBus b = bus(hub, onB);
+
+        a.publish(InvalidationBus.JOB, 1L);
+        a.publish(InvalidationBus.JOB, 1L);
+        a.publish(InvalidationBus.JOB, 2L);
+        a.publish(InvalidationBus.USER, 7L);
+        assertEquals(0, onB.remote.size());
+
+        a.flush();
+
+        assertEquals(List.of("job:1", "job:1", "job:2", "user:7"), onA.local);
+        assertEquals(List.of(), onA.remote);
+        assertEquals(2, onB.remote.size());
+        assertEquals(3, onB.remote.stream().mapToInt(s -> s.split(",").length).sum());
+        assertEquals(1L, a.stats().get("coalesced"));
+        assertEquals(1L, a.stats().get("batchesSent"));
+        a.stop();
+        b.stop();
+    }
+
+    @Test
+    void failedSendIsRetriedOnNextFlush() {
+        Recorder peer = new Recorder();
+        InvalidationBus receiver = bus(new LoopbackInvalidationTransport.Hub(), peer);
+        int[] attempts = { 0 };
+        InvalidationTransport flaky = new InvalidationTransport() {
+            @Override
+            public void start(String nodeId, java.util.function.BiConsumer<String, List<CacheInvalidation>> r) {}
+
+            @Override
+            public void send(String nodeId, List<CacheInvalidation> batch) {
+                if (attempts[0]++ == 0) throw new IllegalStateException("database down");
+                peer.onInvalidate(batch.get(0).getRegion(), List.of(batch.get(0).getId()), true);
+            }
+        };
+        InvalidationBus sender = new InvalidationBus(flaky, new StaticListableBeanFactory().getBeanProvider(InvalidationListener.class), 10);
+
+        sender.publish(InvalidationBus.PROFILE, 3L);
+        sender.flush();
+        assertEquals(0, peer.remote.size());
+        sender.flush();
+        assertEquals(List.of("profile:3"), peer.remote);
+        receiver.stop();
+    }
+
+    private static InvalidationBus bus(LoopbackInvalidationTransport.Hub hub, Recorder listener) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("recorder", listener);
+        InvalidationBus bus = new InvalidationBus(new LoopbackInvalidationTransport(hub),
+                beans.getBeanProvider(InvalidationListener.class), 10);
+        bus.start();
+        return bus;
+    }
+
+    private static final class Recorder implements InvalidationListener {
+        final List<String> local = new ArrayList<>();
+        final List<String> remote = new ArrayList<>();
+
+        @Override
+        public void onInvalidate(String region, Collection<Long> ids, boolean isRemote) {
+            StringBuilder sb = new StringBuilder(region).append(':');
+            ids.forEach(id -> sb.append(sb.charAt(sb.length() - 1) == ':' ? "" : ",").append(id));
+            (isRemote ? remote : local).add(sb.toString());
+        }
+    }
+}
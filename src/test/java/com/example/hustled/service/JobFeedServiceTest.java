@@ -0,0 +1,146 @@
+package com.example.hustled.service;
+
+import com.example.hustled.controller.JobFeedController;
+import com.example.hustled.dto.JobFeedDTO;
+import com.example.hustled.dto.JobSummaryDTO;
+import com.example.hustled.entity.Job;
+import com.example.hustled.entity.JobChange;
+import com.example.hustled.entity.User;
+import com.example.hustled.repository.JobChangeRepository;
+import com.example.hustled.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Feed cursors on H2 with the schema generated from the entities
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class JobFeedServiceTest {
+
+    @Autowired
+    private JobChangeRepository changeRepo;
+
+    @Autowired
+    private JobRepository jobRepo;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private JobFeedService feed;
+    private User poster;
+
+    @BeforeEach
+    void setUp() {
+        feed = new JobFeedService(changeRepo, jobRepo, jdbc, 500, 30, 60_000);
+        poster = new User();
+        poster.setUsername("employer");
+        poster.setPassword("secret-password");
+        poster.setEmail("employer@example.com");
+        poster.setRole("ADMIN");
+        em.persist(poster);
+    }
+
+    @Test
+    void changesInsideTheCommitWindowAreHeldBack() {
+        Job first = job("First");
+        feed.record(first.getId(), JobChange.Type.UPSERT);
+        settle();
+        Job second = job("Second");
+        feed.record(second.getId(), JobChange.Type.UPSERT);
+
+        // The second change may still have a smaller-id sibling in flight, so the cursor stops short of it
+        JobFeedDTO page = feed.since(start());
+        assertEquals(List.of(first.getId()), ids(page));
+        assertEquals(feed.version(), page.getCursor());
+
+        settle();
+        JobFeedDTO next = feed.since(page.getCursor());
+        assertEquals(List.of(second.getId()), ids(next));
+        assertTrue(next.getCursor() > page.getCursor());
+        assertFalse(next.isHasMore());
+    }
+
+    @Test
+    void deltaCollapsesToTheLatestStatePerJob() {
+        Job kept = job("Kept");
+        Job removed = job("Removed");
+        feed.record(kept.getId(), JobChange.Type.UPSERT);
+        feed.record(removed.getId(), JobChange.Type.UPSERT);
+        feed.record(kept.getId(), JobChange.Type.UPSERT);
+        em.remove(removed);
+        feed.record(removed.getId(), JobChange.Type.DELETE);
+        settle();
+
+        JobFeedDTO page = feed.since(start());
+        assertEquals(List.of(kept.getId()), ids(page));
+        assertEquals(List.of(removed.getId()), page.getDeleted());
+        assertEquals(changeRepo.findMaxId(), page.getCursor());
+
+        JobFeedDTO unchanged = feed.since(page.getCursor());
+        assertTrue(unchanged.getUpserts().isEmpty());
+        assertTrue(unchanged.getDeleted().isEmpty());
+    }
+
+    @Test
+    void oversizedCursorIsABadRequest() {
+        JobFeedController controller = new JobFeedController(feed);
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/jobs/feed"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, controller.feed("99999999999999999999999", request).getStatusCode());
+        assertEquals(HttpStatus.OK, controller.feed("0", request).getStatusCode());
+    }
+
+    /**
+     * Cursor just before the oldest change; ids keep counting across rolled back tests
+     */
+    private long start() {
+        return changeRepo.findMinId() - 1;
+    }
+
+    private Job job(String title) {
+        Job job = new Job();
+        job.setTitle(title);
+        job.setCompany("Company");
+        job.setPostedBy(poster);
+        em.persist(job);
+        em.flush();
+        return job;
+    }
+
+    /**
+     * Age every change past the commit window
+     */
+    private void settle() {
+        em.flush();
+        jdbc.update("UPDATE job_changes SET changed_at = ?", Timestamp.valueOf(LocalDateTime.now().minusHours(1)));
+    }
+
+    private static List<Long> ids(JobFeedDTO page) {
+        return page.getUpserts().stream().map(JobSummaryDTO::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.hustled.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ProfileDocumentServiceTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void splicingASectionLeavesTheOthersAlone() throws Exception {
+        ObjectNode document = mapper.createObjectNode();
+        ProfileDocumentService.splice(document, ProfileDocumentService.Section.PROFILE,
+                List.of(json("{\"id\": 7, \"firstName\": \"Ana\", \"bio\": null}")));
+        ProfileDocumentService.splice(document, ProfileDocumentService.Section.SKILLS,
+                List.of(json("{\"id\": 1, \"skillName\": \"Java\"}")));
+        ProfileDocumentService.splice(document, ProfileDocumentService.Section.EDUCATION, List.of());
+
+        ProfileDocumentService.splice(document, ProfileDocumentService.Section.SKILLS,
+                List.of(json("{\"id\": 2, \"skillName\": \"SQL\"}"), json("{\"id\": 3, \"skillName\": \"Go\"}")));
+
+        assertEquals("Ana", document.get("firstName").asText());
+        assertFalse(document.has("bio"), "null fields are dropped");
+        assertEquals(2, document.get("skills").size());
+        assertEquals("SQL", document.get("skills").get(0).get("skillName").asText());
+        assertTrue(document.get("education").isArray());
+    }
+
+    @Test
+    void profileSpliceReplacesScalarsButKeepsSections() throws Exception {
+        ObjectNode document = (ObjectNode) json("{\"id\": 7, \"headline\": \"Old\", \"skills\": [{\"id\": 1}]}");
+
+        ProfileDocumentService.splice(document, ProfileDocumentService.Section.PROFILE,
+                List.of(json("{\"id\": 7, \"firstName\": \"Ana\"}")));
+
+        assertFalse(document.has("headline"));
+        assertEquals("Ana", document.get("firstName").asText());
+        assertEquals(1, document.get("skills").size());
+    }
+
+    private JsonNode json(String text) throws Exception {
+        return mapper.readTree(text);
+    }
+
+    @Test
+    void sectionQueriesPackEachRowAsAMySqlJsonObject() {
+        assertEquals("SELECT 1 AS section, id AS sort_key, id AS row_id, JSON_OBJECT('id', id, 'skillName', skill_name, "
+                        + "'proficiencyLevel', proficiency_level, 'yearsOfExperience', years_of_experience) AS data "
+                        + "FROM candidate_skills WHERE candidate_id = ?",
+                ProfileDocumentService.Section.SKILLS.select());
+
+        String profile = ProfileDocumentService.Section.PROFILE.select();
+        assertTrue(profile.startsWith("SELECT 0 AS section, 0 AS sort_key, id AS row_id, JSON_OBJECT('id', id, 'userId', user_id, "));
+        assertTrue(profile.contains("'createdAt', DATE_FORMAT(created_at, '%Y-%m-%dT%H:%i:%s')"));
+        assertTrue(profile.contains("'isProfileComplete', JSON_EXTRACT(IF(is_profile_complete, 'true', 'false'), '$')"));
+        assertTrue(profile.endsWith(" FROM candidate_profiles WHERE id = ?"));
+    }
+
+    @Test
+    void fullBuildIsOneUnionAllOverEverySection() {
+        JdbcTemplate jdbc = mock(JdbcTemplate.class);
+        service(jdbc).rebuild(7L);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbc).query(sql.capture(), any(RowCallbackHandler.class), eq(7L), eq(7L), eq(7L), eq(7L), eq(7L));
+        String[] branches = sql.getValue().split(" UNION ALL ");
+        assertEquals(ProfileDocumentService.Section.values().length, branches.length);
+        assertEquals(ProfileDocumentService.Section.PROFILE.select(), branches[0]);
+        assertEquals(ProfileDocumentService.Section.CERTIFICATIONS.select() + " ORDER BY section, sort_key, row_id",
+                branches[branches.length - 1]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void replacedSectionIsSplicedIntoTheStoredDocumentAndServedFromCache() throws Exception {
+        JdbcTemplate jdbc = mock(JdbcTemplate.class);
+        byte[] stored = mapper.writeValueAsBytes(json(
+                "{\"id\": 7, \"userId\": 3, \"firstName\": \"Ana\", \"skills\": [{\"id\": 1, \"skillName\": \"Java\"}], \"education\": []}"));
+        when(jdbc.queryForObject(endsWith(" FOR UPDATE"), eq(byte[].class), eq(7L))).thenReturn(stored);
+        when(jdbc.query(eq(ProfileDocumentService.Section.SKILLS.select() + " ORDER BY sort_key, row_id"), any(RowMapper.class), eq(7L)))
+                .thenReturn(List.of(json("{\"id\": 2, \"skillName\": \"SQL\", \"yearsOfExperience\": null}")));
+        ProfileDocumentService documents = service(jdbc);
+
+        documents.replaceSection(7L, ProfileDocumentService.Section.SKILLS,
+                List.of(Map.of("skillName", "SQL", "proficiencyLevel", "Advanced")));
+
+        verify(jdbc).update("DELETE FROM candidate_skills WHERE candidate_id = ?", 7L);
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbc).batchUpdate(eq("INSERT INTO candidate_skills (candidate_id, skill_name, proficiency_level, years_of_experience) "
+                + "VALUES (?, ?, ?, ?)"), rows.capture());
+        assertArrayEquals(new Object[] { 7L, "SQL", "Advanced", null }, rows.getValue().get(0));
+
+        ArgumentCaptor<byte[]> written = ArgumentCaptor.forClass(byte[].class);
+        verify(jdbc).update(startsWith("INSERT INTO candidate_profile_documents"), eq(7L), eq(3L), written.capture(), any());
+        JsonNode document = mapper.readTree(written.getValue());
+        assertEquals("Ana", document.get("firstName").asText());
+        assertEquals(1, document.get("skills").size());
+        assertEquals("SQL", document.get("skills").get(0).get("skillName").asText());
+        assertFalse(document.get("skills").get(0).has("yearsOfExperience"));
+        assertTrue(document.get("education").isArray());
+
+        // The rebuilt bytes are cached: the next read issues no query at all
+        clearInvocations(jdbc);
+        assertArrayEquals(written.getValue(), documents.findByCandidateId(7L));
+        verifyNoInteractions(jdbc);
+    }
+
+    private ProfileDocumentService service(JdbcTemplate jdbc) {
+        return new ProfileDocumentService(jdbc, new NoOpTransactionManager(), mapper, mock(InvalidationBus.class), 10);
+    }
+
+    /**
+     * Runs commit callbacks like a real manager, without a database
+     */
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.hustled.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void limitGrowsWhileLatencyIsFlatAndShrinksWhenRequestsQueue() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 5, 500, 1.5, 10);
+
+        runWindows(limit, 20, 10 * MS, 10);
+        int grown = limit.getLimit();
+        assertTrue(grown > 20, "limit should grow at no-load latency, was " + grown);
+
+        runWindows(limit, grown, 60 * MS, 10);
+        assertTrue(limit.getLimit() < grown, "limit should shrink when latency rises");
+        assertTrue(limit.getLimit() >= 5);
+    }
+
+    @Test
+    void idleTrafficDoesNotRaiseTheLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(100, 5, 500, 1.5, 10);
+        runWindows(limit, 2, 10 * MS, 20);
+        assertEquals(100, limit.getLimit());
+    }
+
+    @Test
+    void smallerSharesAreRefusedFirst() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 10, 1.5, 100);
+        for (int i = 0; i < 6; i++) assertTrue(limit.tryAcquire(1.0));
+
+        assertFalse(limit.tryAcquire(0.6));
+        assertTrue(limit.tryAcquire(0.9));
+        assertTrue(limit.tryAcquire(0.9));
+        assertTrue(limit.tryAcquire(0.9));
+        assertFalse(limit.tryAcquire(0.9));
+        assertTrue(limit.tryAcquire(1.0));
+        assertFalse(limit.tryAcquire(1.0));
+        assertEquals(10, limit.getInFlight());
+    }
+
+    /**
+     * Hold up to {@code concurrency} slots, then release them all with the given latency
+     */
+    private static void runWindows(AdaptiveConcurrencyLimit limit, int concurrency, long latencyNanos, int windows) {
+        for (int w = 0; w < windows; w++) {
+            int taken = 0;
+            while (taken < concurrency && limit.tryAcquire(1.0)) taken++;
+            for (int i = 0; i < taken; i++) limit.release(latencyNanos);
+        }
+    }
+}
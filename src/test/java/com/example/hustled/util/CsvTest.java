@@ -0,0 +1,43 @@
+package com.example.hustled.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvTest {
+
+    @Test
+    void quotesOnlyWhenNeeded() throws IOException {
+        StringWriter out = new StringWriter();
+        Csv.writeRow(out, "plain", "a,b", "say \"hi\"", "two\nlines", null, "-12.5");
+        assertEquals("plain,\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\",,-12.5\r\n", out.toString());
+    }
+
+    @Test
+    void neutralisesSpreadsheetFormulas() throws IOException {
+        StringWriter out = new StringWriter();
+        Csv.writeRow(out, "=HYPERLINK(\"x\")", "@SUM(A1)");
+        assertEquals("\"'=HYPERLINK(\"\"x\"\")\",\"'@SUM(A1)\"\r\n", out.toString());
+    }
+
+    @Test
+    void readsWhatItWrites() throws IOException {
+        StringWriter out = new StringWriter();
+        Csv.writeRow(out, "title", "company");
+        Csv.writeRow(out, "Dev, Java", "say \"hi\"");
+        Csv.writeRow(out, "two\nlines", "");
+        List<String[]> rows = Csv.readRows(new StringReader(out + "\n\nlast,row"), 10);
+        assertEquals(4, rows.size());
+        assertArrayEquals(new String[] { "Dev, Java", "say \"hi\"" }, rows.get(1));
+        assertArrayEquals(new String[] { "two\nlines", "" }, rows.get(2));
+        assertArrayEquals(new String[] { "last", "row" }, rows.get(3));
+        assertThrows(IllegalArgumentException.class, () -> Csv.readRows(new StringReader("a\nb\nc"), 2));
+    }
+}
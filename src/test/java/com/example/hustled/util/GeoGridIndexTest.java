@@ -0,0 +1,98 @@
+package com.example.hustled.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoGridIndexTest {
+
+    // Makati, Quezon City, Cebu City
+    private static GeoGridIndex<Long> index() {
+        GeoGridIndex<Long> index = new GeoGridIndex<>(0.1);
+        index.put(1L, 14.5547, 121.0244);
+        index.put(2L, 14.6760, 121.0437);
+        index.put(3L, 10.3157, 123.8854);
+        return index;
+    }
+
+    @Test
+    void radiusQueryReturnsPointsInsideClosestFirst() {
+        List<GeoGridIndex.Hit<Long>> hits = index().withinRadius(14.5995, 120.9842, 20);
+
+        assertEquals(List.of(1L, 2L), hits.stream().map(GeoGridIndex.Hit::getKey).collect(Collectors.toList()));
+        assertTrue(hits.get(0).getDistanceKm() < hits.get(1).getDistanceKm());
+    }
+
+    @Test
+    void nearestHonoursKAndMaxDistance() {
+        GeoGridIndex<Long> index = index();
+
+        assertEquals(List.of(2L), keys(index.nearest(14.70, 121.05, 1, 100)));
+        assertEquals(List.of(2L, 1L), keys(index.nearest(14.70, 121.05, 5, 100)));
+        assertEquals(List.of(2L, 1L, 3L), keys(index.nearest(14.70, 121.05, 5, 1000)));
+    }
+
+    @Test
+    void movedPointIsOnlyFoundAtItsNewLocation() {
+        GeoGridIndex<Long> index = index();
+        index.put(1L, 10.3, 123.9);
+
+        assertEquals(List.of(2L), keys(index.withinRadius(14.5995, 120.9842, 20)));
+        assertEquals(2, index.withinRadius(10.3157, 123.8854, 10).size());
+    }
+
+    @Test
+    void denseIndexWalksCellsAndMatchesBruteForce() {
+        GeoGridIndex<Long> index = new GeoGridIndex<>(0.1);
+        java.util.Random rnd = new java.util.Random(7);
+        double[][] points = new double[5000][];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new double[] { 14 + rnd.nextDouble() * 2, 120 + rnd.nextDouble() * 2 };
+            index.put((long) i, points[i][0], points[i][1]);
+        }
+
+        List<Long> expected = new java.util.ArrayList<>();
+        for (int i = 0; i < points.length; i++) {
+            if (GeoGridIndex.haversineKm(15, 121, points[i][0], points[i][1]) <= 15) expected.add((long) i);
+        }
+        List<Long> within = keys(index.withinRadius(15, 121, 15));
+        assertEquals(new java.util.HashSet<>(expected), new java.util.HashSet<>(within));
+
+        List<GeoGridIndex.Hit<Long>> nearest = index.nearest(15, 121, 10, 50);
+        assertEquals(10, nearest.size());
+        assertEquals(within.subList(0, 10), keys(nearest));
+    }
+
+    @Test
+    @Timeout(5)
+    void hugeRadiusIsBoundedAndCoversTheGlobe() {
+        GeoGridIndex<Long> index = index();
+
+        assertEquals(3, index.withinRadius(14.6, 121.0, 1e7).size());
+        assertEquals(3, index.nearest(14.6, 121.0, 10, 1e7).size());
+        assertEquals(3, index.withinRadius(89.99, 179.99, 1e7).size());
+    }
+
+    @Test
+    void invalidInputsAreRejected() {
+        GeoGridIndex<Long> index = index();
+
+        assertThrows(IllegalArgumentException.class, () -> index.withinRadius(1e300, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> index.withinRadius(Double.NaN, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> index.withinRadius(0, 181, 10));
+        assertThrows(IllegalArgumentException.class, () -> index.withinRadius(0, 0, Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () -> index.withinRadius(0, 0, -1));
+        assertThrows(IllegalArgumentException.class, () -> index.nearest(Double.NEGATIVE_INFINITY, 0, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> index.put(9L, 91, 0));
+        assertFalse(GeoGridIndex.isValidCoordinate(Double.NaN, 0));
+        assertTrue(GeoGridIndex.isValidCoordinate(-90, 180));
+    }
+
+    private static List<Long> keys(List<GeoGridIndex.Hit<Long>> hits) {
+        return hits.stream().map(GeoGridIndex.Hit::getKey).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.hustled.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void firesAtDeadlineNotBefore() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 64, 4, 0);
+        wheel.schedule("a", 90_500);
+        assertEquals(List.of(), wheel.advance(90_999));
+        assertEquals(List.of("a"), wheel.advance(91_000));
+        assertFalse(wheel.contains("a"));
+    }
+
+    @Test
+    void rescheduleAndCancel() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1, 8, 3, 0);
+        wheel.schedule("a", 10);
+        wheel.schedule("b", 10);
+        wheel.schedule("a", 600); // beyond the 512-tick span
+        assertTrue(wheel.cancel("b"));
+        wheel.schedule("late", -5);
+        assertEquals(List.of("late"), wheel.advance(100));
+        assertEquals(List.of(), wheel.advance(599));
+        assertEquals(List.of("a"), wheel.advance(600));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void matchesBruteForce() {
+        Random random = new Random(7);
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(1, 4, 3, 0);
+        Map<Integer, Long> expected = new HashMap<>();
+        long now = 0;
+        for (int round = 0; round < 3000; round++) {
+            int key = random.nextInt(500);
+            if (random.nextInt(5) == 0) {
+                assertEquals(expected.remove(key) != null, wheel.cancel(key));
+            } else {
+                long deadline = now + random.nextInt(random.nextBoolean() ? 20 : 400);
+                wheel.schedule(key, deadline);
+                expected.put(key, deadline);
+            }
+
+            now += random.nextInt(8);
+            List<Integer> fired = wheel.advance(now);
+            Set<Integer> due = new HashSet<>();
+            for (Map.Entry<Integer, Long> e : expected.entrySet()) {
+                if (e.getValue() <= now) due.add(e.getKey());
+            }
+            assertEquals(due, new HashSet<>(fired));
+            assertEquals(fired.size(), due.size());
+            expected.keySet().removeAll(due);
+            assertEquals(expected.size(), wheel.size());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.hustled.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimatesWithinExpectedError() {
+        HyperLogLog sketch = new HyperLogLog(12);
+        for (int i = 0; i < 100_000; i++) {
+            sketch.offer("viewer-" + i);
+            sketch.offer("viewer-" + i); // repeats must not count
+        }
+        assertEquals(100_000, sketch.estimate(), 100_000 * 0.05);
+    }
+
+    @Test
+    void smallSetsAreNearlyExact() {
+        HyperLogLog sketch = new HyperLogLog(11);
+        for (int i = 0; i < 50; i++) sketch.offer("u:" + i);
+        assertEquals(50, sketch.estimate(), 2);
+        assertEquals(0, new HyperLogLog(11).estimate());
+    }
+
+    @Test
+    void mergeIsUnionAndIdempotent() {
+        HyperLogLog a = new HyperLogLog(11);
+        HyperLogLog b = new HyperLogLog(11);
+        for (int i = 0; i < 6000; i++) a.offer("x" + i);
+        for (int i = 3000; i < 9000; i++) b.offer("x" + i);
+
+        HyperLogLog stored = HyperLogLog.fromBytes(a.toBytes());
+        stored.merge(b);
+        long once = stored.estimate();
+        stored.merge(b.toBytes());
+        assertEquals(once, stored.estimate());
+        assertEquals(9000, once, 9000 * 0.07);
+        assertThrows(IllegalArgumentException.class, () -> stored.merge(new HyperLogLog(10)));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.hustled.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalTreeTest {
+
+    @Test
+    void touchingIntervalsDoNotOverlap() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.insert(60, 120, 1, "a");
+        assertNull(tree.firstOverlap(120, 180));
+        assertNull(tree.firstOverlap(0, 60));
+        assertEquals(1, tree.firstOverlap(90, 200).getId());
+    }
+
+    @Test
+    void removeFreesTheSlot() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.insert(60, 120, 1, "a");
+        tree.insert(60, 90, 2, "b");
+        assertTrue(tree.remove(60, 1));
+        assertFalse(tree.remove(60, 1));
+        assertNull(tree.firstOverlap(90, 120));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    void matchesBruteForce() {
+        Random random = new Random(42);
+        IntervalTree<Integer> tree = new IntervalTree<>();
+        List<long[]> live = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            if (!live.isEmpty() && random.nextInt(3) == 0) {
+                long[] victim = live.remove(random.nextInt(live.size()));
+                assertTrue(tree.remove(victim[0], victim[2]));
+            } else {
+                long start = random.nextInt(10_000);
+                long[] interval = { start, start + 1 + random.nextInt(200), i };
+                tree.insert(interval[0], interval[1], interval[2], i);
+                live.add(interval);
+            }
+
+            long qs = random.nextInt(10_000);
+            long qe = qs + 1 + random.nextInt(100);
+            long[] expected = null;
+            int count = 0;
+            for (long[] interval : live) {
+                if (interval[0] < qe && interval[1] > qs) {
+                    count++;
+                    if (expected == null || interval[0] < expected[0]
+                            || (interval[0] == expected[0] && interval[2] < expected[2])) expected = interval;
+                }
+            }
+            IntervalTree.Interval<Integer> first = tree.firstOverlap(qs, qe);
+            if (expected == null) {
+                assertNull(first);
+            } else {
+                assertNotNull(first);
+                assertEquals(expected[0], first.getStart());
+                assertEquals(expected[2], first.getId());
+            }
+            assertEquals(count, tree.overlapping(qs, qe).size());
+            assertEquals(live.size(), tree.size());
+        }
+    }
+}
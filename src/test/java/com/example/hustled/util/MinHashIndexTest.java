@@ -0,0 +1,46 @@
+package com.example.hustled.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MinHashIndexTest {
+
+    private static final String ORIGINAL = "Senior Java Developer. We are looking for an experienced backend engineer "
+            + "to build Spring Boot services, design MySQL schemas and mentor junior developers in our Makati office.";
+
+    @Test
+    void findsLightlyEditedRepost() {
+        MinHashIndex<Long> index = new MinHashIndex<>(20, 5);
+        index.put(1L, index.signature(MinHashIndex.shingles(ORIGINAL)));
+        index.put(2L, index.signature(MinHashIndex.shingles(
+                "Cashier wanted for a busy grocery store, morning shift, must be good with customers and cash handling.")));
+
+        String repost = ORIGINAL.replace("Makati office", "Makati office!!") + " Apply now.";
+        List<MinHashIndex.Match<Long>> matches = index.similar(index.signature(MinHashIndex.shingles(repost)), 0.7);
+
+        assertEquals(1, matches.size());
+        assertEquals(1L, matches.get(0).getKey());
+        assertTrue(matches.get(0).getSimilarity() > 0.7);
+    }
+
+    @Test
+    void removedItemsAreNotReturned() {
+        MinHashIndex<Long> index = new MinHashIndex<>(20, 5);
+        long[] signature = index.signature(MinHashIndex.shingles(ORIGINAL));
+        index.put(1L, signature);
+        index.remove(1L);
+
+        assertTrue(index.similar(signature, 0.5).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void blankTextHasNoSignature() {
+        MinHashIndex<Long> index = new MinHashIndex<>(4, 4);
+        assertEquals(0, MinHashIndex.shingles("  --  ").length);
+        assertNull(index.signature(MinHashIndex.shingles(null)));
+    }
+}
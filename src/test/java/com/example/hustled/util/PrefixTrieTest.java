@@ -0,0 +1,40 @@
+package com.example.hustled.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixTrieTest {
+
+    @Test
+    void returnsHeaviestCompletionsFirst() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("java developer", "Java Developer", 5);
+        trie.add("javascript engineer", "JavaScript Engineer", 9);
+        trie.add("janitor", "Janitor", 1);
+        trie.add("qa tester", "QA Tester", 20);
+
+        List<PrefixTrie.Match> matches = trie.topK("ja", 2);
+
+        assertEquals(2, matches.size());
+        assertEquals("JavaScript Engineer", matches.get(0).getText());
+        assertEquals("Java Developer", matches.get(1).getText());
+    }
+
+    @Test
+    void patchesWeightsAndPrunesRemovedTerms() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("makati", "Makati", 1);
+        trie.add("manila", "Manila", 2);
+
+        trie.add("makati", "Makati", 3);
+        assertEquals("Makati", trie.topK("ma", 1).get(0).getText());
+
+        trie.add("makati", "Makati", -4);
+        assertEquals(1, trie.size());
+        assertTrue(trie.topK("mak", 5).isEmpty());
+        assertEquals("Manila", trie.topK("m", 5).get(0).getText());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.hustled.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferTest {
+
+    @Test
+    void rejectsOffersWhenFullAndReusesSlotsAfterPoll() {
+        RingBuffer<Integer> ring = new RingBuffer<>(3);
+        assertEquals(4, ring.capacity());
+        for (int i = 0; i < 4; i++) assertTrue(ring.offer(i));
+        assertFalse(ring.offer(4));
+
+        assertEquals(0, ring.poll());
+        assertTrue(ring.offer(4));
+        for (int i = 1; i <= 4; i++) assertEquals(i, ring.poll());
+        assertNull(ring.poll());
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void concurrentProducersLoseNothingAndKeepPerProducerOrder() throws Exception {
+        int producers = 4;
+        int perProducer = 50_000;
+        RingBuffer<long[]> ring = new RingBuffer<>(1024);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread t = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    long[] item = { producer, i };
+                    while (!ring.offer(item)) Thread.onSpinWait();
+                }
+            });
+            t.start();
+            threads.add(t);
+        }
+        start.countDown();
+
+        long[] next = new long[producers];
+        int received = 0;
+        while (received < producers * perProducer) {
+            long[] item = ring.poll();
+            if (item == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            assertEquals(next[(int) item[0]]++, item[1]);
+            received++;
+        }
+        for (Thread t : threads) t.join();
+        assertNull(ring.poll());
+    }
+}
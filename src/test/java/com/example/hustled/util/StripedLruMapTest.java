@@ -0,0 +1,69 @@
+package com.example.hustled.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedLruMapTest {
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntry() {
+        // One stripe, so the LRU order is global
+        StripedLruMap<String, Integer> map = new StripedLruMap<>(1, 2);
+        map.put("a", 1);
+        map.put("b", 2);
+        assertEquals(1, map.get("a"));
+        map.put("c", 3);
+
+        assertNull(map.get("b"));
+        assertEquals(1, map.get("a"));
+        assertEquals(3, map.get("c"));
+        assertEquals(1, map.evictions());
+    }
+
+    @Test
+    void sizeStaysBoundedUnderAFloodOfKeys() {
+        StripedLruMap<String, Integer> map = new StripedLruMap<>(16, 1_000);
+        for (int i = 0; i < 100_000; i++) map.put("key" + i, i);
+        assertTrue(map.size() <= 1_000, "size was " + map.size());
+        assertEquals(100_000 - map.size(), map.evictions());
+    }
+
+    @Test
+    void computeIfAbsentCreatesOneValuePerKeyAcrossThreads() throws Exception {
+        StripedLruMap<Integer, AtomicInteger> map = new StripedLruMap<>(8, 10_000);
+        AtomicInteger created = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            pool.execute(() -> {
+                for (int key = 0; key < 1_000; key++) {
+                    map.computeIfAbsent(key, k -> {
+                        created.incrementAndGet();
+                        return new AtomicInteger();
+                    }).incrementAndGet();
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(1_000, created.get());
+        for (int key = 0; key < 1_000; key++) assertEquals(8, map.get(key).get());
+    }
+
+    @Test
+    void removeAndClear() {
+        StripedLruMap<String, Integer> map = new StripedLruMap<>(4, 100);
+        map.put("a", 1);
+        map.put("b", 2);
+        assertEquals(1, map.remove("a"));
+        assertNull(map.get("a"));
+        map.clear();
+        assertEquals(0, map.size());
+    }
+}
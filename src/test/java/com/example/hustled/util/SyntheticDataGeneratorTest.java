@@ -0,0 +1,129 @@
+package com.example.hustled.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Synthetic loads on H2 in MySQL mode. The generator commits on its own connections, so the
+ * test runs outside a transaction and wipes the tables itself.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:synthetic;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyntheticDataGeneratorTest {
+
+    private static final List<String> TABLES = List.of(
+            "job_application_counts", "job_applications", "job_changes", "jobs", "candidate_profiles", "users", "synthetic_seeds");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.execute("CREATE TABLE IF NOT EXISTS job_application_counts (job_id BIGINT NOT NULL PRIMARY KEY, " +
+                "applied INT NOT NULL DEFAULT 0, reviewed INT NOT NULL DEFAULT 0, " +
+                "interview_scheduled INT NOT NULL DEFAULT 0, rejected INT NOT NULL DEFAULT 0, " +
+                "accepted INT NOT NULL DEFAULT 0, withdrawn INT NOT NULL DEFAULT 0, updated_at TIMESTAMP(6) NOT NULL)");
+        jdbc.execute("CREATE TABLE IF NOT EXISTS synthetic_seeds (seed BIGINT NOT NULL PRIMARY KEY, completed_at TIMESTAMP(6) NOT NULL)");
+        wipe();
+    }
+
+    @Test
+    void sameSeedYieldsTheSameRowsOnOneThreadAndOnMany() {
+        generator(1).generate();
+        Map<String, List<Map<String, Object>>> single = snapshot();
+        assertEquals(List.of(Map.of("seed", 7L)), jdbc.queryForList("SELECT seed FROM synthetic_seeds"));
+
+        wipe();
+        generator(4).generate();
+        Map<String, List<Map<String, Object>>> parallel = snapshot();
+
+        assertFalse(single.get("jobs").isEmpty());
+        assertFalse(single.get("applications").isEmpty());
+        assertEquals(single, parallel);
+        // Every seeded job is announced to feed clients exactly once
+        assertEquals(single.get("jobs").size(),
+                jdbc.queryForObject("SELECT COUNT(DISTINCT job_id) FROM job_changes", Integer.class));
+        assertEquals(jdbc.queryForObject("SELECT COUNT(*) FROM job_changes", Integer.class),
+                jdbc.queryForObject("SELECT COUNT(DISTINCT job_id) FROM job_changes", Integer.class));
+    }
+
+    @Test
+    void finishedLoadIsSkippedAndUnfinishedLoadIsRefused() {
+        generator(2).generate();
+        long users = count("users");
+        generator(2).generate();
+        assertEquals(users, count("users"));
+
+        jdbc.update("DELETE FROM synthetic_seeds");
+        assertThrows(IllegalStateException.class, () -> generator(2).generate());
+    }
+
+    @Test
+    void signupsAfterTheReservationTakeIdsAboveTheSeededBlock() {
+        generator(2).generate();
+        long seededMax = jdbc.queryForObject("SELECT MAX(id) FROM users", Long.class);
+
+        jdbc.update("INSERT INTO users (username, password, email, role) VALUES ('late', 'secret-password', 'late@example.com', 'CANDIDATE')");
+        assertTrue(jdbc.queryForObject("SELECT id FROM users WHERE username = 'late'", Long.class) > seededMax);
+    }
+
+    private SyntheticDataGenerator generator(int threads) {
+        // Small chunks so several of them run concurrently
+        return new SyntheticDataGenerator(dataSource, new BCryptPasswordEncoder(4), true, 7,
+                200, 0.05, 0.8, 120, 3, "Password123!", threads, 25, 10);
+    }
+
+    /**
+     * Rows relative to the id blocks the load started at, which differ between runs
+     */
+    private Map<String, List<Map<String, Object>>> snapshot() {
+        long userBase = jdbc.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        long profileBase = jdbc.queryForObject("SELECT MIN(id) FROM candidate_profiles", Long.class);
+        long jobBase = jdbc.queryForObject("SELECT MIN(id) FROM jobs", Long.class);
+        return Map.of(
+                "users", jdbc.queryForList("SELECT id - ? AS id, username, email, phone, role FROM users ORDER BY id", userBase),
+                "profiles", jdbc.queryForList("SELECT id - ? AS id, user_id - ? AS user_id, first_name, last_name, headline, bio, " +
+                        "city, province, date_of_birth, gender FROM candidate_profiles ORDER BY id", profileBase, userBase),
+                "jobs", jdbc.queryForList("SELECT id - ? AS id, title, company, location, description, created_at, " +
+                        "posted_by - ? AS posted_by, status, application_deadline FROM jobs ORDER BY id", jobBase, userBase),
+                "applications", jdbc.queryForList("SELECT job_id - ? AS job_id, candidate_id - ? AS candidate_id, applied_date, " +
+                        "status, rating FROM job_applications ORDER BY candidate_id, job_id", jobBase, profileBase),
+                "counts", jdbc.queryForList("SELECT job_id - ? AS job_id, applied, reviewed, interview_scheduled, rejected, " +
+                        "accepted, withdrawn FROM job_application_counts ORDER BY job_id", jobBase));
+    }
+
+    private long count(String table) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private void wipe() {
+        TABLES.forEach(table -> jdbc.update("DELETE FROM " + table));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.hustled.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void burstThenSustainedRate() {
+        // 3 tokens of burst, one new token every second
+        TokenBucket bucket = new TokenBucket(new TokenBucket.Limit(3, 60));
+        long now = 1_000 * SECOND;
+
+        for (int i = 0; i < 3; i++) assertEquals(0, bucket.tryAcquire(now));
+        long wait = bucket.tryAcquire(now);
+        assertTrue(wait > 0 && wait <= SECOND, "wait was " + wait);
+
+        assertEquals(0, bucket.tryAcquire(now + wait));
+        assertTrue(bucket.tryAcquire(now + wait) > 0);
+    }
+
+    @Test
+    void idleTimeRefillsOnlyUpToTheBurst() {
+        TokenBucket bucket = new TokenBucket(new TokenBucket.Limit(2, 60));
+        long now = 1_000 * SECOND;
+        assertEquals(0, bucket.tryAcquire(now));
+
+        long later = now + 3_600 * SECOND;
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(0, bucket.tryAcquire(later));
+        assertTrue(bucket.tryAcquire(later) > 0);
+    }
+
+    @Test
+    void concurrentCallersNeverExceedTheBurst() throws Exception {
+        TokenBucket bucket = new TokenBucket(new TokenBucket.Limit(50, 1));
+        long now = System.nanoTime();
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < 8; t++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 100; i++) {
+                    if (bucket.tryAcquire(now) == 0) granted.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(50, granted.get());
+    }
+
+    @Test
+    void rejectsNonPositiveLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket.Limit(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket.Limit(5, 0));
+    }
+}